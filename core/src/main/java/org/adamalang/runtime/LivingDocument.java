@@ -9,6 +9,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.adamalang.runtime.async.AsyncTask;
 import org.adamalang.runtime.async.OutstandingFutureTracker;
@@ -22,6 +26,7 @@ import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
 import org.adamalang.runtime.json.PrivateView;
 import org.adamalang.runtime.logger.Transaction;
+import org.adamalang.runtime.logger.TransactionRequest;
 import org.adamalang.runtime.logger.TransactionResult;
 import org.adamalang.runtime.natives.NtClient;
 import org.adamalang.runtime.natives.NtMessageBase;
@@ -31,11 +36,14 @@ import org.adamalang.runtime.reactives.RxBoolean;
 import org.adamalang.runtime.reactives.RxFastString;
 import org.adamalang.runtime.reactives.RxInt32;
 import org.adamalang.runtime.reactives.RxInt64;
+import org.adamalang.runtime.reactives.RxLazy;
 import org.adamalang.runtime.reactives.RxString;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /** The central class for a living document (i.e. a tiny VM) */
 public abstract class LivingDocument implements RxParent {
+  /** the views are copied out as strings, so each thread (see __parallelViews) reuses one writer for them */
+  private static final ThreadLocal<JsonStreamWriter> __VIEW_WRITER = ThreadLocal.withInitial(JsonStreamWriter::new);
   protected int __assertionFailures = 0;
   protected int __assertionTotal = 0;
   protected final RxInt32 __auto_future_id;
@@ -45,6 +53,7 @@ public abstract class LivingDocument implements RxParent {
   protected final RxInt32 __connection_id;
   protected final RxBoolean __constructed;
   protected final RxString __entropy;
+  private final HashSet<PrivateView> __freshViews = new HashSet<>();
   protected final OutstandingFutureTracker __futures;
   protected int __goodwillBudget;
   protected int __goodwillLimitOfBudget;
@@ -56,11 +65,15 @@ public abstract class LivingDocument implements RxParent {
   protected Random __random;
   public final LivingDocument __self;
   protected final RxInt32 __seq;
+  private final HashMap<NtClient, PrivateView> __sharedViews = new HashMap<>();
   protected final RxString __state;
   public ObjectNode __STORE; // TO KILL
   protected final RxInt64 __time;
   protected ArrayList<Integer> __trace;
   private final HashMap<NtClient, ArrayList<PrivateView>> __trackedViews = new HashMap<>();
+  private AtomicInteger __viewCost = null;
+  private ExecutorService __viewExecutor = null;
+  private AtomicInteger __viewGoodwill = null;
 
   public LivingDocument(final DocumentMonitor __monitor) {
     this.__monitor = __monitor;
@@ -118,6 +131,70 @@ public abstract class LivingDocument implements RxParent {
     return new Transaction(__seq.get(), request, writer.toString(), new TransactionResult(__state.has(), (int) (__next_time.get() - __time.get()), __seq.get()));
   }
 
+  /** internal: compute the next delta for the given view */
+  private String __computeView(final PrivateView pv, final NtClient who) {
+    final var writer = __VIEW_WRITER.get();
+    writer.reset();
+    writer.beginObject();
+    writer.writeObjectFieldIntro("data");
+    pv.update(writer);
+    __futures.dump(writer, who);
+    writer.writeObjectFieldIntro("seq");
+    writer.writeInteger(__seq.get());
+    writer.endObject();
+    return writer.toString();
+  }
+
+  /** is the document computing views in parallel right now; the code run by the
+   * views must then leave the (single threaded) monitor alone */
+  public boolean __computingViewsInParallel() {
+    return __viewCost != null;
+  }
+
+  /** internal: compute the views on the executor while the document waits (and
+   * thus is only read). The views account for cost and goodwill via atomics which
+   * are folded back into the document once they are done */
+  private String[] __computeViewsInParallel(final ArrayList<PrivateView> computers, final ArrayList<NtClient> whos) {
+    final var computations = new ArrayList<Callable<String>>();
+    for (var k = 0; k < computers.size(); k++) {
+      final var pv = computers.get(k);
+      final var who = whos.get(k);
+      computations.add(() -> __computeView(pv, who));
+    }
+    final var deliveries = new String[computers.size()];
+    __viewCost = new AtomicInteger(0);
+    __viewGoodwill = new AtomicInteger(__goodwillBudget);
+    RxLazy.beginParallelReads();
+    try {
+      final var computed = __viewExecutor.invokeAll(computations);
+      for (var k = 0; k < deliveries.length; k++) {
+        deliveries[k] = computed.get(k).get();
+      }
+    } catch (final InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(ie);
+    } catch (final ExecutionException ee) {
+      if (ee.getCause() instanceof RuntimeException) { throw (RuntimeException) ee.getCause(); }
+      throw new RuntimeException(ee.getCause());
+    } finally {
+      RxLazy.endParallelReads();
+      __code_cost += __viewCost.get();
+      __goodwillBudget = Math.max(__viewGoodwill.get(), 0);
+      __viewCost = null;
+      __viewGoodwill = null;
+    }
+    return deliveries;
+  }
+
+  /** code generated: account for the cost of the code which just ran */
+  protected void __cost(final int cost) {
+    if (__viewCost != null) {
+      __viewCost.addAndGet(cost);
+    } else {
+      __code_cost += cost;
+    }
+  }
+
   /** code generated: what happens when the document is constructed */
   protected abstract void __construct_intern(NtClient who, NtMessageBase message);
   /** code generated: create a private view for the given person */
@@ -131,10 +208,23 @@ public abstract class LivingDocument implements RxParent {
       __trackedViews.put(__who, viewsForWho);
     }
     viewsForWho.add(view);
+    __freshViews.add(view);
     return view;
   }
 
-  /** internal: we compute per client */
+  /** a view as no one in particular (i.e. NtClient.NO_ONE) such that every public
+   * view of the document shares one computation; this is the tier for spectators
+   * and anonymous viewers */
+  public PrivateView __createPublicView(final Consumer<String> updates) {
+    return __createView(NtClient.NO_ONE, updates);
+  }
+
+  /** internal: we compute per client. The views of a client produce the same
+   * deltas once they have seen the same state, so the views which have seen a
+   * prior delta share one computation (via an internal view which has seen
+   * exactly what they have, and which belongs to no viewer), and the new views
+   * share another. Only views under the same client share, so spectators get a
+   * shared computation by being attached via __createPublicView */
   private synchronized void __distributeClientViews() {
     final var startedTime = System.nanoTime();
     var exception = true;
@@ -142,24 +232,48 @@ public abstract class LivingDocument implements RxParent {
       __monitor.push("DistributeClientViews");
     }
     try {
-      final var itTrackedViews = __trackedViews.entrySet().iterator();
-      while (itTrackedViews.hasNext()) {
-        final var entryTrackedView = itTrackedViews.next();
-        final var itView = entryTrackedView.getValue().iterator();
-        while (itView.hasNext()) {
-          final var pv = itView.next();
+      final var computers = new ArrayList<PrivateView>();
+      final var whos = new ArrayList<NtClient>();
+      final var recipients = new ArrayList<ArrayList<PrivateView>>();
+      for (final Map.Entry<NtClient, ArrayList<PrivateView>> entryTrackedView : __trackedViews.entrySet()) {
+        final var who = entryTrackedView.getKey();
+        final var seen = new ArrayList<PrivateView>();
+        final var fresh = new ArrayList<PrivateView>();
+        for (final PrivateView pv : entryTrackedView.getValue()) {
           if (pv.isAlive()) {
-            final var writer = new JsonStreamWriter();
-            writer.beginObject();
-            writer.writeObjectFieldIntro("data");
-            pv.update(writer);
-            __futures.dump(writer, entryTrackedView.getKey());
-            writer.writeObjectFieldIntro("seq");
-            writer.writeInteger(__seq.get());
-            writer.endObject();
-            pv.deliver(writer.toString());
+            if (!__freshViews.isEmpty() && __freshViews.remove(pv)) {
+              fresh.add(pv);
+            } else {
+              seen.add(pv);
+            }
           }
         }
+        if (seen.size() > 0) {
+          computers.add(__sharedViews.get(who));
+          whos.add(who);
+          recipients.add(seen);
+        } else {
+          __sharedViews.remove(who);
+        }
+        if (fresh.size() > 0) {
+          // the computing view is the document's own, so killing any viewer leaves it be
+          final var computer = __createPrivateView(who, (delivery) -> {});
+          computers.add(computer);
+          whos.add(who);
+          recipients.add(fresh);
+          if (seen.size() == 0) {
+            __sharedViews.put(who, computer);
+          }
+        }
+      }
+      final var deliveries = __viewExecutor != null ? __computeViewsInParallel(computers, whos) : new String[computers.size()];
+      for (var k = 0; k < computers.size(); k++) {
+        if (__viewExecutor == null) {
+          deliveries[k] = __computeView(computers.get(k), whos.get(k));
+        }
+        for (final PrivateView pv : recipients.get(k)) {
+          pv.deliver(deliveries[k]);
+        }
       }
       exception = false;
     } finally {
@@ -202,14 +316,17 @@ public abstract class LivingDocument implements RxParent {
     var count = 0;
     final var it = views.iterator();
     while (it.hasNext()) {
-      if (it.next().isAlive()) {
+      final var view = it.next();
+      if (view.isAlive()) {
         count++;
       } else {
         it.remove();
+        __freshViews.remove(view);
       }
     }
     if (count == 0) {
       __trackedViews.remove(__who);
+      __sharedViews.remove(__who);
     }
     return count;
   }
@@ -224,6 +341,11 @@ public abstract class LivingDocument implements RxParent {
 
   /** exposed: this allows the child object to see if it can still do stuff */
   protected boolean __goodwill(final int startLine, final int startPosition, final int endLine, final int endLinePosition) {
+    if (__viewGoodwill != null) {
+      // only the view which spends the last of the budget fails
+      if (__viewGoodwill.getAndDecrement() == 1) { throw new GoodwillExhaustedException(startLine, startPosition, endLine, endLinePosition); }
+      return true;
+    }
     if (__goodwillBudget > 0) {
       __goodwillBudget--;
       if (__goodwillBudget == 0) {
@@ -240,7 +362,7 @@ public abstract class LivingDocument implements RxParent {
     final var killSet = new HashSet<Integer>();
     if (reader.startObject()) {
       while (reader.notEndOfObject()) {
-        final var key = Integer.parseInt(reader.fieldName());
+        final var key = reader.fieldNameAsInteger();
         if (reader.testLackOfNull()) {
           __clients.put(reader.readNtClient(), key);
         } else {
@@ -260,7 +382,7 @@ public abstract class LivingDocument implements RxParent {
     if (reader.testLackOfNull()) {
       if (reader.startObject()) {
         while (reader.notEndOfObject()) {
-          final var msgId = Integer.parseInt(reader.fieldName());
+          final var msgId = reader.fieldNameAsInteger();
           final var tasks = new TreeMap<Integer, AsyncTask>();
           for (final AsyncTask oldTask : __queue) {
             tasks.put(oldTask.messageId, oldTask);
@@ -336,6 +458,15 @@ public abstract class LivingDocument implements RxParent {
   public abstract boolean __onConnected(NtClient clientValue);
   /** code generated: let the document know of a disconnected client */
   public abstract void __onDisconnected(NtClient clientValue);
+
+  /** opt-in: compute the private views across the given executor (i.e. a
+   * ForkJoinPool) after each commit rather than serially; null returns to the
+   * serial path. The views only read the document, but lazy formulas evaluated
+   * by them are shared, so RxLazy locks while any document computes in parallel */
+  public void __parallelViews(final ExecutorService executor) {
+    __viewExecutor = executor;
+  }
+
   /** code generated: convert the reader into a constructor arg */
   protected abstract NtMessageBase __parse_construct_arg(JsonStreamReader reader);
   /** parse the message for the channel, and cache the result */
@@ -484,6 +615,20 @@ public abstract class LivingDocument implements RxParent {
     }
     if (command == null) { throw new ErrorCodeException(ErrorCodeException.LIVING_DOCUMENT_TRANSACTION_NO_COMMAND_FOUND); }
     if (timestamp == null) { throw new ErrorCodeException(ErrorCodeException.LIVING_DOCUMENT_TRANSACTION_NO_TIMESTAMP); }
+    return __transact(requestJson, command, timestamp, who, channel, message, arg, entropy);
+  }
+
+  /** transaction: core API for a request which is already typed (i.e. the
+   * request need not be parsed to be dispatched) */
+  public Transaction __transact(final TransactionRequest request) throws ErrorCodeException {
+    if (request.command == null) { throw new ErrorCodeException(ErrorCodeException.LIVING_DOCUMENT_TRANSACTION_NO_COMMAND_FOUND); }
+    final var message = request.message != null && request.channel != null ? __parse_message2(request.channel, new JsonStreamReader(request.message)) : null;
+    final var arg = request.arg != null ? __parse_construct_arg(new JsonStreamReader(request.arg)) : null;
+    return __transact(request.json, request.command, request.timestamp, request.who, request.channel, message, arg, request.entropy);
+  }
+
+  /** transaction: dispatch the command */
+  private Transaction __transact(final String requestJson, final String command, final long timestamp, final NtClient who, final String channel, final Object message, final NtMessageBase arg, final String entropy) throws ErrorCodeException {
     __time.set(timestamp);
     switch (command) {
       case "bill":
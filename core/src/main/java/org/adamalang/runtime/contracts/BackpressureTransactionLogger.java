@@ -0,0 +1,11 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.contracts;
+
+/** a log which may fall behind the documents writing to it, and is able to tell
+ * when new work should be turned away until it catches up */
+public interface BackpressureTransactionLogger extends TransactionLogger {
+  /** is the log too far behind to accept new work */
+  public boolean isBackedUp();
+}
@@ -0,0 +1,14 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.contracts;
+
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a callback for when a transaction has been made durable (or not) */
+public interface DurabilityCallback {
+  /** the transaction was unable to be made durable */
+  public void failure(ErrorCodeException ex);
+  /** the transaction is durable */
+  public void success();
+}
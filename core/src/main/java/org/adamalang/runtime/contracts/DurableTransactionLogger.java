@@ -0,0 +1,11 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.contracts;
+
+/** a log which is able to tell when the transactions it ingested are durable */
+public interface DurableTransactionLogger extends TransactionLogger {
+  /** the callback will be invoked once every transaction ingested thus far is
+   * durable */
+  public void whenDurable(DurabilityCallback callback);
+}
@@ -5,7 +5,20 @@ package org.adamalang.runtime.contracts;
 
 /** generalizes the process of building a query set */
 public interface IndexQuerySet {
+  /** how the indexed field is compared against the value */
+  public enum LookupMode {
+    Equals, // ==
+    GreaterThan, // >
+    GreaterThanOrEqual, // >=
+    LessThan, // <
+    LessThanOrEqual; // <=
+  }
+
   /** intersect the set with the given index (via index datastrcture) and the
    * given value. INDEX_FIELD == VALUE */
   public void intersect(int column, int value);
+
+  /** intersect the set with the given index (via the ordering of the index) and
+   * the given value. INDEX_FIELD (mode) VALUE */
+  public void intersect(int column, int value, LookupMode mode);
 }
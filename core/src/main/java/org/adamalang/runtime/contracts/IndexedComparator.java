@@ -0,0 +1,17 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.contracts;
+
+import java.util.Comparator;
+
+/** a comparator whose leading key is an indexed column; a table is then able
+ * to walk that index to produce (nearly) the order rather than sort from
+ * scratch */
+public interface IndexedComparator<T> extends Comparator<T> {
+  /** is the leading key ascending */
+  public boolean ascending();
+
+  /** the index (within the table) of the leading key */
+  public int column();
+}
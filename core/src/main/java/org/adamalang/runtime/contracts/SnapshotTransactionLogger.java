@@ -0,0 +1,17 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.contracts;
+
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a log which periodically wants a snapshot of the entire document such that
+ * it can compact away the transactions the snapshot covers */
+public interface SnapshotTransactionLogger extends TransactionLogger {
+  /** does the log want a snapshot of the document right now */
+  public boolean shouldSnapshot();
+  /** hand over the snapshot (i.e. the output of LivingDocument.__dump) which
+   * covers every transaction ingested thus far up to and including the given
+   * seq; the log may write it later and off the caller's thread */
+  public void snapshot(int seq, String dump) throws ErrorCodeException;
+}
@@ -0,0 +1,19 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.contracts;
+
+import java.io.File;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a way of storing the logs of many documents where each document is named by
+ * a directory (i.e. the game space) and an id */
+public interface TransactionLogStore {
+  /** the store has been closed */
+  public void close() throws Exception;
+  /** does the log for the given document exist */
+  public boolean exists(File root, String id);
+  /** open the log for the given document such that the prior transactions are
+   * pumped into the target, and new transactions are appended */
+  public TransactionLogger openFillAndAppend(File root, String id, TransactionLogger target) throws ErrorCodeException;
+}
@@ -33,7 +33,7 @@ public class DList<dTy> {
 
   public void rectify(final int size, final PrivateLazyDeltaWriter writer) {
     for (var k = size; k < cachedDeltas.size(); k++) {
-      writer.planField("" + k).writeNull();
+      writer.planField(k).writeNull();
     }
     if (emittedSize != cachedDeltas.size()) {
       writer.planField("@s").writeInt(size);
@@ -6,10 +6,19 @@ package org.adamalang.runtime.exceptions;
 /** an error happened related to an error code that we can present to the
  * public */
 public class ErrorCodeException extends Exception {
+  public static final int ASYNC_LOGGER_BACKED_UP = 5218;
+  public static final int ASYNC_LOGGER_CANT_QUEUE = 5219;
+  public static final int ASYNC_LOGGER_CANT_WRITE = 5221;
+  public static final int BINARY_DISK_LOGGER_CANT_CONVERT = 5205;
+  public static final int BINARY_DISK_LOGGER_CANT_OPEN_APPEND = 5203;
+  public static final int BINARY_DISK_LOGGER_CANT_PUMP = 5202;
+  public static final int BINARY_DISK_LOGGER_CANT_WRITE = 5204;
   public static final int CONFIGURATION_MALFORMED_NO_SOURCE_DIRECTORY = 5003;
   public static final int FACTORY_CANT_BIND_JAVA_CODE = 5005;
   public static final int FACTORY_CANT_COMPILE_JAVA_CODE = 5004;
   public static final int FACTORY_CANT_CREATE_OBJECT_DUE_TO_EXCEPTION = 5002;
+  public static final int GROUP_COMMIT_LOGGER_CANT_OPEN_APPEND = 5206;
+  public static final int GROUP_COMMIT_LOGGER_CANT_WRITE = 5207;
   public static final int LIVING_DOCUMENT_CRASHED = 5018;
   public static final int LIVING_DOCUMENT_TRANSACTION_ALREADY_CONNECTED = 5010;
   public static final int LIVING_DOCUMENT_TRANSACTION_ALREADY_CONSTRUCTED = 5012;
@@ -23,9 +32,17 @@ public class ErrorCodeException extends Exception {
   public static final int LIVING_DOCUMENT_TRANSACTION_NO_CONSTRUCTOR_ARG = 5013;
   public static final int LIVING_DOCUMENT_TRANSACTION_NO_TIMESTAMP = 5007;
   public static final int LIVING_DOCUMENT_TRANSACTION_NO_VALID_COMMAND_FOUND = 5009;
+  public static final int SEGMENTED_LOGGER_CANT_OPEN_APPEND = 5212;
+  public static final int SEGMENTED_LOGGER_CANT_PUMP = 5211;
+  public static final int SEGMENTED_LOGGER_CANT_READ = 5214;
+  public static final int SEGMENTED_LOGGER_CANT_WRITE = 5213;
   public static final int SERVICE_UNKNOWN_FAILURE = 5500;
+  public static final int SNAPSHOT_LOGGER_CANT_LOAD = 5208;
+  public static final int SNAPSHOT_LOGGER_CANT_OPEN_APPEND = 5209;
+  public static final int SNAPSHOT_LOGGER_CANT_SNAPSHOT = 5210;
   public static final int SYNC_DISK_LOGGER_CANT_OPEN_APPEND = 5201;
   public static final int SYNC_DISK_LOGGER_CANT_PUMP = 5200;
+  public static final int SYNC_DISK_LOGGER_CANT_WRITE = 5220;
   public static final int TRANSACTOR_CANT_CREATE_BECAUSE_ALREADY_CREATED = 5001;
   public static final int USERLAND_CANT_COMPILE_ADAMA_SCRIPT = 4002;
   public static final int USERLAND_CANT_FIND_GAME = 4011;
@@ -38,6 +55,11 @@ public class ErrorCodeException extends Exception {
   public static final int USERLAND_NO_MESSAGE_PROPERTY = 4010;
   public static final int USERLAND_NO_METHOD_PROPERTY = 4006;
   public static final int USERLAND_NO_SESSION = 4005;
+  public static final int VIEW_DELIVERY_TOO_FAR_BEHIND = 5501;
+  public static final int WAL_CANT_OPEN = 5215;
+  public static final int WAL_CANT_READ = 5217;
+  public static final int WAL_CANT_WRITE = 5216;
+  public static final int WAL_SEGMENT_TOO_LARGE = 5222;
   public final int code;
 
   public ErrorCodeException(final int code) {
@@ -0,0 +1,35 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.index;
+
+import org.adamalang.runtime.natives.NtClient;
+
+/** the int which a value is indexed by. Values which are equal must share the
+ * same index value (the where clause is evaluated precisely on every row which
+ * the index yields, so collisions are fine). Only ints (and enums) are indexed
+ * by their value, and so only they are able to be used for range lookups.
+ * Doubles are not indexed as their equality is within a tolerance (see
+ * LibMath.near) which no hash is able to respect. */
+public class IndexValue {
+  /** fold the index value of the next field of a tuple (i.e. a composite index) into the index value of the fields prior */
+  public static int combine(final int prior, final int next) {
+    return 31 * prior + next;
+  }
+
+  public static int ofBoolean(final boolean value) {
+    return value ? 1 : 0;
+  }
+
+  public static int ofClient(final NtClient value) {
+    return value.hashCode();
+  }
+
+  public static int ofLong(final long value) {
+    return Long.hashCode(value);
+  }
+
+  public static int ofString(final String value) {
+    return value.hashCode();
+  }
+}
@@ -0,0 +1,369 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.index;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/** a compressed set of integers (i.e. row ids) in the style of a roaring
+ * bitmap. The integers are grouped by their high 16 bits, and each group holds
+ * its low 16 bits within a container which is either a sorted array (when
+ * sparse) or a bitmap of 65536 bits (when dense). The sets are able to
+ * intersect and union container by container, and iterate in ascending order
+ * without boxing. */
+public class IntBitmap {
+  /** the low bits of the integers sharing the same high bits */
+  private static class Container {
+    private static Container and(final Container a, final Container b) {
+      if (a.bits != null && b.bits != null) {
+        final var result = new Container();
+        result.bits = new long[WORDS];
+        for (var k = 0; k < WORDS; k++) {
+          final var word = a.bits[k] & b.bits[k];
+          result.bits[k] = word;
+          result.cardinality += Long.bitCount(word);
+        }
+        result.shrink();
+        return result;
+      }
+      if (a.bits != null) { return and(b, a); }
+      final var result = new Container();
+      result.array = new char[Math.min(a.cardinality, b.cardinality)];
+      if (b.bits != null) {
+        for (var k = 0; k < a.cardinality; k++) {
+          if (b.contains(a.array[k])) {
+            result.array[result.cardinality++] = a.array[k];
+          }
+        }
+      } else {
+        var i = 0;
+        var j = 0;
+        while (i < a.cardinality && j < b.cardinality) {
+          final var x = a.array[i];
+          final var y = b.array[j];
+          if (x < y) {
+            i++;
+          } else if (y < x) {
+            j++;
+          } else {
+            result.array[result.cardinality++] = x;
+            i++;
+            j++;
+          }
+        }
+      }
+      return result;
+    }
+
+    private static Container or(final Container a, final Container b) {
+      final var result = new Container();
+      if (a.bits == null && b.bits == null && a.cardinality + b.cardinality <= ARRAY_LIMIT) {
+        result.array = new char[a.cardinality + b.cardinality];
+        var i = 0;
+        var j = 0;
+        while (i < a.cardinality || j < b.cardinality) {
+          if (j >= b.cardinality || i < a.cardinality && a.array[i] < b.array[j]) {
+            result.array[result.cardinality++] = a.array[i++];
+          } else if (i >= a.cardinality || b.array[j] < a.array[i]) {
+            result.array[result.cardinality++] = b.array[j++];
+          } else {
+            result.array[result.cardinality++] = a.array[i];
+            i++;
+            j++;
+          }
+        }
+        return result;
+      }
+      result.bits = a.toBits();
+      if (b.bits != null) {
+        for (var k = 0; k < WORDS; k++) {
+          result.bits[k] |= b.bits[k];
+        }
+      } else {
+        for (var k = 0; k < b.cardinality; k++) {
+          result.bits[b.array[k] >>> 6] |= 1L << b.array[k];
+        }
+      }
+      for (var k = 0; k < WORDS; k++) {
+        result.cardinality += Long.bitCount(result.bits[k]);
+      }
+      return result;
+    }
+
+    private char[] array;
+    private long[] bits;
+    private int cardinality;
+
+    private Container() {
+      array = null;
+      bits = null;
+      cardinality = 0;
+    }
+
+    private boolean add(final char low) {
+      if (bits != null) {
+        final var mask = 1L << low;
+        if ((bits[low >>> 6] & mask) != 0) { return false; }
+        bits[low >>> 6] |= mask;
+        cardinality++;
+        return true;
+      }
+      final var at = Arrays.binarySearch(array, 0, cardinality, low);
+      if (at >= 0) { return false; }
+      final var insert = -(at + 1);
+      if (cardinality == array.length) {
+        if (cardinality == ARRAY_LIMIT) {
+          bits = toBits();
+          array = null;
+          return add(low);
+        }
+        array = Arrays.copyOf(array, Math.min(ARRAY_LIMIT, Math.max(4, cardinality * 2)));
+      }
+      System.arraycopy(array, insert, array, insert + 1, cardinality - insert);
+      array[insert] = low;
+      cardinality++;
+      return true;
+    }
+
+    private boolean contains(final char low) {
+      if (bits != null) { return (bits[low >>> 6] & 1L << low) != 0; }
+      return Arrays.binarySearch(array, 0, cardinality, low) >= 0;
+    }
+
+    private Container copy() {
+      final var result = new Container();
+      result.array = array != null ? Arrays.copyOf(array, Math.max(cardinality, 4)) : null;
+      result.bits = bits != null ? bits.clone() : null;
+      result.cardinality = cardinality;
+      return result;
+    }
+
+    private boolean remove(final char low) {
+      if (bits != null) {
+        final var mask = 1L << low;
+        if ((bits[low >>> 6] & mask) == 0) { return false; }
+        bits[low >>> 6] &= ~mask;
+        cardinality--;
+        shrink();
+        return true;
+      }
+      final var at = Arrays.binarySearch(array, 0, cardinality, low);
+      if (at < 0) { return false; }
+      System.arraycopy(array, at + 1, array, at, cardinality - at - 1);
+      cardinality--;
+      return true;
+    }
+
+    /** convert the bitmap to an array once it is sparse enough (half the limit, such that a container at the limit doesn't flip back and forth) */
+    private void shrink() {
+      if (bits == null || cardinality > ARRAY_LIMIT / 2) { return; }
+      final var next = new char[Math.max(cardinality, 4)];
+      var at = 0;
+      for (var k = 0; k < WORDS; k++) {
+        var word = bits[k];
+        while (word != 0) {
+          next[at++] = (char) (k << 6 | Long.numberOfTrailingZeros(word));
+          word &= word - 1;
+        }
+      }
+      array = next;
+      bits = null;
+    }
+
+    private long[] toBits() {
+      if (bits != null) { return bits.clone(); }
+      final var result = new long[WORDS];
+      for (var k = 0; k < cardinality; k++) {
+        result[array[k] >>> 6] |= 1L << array[k];
+      }
+      return result;
+    }
+  }
+
+  /** walks the integers in ascending order */
+  private class Walker implements PrimitiveIterator.OfInt {
+    private int at;
+    private int container;
+    private long word;
+    private int wordIndex;
+
+    private Walker() {
+      container = 0;
+      at = 0;
+      wordIndex = -1;
+      word = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (container < count) {
+        final var current = containers[container];
+        if (current.bits == null) {
+          if (at < current.cardinality) { return true; }
+        } else {
+          while (word == 0 && wordIndex + 1 < WORDS) {
+            word = current.bits[++wordIndex];
+          }
+          if (word != 0) { return true; }
+        }
+        container++;
+        at = 0;
+        wordIndex = -1;
+        word = 0;
+      }
+      return false;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) { throw new NoSuchElementException(); }
+      final var current = containers[container];
+      final int low;
+      if (current.bits == null) {
+        low = current.array[at++];
+      } else {
+        low = wordIndex << 6 | Long.numberOfTrailingZeros(word);
+        word &= word - 1;
+      }
+      return keys[container] << 16 | low;
+    }
+  }
+
+  /** a container beyond this many integers is a bitmap */
+  private static final int ARRAY_LIMIT = 4096;
+  private static final int WORDS = 1024;
+
+  /** the integers within both */
+  public static IntBitmap and(final IntBitmap a, final IntBitmap b) {
+    final var result = new IntBitmap(Math.min(a.count, b.count));
+    var i = 0;
+    var j = 0;
+    while (i < a.count && j < b.count) {
+      if (a.keys[i] < b.keys[j]) {
+        i++;
+      } else if (b.keys[j] < a.keys[i]) {
+        j++;
+      } else {
+        final var common = Container.and(a.containers[i], b.containers[j]);
+        if (common.cardinality > 0) {
+          result.append(a.keys[i], common);
+        }
+        i++;
+        j++;
+      }
+    }
+    return result;
+  }
+
+  /** the integers within either */
+  public static IntBitmap or(final IntBitmap a, final IntBitmap b) {
+    final var result = new IntBitmap(a.count + b.count);
+    result.addAll(a);
+    result.addAll(b);
+    return result;
+  }
+
+  private Container[] containers;
+  private int count;
+  private int[] keys;
+  private int size;
+
+  public IntBitmap() {
+    this(4);
+  }
+
+  private IntBitmap(final int capacity) {
+    containers = new Container[Math.max(capacity, 1)];
+    keys = new int[containers.length];
+    count = 0;
+    size = 0;
+  }
+
+  public boolean add(final int value) {
+    final var key = value >> 16;
+    var at = Arrays.binarySearch(keys, 0, count, key);
+    if (at < 0) {
+      at = -(at + 1);
+      final var container = new Container();
+      container.array = new char[4];
+      insert(at, key, container);
+    }
+    if (containers[at].add((char) value)) {
+      size++;
+      return true;
+    }
+    return false;
+  }
+
+  /** union the other set into this set */
+  public void addAll(final IntBitmap other) {
+    for (var k = 0; k < other.count; k++) {
+      final var key = other.keys[k];
+      var at = count > 0 && keys[count - 1] < key ? -(count + 1) : Arrays.binarySearch(keys, 0, count, key);
+      if (at < 0) {
+        at = -(at + 1);
+        insert(at, key, other.containers[k].copy());
+        size += containers[at].cardinality;
+      } else {
+        final var prior = containers[at];
+        containers[at] = Container.or(prior, other.containers[k]);
+        size += containers[at].cardinality - prior.cardinality;
+      }
+    }
+  }
+
+  /** append a container beyond every existing container */
+  private void append(final int key, final Container container) {
+    insert(count, key, container);
+    size += container.cardinality;
+  }
+
+  public boolean contains(final int value) {
+    final var at = Arrays.binarySearch(keys, 0, count, value >> 16);
+    if (at < 0) { return false; }
+    return containers[at].contains((char) value);
+  }
+
+  /** insert the container (which holds nothing already counted) at the given position */
+  private void insert(final int at, final int key, final Container container) {
+    if (count == keys.length) {
+      keys = Arrays.copyOf(keys, count * 2);
+      containers = Arrays.copyOf(containers, count * 2);
+    }
+    System.arraycopy(keys, at, keys, at + 1, count - at);
+    System.arraycopy(containers, at, containers, at + 1, count - at);
+    keys[at] = key;
+    containers[at] = container;
+    count++;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** walk the integers in ascending order */
+  public PrimitiveIterator.OfInt iterator() {
+    return new Walker();
+  }
+
+  public boolean remove(final int value) {
+    final var at = Arrays.binarySearch(keys, 0, count, value >> 16);
+    if (at < 0) { return false; }
+    final var container = containers[at];
+    if (!container.remove((char) value)) { return false; }
+    size--;
+    if (container.cardinality == 0) {
+      System.arraycopy(keys, at + 1, keys, at, count - at - 1);
+      System.arraycopy(containers, at + 1, containers, at, count - at - 1);
+      count--;
+      containers[count] = null;
+    }
+    return true;
+  }
+
+  public int size() {
+    return size;
+  }
+}
@@ -3,36 +3,41 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.index;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import org.adamalang.runtime.contracts.IndexQuerySet;
 import org.adamalang.runtime.reactives.RxRecordBase;
 
-/** an index of a single column of data */
+/** an index of a single column of data; the buckets are ordered by value such
+ * that the index can answer range lookups and be walked in order, and each
+ * bucket is a bitmap of the ids of the items within it */
 public class ReactiveIndex<Ty extends RxRecordBase> {
   /** a data structure which is precise; we know that the given item is in this
    * bucket for SURE */
-  private final HashMap<Integer, TreeSet<Ty>> index;
+  private final TreeMap<Integer, IntBitmap> index;
   /** as things change, we lose certainty of where items exist and have a grab-all
    * bucket */
   private final TreeSet<Ty> unknowns;
 
   public ReactiveIndex(final TreeSet<Ty> unknowns) {
-    this.index = new HashMap<>();
+    this.index = new TreeMap<>();
     this.unknowns = unknowns;
   }
 
   public void add(final int at, final Ty item) {
     var set = index.get(at);
     if (set == null) {
-      set = new TreeSet<>();
+      set = new IntBitmap();
       index.put(at, set);
     }
-    set.add(item);
+    set.add(item.__id());
   }
 
   public boolean delete(final int at, final Ty item) {
     final var set = index.get(at);
-    final var result = set.remove(item);
+    final var result = set.remove(item.__id());
     if (set.size() == 0) {
       index.remove(at);
     }
@@ -43,10 +48,43 @@ public class ReactiveIndex<Ty extends RxRecordBase> {
     unknowns.remove(item);
   }
 
-  public TreeSet<Ty> of(final int value) {
+  public IntBitmap of(final int value) {
     return index.get(value);
   }
 
+  /** the ids of the items where the indexed value (mode) the given value; null if there are none. The result must not be mutated as it may be a bucket */
+  public IntBitmap of(final int value, final IndexQuerySet.LookupMode mode) {
+    final NavigableMap<Integer, IntBitmap> range;
+    switch (mode) {
+      case GreaterThan:
+        range = index.tailMap(value, false);
+        break;
+      case GreaterThanOrEqual:
+        range = index.tailMap(value, true);
+        break;
+      case LessThan:
+        range = index.headMap(value, false);
+        break;
+      case LessThanOrEqual:
+        range = index.headMap(value, true);
+        break;
+      default:
+        return of(value);
+    }
+    if (range.size() == 0) { return null; }
+    if (range.size() == 1) { return range.firstEntry().getValue(); }
+    final var result = new IntBitmap();
+    for (final IntBitmap bucket : range.values()) {
+      result.addAll(bucket);
+    }
+    return result;
+  }
+
+  /** the buckets in the order of their value */
+  public Collection<IntBitmap> ordered(final boolean ascending) {
+    return (ascending ? index : index.descendingMap()).values();
+  }
+
   public void remove(final int at, final Ty item) {
     if (delete(at, item)) {
       unknowns.add(item);
@@ -3,10 +3,12 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.json;
 
+import java.math.BigInteger;
 import java.util.HashMap;
 import org.adamalang.runtime.stdlib.Utility;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /** This is a giant mess, but this is where the current logic sits for patching
@@ -198,6 +200,35 @@ public class JsonAlgebra {
     }
   }
 
+  /** compose two deltas such that patching with the result is the same as
+   * patching with the earlier and then the later (i.e. nulls are retained so they
+   * still delete on the client). Returns null when the deltas can't be composed;
+   * this happens when both reorder the same list and the later reorder uses a
+   * range (@r) as the range refers to the ordering which the earlier produced. */
+  public static JsonNode merge(final JsonNode earlier, final JsonNode later) {
+    if (later == null || !later.isObject() || earlier == null || !earlier.isObject()) { return later; }
+    final var result = ((ObjectNode) earlier).deepCopy();
+    final var it = later.fields();
+    while (it.hasNext()) {
+      final var entry = it.next();
+      final var prior = result.get(entry.getKey());
+      if ("@o".equals(entry.getKey()) && prior != null && prior.isArray() && hasRange(entry.getValue())) { return null; }
+      final var value = merge(prior, entry.getValue());
+      if (value == null && entry.getValue() != null) { return null; }
+      result.set(entry.getKey(), value);
+    }
+    return result;
+  }
+
+  private static boolean hasRange(final JsonNode ordering) {
+    if (ordering != null && ordering.isArray()) {
+      for (final JsonNode element : ordering) {
+        if (element.isObject()) { return true; }
+      }
+    }
+    return false;
+  }
+
   public static JsonNode patch(final JsonNode target, final JsonNode patch) {
     if (patch != null && patch.isObject()) {
       if (target != null && target.isObject()) {
@@ -223,6 +254,43 @@ public class JsonAlgebra {
     return patch;
   }
 
+  /** apply the delta directly from the reader onto the target (which is mutated) without building a tree of the delta */
+  public static JsonNode patch(final JsonNode target, final JsonStreamReader patch) {
+    if (patch.startObject()) {
+      final var result = target != null && target.isObject() ? (ObjectNode) target : Utility.createObjectNode();
+      while (patch.notEndOfObject()) {
+        final var field = patch.fieldName();
+        if (patch.testLackOfNull()) {
+          result.set(field, patch(result.get(field), patch));
+        } else {
+          result.remove(field);
+        }
+      }
+      return result;
+    }
+    return read(patch);
+  }
+
+  /** apply the delta from the reader such that the target is left as-is; the result shares every subtree which the delta doesn't touch with the target */
+  public static JsonNode patchCopyOnWrite(final JsonNode target, final JsonStreamReader patch) {
+    if (patch.startObject()) {
+      final var result = Utility.createObjectNode();
+      if (target != null && target.isObject()) {
+        result.setAll((ObjectNode) target);
+      }
+      while (patch.notEndOfObject()) {
+        final var field = patch.fieldName();
+        if (patch.testLackOfNull()) {
+          result.set(field, patchCopyOnWrite(result.get(field), patch));
+        } else {
+          result.remove(field);
+        }
+      }
+      return result;
+    }
+    return read(patch);
+  }
+
   private static Integer pullId(final JsonNode node) {
     if (node != null && node.isObject()) {
       final var idNode = node.get("id");
@@ -230,4 +298,49 @@ public class JsonAlgebra {
     }
     return null;
   }
+
+  /** read the value as-is */
+  private static JsonNode read(final JsonStreamReader reader) {
+    switch (reader.peekType()) {
+      case StartObject: {
+        reader.startObject();
+        final var result = Utility.createObjectNode();
+        while (reader.notEndOfObject()) {
+          final var field = reader.fieldName();
+          result.set(field, read(reader));
+        }
+        return result;
+      }
+      case StartArray: {
+        reader.startArray();
+        final var result = Utility.createArrayNode();
+        while (reader.notEndOfArray()) {
+          result.add(read(reader));
+        }
+        return result;
+      }
+      case NumberLiteral:
+        return readNumber(reader.readString());
+      case StringLiteral:
+        return JsonNodeFactory.instance.textNode(reader.readString());
+      case True:
+      case False:
+        return JsonNodeFactory.instance.booleanNode(reader.readBoolean());
+      default:
+        reader.skipValue();
+        return JsonNodeFactory.instance.nullNode();
+    }
+  }
+
+  /** turn the number into the same node that Jackson would have parsed */
+  private static JsonNode readNumber(final String number) {
+    if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) { return JsonNodeFactory.instance.numberNode(Double.parseDouble(number)); }
+    try {
+      final var value = Long.parseLong(number);
+      if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) { return JsonNodeFactory.instance.numberNode((int) value); }
+      return JsonNodeFactory.instance.numberNode(value);
+    } catch (final NumberFormatException nfe) {
+      return JsonNodeFactory.instance.numberNode(new BigInteger(number));
+    }
+  }
 }
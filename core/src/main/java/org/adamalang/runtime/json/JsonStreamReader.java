@@ -3,82 +3,181 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.json;
 
-import java.util.ArrayDeque;
-import org.adamalang.runtime.json.token.JsonToken;
 import org.adamalang.runtime.json.token.JsonTokenType;
 import org.adamalang.runtime.natives.NtClient;
 
+/** a cursor over JSON which looks ahead exactly one token. The token is a type
+ * and a slice of the JSON, so nothing is allocated until a value is asked for;
+ * numbers are parsed within the slice, and field names are interned such that
+ * the same field name (i.e. within every row of a table) is the same String. */
 public class JsonStreamReader {
+  private static final int INTERN_MAX_LENGTH = 32;
+  private static final int INTERN_SLOTS = 1024;
+  /** a lossy cache of field names; racing threads at worst replace a slot */
+  private static final String[] INTERNED = new String[INTERN_SLOTS];
+
+  private static boolean isNumberPart(final char ch) {
+    return ch >= '0' && ch <= '9' || ch == '-' || ch == '+' || ch == 'E' || ch == 'e' || ch == '.';
+  }
+
+  private static boolean isWhitespace(final char ch) {
+    return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+  }
+
+  private boolean ahead;
   private int index;
   private final String json;
   private final int n;
-  ArrayDeque<JsonToken> tokens;
+  private JsonTokenType token;
+  private int tokenEnd;
+  private boolean tokenEscaped;
+  private int tokenHash;
+  private int tokenStart;
 
   public JsonStreamReader(final String json) {
     this.json = json;
     n = json.length();
-    tokens = new ArrayDeque<>();
+    ahead = false;
+    token = null;
   }
 
-  public boolean end() {
-    return index >= n;
+  /** consume the token, and return its type */
+  private JsonTokenType consume() {
+    peek();
+    ahead = false;
+    return token;
   }
 
-  private void ensureQueueHappy(final int needs) {
-    if (tokens.size() > needs) { return; }
-    while (tokens.size() < 10 + needs) {
-      if (index < n) {
-        readToken();
-      } else {
-        if (tokens.size() < needs) { throw new RuntimeException("Unable to satisfy minimum limit"); }
-        return;
-      }
+  public boolean end() {
+    if (ahead) { return false; }
+    while (index < n && isWhitespace(json.charAt(index))) {
+      index++;
     }
+    return index >= n;
   }
 
   public String fieldName() {
-    ensureQueueHappy(1);
-    return tokens.removeFirst().data;
+    consume();
+    return text(true);
+  }
+
+  /** read a field name which is an integer (i.e. the key of a row) without building a String */
+  public int fieldNameAsInteger() {
+    consume();
+    if (tokenEscaped) { return Integer.parseInt(text(false)); }
+    final var value = parseWholeNumber();
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) { return Integer.parseInt(slice()); }
+    return (int) value;
+  }
+
+  /** read a field name which is a long without building a String */
+  public long fieldNameAsLong() {
+    consume();
+    if (tokenEscaped) { return Long.parseLong(text(false)); }
+    return parseWholeNumber();
+  }
+
+  /** the hash of the field name (the same as fieldName().hashCode()) which is ahead */
+  public int fieldNameHash() {
+    peek();
+    if (!tokenEscaped && token == JsonTokenType.StringLiteral) { return tokenHash; }
+    final var text = text(false);
+    return text == null ? 0 : text.hashCode();
+  }
+
+  /** the field name as a String, which is shared with every prior field name of the same text that landed in the same slot */
+  private String intern() {
+    final var length = tokenEnd - tokenStart;
+    if (length > INTERN_MAX_LENGTH) { return slice(); }
+    final var slot = tokenHash & (INTERN_SLOTS - 1);
+    final var cached = INTERNED[slot];
+    if (cached != null && cached.length() == length && json.regionMatches(tokenStart, cached, 0, length)) { return cached; }
+    final var value = slice();
+    INTERNED[slot] = value;
+    return value;
+  }
+
+  /** if the field name ahead is the given name, then consume it and return true; otherwise, leave it be */
+  public boolean matchFieldName(final String name) {
+    if (peek() != JsonTokenType.StringLiteral) { return false; }
+    if (tokenEscaped) {
+      if (!name.equals(text(false))) { return false; }
+    } else if (tokenEnd - tokenStart != name.length() || !json.regionMatches(tokenStart, name, 0, name.length())) { return false; }
+    ahead = false;
+    return true;
   }
 
   public boolean notEndOfArray() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.EndArray) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.EndArray) {
+      ahead = false;
       return false;
     }
     return true;
   }
 
   public boolean notEndOfObject() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.EndObject) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.EndObject) {
+      ahead = false;
       return false;
     }
     return true;
   }
 
+  /** parse the whole number within the token; anything unusual is handed to Long.parseLong so it fails the same way */
+  private long parseWholeNumber() {
+    var at = tokenStart;
+    final var length = tokenEnd - tokenStart;
+    if (length == 0 || length > 18) { return Long.parseLong(slice()); }
+    var negative = false;
+    final var first = json.charAt(at);
+    if (first == '-' || first == '+') {
+      negative = first == '-';
+      at++;
+      if (at == tokenEnd) { return Long.parseLong(slice()); }
+    }
+    var value = 0L;
+    while (at < tokenEnd) {
+      final var digit = json.charAt(at) - '0';
+      if (digit < 0 || digit > 9) { return Long.parseLong(slice()); }
+      value = value * 10 + digit;
+      at++;
+    }
+    return negative ? -value : value;
+  }
+
+  /** ensure the next token has been scanned, and return its type */
+  private JsonTokenType peek() {
+    if (!ahead) {
+      scan();
+      ahead = true;
+    }
+    return token;
+  }
+
+  /** the type of the token ahead, without consuming it */
+  public JsonTokenType peekType() {
+    return peek();
+  }
+
   public boolean readBoolean() {
-    ensureQueueHappy(1);
-    return tokens.removeFirst().type == JsonTokenType.True;
+    return consume() == JsonTokenType.True;
   }
 
   public double readDouble() {
-    ensureQueueHappy(1);
-    return Double.parseDouble(tokens.removeFirst().data);
+    consume();
+    return Double.parseDouble(slice());
   }
 
   public int readInteger() {
-    ensureQueueHappy(1);
-    return Integer.parseInt(tokens.removeFirst().data);
+    consume();
+    final var value = parseWholeNumber();
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) { return Integer.parseInt(slice()); }
+    return (int) value;
   }
 
   public long readLong() {
-    ensureQueueHappy(1);
-    return Long.parseLong(tokens.removeFirst().data);
+    consume();
+    return parseWholeNumber();
   }
 
   public NtClient readNtClient() {
@@ -100,147 +199,107 @@ public class JsonStreamReader {
   }
 
   public String readString() {
-    ensureQueueHappy(1);
-    return tokens.removeFirst().data;
+    consume();
+    return text(false);
   }
 
-  private void readToken() {
-    final var start = json.charAt(index);
-    switch (start) {
-      case '{':
-        index++;
-        tokens.addLast(new JsonToken(JsonTokenType.StartObject, null));
-        return;
-      case '}':
-        index++;
-        tokens.addLast(new JsonToken(JsonTokenType.EndObject, null));
-        return;
-      case '[':
-        index++;
-        tokens.addLast(new JsonToken(JsonTokenType.StartArray, null));
-        return;
-      case ']':
-        index++;
-        tokens.addLast(new JsonToken(JsonTokenType.EndArray, null));
-        return;
-      case ',':
-      case ':':
-        index++;
-        readToken();
-        return;
-      case '\"':
-        StringBuilder sb = null;
-        for (var j = index + 1; j < n; j++) {
-          var ch = json.charAt(j);
-          if (ch == '\\') {
-            if (sb == null) {
-              sb = new StringBuilder();
-              sb.append(json, index + 1, j);
-            }
-            j++;
-            ch = json.charAt(j);
-            switch (ch) {
-              case 'n':
-                sb.append('\n');
-                break;
-              case 't':
-                sb.append('\t');
-                break;
-              case 'r':
-                sb.append('\r');
-                break;
-              case 'f':
-                sb.append('\f');
-                break;
-              case 'b':
-                sb.append('\b');
-                break;
-              case '\\':
-                sb.append('\\');
-                break;
-              case '"':
-                sb.append('\"');
-                break;
-              case 'u':
-                sb.append(Character.toString(Integer.parseInt(json.substring(j + 1, j + 5), 16)));
-                j += 4;
-            }
-          } else if (ch == '"') {
-            if (sb != null) {
-              tokens.addLast(new JsonToken(JsonTokenType.StringLiteral, sb.toString()));
+  /** scan the next token into the cursor */
+  private void scan() {
+    while (index < n) {
+      final var start = json.charAt(index);
+      switch (start) {
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\r':
+        case ',':
+        case ':':
+          index++;
+          break;
+        case '{':
+          index++;
+          token = JsonTokenType.StartObject;
+          return;
+        case '}':
+          index++;
+          token = JsonTokenType.EndObject;
+          return;
+        case '[':
+          index++;
+          token = JsonTokenType.StartArray;
+          return;
+        case ']':
+          index++;
+          token = JsonTokenType.EndArray;
+          return;
+        case '\"': {
+          var escaped = false;
+          var hash = 0;
+          for (var j = index + 1; j < n; j++) {
+            final var ch = json.charAt(j);
+            if (ch == '\\') {
+              escaped = true;
+              j++;
+            } else if (ch == '"') {
+              token = JsonTokenType.StringLiteral;
+              tokenStart = index + 1;
+              tokenEnd = j;
+              tokenEscaped = escaped;
+              tokenHash = hash;
+              index = j + 1;
+              return;
             } else {
-              tokens.addLast(new JsonToken(JsonTokenType.StringLiteral, json.substring(index + 1, j)));
-            }
-            index = j + 1;
-            return;
-          } else {
-            if (sb != null) {
-              sb.append(ch);
+              hash = 31 * hash + ch;
             }
           }
+          throw new UnsupportedOperationException();
         }
-        throw new UnsupportedOperationException();
-      case '0':
-      case '1':
-      case '2':
-      case '3':
-      case '4':
-      case '5':
-      case '6':
-      case '7':
-      case '8':
-      case '9':
-      case '-':
-      case '+':
-        for (var j = index + 1; j < n; j++) {
-          final var ch2 = json.charAt(j);
-          switch (ch2) {
-            case '0':
-            case '1':
-            case '2':
-            case '3':
-            case '4':
-            case '5':
-            case '6':
-            case '7':
-            case '8':
-            case '9':
-            case '-':
-            case '+':
-            case 'E':
-            case 'e':
-            case '.':
-              break;
-            default:
-              tokens.addLast(new JsonToken(JsonTokenType.NumberLiteral, json.substring(index, j)));
-              index = j;
-              return;
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+        case '-':
+        case '+': {
+          var j = index + 1;
+          while (j < n && isNumberPart(json.charAt(j))) {
+            j++;
           }
+          token = JsonTokenType.NumberLiteral;
+          tokenStart = index;
+          tokenEnd = j;
+          tokenEscaped = false;
+          index = j;
+          return;
         }
-        tokens.addLast(new JsonToken(JsonTokenType.NumberLiteral, json.substring(index)));
-        index = n;
-        return;
-      case 'n':
-        index += 4;
-        tokens.addLast(new JsonToken(JsonTokenType.Null, null));
-        return;
-      case 't':
-        index += 4;
-        tokens.addLast(new JsonToken(JsonTokenType.True, null));
-        return;
-      case 'f':
-        index += 5;
-        tokens.addLast(new JsonToken(JsonTokenType.False, null));
-        return;
-      default:
-        throw new UnsupportedOperationException();
+        case 'n':
+          index += 4;
+          token = JsonTokenType.Null;
+          return;
+        case 't':
+          index += 4;
+          token = JsonTokenType.True;
+          return;
+        case 'f':
+          index += 5;
+          token = JsonTokenType.False;
+          return;
+        default:
+          throw new UnsupportedOperationException();
+      }
     }
+    throw new RuntimeException("Unable to satisfy minimum limit");
   }
 
   public void skipValue() {
     if (startObject()) {
       while (notEndOfObject()) {
-        fieldName();
+        consume();
         skipValue();
       }
     } else if (startArray()) {
@@ -248,8 +307,7 @@ public class JsonStreamReader {
         skipValue();
       }
     } else {
-      ensureQueueHappy(1);
-      tokens.removeFirst();
+      consume();
     }
   }
 
@@ -268,49 +326,105 @@ public class JsonStreamReader {
       }
       writer.endArray();
     } else {
-      ensureQueueHappy(1);
-      final var token = tokens.removeFirst();
-      if (token.type == JsonTokenType.NumberLiteral) {
-        writer.injectJson(token.data);
-      } else if (token.type == JsonTokenType.StringLiteral) {
-        writer.writeString(token.data);
-      } else if (token.type == JsonTokenType.Null) {
-        writer.writeNull();
-      } else if (token.type == JsonTokenType.True) {
-        writer.writeBoolean(true);
-      } else if (token.type == JsonTokenType.False) {
-        writer.writeBoolean(false);
+      switch (consume()) {
+        case NumberLiteral:
+          writer.injectJson(slice());
+          break;
+        case StringLiteral:
+          writer.writeString(text(false));
+          break;
+        case Null:
+          writer.writeNull();
+          break;
+        case True:
+          writer.writeBoolean(true);
+          break;
+        case False:
+          writer.writeBoolean(false);
+          break;
+        default:
+          break;
       }
     }
   }
 
+  /** the raw text of the token */
+  private String slice() {
+    return json.substring(tokenStart, tokenEnd);
+  }
+
   public boolean startArray() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.StartArray) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.StartArray) {
+      ahead = false;
       return true;
     }
     return false;
   }
 
   public boolean startObject() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.StartObject) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.StartObject) {
+      ahead = false;
       return true;
     }
     return false;
   }
 
   public boolean testLackOfNull() {
-    ensureQueueHappy(1);
-    final var first = tokens.peekFirst();
-    if (first.type == JsonTokenType.Null) {
-      tokens.removeFirst();
+    if (peek() == JsonTokenType.Null) {
+      ahead = false;
       return false;
     }
     return true;
   }
+
+  /** the text of the (just consumed) token; string literals are unescaped and (if asked) interned */
+  private String text(final boolean intern) {
+    switch (token) {
+      case StringLiteral:
+        if (tokenEscaped) { return unescape(); }
+        if (intern) { return intern(); }
+        return slice();
+      case NumberLiteral:
+        return slice();
+      default:
+        return null;
+    }
+  }
+
+  private String unescape() {
+    final var sb = new StringBuilder(tokenEnd - tokenStart);
+    for (var j = tokenStart; j < tokenEnd; j++) {
+      var ch = json.charAt(j);
+      if (ch == '\\') {
+        j++;
+        ch = json.charAt(j);
+        switch (ch) {
+          case 'n':
+            sb.append('\n');
+            break;
+          case 't':
+            sb.append('\t');
+            break;
+          case 'r':
+            sb.append('\r');
+            break;
+          case 'f':
+            sb.append('\f');
+            break;
+          case 'b':
+            sb.append('\b');
+            break;
+          case 'u':
+            sb.append((char) Integer.parseInt(json, j + 1, j + 5, 16));
+            j += 4;
+            break;
+          default:
+            sb.append(ch);
+        }
+      } else {
+        sb.append(ch);
+      }
+    }
+    return sb.toString();
+  }
 }
@@ -3,54 +3,64 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.json;
 
-import java.util.Stack;
+import java.util.Arrays;
 import org.adamalang.runtime.natives.NtClient;
 
-/** Very fast Json stream writer. */
+/** Very fast Json stream writer. The comma state is a primitive stack, strings
+ * are escaped via a lookup table (with runs which need no escaping copied in
+ * bulk), and the writer can be reset such that its buffer is reused. */
 public class JsonStreamWriter {
-  public enum CommaStateMachine {
-    FirstItemSkipComma, IntroduceComma, None
-  }
-
-  private static String hexEncode(final char ch) {
-    final var hi = zeroPadLeft(Integer.toString(ch / 256, 16));
-    final var lo = zeroPadLeft(Integer.toString(ch % 256, 16));
-    return "\\u" + hi + lo;
-  }
-
-  private static String zeroPadLeft(final String x) {
-    if (x.length() == 1) { return "0" + x; }
-    return x;
+  private static final byte COMMA_FIRST_ITEM_SKIP = 1;
+  private static final byte COMMA_INTRODUCE = 2;
+  private static final byte COMMA_NONE = 0;
+  private static final String[] ESCAPES = new String[128];
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+  /** a reset writer drops a buffer beyond this many chars rather than hold onto it */
+  private static final int RESET_CAPACITY_LIMIT = 1024 * 1024;
+  static {
+    for (var ch = 0; ch < 32; ch++) {
+      ESCAPES[ch] = "\\u00" + HEX[ch >> 4] + HEX[ch & 15];
+    }
+    ESCAPES['\n'] = "\\n";
+    ESCAPES['\r'] = "\\r";
+    ESCAPES['\f'] = "\\f";
+    ESCAPES['\b'] = "\\b";
+    ESCAPES['\t'] = "\\t";
+    ESCAPES['\\'] = "\\\\";
+    ESCAPES['\"'] = "\\\"";
   }
 
-  private final Stack<CommaStateMachine> commas;
-  private CommaStateMachine commaStateMachine;
-  private final StringBuilder sb = new StringBuilder();
+  private byte comma;
+  private byte[] commas;
+  private int depth;
+  private StringBuilder sb;
 
   public JsonStreamWriter() {
-    commas = new Stack<>();
-    commaStateMachine = CommaStateMachine.None;
+    comma = COMMA_NONE;
+    commas = new byte[16];
+    depth = 0;
+    sb = new StringBuilder();
   }
 
   public void beginArray() {
     maybe_comma();
-    sb.append("[");
+    sb.append('[');
     push_need_comma();
   }
 
   public void beginObject() {
     maybe_comma();
-    sb.append("{");
+    sb.append('{');
     push_need_comma();
   }
 
   public void endArray() {
-    sb.append("]");
+    sb.append(']');
     pop_need_comma();
   }
 
   public void endObject() {
-    sb.append("}");
+    sb.append('}');
     pop_need_comma();
   }
 
@@ -60,21 +70,34 @@ public class JsonStreamWriter {
   }
 
   private void maybe_comma() {
-    if (commaStateMachine == CommaStateMachine.IntroduceComma) {
-      sb.append(",");
-    }
-    if (commaStateMachine == CommaStateMachine.FirstItemSkipComma) {
-      commaStateMachine = CommaStateMachine.IntroduceComma;
+    if (comma == COMMA_INTRODUCE) {
+      sb.append(',');
+    } else if (comma == COMMA_FIRST_ITEM_SKIP) {
+      comma = COMMA_INTRODUCE;
     }
   }
 
   private void pop_need_comma() {
-    commaStateMachine = commas.pop();
+    comma = commas[--depth];
   }
 
   private void push_need_comma() {
-    commas.push(commaStateMachine);
-    commaStateMachine = CommaStateMachine.FirstItemSkipComma;
+    if (depth == commas.length) {
+      commas = Arrays.copyOf(commas, depth * 2);
+    }
+    commas[depth++] = comma;
+    comma = COMMA_FIRST_ITEM_SKIP;
+  }
+
+  /** clear the writer such that it can be used again (i.e. pooled per thread) */
+  public void reset() {
+    if (sb.capacity() > RESET_CAPACITY_LIMIT) {
+      sb = new StringBuilder();
+    } else {
+      sb.setLength(0);
+    }
+    comma = COMMA_NONE;
+    depth = 0;
   }
 
   @Override
@@ -92,9 +115,16 @@ public class JsonStreamWriter {
     sb.append(d);
   }
 
+  /** write a field intro (i.e. "name":) which was encoded ahead of time */
+  public void writeEncodedFieldIntro(final String encodedIntro) {
+    maybe_comma();
+    sb.append(encodedIntro);
+    comma = COMMA_FIRST_ITEM_SKIP;
+  }
+
   public void writeFastString(final String s) {
     maybe_comma();
-    sb.append("\"").append(s).append("\"");
+    sb.append('"').append(s).append('"');
   }
 
   public void writeInteger(final int x) {
@@ -104,7 +134,7 @@ public class JsonStreamWriter {
 
   public void writeLong(final long x) {
     maybe_comma();
-    sb.append("\"").append(x).append("\"");
+    sb.append('"').append(x).append('"');
   }
 
   public void writeNtClient(final NtClient c) {
@@ -123,57 +153,38 @@ public class JsonStreamWriter {
 
   public void writeObjectFieldIntro(final int fieldName) {
     maybe_comma();
-    sb.append("\"").append(fieldName).append("\":");
-    commaStateMachine = CommaStateMachine.FirstItemSkipComma;
+    sb.append('"').append(fieldName).append("\":");
+    comma = COMMA_FIRST_ITEM_SKIP;
   }
 
   public void writeObjectFieldIntro(final long fieldName) {
     maybe_comma();
-    sb.append("\"").append(fieldName).append("\":");
-    commaStateMachine = CommaStateMachine.FirstItemSkipComma;
+    sb.append('"').append(fieldName).append("\":");
+    comma = COMMA_FIRST_ITEM_SKIP;
   }
 
   public void writeObjectFieldIntro(final String fieldName) {
     maybe_comma();
-    sb.append("\"").append(fieldName).append("\":");
-    commaStateMachine = CommaStateMachine.FirstItemSkipComma;
+    sb.append('"').append(fieldName).append("\":");
+    comma = COMMA_FIRST_ITEM_SKIP;
   }
 
   public void writeString(final String s) {
     maybe_comma();
-    sb.append("\"");
-    for (var k = 0; k < s.length(); k++) {
+    sb.append('"');
+    final var n = s.length();
+    var run = 0;
+    for (var k = 0; k < n; k++) {
       final var ch = s.charAt(k);
-      switch (ch) {
-        case '\n':
-          sb.append("\\n");
-          break;
-        case '\r':
-          sb.append("\\r");
-          break;
-        case '\f':
-          sb.append("\\f");
-          break;
-        case '\b':
-          sb.append("\\b");
-          break;
-        case '\t':
-          sb.append("\\t");
-          break;
-        case '\\':
-          sb.append("\\\\");
-          break;
-        case '\"':
-          sb.append("\\\"");
-          break;
-        default:
-          if (ch >= 128) {
-            sb.append(hexEncode(ch));
-          } else {
-            sb.append(ch);
-          }
+      if (ch < 128) {
+        final var escape = ESCAPES[ch];
+        if (escape == null) { continue; }
+        sb.append(s, run, k).append(escape);
+      } else {
+        sb.append(s, run, k).append('\\').append('u').append(HEX[ch >> 12]).append(HEX[ch >> 8 & 15]).append(HEX[ch >> 4 & 15]).append(HEX[ch & 15]);
       }
+      run = k + 1;
     }
-    sb.append("\"");
+    sb.append(s, run, n).append('"');
   }
 }
@@ -3,60 +3,150 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.json;
 
+import java.util.Arrays;
 import org.adamalang.runtime.natives.NtClient;
 
+/** a writer which only writes the path to a value once the value is written.
+ * The plan is a stack of frames shared by every writer bound to the same
+ * stream; each writer is a depth into that stack. Since a view is walked depth
+ * first, planning from a writer abandons every frame beneath it, so the writer
+ * (and the frame) at each depth is reused rather than allocated per field. */
 public class PrivateLazyDeltaWriter {
+  /** the frames from the root to the most recently planned writer */
+  private static class Frames {
+    private String[] encoded;
+    private int[] ids;
+    private byte[] kinds;
+    private int manifestedDepth;
+    private String[] names;
+    private PrivateLazyDeltaWriter[] writers;
+
+    private Frames() {
+      encoded = new String[INITIAL_DEPTH];
+      ids = new int[INITIAL_DEPTH];
+      kinds = new byte[INITIAL_DEPTH];
+      manifestedDepth = 0;
+      names = new String[INITIAL_DEPTH];
+      writers = new PrivateLazyDeltaWriter[INITIAL_DEPTH];
+    }
+
+    private void grow() {
+      final var capacity = kinds.length * 2;
+      encoded = Arrays.copyOf(encoded, capacity);
+      ids = Arrays.copyOf(ids, capacity);
+      kinds = Arrays.copyOf(kinds, capacity);
+      names = Arrays.copyOf(names, capacity);
+      writers = Arrays.copyOf(writers, capacity);
+    }
+  }
+
+  private static final int INITIAL_DEPTH = 16;
+  private static final byte KIND_ARRAY = 0;
+  private static final byte KIND_ENCODED_FIELD = 1;
+  private static final byte KIND_ID_FIELD = 2;
+  private static final byte KIND_NAMED_FIELD = 3;
+  private static final byte KIND_OBJECT = 4;
+  private static final byte KIND_ROOT = 5;
+
   public static PrivateLazyDeltaWriter bind(final NtClient who, final JsonStreamWriter writer) {
-    return new PrivateLazyDeltaWriter(who, writer, null, () -> {}, () -> {});
+    final var frames = new Frames();
+    frames.kinds[0] = KIND_ROOT;
+    final var root = new PrivateLazyDeltaWriter(who, writer, frames, 0);
+    frames.writers[0] = root;
+    return root;
   }
 
-  private boolean manifested;
-  private final Runnable onEndWithManifest;
-  private final Runnable onManifest;
-  private final PrivateLazyDeltaWriter parent;
+  private final int depth;
+  private final Frames frames;
   public final NtClient who;
   private final JsonStreamWriter writer;
 
-  private PrivateLazyDeltaWriter(final NtClient who, final JsonStreamWriter writer, final PrivateLazyDeltaWriter parent, final Runnable onManifest, final Runnable onEndWithManifest) {
+  private PrivateLazyDeltaWriter(final NtClient who, final JsonStreamWriter writer, final Frames frames, final int depth) {
     this.who = who;
     this.writer = writer;
-    this.parent = parent;
-    this.onManifest = onManifest;
-    this.onEndWithManifest = onEndWithManifest;
-    manifested = false;
+    this.frames = frames;
+    this.depth = depth;
   }
 
   public boolean end() {
-    if (manifested) {
-      onEndWithManifest.run();
+    if (depth > frames.manifestedDepth) { return false; }
+    switch (frames.kinds[depth]) {
+      case KIND_ARRAY:
+        writer.endArray();
+        break;
+      case KIND_OBJECT:
+        writer.endObject();
+        break;
     }
-    return manifested;
+    return true;
   }
 
   public void manifest() {
-    if (parent != null) {
-      parent.manifest();
+    while (frames.manifestedDepth < depth) {
+      final var at = ++frames.manifestedDepth;
+      switch (frames.kinds[at]) {
+        case KIND_ARRAY:
+          writer.beginArray();
+          break;
+        case KIND_ENCODED_FIELD:
+          writer.writeEncodedFieldIntro(frames.encoded[at]);
+          break;
+        case KIND_ID_FIELD:
+          writer.writeObjectFieldIntro(frames.ids[at]);
+          break;
+        case KIND_NAMED_FIELD:
+          writer.writeObjectFieldIntro(frames.names[at]);
+          break;
+        case KIND_OBJECT:
+          writer.beginObject();
+          break;
+      }
     }
-    if (!manifested) {
-      manifested = true;
-      onManifest.run();
+  }
+
+  /** abandon everything beneath this writer, and then plan the next frame */
+  private PrivateLazyDeltaWriter plan(final byte kind) {
+    final var next = depth + 1;
+    if (next == frames.kinds.length) {
+      frames.grow();
+    }
+    if (frames.manifestedDepth > depth) {
+      frames.manifestedDepth = depth;
     }
+    frames.kinds[next] = kind;
+    var child = frames.writers[next];
+    if (child == null) {
+      child = new PrivateLazyDeltaWriter(who, writer, frames, next);
+      frames.writers[next] = child;
+    }
+    return child;
   }
 
   public PrivateLazyDeltaWriter planArray() {
-    return new PrivateLazyDeltaWriter(who, writer, this, () -> writer.beginArray(), () -> writer.endArray());
+    return plan(KIND_ARRAY);
+  }
+
+  /** plan a field where the intro (i.e. "name":) was encoded by the code generator */
+  public PrivateLazyDeltaWriter planEncodedField(final String encodedIntro) {
+    final var child = plan(KIND_ENCODED_FIELD);
+    frames.encoded[child.depth] = encodedIntro;
+    return child;
   }
 
   public PrivateLazyDeltaWriter planField(final int fieldId) {
-    return new PrivateLazyDeltaWriter(who, writer, this, () -> writer.writeObjectFieldIntro("" + fieldId), () -> {});
+    final var child = plan(KIND_ID_FIELD);
+    frames.ids[child.depth] = fieldId;
+    return child;
   }
 
   public PrivateLazyDeltaWriter planField(final String fieldName) {
-    return new PrivateLazyDeltaWriter(who, writer, this, () -> writer.writeObjectFieldIntro(fieldName), () -> {});
+    final var child = plan(KIND_NAMED_FIELD);
+    frames.names[child.depth] = fieldName;
+    return child;
   }
 
   public PrivateLazyDeltaWriter planObject() {
-    return new PrivateLazyDeltaWriter(who, writer, this, () -> writer.beginObject(), () -> writer.endObject());
+    return plan(KIND_OBJECT);
   }
 
   public void writeBool(final boolean b) {
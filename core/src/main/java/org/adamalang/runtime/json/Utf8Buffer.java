@@ -0,0 +1,133 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/** a growable byte buffer which encodes characters as UTF-8 as they are
+ * appended, such that a log record is able to go to the disk without first
+ * becoming a String and then a byte[]. The buffer is meant to be reset and
+ * reused (see Utf8BufferPool). */
+public class Utf8Buffer {
+  private byte[] bytes;
+  private int size;
+
+  public Utf8Buffer(final int capacity) {
+    this.bytes = new byte[Math.max(capacity, 16)];
+    this.size = 0;
+  }
+
+  /** append the characters encoded as UTF-8 */
+  public void append(final CharSequence chars) {
+    final var length = chars.length();
+    ensure(length);
+    for (var k = 0; k < length; k++) {
+      final var ch = chars.charAt(k);
+      if (ch < 0x80) {
+        bytes[size++] = (byte) ch;
+      } else {
+        // anything beyond ASCII is rare (as JsonStreamWriter escapes most of it)
+        ensure(3 * (length - k) + 1);
+        if (ch < 0x800) {
+          bytes[size++] = (byte) (0xC0 | ch >> 6);
+          bytes[size++] = (byte) (0x80 | ch & 0x3F);
+        } else if (Character.isHighSurrogate(ch) && k + 1 < length && Character.isLowSurrogate(chars.charAt(k + 1))) {
+          final var codePoint = Character.toCodePoint(ch, chars.charAt(++k));
+          bytes[size++] = (byte) (0xF0 | codePoint >> 18);
+          bytes[size++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+          bytes[size++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+          bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+        } else if (Character.isSurrogate(ch)) {
+          bytes[size++] = '?';
+        } else {
+          bytes[size++] = (byte) (0xE0 | ch >> 12);
+          bytes[size++] = (byte) (0x80 | ch >> 6 & 0x3F);
+          bytes[size++] = (byte) (0x80 | ch & 0x3F);
+        }
+      }
+    }
+  }
+
+  /** append a single ASCII character */
+  public void append(final char ch) {
+    ensure(1);
+    bytes[size++] = (byte) ch;
+  }
+
+  /** append "true" or "false" */
+  public void appendBoolean(final boolean value) {
+    append(value ? "true" : "false");
+  }
+
+  /** append the integer as ASCII digits without going through a String */
+  public void appendInteger(final int value) {
+    ensure(11);
+    var remaining = (long) value;
+    if (remaining < 0) {
+      bytes[size++] = '-';
+      remaining = -remaining;
+    }
+    final var start = size;
+    do {
+      bytes[size++] = (byte) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining > 0);
+    // the digits went in backwards
+    for (int lo = start, hi = size - 1; lo < hi; lo++, hi--) {
+      final var swap = bytes[lo];
+      bytes[lo] = bytes[hi];
+      bytes[hi] = swap;
+    }
+  }
+
+  /** the backing array; only the first size() bytes are valid */
+  public byte[] bytes() {
+    return bytes;
+  }
+
+  /** the capacity of the backing array */
+  public int capacity() {
+    return bytes.length;
+  }
+
+  /** make room for at least the given number of bytes beyond the size */
+  private void ensure(final int more) {
+    if (size + more > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + more));
+    }
+  }
+
+  /** forget the bytes, but keep the backing array */
+  public void reset() {
+    size = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /** a copy of the valid bytes */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(bytes, size);
+  }
+
+  /** a view of the valid bytes (which is only good until the buffer changes) */
+  public ByteBuffer toByteBuffer() {
+    return ByteBuffer.wrap(bytes, 0, size);
+  }
+
+  @Override
+  public String toString() {
+    return new String(bytes, 0, size, StandardCharsets.UTF_8);
+  }
+
+  /** write the valid bytes to the stream */
+  public void writeTo(final OutputStream output) throws IOException {
+    output.write(bytes, 0, size);
+  }
+}
@@ -0,0 +1,44 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.json;
+
+import java.util.ArrayDeque;
+
+/** a bounded pool of Utf8Buffer such that serializing deltas and requests
+ * reuses the same few arrays rather than allocating per transaction. Buffers
+ * which grew beyond the retain limit are dropped on release so a single huge
+ * document does not pin memory forever. */
+public class Utf8BufferPool {
+  private final ArrayDeque<Utf8Buffer> available;
+  private final int initialCapacity;
+  private final int maxPooled;
+  private final int maxRetainedCapacity;
+
+  public Utf8BufferPool(final int initialCapacity, final int maxRetainedCapacity, final int maxPooled) {
+    this.initialCapacity = initialCapacity;
+    this.maxRetainedCapacity = maxRetainedCapacity;
+    this.maxPooled = maxPooled;
+    this.available = new ArrayDeque<>();
+  }
+
+  /** get an empty buffer */
+  public synchronized Utf8Buffer acquire() {
+    final var buffer = available.pollFirst();
+    if (buffer != null) { return buffer; }
+    return new Utf8Buffer(initialCapacity);
+  }
+
+  /** how many buffers are waiting to be reused */
+  public synchronized int available() {
+    return available.size();
+  }
+
+  /** return the buffer to the pool; the caller must no longer use it */
+  public synchronized void release(final Utf8Buffer buffer) {
+    buffer.reset();
+    if (available.size() < maxPooled && buffer.capacity() <= maxRetainedCapacity) {
+      available.addFirst(buffer);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.util.ArrayDeque;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** an I/O thread shared by many documents (see AsyncTransactionLogger) such that
+ * the document threads hand their transactions off via a bounded queue rather
+ * than waiting on the disk. The queue is drained in order, so the transactions
+ * for a document reach its log in order and its callbacks fire in order. Once
+ * the queue is half full, the pipeline is backed up and new work should be
+ * turned away; once it is full, handing off work blocks. */
+public class AsyncLogPipeline {
+  private boolean alive;
+  private final int capacity;
+  private final ArrayDeque<Runnable> queue;
+  private final Thread writer;
+
+  public AsyncLogPipeline(final int capacity) {
+    this.capacity = Math.max(capacity, 1);
+    this.alive = true;
+    this.queue = new ArrayDeque<>();
+    this.writer = new Thread(() -> {
+      Runnable task;
+      while ((task = take()) != null) {
+        try {
+          task.run();
+        } catch (final Exception ex) {
+          // the thread is shared by every document, so one bad task must not stop it
+        }
+      }
+    }, "async-log-pipeline");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /** stop accepting work, and wait for the queued work to drain */
+  public void close() throws InterruptedException {
+    synchronized (this) {
+      alive = false;
+      notifyAll();
+    }
+    writer.join();
+  }
+
+  /** hand the task to the I/O thread; this blocks while the queue is full */
+  synchronized void execute(final Runnable task) throws ErrorCodeException {
+    try {
+      while (alive && queue.size() >= capacity) {
+        wait();
+      }
+    } catch (final InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new ErrorCodeException(ErrorCodeException.ASYNC_LOGGER_CANT_QUEUE, ie);
+    }
+    if (!alive) { throw new ErrorCodeException(ErrorCodeException.ASYNC_LOGGER_CANT_QUEUE); }
+    queue.addLast(task);
+    notifyAll();
+  }
+
+  /** is the queue at least half full */
+  public synchronized boolean isBackedUp() {
+    return queue.size() * 2 >= capacity;
+  }
+
+  /** how many tasks are waiting on the I/O thread */
+  public synchronized int size() {
+    return queue.size();
+  }
+
+  /** block the I/O thread until there is work; null means stop */
+  private synchronized Runnable take() {
+    while (queue.isEmpty()) {
+      if (!alive) { return null; }
+      try {
+        wait();
+      } catch (final InterruptedException ie) {
+        // keep going such that nothing queued is lost
+      }
+    }
+    notifyAll();
+    return queue.removeFirst();
+  }
+}
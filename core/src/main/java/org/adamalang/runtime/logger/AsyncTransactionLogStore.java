@@ -0,0 +1,40 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.adamalang.runtime.contracts.TransactionLogStore;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** wraps another store such that the logs it opens are written by a shared
+ * AsyncLogPipeline; loading still happens on the calling thread */
+public class AsyncTransactionLogStore implements TransactionLogStore {
+  public final AsyncLogPipeline pipeline;
+  private final TransactionLogStore store;
+
+  public AsyncTransactionLogStore(final TransactionLogStore store, final int capacity) {
+    this.store = store;
+    this.pipeline = new AsyncLogPipeline(capacity);
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      pipeline.close();
+    } finally {
+      store.close();
+    }
+  }
+
+  @Override
+  public boolean exists(final File root, final String id) {
+    return store.exists(root, id);
+  }
+
+  @Override
+  public TransactionLogger openFillAndAppend(final File root, final String id, final TransactionLogger target) throws ErrorCodeException {
+    return new AsyncTransactionLogger(pipeline, store.openFillAndAppend(root, id, target));
+  }
+}
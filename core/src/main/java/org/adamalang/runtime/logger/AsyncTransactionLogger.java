@@ -0,0 +1,120 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.adamalang.runtime.contracts.BackpressureTransactionLogger;
+import org.adamalang.runtime.contracts.DurabilityCallback;
+import org.adamalang.runtime.contracts.DurableTransactionLogger;
+import org.adamalang.runtime.contracts.SnapshotTransactionLogger;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a logger which hands every transaction to an AsyncLogPipeline such that the
+ * underlying logger runs on the I/O thread rather than the document thread. As
+ * the pipeline is ordered, a callback given to whenDurable fires once every
+ * prior transaction has been written (and is durable if the underlying logger
+ * is able to tell). Once the underlying logger fails, nothing further is
+ * written as a gap would corrupt the log; the failure (an unexpected exception
+ * is wrapped as ASYNC_LOGGER_CANT_WRITE) is then given to every callback and
+ * thrown by the next ingest. */
+public class AsyncTransactionLogger implements BackpressureTransactionLogger, DurableTransactionLogger, SnapshotTransactionLogger {
+  private boolean closed;
+  private Exception closeFailure;
+  private final TransactionLogger delegate;
+  private volatile ErrorCodeException failure;
+  private final AsyncLogPipeline pipeline;
+  private volatile boolean snapshotWanted;
+
+  public AsyncTransactionLogger(final AsyncLogPipeline pipeline, final TransactionLogger delegate) {
+    this.pipeline = pipeline;
+    this.delegate = delegate;
+    this.closed = false;
+    this.closeFailure = null;
+    this.failure = null;
+    this.snapshotWanted = false;
+  }
+
+  @Override
+  public void close() throws Exception {
+    pipeline.execute(() -> {
+      try {
+        delegate.close();
+      } catch (final Exception ex) {
+        closeFailure = ex;
+      } finally {
+        synchronized (this) {
+          closed = true;
+          notifyAll();
+        }
+      }
+    });
+    synchronized (this) {
+      while (!closed) {
+        wait();
+      }
+      if (closeFailure != null) { throw closeFailure; }
+    }
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    final var lastFailure = failure;
+    if (lastFailure != null) { throw lastFailure; }
+    pipeline.execute(() -> {
+      if (failure != null) { return; }
+      try {
+        delegate.ingest(transaction);
+        if (delegate instanceof SnapshotTransactionLogger && ((SnapshotTransactionLogger) delegate).shouldSnapshot()) {
+          snapshotWanted = true;
+        }
+      } catch (final ErrorCodeException ece) {
+        failure = ece;
+      } catch (final Exception ex) {
+        failure = new ErrorCodeException(ErrorCodeException.ASYNC_LOGGER_CANT_WRITE, ex);
+      }
+    });
+  }
+
+  @Override
+  public boolean isBackedUp() {
+    return pipeline.isBackedUp();
+  }
+
+  @Override
+  public boolean shouldSnapshot() {
+    return snapshotWanted;
+  }
+
+  @Override
+  public void snapshot(final int seq, final String dump) throws ErrorCodeException {
+    // the snapshot is queued behind the transactions it covers; a racing request may yield an extra snapshot, which is harmless
+    snapshotWanted = false;
+    pipeline.execute(() -> {
+      if (failure != null) { return; }
+      try {
+        ((SnapshotTransactionLogger) delegate).snapshot(seq, dump);
+      } catch (final Exception ex) {
+        // the transactions are safe, and the log will want another snapshot after another batch
+      }
+    });
+  }
+
+  @Override
+  public void whenDurable(final DurabilityCallback callback) {
+    try {
+      pipeline.execute(() -> {
+        final var lastFailure = failure;
+        if (lastFailure != null) {
+          callback.failure(lastFailure);
+        } else if (delegate instanceof DurableTransactionLogger) {
+          ((DurableTransactionLogger) delegate).whenDurable(callback);
+        } else {
+          callback.success();
+        }
+      });
+    } catch (final ErrorCodeException ece) {
+      callback.failure(ece);
+    }
+  }
+}
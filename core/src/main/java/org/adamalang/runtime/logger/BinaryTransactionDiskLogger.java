@@ -0,0 +1,144 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a logger which spools out individual transactions for a single document as
+ * binary records (see BinaryTransactionDiskRecord). Unlike
+ * SynchronousJsonDeltaDiskLogger, recovery does no line splitting nor json
+ * parsing, and a torn tail (i.e. a crash mid write) is detected and cut off
+ * such that appending resumes after the last good record. */
+public class BinaryTransactionDiskLogger implements TransactionLogger {
+  /** the result of scanning a file */
+  private static class Recovery {
+    private final int records;
+    private final long validBytes;
+
+    private Recovery(final int records, final long validBytes) {
+      this.records = records;
+      this.validBytes = validBytes;
+    }
+  }
+
+  /** convert a log written by SynchronousJsonDeltaDiskLogger into a fresh binary
+   * log; returns the number of records converted */
+  public static int convertFromNewlineJson(final File source, final File destination) throws ErrorCodeException {
+    if (!source.exists() || destination.exists()) { throw new ErrorCodeException(ErrorCodeException.BINARY_DISK_LOGGER_CANT_CONVERT); }
+    final var logger = new BinaryTransactionDiskLogger(0, 0, destination, NoOpLogger.INSTANCE);
+    try {
+      return SynchronousJsonDeltaDiskLogger.pump(source, new TransactionLogger() {
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void ingest(final Transaction transaction) throws ErrorCodeException {
+          // the newline format doesn't retain the transaction's seq, so use the result's
+          logger.ingest(new Transaction(transaction.transactionResult.seq, transaction.request, transaction.delta, transaction.transactionResult));
+        }
+      });
+    } finally {
+      logger.closeQuietly();
+    }
+  }
+
+  public static BinaryTransactionDiskLogger openFillAndAppend(final File file, final TransactionLogger target) throws ErrorCodeException {
+    final var recovery = recover(file, target);
+    return new BinaryTransactionDiskLogger(recovery.records, recovery.validBytes, file, target);
+  }
+
+  public static int pump(final File file, final TransactionLogger target) throws ErrorCodeException {
+    return recover(file, target).records;
+  }
+
+  private static Recovery recover(final File file, final TransactionLogger target) throws ErrorCodeException {
+    try {
+      if (file.exists()) {
+        final var length = file.length();
+        var records = 0;
+        var offset = 0L;
+        final var input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+          BinaryTransactionDiskRecord record;
+          while ((record = new BinaryTransactionDiskRecord(input, length - offset)).valid()) {
+            records++;
+            offset += record.size;
+            target.ingest(record.transaction);
+          }
+        } finally {
+          input.close();
+        }
+        return new Recovery(records, offset);
+      }
+      return new Recovery(-1, 0);
+    } catch (final Exception ex) {
+      throw new ErrorCodeException(ErrorCodeException.BINARY_DISK_LOGGER_CANT_PUMP, ex);
+    }
+  }
+
+  private final FileChannel channel;
+  private final File file;
+  private final int recordsReadAtStart;
+  private final TransactionLogger target;
+
+  /** open the file for appending after the given number of valid bytes; anything
+   * beyond is a torn tail and is discarded */
+  public BinaryTransactionDiskLogger(final int recordsReadAtStart, final long validBytes, final File file, final TransactionLogger target) throws ErrorCodeException {
+    try {
+      this.recordsReadAtStart = recordsReadAtStart;
+      this.file = file;
+      this.target = target;
+      channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+      if (channel.size() > validBytes) {
+        channel.truncate(validBytes);
+      }
+      channel.position(validBytes);
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.BINARY_DISK_LOGGER_CANT_OPEN_APPEND, ioe);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    channel.close();
+  }
+
+  private void closeQuietly() {
+    try {
+      channel.close();
+    } catch (final IOException ioe) {
+      // the conversion already succeeded or failed by this point
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public int getRecordsReadAtStart() {
+    return recordsReadAtStart;
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    final var buffer = BinaryTransactionDiskRecord.encode(transaction);
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.BINARY_DISK_LOGGER_CANT_WRITE, ioe);
+    }
+    target.ingest(transaction);
+  }
+}
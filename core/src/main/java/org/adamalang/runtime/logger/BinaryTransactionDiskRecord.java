@@ -0,0 +1,132 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/** used by BinaryTransactionDiskLogger to frame a Transaction as a length
+ * prefixed and checksummed record of the form: [length:int][crc:int][body];
+ * the body is [seq:int][result.seq:int][result.needsInvalidation:byte]
+ * [result.whenToInvalidMilliseconds:int][request.length:int][request:utf8]
+ * [delta.length:int][delta:utf8]. A record which is cut short or fails the
+ * crc is considered a torn tail. */
+class BinaryTransactionDiskRecord {
+  /** the body is everything beyond these bytes (i.e. length + crc) */
+  public static final int HEADER_SIZE = 8;
+  /** the smallest possible body (i.e. empty request and empty delta) */
+  public static final int MIN_BODY_SIZE = 21;
+
+  /** compute the crc of the given body */
+  private static int crcOf(final byte[] bytes, final int offset, final int length) {
+    final var crc = new CRC32();
+    crc.update(bytes, offset, length);
+    return (int) crc.getValue();
+  }
+
+  /** decode a body which has passed the crc check; a null means the inner
+   * lengths were inconsistent */
+  private static Transaction decode(final ByteBuffer body) {
+    final var seq = body.getInt();
+    final var resultSeq = body.getInt();
+    final var needsInvalidation = body.get() != 0;
+    final var whenToInvalidMilliseconds = body.getInt();
+    final var requestLength = body.getInt();
+    if (requestLength < 0 || requestLength + 4 > body.remaining()) { return null; }
+    final var request = new String(body.array(), body.position(), requestLength, StandardCharsets.UTF_8);
+    body.position(body.position() + requestLength);
+    final var deltaLength = body.getInt();
+    if (deltaLength != body.remaining()) { return null; }
+    final var delta = new String(body.array(), body.position(), deltaLength, StandardCharsets.UTF_8);
+    return new Transaction(seq, request, delta, new TransactionResult(needsInvalidation, whenToInvalidMilliseconds, resultSeq));
+  }
+
+  /** encode the transaction into a buffer that is ready to be written */
+  public static ByteBuffer encode(final Transaction transaction) {
+    final var request = transaction.request.getBytes(StandardCharsets.UTF_8);
+    final var delta = transaction.delta.getBytes(StandardCharsets.UTF_8);
+    final var bodySize = MIN_BODY_SIZE + request.length + delta.length;
+    final var buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+    buffer.putInt(bodySize);
+    buffer.putInt(0); // the crc is filled in once the body is written
+    buffer.putInt(transaction.seq);
+    buffer.putInt(transaction.transactionResult.seq);
+    buffer.put((byte) (transaction.transactionResult.needsInvalidation ? 1 : 0));
+    buffer.putInt(transaction.transactionResult.whenToInvalidMilliseconds);
+    buffer.putInt(request.length);
+    buffer.put(request);
+    buffer.putInt(delta.length);
+    buffer.put(delta);
+    buffer.putInt(4, crcOf(buffer.array(), HEADER_SIZE, bodySize));
+    buffer.flip();
+    return buffer;
+  }
+
+  /** read the record at the position of the buffer (which may be memory mapped)
+   * and advance beyond it; a null means either the end of the records or a torn
+   * tail, and the position is left untouched */
+  public static Transaction read(final ByteBuffer buffer) {
+    final var start = buffer.position();
+    if (buffer.remaining() < HEADER_SIZE) { return null; }
+    final var bodySize = buffer.getInt(start);
+    if (bodySize < MIN_BODY_SIZE || bodySize > buffer.remaining() - HEADER_SIZE) { return null; }
+    final var body = new byte[bodySize];
+    buffer.position(start + HEADER_SIZE);
+    buffer.get(body);
+    Transaction transaction = null;
+    if (buffer.getInt(start + 4) == crcOf(body, 0, bodySize)) {
+      transaction = decode(ByteBuffer.wrap(body));
+    }
+    if (transaction == null) {
+      buffer.position(start);
+    }
+    return transaction;
+  }
+
+  /** how many bytes did the record consume */
+  public final int size;
+  /** was the record cut short or corrupted */
+  public final boolean torn;
+  /** the transaction within the record (null if not valid) */
+  public final Transaction transaction;
+
+  /** read the next record, but never beyond the remaining bytes */
+  public BinaryTransactionDiskRecord(final DataInputStream input, final long remaining) throws IOException {
+    if (remaining <= 0) {
+      size = 0;
+      torn = false;
+      transaction = null;
+      return;
+    }
+    Transaction parsed = null;
+    var consumed = 0;
+    try {
+      final var bodySize = input.readInt();
+      final var crc = input.readInt();
+      if (bodySize >= MIN_BODY_SIZE && bodySize <= remaining - HEADER_SIZE) {
+        final var body = new byte[bodySize];
+        input.readFully(body);
+        if (crc == crcOf(body, 0, bodySize)) {
+          parsed = decode(ByteBuffer.wrap(body));
+          if (parsed != null) {
+            consumed = HEADER_SIZE + bodySize;
+          }
+        }
+      }
+    } catch (final EOFException eof) {
+      parsed = null;
+    }
+    size = consumed;
+    torn = parsed == null;
+    transaction = parsed;
+  }
+
+  public boolean valid() {
+    return transaction != null;
+  }
+}
@@ -0,0 +1,97 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/** used by the .jsonlog loggers to compress the lines of one or more records
+ * as a block of the form: [magic:byte][compressed.length:int][plain.length:int]
+ * [crc of plain:int][compressed]. The compression uses a preset dictionary of
+ * the field names found within requests, deltas, and results such that even a
+ * block holding a single small record compresses well. Since a plain record
+ * starts with '{', the magic byte lets a reader (see
+ * DeflatedJsonLogInputStream) tell a block apart from plain lines. A block
+ * which is cut short or fails the crc is considered a torn tail. */
+class DeflatedJsonLogBlock {
+  /** the most common strings are at the end as they are the cheapest to refer to */
+  public static final byte[] DICTIONARY = ("\"rows\":{\"auto_key\":\"__blocked_on\":\"__billing_seq\":\"__goodwill_used\":\"__cost\":\"__seedUsed\":\"__constructed\":true,\"__auto_future_id\":\"__connection_id\":\"__message_id\":\"__next_time\":\"0\",\"__time\":\"__state\":\"\",\"__blocked\":false,\"__clients\":{\"__messages\":{\"channel\":\"message\":\"id\":\"__entropy\":\"{\"command\":\"construct\",\"arg\":{\"command\":\"bill\",\"command\":\"disconnect\",\"command\":\"connect\",\"command\":\"invalidate\",\"command\":\"send\",\"timestamp\":\"who\":{\"agent\":\"authority\":\"},\"channel\":\"message\":{\"__seq\":\n{\"needsInvalidation\":false,\"whenToInvalidMilliseconds\":0,\"seq\":").getBytes(StandardCharsets.UTF_8);
+  /** the largest record (compressed or plain) which a block may hold; a header
+   * claiming more than this is torn rather than a huge allocation, so the loggers
+   * write records beyond half of this (room for deflate's worst case) as plain lines */
+  public static final int MAX_BLOCK_SIZE = 16 * 1024 * 1024;
+  /** the first byte of every block */
+  public static final byte MAGIC = (byte) 0xAD;
+  /** the compressed bytes are everything beyond these bytes */
+  public static final int HEADER_SIZE = 13;
+
+  private static int crcOf(final byte[] bytes, final int offset, final int length) {
+    final var crc = new CRC32();
+    crc.update(bytes, offset, length);
+    return (int) crc.getValue();
+  }
+
+  /** compress the plain bytes into a block which is ready to be written; the
+   * deflater is reset such that it can be reused by the next block */
+  public static byte[] encode(final Deflater deflater, final byte[] plain, final int offset, final int length) {
+    deflater.reset();
+    deflater.setDictionary(DICTIONARY);
+    deflater.setInput(plain, offset, length);
+    deflater.finish();
+    final var compressed = new ByteArrayOutputStream(HEADER_SIZE + length / 2 + 64);
+    compressed.write(new byte[HEADER_SIZE], 0, HEADER_SIZE);
+    final var chunk = new byte[Math.max(64, length / 2)];
+    while (!deflater.finished()) {
+      final var produced = deflater.deflate(chunk);
+      compressed.write(chunk, 0, produced);
+    }
+    final var block = compressed.toByteArray();
+    final var header = ByteBuffer.wrap(block);
+    header.put(MAGIC);
+    header.putInt(block.length - HEADER_SIZE);
+    header.putInt(length);
+    header.putInt(crcOf(plain, offset, length));
+    return block;
+  }
+
+  /** read the remainder of a block (i.e. after the magic byte was consumed) and
+   * return the plain bytes; a null means the block was torn */
+  public static byte[] read(final DataInputStream input, final Inflater inflater) throws IOException {
+    try {
+      final var compressedLength = input.readInt();
+      final var plainLength = input.readInt();
+      final var crc = input.readInt();
+      if (compressedLength < 0 || plainLength < 0 || compressedLength > MAX_BLOCK_SIZE || plainLength > MAX_BLOCK_SIZE) { return null; }
+      final var compressed = new byte[compressedLength];
+      input.readFully(compressed);
+      final var plain = new byte[plainLength];
+      inflater.reset();
+      inflater.setInput(compressed);
+      var at = 0;
+      while (at < plainLength) {
+        final var produced = inflater.inflate(plain, at, plainLength - at);
+        if (produced == 0) {
+          if (inflater.needsDictionary()) {
+            inflater.setDictionary(DICTIONARY);
+          } else {
+            return null;
+          }
+        }
+        at += produced;
+      }
+      if (crc != crcOf(plain, 0, plainLength)) { return null; }
+      return plain;
+    } catch (final EOFException | DataFormatException | IllegalArgumentException bad) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+
+/** presents a .jsonlog which may hold both plain lines and compressed blocks
+ * (see DeflatedJsonLogBlock) as plain lines, such that readers of the log need
+ * not care whether it was compressed. The stream ends at a torn block. */
+class DeflatedJsonLogInputStream extends InputStream {
+  private int at;
+  private byte[] block;
+  private boolean ended;
+  private final Inflater inflater;
+  private final DataInputStream input;
+  private boolean withinLine;
+
+  public DeflatedJsonLogInputStream(final InputStream input) {
+    this.input = new DataInputStream(new BufferedInputStream(input));
+    this.inflater = new Inflater();
+    this.at = 0;
+    this.block = null;
+    this.ended = false;
+    this.withinLine = false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      input.close();
+    } finally {
+      inflater.end();
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    while (true) {
+      if (block != null && at < block.length) { return block[at++] & 0xFF; }
+      if (ended) { return -1; }
+      final var next = input.read();
+      if (next < 0) { return -1; }
+      if (!withinLine && (byte) next == DeflatedJsonLogBlock.MAGIC) {
+        block = DeflatedJsonLogBlock.read(input, inflater);
+        at = 0;
+        ended = block == null;
+      } else {
+        withinLine = next != '\n';
+        return next;
+      }
+    }
+  }
+
+  @Override
+  public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+    if (length == 0) { return 0; }
+    final var first = read();
+    if (first < 0) { return -1; }
+    buffer[offset] = (byte) first;
+    var copied = 1;
+    if (block != null && at < block.length) {
+      final var bulk = Math.min(length - copied, block.length - at);
+      System.arraycopy(block, at, buffer, offset + copied, bulk);
+      at += bulk;
+      copied += bulk;
+    } else if (!ended) {
+      // copy what is already buffered up to (but not including) the magic byte of the next block
+      final var want = Math.min(length - copied, input.available());
+      if (want > 0) {
+        input.mark(want);
+        final var got = input.read(buffer, offset + copied, want);
+        var keep = 0;
+        while (keep < got && (withinLine || buffer[offset + copied + keep] != DeflatedJsonLogBlock.MAGIC)) {
+          withinLine = buffer[offset + copied + keep] != '\n';
+          keep++;
+        }
+        input.reset();
+        input.readFully(buffer, offset + copied, keep);
+        copied += keep;
+      }
+    }
+    return copied;
+  }
+}
@@ -0,0 +1,40 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.adamalang.runtime.LivingDocument;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.json.JsonStreamReader;
+
+/** a logger which hydrates a document while its log is pumped by applying each
+ * delta directly to the document via __insert (as a merge patch), such that
+ * loading never builds an intermediate ObjectNode or a string of the entire
+ * document. Once loading is done, the document is handed to a Transactor (see
+ * Transactor.adopt) and then it becomes live; the transactions ingested from
+ * that point came from the document, so they are ignored. */
+public class DocumentHydrationLogger implements TransactionLogger {
+  public final LivingDocument document;
+  private boolean live;
+
+  public DocumentHydrationLogger(final LivingDocument document) {
+    this.document = document;
+    this.live = false;
+  }
+
+  @Override
+  public void close() throws ErrorCodeException {
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    if (live) { return; }
+    document.__insert(new JsonStreamReader(transaction.delta));
+  }
+
+  /** the log has been pumped, so stop applying deltas */
+  public void live() {
+    live = true;
+  }
+}
@@ -0,0 +1,114 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.zip.Deflater;
+import org.adamalang.runtime.contracts.DurabilityCallback;
+import org.adamalang.runtime.contracts.DurableTransactionLogger;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a logger which spools out individual transactions for a single document
+ * (using the same format as SynchronousJsonDeltaDiskLogger), but rather than
+ * flushing per transaction it hands the bytes to a GroupCommitSpool shared
+ * with other documents which then commits them as a group */
+public class GroupCommitJsonDeltaDiskLogger implements DurableTransactionLogger {
+  public static GroupCommitJsonDeltaDiskLogger openFillAndAppend(final GroupCommitSpool spool, final File file, final TransactionLogger target) throws ErrorCodeException {
+    return openFillAndAppend(spool, file, false, target);
+  }
+
+  public static GroupCommitJsonDeltaDiskLogger openFillAndAppend(final GroupCommitSpool spool, final File file, final boolean compress, final TransactionLogger target) throws ErrorCodeException {
+    final var recordsReadAtStart = SynchronousJsonDeltaDiskLogger.pump(file, target);
+    return new GroupCommitJsonDeltaDiskLogger(spool, recordsReadAtStart, file, compress, target);
+  }
+
+  // the following are guarded by the spool
+  final ByteArrayOutputStream buffer;
+  final FileChannel channel;
+  long durable;
+  /** the failure of the commit which failed this logger for good */
+  ErrorCodeException failed;
+  long ingested;
+  boolean queued;
+  final ArrayDeque<GroupCommitSpool.Waiter> waiters;
+  // end of the guarded fields
+  private final Deflater deflater;
+  private final File file;
+  private final int recordsReadAtStart;
+  private final GroupCommitSpool spool;
+  private final TransactionLogger target;
+
+  public GroupCommitJsonDeltaDiskLogger(final GroupCommitSpool spool, final int recordsReadAtStart, final File file, final TransactionLogger target) throws ErrorCodeException {
+    this(spool, recordsReadAtStart, file, false, target);
+  }
+
+  /** when compressing, each transaction is written as a block (see
+   * DeflatedJsonLogBlock) */
+  public GroupCommitJsonDeltaDiskLogger(final GroupCommitSpool spool, final int recordsReadAtStart, final File file, final boolean compress, final TransactionLogger target) throws ErrorCodeException {
+    try {
+      this.spool = spool;
+      this.recordsReadAtStart = recordsReadAtStart;
+      this.file = file;
+      this.target = target;
+      this.buffer = new ByteArrayOutputStream();
+      this.durable = 0;
+      this.failed = null;
+      this.ingested = 0;
+      this.queued = false;
+      this.waiters = new ArrayDeque<>();
+      this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+      channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.GROUP_COMMIT_LOGGER_CANT_OPEN_APPEND, ioe);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      spool.flush();
+    } finally {
+      channel.close();
+      if (deflater != null) {
+        deflater.end();
+      }
+    }
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public int getRecordsReadAtStart() {
+    return recordsReadAtStart;
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    final var buffer = NewlineJsonTransactionDiskRecord.BUFFERS.acquire();
+    try {
+      NewlineJsonTransactionDiskRecord.writeTo(transaction, buffer);
+      if (deflater != null && buffer.size() < DeflatedJsonLogBlock.MAX_BLOCK_SIZE / 2) {
+        final var block = DeflatedJsonLogBlock.encode(deflater, buffer.bytes(), 0, buffer.size());
+        spool.append(this, block, block.length);
+      } else {
+        spool.append(this, buffer.bytes(), buffer.size());
+      }
+    } finally {
+      NewlineJsonTransactionDiskRecord.BUFFERS.release(buffer);
+    }
+    target.ingest(transaction);
+  }
+
+  @Override
+  public void whenDurable(final DurabilityCallback callback) {
+    spool.whenDurable(this, callback);
+  }
+}
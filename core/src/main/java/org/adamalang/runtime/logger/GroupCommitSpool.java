@@ -0,0 +1,235 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.adamalang.runtime.contracts.DurabilityCallback;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a spool shared by many documents (see GroupCommitJsonDeltaDiskLogger) such
+ * that writes to disk are batched and forced to disk once per group rather than
+ * flushed once per transaction. A group is committed when either the pending
+ * bytes cross the size boundary or the oldest pending transaction has waited for
+ * the time boundary; the per-transaction callbacks fire only once the group is
+ * durable. As every document keeps its own file, a group costs one write and
+ * one force per document with pending bytes (not one for the whole group); the
+ * forces of a group run in parallel over COMMIT_THREADS threads such that a slow
+ * file holds up fewer of the other documents. A logger whose group fails to
+ * commit is failed for good: the bytes on disk may be torn, so nothing more is
+ * written or reported durable for it, and every ingest (and wait) from then on
+ * fails. */
+public class GroupCommitSpool {
+  /** the bytes drained from a single logger for a single group */
+  private static class Drained {
+    private final byte[] bytes;
+    private final GroupCommitJsonDeltaDiskLogger logger;
+    private final long upTo;
+
+    private Drained(final GroupCommitJsonDeltaDiskLogger logger, final byte[] bytes, final long upTo) {
+      this.logger = logger;
+      this.bytes = bytes;
+      this.upTo = upTo;
+    }
+  }
+
+  /** a callback waiting on the given logger to become durable up to a point */
+  static class Waiter {
+    private final DurabilityCallback callback;
+    private final long target;
+
+    private Waiter(final long target, final DurabilityCallback callback) {
+      this.target = target;
+      this.callback = callback;
+    }
+  }
+
+  /** how many files of a group may be written and forced at the same time */
+  public static final int COMMIT_THREADS = 4;
+  private boolean alive;
+  private final ExecutorService committers;
+  private final ArrayList<GroupCommitJsonDeltaDiskLogger> dirty;
+  private final Thread flusher;
+  private final Object flushLock;
+  private final int maxPendingBytes;
+  private final long maxPendingMilliseconds;
+  private long oldestPendingAt;
+  private int pendingBytes;
+
+  public GroupCommitSpool(final int maxPendingBytes, final long maxPendingMilliseconds) {
+    this.maxPendingBytes = maxPendingBytes;
+    this.maxPendingMilliseconds = maxPendingMilliseconds;
+    this.alive = true;
+    this.committers = Executors.newFixedThreadPool(COMMIT_THREADS, (runnable) -> {
+      final var thread = new Thread(runnable, "group-commit-force");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.dirty = new ArrayList<>();
+    this.flushLock = new Object();
+    this.oldestPendingAt = 0;
+    this.pendingBytes = 0;
+    this.flusher = new Thread(() -> {
+      while (waitForGroup()) {
+        flush();
+      }
+    }, "group-commit-spool");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  /** append the bytes for a single transaction from the given logger; the
+   * bytes are copied, so the caller is free to reuse the array */
+  synchronized void append(final GroupCommitJsonDeltaDiskLogger logger, final byte[] bytes, final int length) throws ErrorCodeException {
+    if (logger.failed != null) { throw new ErrorCodeException(ErrorCodeException.GROUP_COMMIT_LOGGER_CANT_WRITE, logger.failed); }
+    logger.buffer.write(bytes, 0, length);
+    logger.ingested++;
+    if (!logger.queued) {
+      logger.queued = true;
+      dirty.add(logger);
+    }
+    final var wasEmpty = pendingBytes == 0;
+    if (wasEmpty) {
+      oldestPendingAt = System.currentTimeMillis();
+    }
+    pendingBytes += length;
+    if (wasEmpty || pendingBytes >= maxPendingBytes) {
+      notifyAll();
+    }
+  }
+
+  /** stop the background flusher, and commit anything still pending */
+  public void close() throws InterruptedException {
+    synchronized (this) {
+      alive = false;
+      notifyAll();
+    }
+    flusher.join();
+    flush();
+    committers.shutdown();
+  }
+
+  /** write and force the drained bytes to disk, then let the waiters know */
+  private void commit(final Drained drained) {
+    final var logger = drained.logger;
+    ErrorCodeException failure;
+    synchronized (this) {
+      failure = logger.failed;
+    }
+    if (failure == null) {
+      try {
+        final var buffer = ByteBuffer.wrap(drained.bytes);
+        while (buffer.hasRemaining()) {
+          logger.channel.write(buffer);
+        }
+        logger.channel.force(false);
+      } catch (final IOException ioe) {
+        failure = new ErrorCodeException(ErrorCodeException.GROUP_COMMIT_LOGGER_CANT_WRITE, ioe);
+      }
+    }
+    final var ready = new ArrayList<Waiter>();
+    synchronized (this) {
+      if (failure == null) {
+        logger.durable = drained.upTo;
+        while (!logger.waiters.isEmpty() && logger.waiters.peekFirst().target <= drained.upTo) {
+          ready.add(logger.waiters.removeFirst());
+        }
+      } else {
+        // the write may have been partial, so nothing beyond what is durable can be trusted
+        logger.failed = failure;
+        ready.addAll(logger.waiters);
+        logger.waiters.clear();
+      }
+    }
+    for (final Waiter waiter : ready) {
+      if (failure == null) {
+        waiter.callback.success();
+      } else {
+        waiter.callback.failure(failure);
+      }
+    }
+  }
+
+  /** commit the current group right now rather than waiting for a boundary */
+  public void flush() {
+    synchronized (flushLock) {
+      final var group = new ArrayList<Drained>();
+      synchronized (this) {
+        for (final GroupCommitJsonDeltaDiskLogger logger : dirty) {
+          group.add(new Drained(logger, logger.buffer.toByteArray(), logger.ingested));
+          logger.buffer.reset();
+          logger.queued = false;
+        }
+        dirty.clear();
+        pendingBytes = 0;
+      }
+      if (group.size() == 1) {
+        commit(group.get(0));
+        return;
+      }
+      final var done = new CountDownLatch(group.size());
+      for (final Drained drained : group) {
+        committers.execute(() -> {
+          try {
+            commit(drained);
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+      var interrupted = false;
+      while (done.getCount() > 0) {
+        try {
+          done.await();
+        } catch (final InterruptedException ie) {
+          // the group must finish, as its waiters are only told once it has
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /** block the flusher until a group is ready to commit; false means stop */
+  private synchronized boolean waitForGroup() {
+    try {
+      while (alive) {
+        if (pendingBytes >= maxPendingBytes) { return true; }
+        if (dirty.isEmpty()) {
+          wait();
+        } else {
+          final var remaining = oldestPendingAt + maxPendingMilliseconds - System.currentTimeMillis();
+          if (remaining <= 0) { return true; }
+          wait(remaining);
+        }
+      }
+    } catch (final InterruptedException ie) {
+      // fall through such that close() picks up the remainder
+    }
+    return false;
+  }
+
+  /** invoke the callback once every transaction from the logger is durable */
+  void whenDurable(final GroupCommitJsonDeltaDiskLogger logger, final DurabilityCallback callback) {
+    final ErrorCodeException failure;
+    synchronized (this) {
+      failure = logger.failed;
+      if (failure == null && logger.durable < logger.ingested) {
+        logger.waiters.addLast(new Waiter(logger.ingested, callback));
+        return;
+      }
+    }
+    if (failure != null) {
+      callback.failure(failure);
+    } else {
+      callback.success();
+    }
+  }
+}
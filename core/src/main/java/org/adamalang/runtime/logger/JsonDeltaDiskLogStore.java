@@ -0,0 +1,45 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.adamalang.runtime.contracts.TransactionLogStore;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** the store of a single .jsonlog file per document; when a spool is provided,
+ * the documents will share it to commit their logs as groups. When compressing,
+ * each transaction is written as a compressed block (see DeflatedJsonLogBlock). */
+public class JsonDeltaDiskLogStore implements TransactionLogStore {
+  private final boolean compress;
+  private final GroupCommitSpool spool;
+
+  public JsonDeltaDiskLogStore(final GroupCommitSpool spool) {
+    this(spool, false);
+  }
+
+  public JsonDeltaDiskLogStore(final GroupCommitSpool spool, final boolean compress) {
+    this.spool = spool;
+    this.compress = compress;
+  }
+
+  @Override
+  public void close() throws Exception {
+    if (spool != null) {
+      spool.close();
+    }
+  }
+
+  @Override
+  public boolean exists(final File root, final String id) {
+    return new File(root, id + ".jsonlog").exists();
+  }
+
+  @Override
+  public TransactionLogger openFillAndAppend(final File root, final String id, final TransactionLogger target) throws ErrorCodeException {
+    final var file = new File(root, id + ".jsonlog");
+    if (spool != null) { return GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, file, compress, target); }
+    return SynchronousJsonDeltaDiskLogger.openFillAndAppend(file, compress, target);
+  }
+}
@@ -0,0 +1,82 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.util.ArrayDeque;
+
+/** a background thread shared by many documents which writes the snapshots and
+ * then deletes the sealed log segments they cover (see
+ * SnapshotJsonDeltaDiskLogger), such that neither happens on a document's
+ * thread. The work runs in the order it was handed over. */
+public class LogCompactor {
+  private boolean alive;
+  private int compacted;
+  private final ArrayDeque<Runnable> queue;
+  private final Thread thread;
+
+  public LogCompactor() {
+    this.alive = true;
+    this.compacted = 0;
+    this.queue = new ArrayDeque<>();
+    this.thread = new Thread(() -> {
+      Runnable task;
+      while ((task = next()) != null) {
+        task.run();
+      }
+    }, "log-compactor");
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /** stop the background thread once everything handed over thus far is done */
+  public void close() throws InterruptedException {
+    synchronized (this) {
+      alive = false;
+      notifyAll();
+    }
+    thread.join();
+  }
+
+  /** how many segments have been deleted */
+  public synchronized int getCompacted() {
+    return compacted;
+  }
+
+  /** run the task on the background thread (after everything handed over
+   * before it); once closed, the task runs on the caller's thread instead */
+  void execute(final Runnable task) {
+    synchronized (this) {
+      if (alive) {
+        queue.addLast(task);
+        notifyAll();
+        return;
+      }
+    }
+    task.run();
+  }
+
+  /** block until there is work; null means stop */
+  private synchronized Runnable next() {
+    try {
+      while (alive && queue.isEmpty()) {
+        wait();
+      }
+    } catch (final InterruptedException ie) {
+      return null;
+    }
+    return queue.pollFirst();
+  }
+
+  /** schedule the segment for deletion as a snapshot covers it */
+  public void schedule(final File segment) {
+    execute(() -> {
+      if (segment.delete()) {
+        synchronized (this) {
+          compacted++;
+        }
+      }
+    });
+  }
+}
@@ -6,18 +6,54 @@ package org.adamalang.runtime.logger;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import org.adamalang.runtime.json.JsonStreamWriter;
+import org.adamalang.runtime.json.Utf8Buffer;
+import org.adamalang.runtime.json.Utf8BufferPool;
 import org.adamalang.runtime.stdlib.Utility;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /** used by SynchronousJsonDeltaDiskLogger to de-serialize a Transaction. This
  * will pull the record off a buffered reader */
 class NewlineJsonTransactionDiskRecord {
+  /** the buffers shared by the loggers to encode records */
+  static final Utf8BufferPool BUFFERS = new Utf8BufferPool(4096, 1024 * 1024, 64);
+
+  /** the metadata line (i.e. the transaction result) without going through a
+   * Jackson tree */
+  private static String metadataOf(final TransactionResult result) {
+    final var writer = new JsonStreamWriter();
+    writer.beginObject();
+    writer.writeObjectFieldIntro("needsInvalidation");
+    writer.writeBoolean(result.needsInvalidation);
+    writer.writeObjectFieldIntro("whenToInvalidMilliseconds");
+    writer.writeInteger(result.whenToInvalidMilliseconds);
+    writer.writeObjectFieldIntro("seq");
+    writer.writeInteger(result.seq);
+    writer.endObject();
+    return writer.toString();
+  }
+
   public static void writeTo(final Transaction transaction, final PrintWriter writer) {
     writer.println(transaction.request);
     writer.println(transaction.delta);
-    final var next = Utility.createObjectNode();
-    transaction.transactionResult.dumpInto(next);
-    writer.println(next.toString());
+    writer.println(metadataOf(transaction.transactionResult));
+  }
+
+  /** encode the record as UTF-8 directly into the buffer */
+  public static void writeTo(final Transaction transaction, final Utf8Buffer buffer) {
+    buffer.append(transaction.request);
+    buffer.append('\n');
+    buffer.append(transaction.delta);
+    buffer.append('\n');
+    // the same metadata line as metadataOf, but without allocating a writer or a String per record
+    final var result = transaction.transactionResult;
+    buffer.append("{\"needsInvalidation\":");
+    buffer.appendBoolean(result.needsInvalidation);
+    buffer.append(",\"whenToInvalidMilliseconds\":");
+    buffer.appendInteger(result.whenToInvalidMilliseconds);
+    buffer.append(",\"seq\":");
+    buffer.appendInteger(result.seq);
+    buffer.append("}\n");
   }
 
   public final String delta;
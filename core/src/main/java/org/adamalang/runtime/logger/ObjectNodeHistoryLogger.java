@@ -0,0 +1,65 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.util.TreeMap;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.json.JsonAlgebra;
+import org.adamalang.runtime.json.JsonStreamReader;
+import org.adamalang.runtime.stdlib.Utility;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/** a logger which retains the JSON object as of every transaction. Each delta
+ * is applied copy-on-write, so a version only holds new objects along the paths
+ * the delta touched and shares everything else with the prior version; as such,
+ * the versions must be treated as read-only. Nothing in the runtime keeps one
+ * by default; it is a library option for tooling (e.g. replay or a history
+ * view) to put alongside a document's real log. */
+public class ObjectNodeHistoryLogger implements TransactionLogger {
+  public static ObjectNodeHistoryLogger fresh(final int retain) {
+    return new ObjectNodeHistoryLogger(Utility.createObjectNode(), retain);
+  }
+
+  public static ObjectNodeHistoryLogger recover(final ObjectNode prior, final int retain) {
+    return new ObjectNodeHistoryLogger(prior, retain);
+  }
+
+  private ObjectNode latest;
+  private final int retain;
+  private final TreeMap<Integer, ObjectNode> versions;
+
+  private ObjectNodeHistoryLogger(final ObjectNode node, final int retain) {
+    latest = node;
+    this.retain = retain;
+    versions = new TreeMap<>();
+  }
+
+  /** the object as of the given seq (i.e. after the last transaction at or before it); null if that history has been dropped */
+  public ObjectNode at(final int seq) {
+    final var entry = versions.floorEntry(seq);
+    if (entry == null) { return null; }
+    return entry.getValue();
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) {
+    latest = (ObjectNode) JsonAlgebra.patchCopyOnWrite(latest, new JsonStreamReader(transaction.delta));
+    versions.put(transaction.transactionResult.seq, latest);
+    while (retain > 0 && versions.size() > retain) {
+      versions.pollFirstEntry();
+    }
+  }
+
+  public ObjectNode latest() {
+    return latest;
+  }
+
+  public int size() {
+    return versions.size();
+  }
+}
@@ -5,6 +5,7 @@ package org.adamalang.runtime.logger;
 
 import org.adamalang.runtime.contracts.TransactionLogger;
 import org.adamalang.runtime.json.JsonAlgebra;
+import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.stdlib.Utility;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -30,6 +31,6 @@ public class ObjectNodeLogger implements TransactionLogger {
 
   @Override
   public void ingest(final Transaction transaction) {
-    node = (ObjectNode) JsonAlgebra.patch(node, Utility.parseJsonObject(transaction.delta));
+    node = (ObjectNode) JsonAlgebra.patch(node, new JsonStreamReader(transaction.delta));
   }
 }
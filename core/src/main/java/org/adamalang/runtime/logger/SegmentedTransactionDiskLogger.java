@@ -0,0 +1,138 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Map;
+import java.util.TreeMap;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** a logger which spools out transactions for a single document as binary
+ * records (see BinaryTransactionDiskRecord) into fixed size segments; for the
+ * document X, the segments are X.segment.N within the root. Once the active
+ * segment is unable to hold the next record, it is sealed with a sparse index
+ * of seq to offset (see TransactionLogSegment) and the next segment is started.
+ * The history can then be read from any seq via SegmentedTransactionLogReader
+ * without scanning every segment. */
+public class SegmentedTransactionDiskLogger implements TransactionLogger {
+  public static SegmentedTransactionDiskLogger openFillAndAppend(final File root, final String id, final int segmentSize, final TransactionLogger target) throws ErrorCodeException {
+    final var segments = segmentsOf(root, id);
+    if (segments.isEmpty()) { return new SegmentedTransactionDiskLogger(root, id, segmentSize, 0, new TransactionLogSegment(segmentOf(root, id, 0)), -1, target); }
+    try {
+      var records = 0;
+      TransactionLogSegment active = null;
+      for (final Map.Entry<Integer, File> entry : segments.entrySet()) {
+        active = TransactionLogSegment.scan(entry.getValue(), target);
+        records += active.records;
+        if (entry.getKey() < segments.lastKey() && !TransactionLogSegment.indexOf(entry.getValue()).exists()) {
+          active.writeIndex();
+        }
+      }
+      return new SegmentedTransactionDiskLogger(root, id, segmentSize, segments.lastKey(), active, records, target);
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SEGMENTED_LOGGER_CANT_PUMP, ioe);
+    }
+  }
+
+  public static File segmentOf(final File root, final String id, final int number) {
+    return new File(root, id + ".segment." + number);
+  }
+
+  /** find the segments for the document ordered by number */
+  public static TreeMap<Integer, File> segmentsOf(final File root, final String id) {
+    final var segments = new TreeMap<Integer, File>();
+    final var prefix = id + ".segment.";
+    final var files = root.listFiles();
+    if (files != null) {
+      for (final File file : files) {
+        final var name = file.getName();
+        if (name.startsWith(prefix) && name.length() > prefix.length() && name.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+          segments.put(Integer.parseInt(name.substring(prefix.length())), file);
+        }
+      }
+    }
+    return segments;
+  }
+
+  private TransactionLogSegment active;
+  private RandomAccessFile file;
+  private final String id;
+  private int number;
+  private final int recordsReadAtStart;
+  private final File root;
+  private final int segmentSize;
+  private final TransactionLogger target;
+
+  public SegmentedTransactionDiskLogger(final File root, final String id, final int segmentSize, final int number, final TransactionLogSegment active, final int recordsReadAtStart, final TransactionLogger target) throws ErrorCodeException {
+    this.root = root;
+    this.id = id;
+    this.segmentSize = segmentSize;
+    this.number = number;
+    this.active = active;
+    this.recordsReadAtStart = recordsReadAtStart;
+    this.target = target;
+    this.file = open(active);
+  }
+
+  @Override
+  public void close() throws Exception {
+    file.close();
+  }
+
+  public int getRecordsReadAtStart() {
+    return recordsReadAtStart;
+  }
+
+  public int getSegmentNumber() {
+    return number;
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    final var buffer = BinaryTransactionDiskRecord.encode(transaction);
+    final var size = buffer.remaining();
+    try {
+      if (active.records > 0 && (long) active.end + size > file.length()) {
+        roll();
+      }
+      if ((long) active.end + size > file.length()) {
+        file.setLength(active.end + size);
+      }
+      final var channel = file.getChannel();
+      var position = active.end;
+      while (buffer.hasRemaining()) {
+        position += channel.write(buffer, position);
+      }
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SEGMENTED_LOGGER_CANT_WRITE, ioe);
+    }
+    active.add(transaction.transactionResult.seq, active.end, size);
+    target.ingest(transaction);
+  }
+
+  /** open the segment for writing such that it has the fixed size */
+  private RandomAccessFile open(final TransactionLogSegment segment) throws ErrorCodeException {
+    try {
+      final var opened = new RandomAccessFile(segment.file, "rw");
+      if (opened.length() < segmentSize) {
+        opened.setLength(segmentSize);
+      }
+      return opened;
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SEGMENTED_LOGGER_CANT_OPEN_APPEND, ioe);
+    }
+  }
+
+  /** seal the active segment, and start the next */
+  private void roll() throws IOException, ErrorCodeException {
+    active.writeIndex();
+    file.close();
+    number++;
+    active = new TransactionLogSegment(segmentOf(root, id, number));
+    file = open(active);
+  }
+}
@@ -0,0 +1,65 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** random access to the history of a document written by
+ * SegmentedTransactionDiskLogger (i.e. for debugging, rewind, and replay). The
+ * sealed segments are known via their sparse index while the active segment is
+ * scanned once, such that reading from a seq only maps the segments (and the
+ * portion within the first segment) which hold that seq and beyond. */
+public class SegmentedTransactionLogReader {
+  private final ArrayList<TransactionLogSegment> segments;
+
+  public SegmentedTransactionLogReader(final File root, final String id) throws ErrorCodeException {
+    try {
+      this.segments = new ArrayList<>();
+      final var files = SegmentedTransactionDiskLogger.segmentsOf(root, id);
+      for (final File file : files.values()) {
+        if (file == files.lastEntry().getValue()) {
+          segments.add(TransactionLogSegment.scan(file, NoOpLogger.INSTANCE));
+        } else {
+          segments.add(TransactionLogSegment.load(file));
+        }
+      }
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SEGMENTED_LOGGER_CANT_READ, ioe);
+    }
+  }
+
+  /** stream every transaction whose result has a seq at or beyond the given seq
+   * into the target; returns the number of transactions streamed */
+  public int read(final int fromSeq, final TransactionLogger target) throws ErrorCodeException {
+    // the seq never goes backwards, so start with the last segment that begins before the seq
+    var start = 0;
+    for (var k = 1; k < segments.size(); k++) {
+      if (segments.get(k).firstSeq() < fromSeq) {
+        start = k;
+      }
+    }
+    try {
+      var streamed = 0;
+      for (var k = start; k < segments.size(); k++) {
+        streamed += segments.get(k).read(fromSeq, target);
+      }
+      return streamed;
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SEGMENTED_LOGGER_CANT_READ, ioe);
+    }
+  }
+
+  /** how many transactions are within the history */
+  public int size() {
+    var records = 0;
+    for (final TransactionLogSegment segment : segments) {
+      records += segment.records;
+    }
+    return records;
+  }
+}
@@ -0,0 +1,38 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.adamalang.runtime.contracts.TransactionLogStore;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** the store of documents which log into fixed size segments (see
+ * SegmentedTransactionDiskLogger) */
+public class SegmentedTransactionLogStore implements TransactionLogStore {
+  private final int segmentSize;
+
+  public SegmentedTransactionLogStore(final int segmentSize) {
+    this.segmentSize = segmentSize;
+  }
+
+  @Override
+  public void close() {
+  }
+
+  @Override
+  public boolean exists(final File root, final String id) {
+    return SegmentedTransactionDiskLogger.segmentOf(root, id, 0).exists();
+  }
+
+  @Override
+  public TransactionLogger openFillAndAppend(final File root, final String id, final TransactionLogger target) throws ErrorCodeException {
+    return SegmentedTransactionDiskLogger.openFillAndAppend(root, id, segmentSize, target);
+  }
+
+  /** read the history of the given document from a seq */
+  public SegmentedTransactionLogReader reader(final File root, final String id) throws ErrorCodeException {
+    return new SegmentedTransactionLogReader(root, id);
+  }
+}
@@ -0,0 +1,445 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.adamalang.runtime.contracts.TransactionLogStore;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.json.JsonStreamWriter;
+import org.adamalang.runtime.stdlib.Utility;
+
+/** a store which multiplexes the transactions of every document into a single
+ * append-only log (i.e. wal.N segments within a directory) such that writes are
+ * sequential and documents hold no file of their own. Each record is tagged by
+ * the document (see WriteAheadRecord), and an in-memory index of document to the
+ * positions of its records is kept for recovery. An append returns once its
+ * record is forced to disk; the appends which arrive while a force is running
+ * share the next force (i.e. a group commit), so a document's transaction is
+ * durable once ingested.
+ *
+ * Once the active segment crosses the size boundary, a new segment is started
+ * and a background spiller folds the records of the sealed segment into the
+ * state of each document it touched (i.e. X.walstate next to where the document
+ * lives which holds a header of {"position":P,"seq":S} followed by the merged
+ * deltas); the sealed segment is then deleted. As the state records the
+ * position it covers, spilling a segment again after a crash is harmless.
+ *
+ * A position packs the segment and the offset within it into 32 bits each, so
+ * a segment may be no larger than 4GB. */
+public class SharedWriteAheadLog implements TransactionLogStore {
+  /** a transaction within a sealed segment along with where it was */
+  private static class Spilling {
+    private final long position;
+    private final Transaction transaction;
+
+    private Spilling(final long position, final Transaction transaction) {
+      this.position = position;
+      this.transaction = transaction;
+    }
+  }
+
+  /** the largest segment a position can address */
+  public static final long MAX_SEGMENT_BYTES = 1L << 32;
+
+  private static final String SPILL_REQUEST = "{\"command\":\"spill\"}";
+
+  private static String keyOf(final File root, final String id) {
+    return new File(root, id).getPath();
+  }
+
+  private static long positionOf(final int segment, final long offset) {
+    return (long) segment << 32 | offset;
+  }
+
+  private static int segmentOf(final long position) {
+    return (int) (position >>> 32);
+  }
+
+  public static File stateOf(final File root, final String id) {
+    return stateOf(keyOf(root, id));
+  }
+
+  private static File stateOf(final String key) {
+    return new File(key + ".walstate");
+  }
+
+  private int active;
+  private long activeSize;
+  private boolean alive;
+  private long appended;
+  private FileChannel channel;
+  private long durable;
+  private final Object forceLock;
+  private final HashMap<String, ArrayList<Long>> index;
+  private final long maxSegmentBytes;
+  private final TreeMap<Integer, File> segments;
+  private int spilled;
+  private final Thread spiller;
+  private final File walRoot;
+
+  public SharedWriteAheadLog(final File walRoot, final long maxSegmentBytes) throws ErrorCodeException {
+    if (maxSegmentBytes > MAX_SEGMENT_BYTES) { throw new ErrorCodeException(ErrorCodeException.WAL_SEGMENT_TOO_LARGE); }
+    this.walRoot = walRoot;
+    this.maxSegmentBytes = maxSegmentBytes;
+    this.appended = 0;
+    this.durable = 0;
+    this.forceLock = new Object();
+    this.index = new HashMap<>();
+    this.segments = new TreeMap<>();
+    this.spilled = 0;
+    this.alive = true;
+    try {
+      walRoot.mkdirs();
+      final var files = walRoot.listFiles();
+      if (files != null) {
+        for (final File file : files) {
+          final var name = file.getName();
+          if (name.startsWith("wal.") && name.length() > 4 && name.substring(4).chars().allMatch(Character::isDigit)) {
+            segments.put(Integer.parseInt(name.substring(4)), file);
+          }
+        }
+      }
+      if (segments.isEmpty()) {
+        segments.put(0, new File(walRoot, "wal.0"));
+      }
+      for (final Map.Entry<Integer, File> segment : segments.entrySet()) {
+        activeSize = scan(segment.getKey(), segment.getValue());
+      }
+      active = segments.lastKey();
+      channel = FileChannel.open(segments.get(active).toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      // anything beyond the last good record is a torn tail
+      channel.truncate(activeSize);
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.WAL_CANT_OPEN, ioe);
+    }
+    this.spiller = new Thread(() -> {
+      Integer sealed;
+      while ((sealed = nextSealed()) != null) {
+        if (!spill(sealed) && !backOff()) { return; }
+      }
+    }, "wal-spiller");
+    this.spiller.setDaemon(true);
+    this.spiller.start();
+  }
+
+  /** append the transaction for the given document, and return once it is durable */
+  void append(final String key, final Transaction transaction) throws ErrorCodeException {
+    final var buffer = WriteAheadRecord.encode(key, transaction);
+    final long ticket;
+    synchronized (this) {
+      try {
+        if (activeSize > 0 && activeSize + buffer.remaining() > maxSegmentBytes) {
+          rotate();
+        }
+        final var position = positionOf(active, activeSize);
+        while (buffer.hasRemaining()) {
+          activeSize += channel.write(buffer, activeSize);
+        }
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(position);
+        ticket = ++appended;
+      } catch (final IOException ioe) {
+        throw new ErrorCodeException(ErrorCodeException.WAL_CANT_WRITE, ioe);
+      }
+    }
+    force(ticket);
+  }
+
+  /** wait a moment before trying to spill again; false means stop */
+  private synchronized boolean backOff() {
+    try {
+      if (alive) {
+        wait(1000);
+      }
+    } catch (final InterruptedException ie) {
+      return false;
+    }
+    return alive;
+  }
+
+  /** stop the spiller once every sealed segment is spilled, and close the active
+   * segment (every append has forced its record by now) */
+  @Override
+  public void close() throws Exception {
+    synchronized (this) {
+      alive = false;
+      notifyAll();
+    }
+    spiller.join();
+    synchronized (this) {
+      channel.force(false);
+      channel.close();
+    }
+  }
+
+  @Override
+  public synchronized boolean exists(final File root, final String id) {
+    return index.containsKey(keyOf(root, id)) || stateOf(root, id).exists();
+  }
+
+  /** block until the given append is forced; a single force covers every append
+   * which came before it, so the appends which wait here share it */
+  private void force(final long ticket) throws ErrorCodeException {
+    synchronized (forceLock) {
+      if (durable >= ticket) { return; }
+      final long upTo;
+      final FileChannel forcing;
+      synchronized (this) {
+        upTo = appended;
+        forcing = channel;
+      }
+      try {
+        forcing.force(false);
+      } catch (final ClosedChannelException cce) {
+        // the segment was sealed (and forced) by a rotation after we looked
+      } catch (final IOException ioe) {
+        throw new ErrorCodeException(ErrorCodeException.WAL_CANT_WRITE, ioe);
+      }
+      durable = upTo;
+    }
+  }
+
+  /** how many segments are live (i.e. the active segment and those waiting to be
+   * spilled) */
+  public synchronized int getSegments() {
+    return segments.size();
+  }
+
+  /** how many segments have been spilled */
+  public synchronized int getSpilled() {
+    return spilled;
+  }
+
+  /** block the spiller until a segment is sealed; null means stop */
+  private synchronized Integer nextSealed() {
+    try {
+      while (alive && segments.firstKey() == active) {
+        wait();
+      }
+    } catch (final InterruptedException ie) {
+      return null;
+    }
+    if (segments.firstKey() == active) { return null; }
+    return segments.firstKey();
+  }
+
+  /** the positions of the document are copied (and the segments holding them are
+   * opened) under the monitor, but the records are read outside of it such that
+   * the appends of other documents carry on; an open segment remains readable
+   * even if the spiller deletes it */
+  @Override
+  public TransactionLogger openFillAndAppend(final File root, final String id, final TransactionLogger target) throws ErrorCodeException {
+    final var key = keyOf(root, id);
+    final var channels = new HashMap<Integer, FileChannel>();
+    try {
+      final var positions = new ArrayList<Long>();
+      synchronized (this) {
+        final var indexed = index.get(key);
+        if (indexed != null) {
+          positions.addAll(indexed);
+          for (final Long position : indexed) {
+            final var segment = segmentOf(position);
+            if (!channels.containsKey(segment)) {
+              channels.put(segment, FileChannel.open(segments.get(segment).toPath(), StandardOpenOption.READ));
+            }
+          }
+        }
+      }
+      var records = -1;
+      var covered = -1L;
+      // the state is read after the positions were copied, so a spill in between is covered by either
+      final var state = stateOf(key);
+      if (state.exists()) {
+        covered = pumpState(state, target);
+        records = 0;
+      }
+      if (positions.size() > 0) {
+        records = Math.max(records, 0);
+        for (final Long position : positions) {
+          if (position > covered) {
+            target.ingest(read(channels.get(segmentOf(position)), position & 0xFFFFFFFFL).transaction);
+            records++;
+          }
+        }
+      }
+      return new WriteAheadDocumentLogger(this, key, records, target);
+    } catch (final Exception ex) {
+      throw new ErrorCodeException(ErrorCodeException.WAL_CANT_READ, ex);
+    } finally {
+      for (final FileChannel reader : channels.values()) {
+        try {
+          reader.close();
+        } catch (final IOException ioe) {
+          // the records were already read
+        }
+      }
+    }
+  }
+
+  /** pump the spilled state into the target, and return the position it covers */
+  private long pumpState(final File state, final TransactionLogger target) throws Exception {
+    final var buffered = new BufferedReader(new InputStreamReader(new FileInputStream(state), StandardCharsets.UTF_8));
+    try {
+      final var header = buffered.readLine();
+      final var json = buffered.readLine();
+      if (header == null || json == null) { throw new IOException("incomplete state"); }
+      final var headerObject = Utility.parseJsonObjectThrows(header);
+      final var seq = headerObject.get("seq").intValue();
+      target.ingest(new Transaction(seq, SPILL_REQUEST, json, new TransactionResult(false, 0, seq)));
+      return headerObject.get("position").longValue();
+    } finally {
+      buffered.close();
+    }
+  }
+
+  /** read the record at the given offset within the segment */
+  private WriteAheadRecord read(final FileChannel reader, final long offset) throws IOException {
+    final var header = ByteBuffer.allocate(WriteAheadRecord.HEADER_SIZE);
+    readFully(reader, header, offset);
+    final var buffer = ByteBuffer.allocate(WriteAheadRecord.HEADER_SIZE + header.getInt(0));
+    readFully(reader, buffer, offset);
+    buffer.flip();
+    final var record = WriteAheadRecord.read(buffer);
+    if (record == null) { throw new IOException("corrupt record at:" + offset); }
+    return record;
+  }
+
+  private void readFully(final FileChannel reader, final ByteBuffer buffer, final long offset) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (reader.read(buffer, offset + buffer.position()) < 0) { throw new IOException("unexpected end"); }
+    }
+  }
+
+  /** seal the active segment (forcing it, as a pending force may miss it), and start the next */
+  private void rotate() throws IOException {
+    channel.force(false);
+    channel.close();
+    active++;
+    final var file = new File(walRoot, "wal." + active);
+    segments.put(active, file);
+    channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    activeSize = 0;
+    notifyAll();
+  }
+
+  /** index the records within the segment, and return where they end */
+  private long scan(final int segment, final File file) throws IOException {
+    if (!file.exists()) { return 0; }
+    final var reader = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      final var buffer = reader.map(FileChannel.MapMode.READ_ONLY, 0, reader.size());
+      var offset = 0;
+      WriteAheadRecord record;
+      while ((record = WriteAheadRecord.read(buffer)) != null) {
+        index.computeIfAbsent(record.key, k -> new ArrayList<>()).add(positionOf(segment, offset));
+        offset = buffer.position();
+      }
+      return offset;
+    } finally {
+      reader.close();
+    }
+  }
+
+  /** fold the records of the sealed segment into the state of each document, and
+   * then delete the segment; false means the segment remains */
+  private boolean spill(final int segment) {
+    final File file;
+    synchronized (this) {
+      file = segments.get(segment);
+    }
+    try {
+      final var byKey = new LinkedHashMap<String, ArrayList<Spilling>>();
+      final var reader = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+      try {
+        final var buffer = reader.map(FileChannel.MapMode.READ_ONLY, 0, reader.size());
+        var offset = 0;
+        WriteAheadRecord record;
+        while ((record = WriteAheadRecord.read(buffer)) != null) {
+          byKey.computeIfAbsent(record.key, k -> new ArrayList<>()).add(new Spilling(positionOf(segment, offset), record.transaction));
+          offset = buffer.position();
+        }
+      } finally {
+        reader.close();
+      }
+      for (final Map.Entry<String, ArrayList<Spilling>> entry : byKey.entrySet()) {
+        final var state = stateOf(entry.getKey());
+        final var merged = ObjectNodeLogger.fresh();
+        var covered = -1L;
+        if (state.exists()) {
+          covered = pumpState(state, merged);
+        }
+        var seq = -1;
+        for (final Spilling spilling : entry.getValue()) {
+          if (spilling.position > covered) {
+            merged.ingest(spilling.transaction);
+            covered = spilling.position;
+            seq = spilling.transaction.transactionResult.seq;
+          }
+        }
+        if (seq >= 0) {
+          writeState(state, covered, seq, merged.node.toString());
+        }
+      }
+      synchronized (this) {
+        for (final String key : byKey.keySet()) {
+          final var positions = index.get(key);
+          if (positions != null) {
+            var remove = 0;
+            while (remove < positions.size() && segmentOf(positions.get(remove)) == segment) {
+              remove++;
+            }
+            positions.subList(0, remove).clear();
+            if (positions.isEmpty()) {
+              index.remove(key);
+            }
+          }
+        }
+        segments.remove(segment);
+        spilled++;
+      }
+      file.delete();
+      return true;
+    } catch (final Exception ex) {
+      return false;
+    }
+  }
+
+  /** atomically replace the state of a document */
+  private void writeState(final File state, final long position, final int seq, final String json) throws IOException {
+    final var header = new JsonStreamWriter();
+    header.beginObject();
+    header.writeObjectFieldIntro("position");
+    header.writeLong(position);
+    header.writeObjectFieldIntro("seq");
+    header.writeInteger(seq);
+    header.endObject();
+    final var temporary = new File(state.getPath() + ".tmp");
+    final var output = new FileOutputStream(temporary);
+    try {
+      output.write((header.toString() + "\n" + json + "\n").getBytes(StandardCharsets.UTF_8));
+      output.flush();
+      output.getFD().sync();
+    } finally {
+      output.close();
+    }
+    Files.move(temporary.toPath(), state.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
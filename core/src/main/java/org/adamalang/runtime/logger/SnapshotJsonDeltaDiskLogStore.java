@@ -0,0 +1,36 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.adamalang.runtime.contracts.TransactionLogStore;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** the store of documents which snapshot themselves every so many transactions
+ * (see SnapshotJsonDeltaDiskLogger) and share a compactor */
+public class SnapshotJsonDeltaDiskLogStore implements TransactionLogStore {
+  private final LogCompactor compactor;
+  private final int transactionsPerSnapshot;
+
+  public SnapshotJsonDeltaDiskLogStore(final int transactionsPerSnapshot) {
+    this.transactionsPerSnapshot = transactionsPerSnapshot;
+    this.compactor = new LogCompactor();
+  }
+
+  @Override
+  public void close() throws Exception {
+    compactor.close();
+  }
+
+  @Override
+  public boolean exists(final File root, final String id) {
+    return SnapshotJsonDeltaDiskLogger.activeOf(root, id).exists() || SnapshotJsonDeltaDiskLogger.snapshotOf(root, id).exists();
+  }
+
+  @Override
+  public TransactionLogger openFillAndAppend(final File root, final String id, final TransactionLogger target) throws ErrorCodeException {
+    return SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, id, transactionsPerSnapshot, compactor, target);
+  }
+}
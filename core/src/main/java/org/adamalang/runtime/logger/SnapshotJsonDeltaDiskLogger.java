@@ -0,0 +1,253 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import org.adamalang.runtime.contracts.SnapshotTransactionLogger;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.json.JsonStreamWriter;
+import org.adamalang.runtime.stdlib.Utility;
+
+/** a logger which spools out individual transactions for a single document
+ * (using the same format as SynchronousJsonDeltaDiskLogger), but every so often
+ * writes a snapshot of the entire document such that loading starts from the
+ * snapshot and replays only the tail of the log. For the document X, the files
+ * within the root are:
+ *
+ * X.jsonlog : the active segment being appended to
+ *
+ * X.jsonlog.G : a sealed segment of generation G
+ *
+ * X.snapshot : a header of {"generation":G,"seq":S} on the first line followed
+ * by the dump on the second line
+ *
+ * Taking a snapshot seals the active segment as generation G on the document's
+ * thread (a rename, so it is ordered with the transactions), and then the
+ * LogCompactor's thread writes and syncs the snapshot, atomically replaces it,
+ * and deletes every sealed segment up to and including G. Generations are used
+ * rather than the seq since a bill does not advance the seq. Closing waits for
+ * the snapshots which are still being written. */
+public class SnapshotJsonDeltaDiskLogger implements SnapshotTransactionLogger {
+  private static final String SNAPSHOT_REQUEST = "{\"command\":\"snapshot\"}";
+
+  public static File activeOf(final File root, final String id) {
+    return new File(root, id + ".jsonlog");
+  }
+
+  private static PrintWriter append(final File file) throws ErrorCodeException {
+    try {
+      return new PrintWriter(new FileOutputStream(file, true), false, StandardCharsets.UTF_8);
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SNAPSHOT_LOGGER_CANT_OPEN_APPEND, ioe);
+    }
+  }
+
+  public static SnapshotJsonDeltaDiskLogger openFillAndAppend(final File root, final String id, final int transactionsPerSnapshot, final LogCompactor compactor, final TransactionLogger target) throws ErrorCodeException {
+    final var snapshot = snapshotOf(root, id);
+    var found = snapshot.exists();
+    var covered = -1;
+    if (found) {
+      covered = pumpSnapshot(snapshot, target);
+    }
+    var records = 0;
+    var generation = covered + 1;
+    final var uncompacted = new ArrayList<File>();
+    for (final Map.Entry<Integer, File> sealed : sealedOf(root, id).entrySet()) {
+      found = true;
+      if (sealed.getKey() <= covered) {
+        compactor.schedule(sealed.getValue());
+      } else {
+        records += Math.max(SynchronousJsonDeltaDiskLogger.pump(sealed.getValue(), target), 0);
+        uncompacted.add(sealed.getValue());
+      }
+      generation = Math.max(generation, sealed.getKey() + 1);
+    }
+    final var active = SynchronousJsonDeltaDiskLogger.pump(activeOf(root, id), target);
+    if (active >= 0) {
+      found = true;
+      records += active;
+    }
+    return new SnapshotJsonDeltaDiskLogger(root, id, generation, found ? records : -1, uncompacted, transactionsPerSnapshot, compactor, target);
+  }
+
+  /** pump the snapshot into the target, and return the generation it covers */
+  private static int pumpSnapshot(final File snapshot, final TransactionLogger target) throws ErrorCodeException {
+    try {
+      final var buffered = new BufferedReader(new InputStreamReader(new FileInputStream(snapshot), StandardCharsets.UTF_8));
+      try {
+        final var header = buffered.readLine();
+        final var dump = buffered.readLine();
+        if (header == null || dump == null) { throw new IOException("incomplete snapshot"); }
+        final var headerObject = Utility.parseJsonObjectThrows(header);
+        final var seq = headerObject.get("seq").intValue();
+        target.ingest(new Transaction(seq, SNAPSHOT_REQUEST, dump, new TransactionResult(false, 0, seq)));
+        return headerObject.get("generation").intValue();
+      } finally {
+        buffered.close();
+      }
+    } catch (final Exception ex) {
+      throw new ErrorCodeException(ErrorCodeException.SNAPSHOT_LOGGER_CANT_LOAD, ex);
+    }
+  }
+
+  /** find the sealed segments for the document ordered by generation */
+  public static TreeMap<Integer, File> sealedOf(final File root, final String id) {
+    final var sealed = new TreeMap<Integer, File>();
+    final var prefix = id + ".jsonlog.";
+    final var files = root.listFiles();
+    if (files != null) {
+      for (final File file : files) {
+        final var name = file.getName();
+        if (name.startsWith(prefix) && name.length() > prefix.length() && name.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+          sealed.put(Integer.parseInt(name.substring(prefix.length())), file);
+        }
+      }
+    }
+    return sealed;
+  }
+
+  public static File snapshotOf(final File root, final String id) {
+    return new File(root, id + ".snapshot");
+  }
+
+  private final File active;
+  private final LogCompactor compactor;
+  private int generation;
+  private final String id;
+  private final int recordsReadAtStart;
+  private final File root;
+  private int snapshotsInFlight;
+  private final TransactionLogger target;
+  private final int transactionsPerSnapshot;
+  private int transactionsSinceSnapshot;
+  private final ArrayList<File> uncompacted;
+  private PrintWriter writer;
+
+  public SnapshotJsonDeltaDiskLogger(final File root, final String id, final int generation, final int recordsReadAtStart, final ArrayList<File> uncompacted, final int transactionsPerSnapshot, final LogCompactor compactor, final TransactionLogger target) throws ErrorCodeException {
+    this.root = root;
+    this.id = id;
+    this.active = activeOf(root, id);
+    this.generation = generation;
+    this.recordsReadAtStart = recordsReadAtStart;
+    this.uncompacted = uncompacted;
+    this.transactionsPerSnapshot = transactionsPerSnapshot;
+    this.transactionsSinceSnapshot = Math.max(recordsReadAtStart, 0);
+    this.compactor = compactor;
+    this.snapshotsInFlight = 0;
+    this.target = target;
+    this.writer = append(active);
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      writer.flush();
+    } finally {
+      writer.close();
+    }
+    synchronized (this) {
+      while (snapshotsInFlight > 0) {
+        wait();
+      }
+    }
+  }
+
+  public int getGeneration() {
+    return generation;
+  }
+
+  public int getRecordsReadAtStart() {
+    return recordsReadAtStart;
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    NewlineJsonTransactionDiskRecord.writeTo(transaction, writer);
+    writer.flush();
+    target.ingest(transaction);
+    transactionsSinceSnapshot++;
+  }
+
+  @Override
+  public boolean shouldSnapshot() {
+    return transactionsPerSnapshot > 0 && transactionsSinceSnapshot >= transactionsPerSnapshot;
+  }
+
+  @Override
+  public void snapshot(final int seq, final String dump) throws ErrorCodeException {
+    final var covered = generation;
+    final var sealed = new File(root, id + ".jsonlog." + covered);
+    writer.close();
+    try {
+      try {
+        Files.move(active.toPath(), sealed.toPath(), StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        writer = append(active);
+      }
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SNAPSHOT_LOGGER_CANT_SNAPSHOT, ioe);
+    }
+    generation++;
+    // a failed snapshot will wait for another batch of transactions to try again
+    transactionsSinceSnapshot = 0;
+    synchronized (this) {
+      uncompacted.add(sealed);
+      snapshotsInFlight++;
+    }
+    compactor.execute(() -> {
+      try {
+        write(covered, seq, dump);
+        synchronized (this) {
+          // the segments are sealed in order, so the snapshot covers every segment up to its own
+          final var coveredSegments = uncompacted.subList(0, uncompacted.indexOf(sealed) + 1);
+          for (final File segment : coveredSegments) {
+            compactor.schedule(segment);
+          }
+          coveredSegments.clear();
+        }
+      } catch (final IOException ioe) {
+        // the segments remain until a later snapshot covers them
+      } finally {
+        synchronized (this) {
+          snapshotsInFlight--;
+          notifyAll();
+        }
+      }
+    });
+  }
+
+  /** write and sync the snapshot aside, and then atomically replace the snapshot with it */
+  private void write(final int covered, final int seq, final String dump) throws IOException {
+    final var header = new JsonStreamWriter();
+    header.beginObject();
+    header.writeObjectFieldIntro("generation");
+    header.writeInteger(covered);
+    header.writeObjectFieldIntro("seq");
+    header.writeInteger(seq);
+    header.endObject();
+    final var temporary = new File(root, id + ".snapshot.tmp");
+    final var output = new FileOutputStream(temporary);
+    try {
+      output.write((header.toString() + "\n" + dump + "\n").getBytes(StandardCharsets.UTF_8));
+      output.flush();
+      output.getFD().sync();
+    } finally {
+      output.close();
+    }
+    Files.move(temporary.toPath(), snapshotOf(root, id).toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+}
@@ -9,23 +9,29 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
 import org.adamalang.runtime.contracts.TransactionLogger;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
 
 /** a logger which spools out individual transactions for a single document */
 public class SynchronousJsonDeltaDiskLogger implements TransactionLogger {
   public static SynchronousJsonDeltaDiskLogger openFillAndAppend(final File file, final TransactionLogger target) throws ErrorCodeException {
+    return openFillAndAppend(file, false, target);
+  }
+
+  public static SynchronousJsonDeltaDiskLogger openFillAndAppend(final File file, final boolean compress, final TransactionLogger target) throws ErrorCodeException {
     final var recordsReadAtStart = pump(file, target);
-    return new SynchronousJsonDeltaDiskLogger(recordsReadAtStart, file, target);
+    return new SynchronousJsonDeltaDiskLogger(recordsReadAtStart, file, compress, target);
   }
 
+  /** pump the records into the target; the log may hold compressed blocks (see
+   * DeflatedJsonLogBlock) mixed with plain lines */
   public static int pump(final File file, final TransactionLogger target) throws ErrorCodeException {
     try {
       if (file.exists()) {
         var records = 0;
-        final var buffered = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+        final var buffered = new BufferedReader(new InputStreamReader(new DeflatedJsonLogInputStream(new FileInputStream(file)), StandardCharsets.UTF_8));
         try {
           NewlineJsonTransactionDiskRecord record;
           while ((record = new NewlineJsonTransactionDiskRecord(buffered)).valid()) {
@@ -43,17 +49,25 @@ public class SynchronousJsonDeltaDiskLogger implements TransactionLogger {
     }
   }
 
+  private final Deflater deflater;
   private final File file;
+  private final FileOutputStream output;
   private final int recordsReadAtStart;
   private final TransactionLogger target;
-  private final PrintWriter writer;
 
   public SynchronousJsonDeltaDiskLogger(final int recordsReadAtStart, final File file, final TransactionLogger target) throws ErrorCodeException {
+    this(recordsReadAtStart, file, false, target);
+  }
+
+  /** when compressing, each transaction is written as a block (see
+   * DeflatedJsonLogBlock) */
+  public SynchronousJsonDeltaDiskLogger(final int recordsReadAtStart, final File file, final boolean compress, final TransactionLogger target) throws ErrorCodeException {
     try {
       this.recordsReadAtStart = recordsReadAtStart;
       this.file = file;
       this.target = target;
-      writer = new PrintWriter(new FileOutputStream(file, true), false, StandardCharsets.UTF_8);
+      this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+      output = new FileOutputStream(file, true);
     } catch (final IOException ioe) {
       throw new ErrorCodeException(ErrorCodeException.SYNC_DISK_LOGGER_CANT_OPEN_APPEND, ioe);
     }
@@ -62,9 +76,12 @@ public class SynchronousJsonDeltaDiskLogger implements TransactionLogger {
   @Override
   public void close() throws Exception {
     try {
-      writer.flush();
+      output.flush();
     } finally {
-      writer.close();
+      output.close();
+      if (deflater != null) {
+        deflater.end();
+      }
     }
   }
 
@@ -78,8 +95,20 @@ public class SynchronousJsonDeltaDiskLogger implements TransactionLogger {
 
   @Override
   public void ingest(final Transaction transaction) throws ErrorCodeException {
-    NewlineJsonTransactionDiskRecord.writeTo(transaction, writer);
-    writer.flush();
+    final var buffer = NewlineJsonTransactionDiskRecord.BUFFERS.acquire();
+    try {
+      NewlineJsonTransactionDiskRecord.writeTo(transaction, buffer);
+      if (deflater != null && buffer.size() < DeflatedJsonLogBlock.MAX_BLOCK_SIZE / 2) {
+        output.write(DeflatedJsonLogBlock.encode(deflater, buffer.bytes(), 0, buffer.size()));
+      } else {
+        buffer.writeTo(output);
+      }
+      output.flush();
+    } catch (final IOException ioe) {
+      throw new ErrorCodeException(ErrorCodeException.SYNC_DISK_LOGGER_CANT_WRITE, ioe);
+    } finally {
+      NewlineJsonTransactionDiskRecord.BUFFERS.release(buffer);
+    }
     target.ingest(transaction);
   }
 }
@@ -0,0 +1,179 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** used by SegmentedTransactionDiskLogger to track a single segment file of
+ * binary records (see BinaryTransactionDiskRecord) along with a sparse index
+ * mapping the seq of every so many records to its offset. Reads are done by
+ * memory mapping the segment. Once a segment is sealed, the index is written next
+ * to it such that it need not be scanned again. */
+class TransactionLogSegment {
+  /** how many records between entries within the sparse index */
+  public static final int INDEX_EVERY = 32;
+
+  public static File indexOf(final File segment) {
+    return new File(segment.getPath() + ".index");
+  }
+
+  /** load the sparse index of a sealed segment, and fall back to scanning it if
+   * the index was never written or is damaged */
+  public static TransactionLogSegment load(final File file) throws IOException, ErrorCodeException {
+    final var index = indexOf(file);
+    if (index.exists()) {
+      try {
+        final var input = new DataInputStream(new BufferedInputStream(new FileInputStream(index)));
+        try {
+          final var segment = new TransactionLogSegment(file);
+          final var end = input.readInt();
+          final var records = input.readInt();
+          final var entries = input.readInt();
+          for (var k = 0; k < entries; k++) {
+            segment.index(input.readInt(), input.readInt());
+          }
+          segment.end = end;
+          segment.records = records;
+          return segment;
+        } finally {
+          input.close();
+        }
+      } catch (final IOException ioe) {
+        // fall through to re-scan the segment
+      }
+    }
+    final var segment = scan(file, NoOpLogger.INSTANCE);
+    segment.writeIndex();
+    return segment;
+  }
+
+  /** map the segment for reading up to the given number of bytes */
+  private static MappedByteBuffer map(final File file, final long length) throws IOException {
+    final var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    try {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(length, channel.size()));
+    } finally {
+      channel.close();
+    }
+  }
+
+  /** scan the segment for where the valid records end while pumping each record
+   * into the target and building the sparse index */
+  public static TransactionLogSegment scan(final File file, final TransactionLogger target) throws IOException, ErrorCodeException {
+    final var segment = new TransactionLogSegment(file);
+    final var buffer = map(file, Integer.MAX_VALUE);
+    Transaction transaction;
+    while ((transaction = BinaryTransactionDiskRecord.read(buffer)) != null) {
+      segment.add(transaction.transactionResult.seq, segment.end, buffer.position() - segment.end);
+      target.ingest(transaction);
+    }
+    return segment;
+  }
+
+  /** where the valid records end */
+  public int end;
+  public final File file;
+  private int indexed;
+  private int[] offsets;
+  /** how many records are within the segment */
+  public int records;
+  private int[] seqs;
+
+  public TransactionLogSegment(final File file) {
+    this.file = file;
+    this.end = 0;
+    this.records = 0;
+    this.indexed = 0;
+    this.seqs = new int[16];
+    this.offsets = new int[16];
+  }
+
+  /** account for a record of the given size having been written at the offset */
+  public void add(final int seq, final int offset, final int size) {
+    if (records % INDEX_EVERY == 0) {
+      index(seq, offset);
+    }
+    records++;
+    end = offset + size;
+  }
+
+  /** the seq of the first record (or Integer.MAX_VALUE if empty) */
+  public int firstSeq() {
+    if (indexed == 0) { return Integer.MAX_VALUE; }
+    return seqs[0];
+  }
+
+  /** the offset to start scanning from such that no record with a seq at or
+   * beyond the given seq is missed */
+  public int floor(final int seq) {
+    var lo = 0;
+    var hi = indexed - 1;
+    var found = 0;
+    while (lo <= hi) {
+      final var mid = lo + hi >>> 1;
+      if (seqs[mid] < seq) {
+        found = offsets[mid];
+        lo = mid + 1;
+      } else {
+        hi = mid - 1;
+      }
+    }
+    return found;
+  }
+
+  private void index(final int seq, final int offset) {
+    if (indexed == seqs.length) {
+      seqs = Arrays.copyOf(seqs, indexed * 2);
+      offsets = Arrays.copyOf(offsets, indexed * 2);
+    }
+    seqs[indexed] = seq;
+    offsets[indexed] = offset;
+    indexed++;
+  }
+
+  /** stream every record with a seq at or beyond the given seq into the target;
+   * returns the number of records streamed */
+  public int read(final int fromSeq, final TransactionLogger target) throws IOException, ErrorCodeException {
+    final var buffer = map(file, end);
+    buffer.position(floor(fromSeq));
+    var streamed = 0;
+    Transaction transaction;
+    while ((transaction = BinaryTransactionDiskRecord.read(buffer)) != null) {
+      if (transaction.transactionResult.seq >= fromSeq) {
+        streamed++;
+        target.ingest(transaction);
+      }
+    }
+    return streamed;
+  }
+
+  /** write the sparse index next to the segment */
+  public void writeIndex() throws IOException {
+    final var output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexOf(file))));
+    try {
+      output.writeInt(end);
+      output.writeInt(records);
+      output.writeInt(indexed);
+      for (var k = 0; k < indexed; k++) {
+        output.writeInt(seqs[k]);
+        output.writeInt(offsets[k]);
+      }
+    } finally {
+      output.close();
+    }
+  }
+}
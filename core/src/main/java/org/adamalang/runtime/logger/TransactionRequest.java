@@ -0,0 +1,60 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.adamalang.runtime.json.JsonStreamWriter;
+import org.adamalang.runtime.natives.NtClient;
+
+/** a request to transact on a document in its typed form such that the document
+ * need not parse the request to dispatch it; the JSON is produced once to be
+ * logged with the transaction. The arg (for construct) and the message (for
+ * send) are JSON which only the document is able to parse into its types. */
+public class TransactionRequest {
+  public final String arg;
+  public final String channel;
+  public final String command;
+  public final String entropy;
+  public final String json;
+  public final String message;
+  public final long timestamp;
+  public final NtClient who;
+
+  public TransactionRequest(final String command, final long timestamp, final NtClient who, final String channel, final String message, final String arg, final String entropy) {
+    this.command = command;
+    this.timestamp = timestamp;
+    this.who = who;
+    this.channel = channel;
+    this.message = message;
+    this.arg = arg;
+    this.entropy = entropy;
+    final var writer = new JsonStreamWriter();
+    writer.beginObject();
+    writer.writeObjectFieldIntro("command");
+    writer.writeFastString(command);
+    writer.writeObjectFieldIntro("timestamp");
+    writer.writeLong(timestamp);
+    if (who != null) {
+      writer.writeObjectFieldIntro("who");
+      writer.writeNtClient(who);
+    }
+    if (channel != null) {
+      writer.writeObjectFieldIntro("channel");
+      writer.writeFastString(channel);
+    }
+    if (message != null) {
+      writer.writeObjectFieldIntro("message");
+      writer.injectJson(message);
+    }
+    if (arg != null) {
+      writer.writeObjectFieldIntro("arg");
+      writer.injectJson(arg);
+    }
+    if (entropy != null) {
+      writer.writeObjectFieldIntro("entropy");
+      writer.writeFastString(entropy);
+    }
+    writer.endObject();
+    this.json = writer.toString();
+  }
+}
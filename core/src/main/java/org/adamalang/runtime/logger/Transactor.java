@@ -3,9 +3,14 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.logger;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import org.adamalang.runtime.LivingDocument;
+import org.adamalang.runtime.contracts.BackpressureTransactionLogger;
 import org.adamalang.runtime.contracts.DocumentMonitor;
+import org.adamalang.runtime.contracts.DurabilityCallback;
+import org.adamalang.runtime.contracts.DurableTransactionLogger;
+import org.adamalang.runtime.contracts.SnapshotTransactionLogger;
 import org.adamalang.runtime.contracts.TimeSource;
 import org.adamalang.runtime.contracts.TransactionLogger;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
@@ -32,12 +37,17 @@ public class Transactor {
     document = null;
   }
 
+  /** take over a document which was hydrated elsewhere (i.e. by a
+   * DocumentHydrationLogger while the log was pumped) */
+  public void adopt(final LivingDocument hydrated) throws ErrorCodeException {
+    if (document != null) { throw new ErrorCodeException(ErrorCodeException.TRANSACTOR_CANT_CREATE_BECAUSE_ALREADY_CREATED); }
+    document = hydrated;
+  }
+
   /** log a bill, reset goodwill and cost */
   public TransactionResult bill() throws ErrorCodeException {
-    final var request = forge("bill", null);
-    request.endObject();
-    final var transaction = document.__transact(request.toString());
-    logger.ingest(transaction);
+    final var transaction = document.__transact(request("bill", null, null, null, null, null));
+    ingest(transaction);
     return transaction.transactionResult;
   }
 
@@ -47,10 +57,8 @@ public class Transactor {
 
   /** connect a client */
   public TransactionResult connect(final NtClient who) throws ErrorCodeException {
-    final var request = forge("connect", who);
-    request.endObject();
-    final var transaction = document.__transact(request.toString());
-    logger.ingest(transaction);
+    final var transaction = document.__transact(request("connect", who, null, null, null, null));
+    ingest(transaction);
     return transaction.transactionResult;
   }
 
@@ -58,16 +66,8 @@ public class Transactor {
   public TransactionResult construct(final NtClient who, final String arg, final String entropy) throws ErrorCodeException {
     if (document != null) { throw new ErrorCodeException(ErrorCodeException.TRANSACTOR_CANT_CREATE_BECAUSE_ALREADY_CREATED); }
     document = factory.create(monitor);
-    final var writer = forge("construct", who);
-    writer.writeObjectFieldIntro("arg");
-    writer.injectJson(arg);
-    if (entropy != null) {
-      writer.writeObjectFieldIntro("entropy");
-      writer.writeFastString(entropy);
-    }
-    writer.endObject();
-    final var transaction = document.__transact(writer.toString());
-    logger.ingest(transaction);
+    final var transaction = document.__transact(request("construct", who, null, null, arg, entropy));
+    ingest(transaction);
     return transaction.transactionResult;
   }
 
@@ -77,6 +77,11 @@ public class Transactor {
   }
 
   /** construct a private view */
+  /** create a view shared by every spectator (see LivingDocument.__createPublicView) */
+  public PrivateView createPublicView(final Consumer<String> updates) {
+    return document.__createPublicView(updates);
+  }
+
   public PrivateView createView(final NtClient who, final Consumer<String> updates) {
     return document.__createView(who, updates);
   }
@@ -84,10 +89,8 @@ public class Transactor {
   /** disconnect the client */
   public void disconnect(final NtClient who) {
     try {
-      final var request = forge("disconnect", who);
-      request.endObject();
-      final var transaction = document.__transact(request.toString());
-      logger.ingest(transaction);
+      final var transaction = document.__transact(request("disconnect", who, null, null, null, null));
+      ingest(transaction);
     } catch (final ErrorCodeException ece) {
       // ignored because the failure mode is primarily they were not connected, and
       // this is not useful to consumers
@@ -103,21 +106,6 @@ public class Transactor {
     return initial;
   }
 
-  /** forge a new request */
-  public JsonStreamWriter forge(final String command, final NtClient who) {
-    final var writer = new JsonStreamWriter();
-    writer.beginObject();
-    writer.writeObjectFieldIntro("command");
-    writer.writeFastString(command);
-    writer.writeObjectFieldIntro("timestamp");
-    writer.writeLong(time.nowMilliseconds());
-    if (who != null) {
-      writer.writeObjectFieldIntro("who");
-      writer.writeNtClient(who);
-    }
-    return writer;
-  }
-
   /** garbage collect views for the given person */
   public int gcViewsFor(final NtClient who) {
     return document.__garbageCollectViews(who);
@@ -128,19 +116,34 @@ public class Transactor {
     return document.__getCodeCost();
   }
 
+  /** log the transaction, and then snapshot the document if the log wants it;
+   * only the dump happens here as the log writes the snapshot off-thread */
+  private void ingest(final Transaction transaction) throws ErrorCodeException {
+    logger.ingest(transaction);
+    if (logger instanceof SnapshotTransactionLogger) {
+      final var snapshots = (SnapshotTransactionLogger) logger;
+      if (snapshots.shouldSnapshot()) {
+        snapshots.snapshot(transaction.transactionResult.seq, json());
+      }
+    }
+  }
+
   public void insert(final String json) {
     document.__insert(new JsonStreamReader(json));
   }
 
   /** drive a single change */
   public TransactionResult invalidate() throws ErrorCodeException {
-    final var request = forge("invalidate", null);
-    request.endObject();
-    final var transaction = document.__transact(request.toString());
-    logger.ingest(transaction);
+    final var transaction = document.__transact(request("invalidate", null, null, null, null, null));
+    ingest(transaction);
     return transaction.transactionResult;
   }
 
+  /** is the log too far behind such that new work should be turned away */
+  public boolean isBackedUp() {
+    return logger instanceof BackpressureTransactionLogger && ((BackpressureTransactionLogger) logger).isBackedUp();
+  }
+
   /** is the given user connected */
   public boolean isConnected(final NtClient who) {
     return document.__isConnected(who);
@@ -153,16 +156,31 @@ public class Transactor {
     return writer.toString();
   }
 
+  /** compute the private views of the document on the given executor (see
+   * LivingDocument.__parallelViews); null computes them serially */
+  public void parallelViews(final ExecutorService executor) {
+    document.__parallelViews(executor);
+  }
+
+  /** build a typed request stamped with the current time */
+  private TransactionRequest request(final String command, final NtClient who, final String channel, final String message, final String arg, final String entropy) {
+    return new TransactionRequest(command, time.nowMilliseconds(), who, channel, message, arg, entropy);
+  }
+
   /** send a message from a person to a channel */
   public TransactionResult send(final NtClient who, final String channel, final String message) throws ErrorCodeException {
-    final var writer = forge("send", who);
-    writer.writeObjectFieldIntro("channel");
-    writer.writeFastString(channel);
-    writer.writeObjectFieldIntro("message");
-    writer.injectJson(message);
-    writer.endObject();
-    final var transaction = document.__transact(writer.toString());
-    logger.ingest(transaction);
+    final var transaction = document.__transact(request("send", who, channel, message, null, null));
+    ingest(transaction);
     return transaction.transactionResult;
   }
+
+  /** invoke the callback once every transaction logged thus far is durable; a
+   * logger which is unable to tell is treated as durable upon ingestion */
+  public void whenDurable(final DurabilityCallback callback) {
+    if (logger instanceof DurableTransactionLogger) {
+      ((DurableTransactionLogger) logger).whenDurable(callback);
+    } else {
+      callback.success();
+    }
+  }
 }
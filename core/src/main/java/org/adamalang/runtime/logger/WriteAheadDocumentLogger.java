@@ -0,0 +1,37 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+
+/** the logger for a single document which appends into the SharedWriteAheadLog;
+ * this holds no file of its own */
+public class WriteAheadDocumentLogger implements TransactionLogger {
+  private final String key;
+  private final SharedWriteAheadLog log;
+  private final int recordsReadAtStart;
+  private final TransactionLogger target;
+
+  WriteAheadDocumentLogger(final SharedWriteAheadLog log, final String key, final int recordsReadAtStart, final TransactionLogger target) {
+    this.log = log;
+    this.key = key;
+    this.recordsReadAtStart = recordsReadAtStart;
+    this.target = target;
+  }
+
+  @Override
+  public void close() {
+  }
+
+  public int getRecordsReadAtStart() {
+    return recordsReadAtStart;
+  }
+
+  @Override
+  public void ingest(final Transaction transaction) throws ErrorCodeException {
+    log.append(key, transaction);
+    target.ingest(transaction);
+  }
+}
@@ -0,0 +1,76 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/** used by SharedWriteAheadLog to tag a transaction with the document it
+ * belongs to; the record is of the form [length:int][crc:int][key.length:int]
+ * [key:utf8][transaction] where the transaction is a BinaryTransactionDiskRecord */
+class WriteAheadRecord {
+  /** the body is everything beyond these bytes (i.e. length + crc) */
+  public static final int HEADER_SIZE = 8;
+
+  private static int crcOf(final ByteBuffer buffer, final int offset, final int length) {
+    final var crc = new CRC32();
+    final var body = buffer.duplicate();
+    body.position(offset);
+    body.limit(offset + length);
+    crc.update(body);
+    return (int) crc.getValue();
+  }
+
+  /** encode the transaction for the document into a buffer that is ready to be
+   * written */
+  public static ByteBuffer encode(final String key, final Transaction transaction) {
+    final var keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    final var inner = BinaryTransactionDiskRecord.encode(transaction);
+    final var bodySize = 4 + keyBytes.length + inner.remaining();
+    final var buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+    buffer.putInt(bodySize);
+    buffer.putInt(0); // the crc is filled in once the body is written
+    buffer.putInt(keyBytes.length);
+    buffer.put(keyBytes);
+    buffer.put(inner);
+    buffer.putInt(4, crcOf(buffer, HEADER_SIZE, bodySize));
+    buffer.flip();
+    return buffer;
+  }
+
+  /** read the record at the position of the buffer and advance beyond it; a
+   * null means either the end of the records or a torn tail, and the position
+   * is left untouched */
+  public static WriteAheadRecord read(final ByteBuffer buffer) {
+    final var start = buffer.position();
+    if (buffer.remaining() < HEADER_SIZE + 4) { return null; }
+    final var bodySize = buffer.getInt(start);
+    if (bodySize < 4 || bodySize > buffer.remaining() - HEADER_SIZE) { return null; }
+    if (buffer.getInt(start + 4) != crcOf(buffer, start + HEADER_SIZE, bodySize)) { return null; }
+    final var keyLength = buffer.getInt(start + HEADER_SIZE);
+    if (keyLength < 0 || keyLength > bodySize - 4) { return null; }
+    final var keyBytes = new byte[keyLength];
+    buffer.position(start + HEADER_SIZE + 4);
+    buffer.get(keyBytes);
+    final var inner = buffer.slice();
+    inner.limit(bodySize - 4 - keyLength);
+    final var transaction = BinaryTransactionDiskRecord.read(inner);
+    if (transaction == null || inner.hasRemaining()) {
+      buffer.position(start);
+      return null;
+    }
+    buffer.position(start + HEADER_SIZE + bodySize);
+    return new WriteAheadRecord(new String(keyBytes, StandardCharsets.UTF_8), transaction);
+  }
+
+  /** the document the transaction belongs to */
+  public final String key;
+  public final Transaction transaction;
+
+  private WriteAheadRecord(final String key, final Transaction transaction) {
+    this.key = key;
+    this.transaction = transaction;
+  }
+}
@@ -4,11 +4,14 @@
 package org.adamalang.runtime.natives.lists;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Random;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import org.adamalang.runtime.contracts.IndexedComparator;
 import org.adamalang.runtime.contracts.WhereClause;
 import org.adamalang.runtime.natives.NtList;
 import org.adamalang.runtime.natives.NtMap;
@@ -16,7 +19,13 @@ import org.adamalang.runtime.natives.NtMaybe;
 import org.adamalang.runtime.reactives.RxRecordBase;
 import org.adamalang.runtime.reactives.RxTable;
 
-/** adapts a table to a list; the birthplace for the query optimized stuff */
+/** adapts a table to a list; the birthplace for the query optimized stuff. The
+ * where, order by, and limit of a query are held (the generated code flags
+ * each stage which has another stage after it) until the query is used, such
+ * that a limit bounds the work: an unordered query stops scanning once it has
+ * enough rows, an ordered query selects the top rows with a heap rather than
+ * sorting every row, and an unfiltered query ordered by an indexed column walks
+ * that index only until it has enough rows. */
 public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList<Ty> {
   private static boolean crazyCandidate(final int[] clause, final int[] value, final int[] effectiveness) {
     var result = true;
@@ -37,12 +46,66 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
     return x;
   }
 
+  /** is the candidate at position a after the candidate at position b (ties are broken by position, as a stable sort would) */
+  private static <Ty> boolean ranksAfter(final ArrayList<Ty> candidates, final Comparator<Ty> cmp, final int a, final int b) {
+    final var delta = cmp.compare(candidates.get(a), candidates.get(b));
+    return delta > 0 || delta == 0 && a > b;
+  }
+
+  /** restore the heap property of the max-heap (of positions) from the given slot down */
+  private static <Ty> void siftDown(final ArrayList<Ty> candidates, final Comparator<Ty> cmp, final int[] heap, final int n, int at) {
+    while (true) {
+      final var left = 2 * at + 1;
+      if (left >= n) { return; }
+      var child = left;
+      if (left + 1 < n && ranksAfter(candidates, cmp, heap[left + 1], heap[left])) {
+        child = left + 1;
+      }
+      if (!ranksAfter(candidates, cmp, heap[child], heap[at])) { return; }
+      final var swap = heap[at];
+      heap[at] = heap[child];
+      heap[child] = swap;
+      at = child;
+    }
+  }
+
+  /** the first n of the candidates as they would be after a stable sort (in order); a max-heap holds the best n thus far, so this is O(N log n) rather than O(N log N) */
+  private static <Ty> ArrayList<Ty> top(final ArrayList<Ty> candidates, final Comparator<Ty> cmp, final int n) {
+    if (candidates.size() <= n) {
+      candidates.sort(cmp);
+      return candidates;
+    }
+    final var heap = new int[n];
+    for (var k = 0; k < n; k++) {
+      heap[k] = k;
+    }
+    for (var k = n / 2 - 1; k >= 0; k--) {
+      siftDown(candidates, cmp, heap, n, k);
+    }
+    for (var k = n; k < candidates.size(); k++) {
+      if (cmp.compare(candidates.get(k), candidates.get(heap[0])) < 0) {
+        heap[0] = k;
+        siftDown(candidates, cmp, heap, n, 0);
+      }
+    }
+    // back in the order they were found, such that the (stable) sort breaks ties the same way
+    Arrays.sort(heap);
+    final var result = new ArrayList<Ty>(n);
+    for (final int at : heap) {
+      result.add(candidates.get(at));
+    }
+    result.sort(cmp);
+    return result;
+  }
+
+  private Comparator<Ty> comparator;
   private WhereClause<Ty> filter;
   private ArrayList<Ty> finalized;
   private final RxTable<Ty> table;
 
   public SelectorRxObjectList(final RxTable<Ty> table) {
     this.table = table;
+    this.comparator = null;
     this.filter = null;
   }
 
@@ -57,50 +120,16 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
 
   private void ensureFinalized() {
     if (this.finalized == null) {
-      finalized = new ArrayList<>();
-      if (filter != null) {
-        if (table.document.__monitor != null && table.document.__monitor.shouldMeasureTableColumnIndexEffectiveness()) {
-          final var clause = filter.getIndices();
-          final var effectiveness = makeEffectiveness(clause);
-          var TOTAL = 0;
-          String[] columns = null;
-          for (final Ty item : table.scan(filter)) {
-            if (item.__isDying()) {
-              continue;
-            }
-            final var TEST = crazyCandidate(clause, item.__getIndexValues(), effectiveness);
-            if (columns == null) {
-              columns = item.__getIndexColumns();
-            }
-            TOTAL++;
-            if (TEST) {
-              if (filter.test(item)) {
-                finalized.add(item);
-              }
-            }
-          }
-          if (columns != null) {
-            for (var candidate = 0; candidate < effectiveness.length; candidate++) {
-              table.document.__monitor.registerTableColumnIndexEffectiveness(table.name, columns[clause[2 * candidate]], TOTAL, effectiveness[candidate]);
-            }
-          }
-        } else {
-          for (final Ty item : table.scan(filter)) {
-            if (item.__isDying()) {
-              continue;
-            }
-            if (filter.test(item)) {
-              finalized.add(item);
-            }
-          }
-        }
+      if (filter == null && comparator instanceof IndexedComparator) {
+        // walk the index such that the sort is over (nearly) sorted data
+        finalized = table.ordered(((IndexedComparator<Ty>) comparator).column(), ((IndexedComparator<Ty>) comparator).ascending());
       } else {
-        for (final Ty item : table) {
-          if (item.__isDying()) {
-            continue;
-          }
-          finalized.add(item);
-        }
+        final var rows = new ArrayList<Ty>();
+        select(rows::add);
+        finalized = rows;
+      }
+      if (comparator != null) {
+        finalized.sort(comparator);
       }
     }
   }
@@ -132,8 +161,17 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
 
   @Override
   public NtList<Ty> orderBy(final boolean done, final Comparator<Ty> cmp) {
+    if (finalized != null || comparator != null) {
+      ensureFinalized();
+      return new ArrayNtList<>(finalized).orderBy(done, cmp);
+    }
+    comparator = cmp;
+    if (!done) {
+      // a limit may follow, and then only the top rows need to be ordered
+      return this;
+    }
     ensureFinalized();
-    return new ArrayNtList<>(finalized).orderBy(true, cmp);
+    return new ArrayNtList<>(finalized);
   }
 
   @Override
@@ -142,6 +180,50 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
     return new ArrayNtList<>(finalized).reduce(domain, reducer);
   }
 
+  /** hand every live row which the filter accepts (in the order of the scan) to the sink until the sink has enough */
+  private void select(final Predicate<Ty> sink) {
+    if (filter == null) {
+      for (final Ty item : table) {
+        if (item.__isDying()) {
+          continue;
+        }
+        if (!sink.test(item)) { return; }
+      }
+      return;
+    }
+    if (table.document.__monitor != null && !table.document.__computingViewsInParallel() && table.document.__monitor.shouldMeasureTableColumnIndexEffectiveness()) {
+      final var clause = filter.getIndices();
+      final var effectiveness = makeEffectiveness(clause);
+      var TOTAL = 0;
+      String[] columns = null;
+      for (final Ty item : table.scan(filter)) {
+        if (item.__isDying()) {
+          continue;
+        }
+        final var TEST = crazyCandidate(clause, item.__getIndexValues(), effectiveness);
+        if (columns == null) {
+          columns = item.__getIndexColumns();
+        }
+        TOTAL++;
+        if (TEST && filter.test(item) && !sink.test(item)) {
+          break;
+        }
+      }
+      if (columns != null) {
+        for (var candidate = 0; candidate < effectiveness.length; candidate++) {
+          table.document.__monitor.registerTableColumnIndexEffectiveness(table.name, columns[clause[2 * candidate]], TOTAL, effectiveness[candidate]);
+        }
+      }
+    } else {
+      for (final Ty item : table.scan(filter)) {
+        if (item.__isDying()) {
+          continue;
+        }
+        if (filter.test(item) && !sink.test(item)) { return; }
+      }
+    }
+  }
+
   @Override
   public NtList<Ty> shuffle(final boolean done, final Random rng) {
     ensureFinalized();
@@ -157,8 +239,30 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
 
   @Override
   public NtList<Ty> skipAndLimit(final boolean done, final int skip, final int limit) {
-    ensureFinalized();
-    return new ArrayNtList<>(finalized).skipAndLimit(true, skip, limit);
+    if (finalized != null || limit < 0) {
+      ensureFinalized();
+      return new ArrayNtList<>(finalized).skipAndLimit(done, skip, limit);
+    }
+    final var n = (int) Math.min(Integer.MAX_VALUE, (long) Math.max(skip, 0) + limit);
+    final ArrayList<Ty> rows;
+    if (n > 0 && filter == null && comparator instanceof IndexedComparator) {
+      // walk the index and stop once it has enough; only the ties of the last bucket and the rows in flux are extra
+      rows = table.ordered(((IndexedComparator<Ty>) comparator).column(), ((IndexedComparator<Ty>) comparator).ascending(), n);
+    } else {
+      rows = new ArrayList<>();
+      if (n > 0) {
+        if (comparator == null) {
+          select(item -> {
+            rows.add(item);
+            return rows.size() < n;
+          });
+        } else {
+          select(rows::add);
+        }
+      }
+    }
+    final var window = comparator == null ? rows : top(rows, comparator, n);
+    return new ArrayNtList<>(new ArrayList<>(window.subList(Math.min(Math.max(skip, 0), window.size()), window.size())));
   }
 
   @Override
@@ -175,6 +279,10 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
 
   @Override
   public NtList<Ty> where(final boolean done, final WhereClause<Ty> filter) {
+    if (finalized != null || this.filter != null || comparator != null) {
+      ensureFinalized();
+      return new ArrayNtList<>(finalized).where(done, filter);
+    }
     if (filter.getPrimaryKey() != null) {
       final var primary = table.getById(filter.getPrimaryKey());
       if (primary != null) {
@@ -186,6 +294,10 @@ public class SelectorRxObjectList<Ty extends RxRecordBase<Ty>> implements NtList
       }
     }
     this.filter = filter;
+    if (!done) {
+      // the stages which follow (i.e. order by, limit) are planned along with the filter
+      return this;
+    }
     ensureFinalized();
     return new ArrayNtList<>(finalized);
   }
@@ -4,12 +4,14 @@
 package org.adamalang.runtime.reactives;
 
 import org.adamalang.runtime.contracts.CanGetAndSet;
+import org.adamalang.runtime.contracts.Indexable;
 import org.adamalang.runtime.contracts.RxParent;
+import org.adamalang.runtime.index.IndexValue;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
 
 /** a reactive boolean */
-public class RxBoolean extends RxBase implements Comparable<RxBoolean>, CanGetAndSet<Boolean> {
+public class RxBoolean extends RxBase implements Comparable<RxBoolean>, CanGetAndSet<Boolean>, Indexable {
   private boolean backup;
   private boolean value;
 
@@ -58,6 +60,11 @@ public class RxBoolean extends RxBase implements Comparable<RxBoolean>, CanGetAn
     return value;
   }
 
+  @Override
+  public int getIndexValue() {
+    return IndexValue.ofBoolean(value);
+  }
+
   @Override
   public void set(final Boolean value) {
     if (this.value != value) {
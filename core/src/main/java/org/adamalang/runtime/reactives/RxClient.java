@@ -6,6 +6,7 @@ package org.adamalang.runtime.reactives;
 import org.adamalang.runtime.contracts.CanGetAndSet;
 import org.adamalang.runtime.contracts.Indexable;
 import org.adamalang.runtime.contracts.RxParent;
+import org.adamalang.runtime.index.IndexValue;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
 import org.adamalang.runtime.natives.NtClient;
@@ -62,7 +63,7 @@ public class RxClient extends RxBase implements Comparable<RxClient>, CanGetAndS
 
   @Override
   public int getIndexValue() {
-    return value.hashCode();
+    return IndexValue.ofClient(value);
   }
 
   @Override
@@ -6,6 +6,7 @@ package org.adamalang.runtime.reactives;
 import org.adamalang.runtime.contracts.CanGetAndSet;
 import org.adamalang.runtime.contracts.Indexable;
 import org.adamalang.runtime.contracts.RxParent;
+import org.adamalang.runtime.index.IndexValue;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
 
@@ -86,7 +87,7 @@ public class RxInt64 extends RxBase implements Comparable<RxInt64>, CanGetAndSet
 
   @Override
   public int getIndexValue() {
-    return (int) value;
+    return IndexValue.ofLong(value);
   }
 
   public long opAddTo(final long incoming) {
@@ -3,6 +3,7 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.reactives;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.adamalang.runtime.contracts.RxChild;
 import org.adamalang.runtime.contracts.RxParent;
@@ -11,6 +12,19 @@ import org.adamalang.runtime.json.JsonStreamWriter;
 
 /** a reactive lazy formula which is computed on demand */
 public class RxLazy<Ty> extends RxBase implements RxChild {
+  /** how many documents are computing their views in parallel right now (see
+   * LivingDocument.__parallelViews); a lazy only locks while there are any, so
+   * the serial path never pays for a monitor */
+  private static final AtomicInteger PARALLEL_READERS = new AtomicInteger(0);
+
+  public static void beginParallelReads() {
+    PARALLEL_READERS.incrementAndGet();
+  }
+
+  public static void endParallelReads() {
+    PARALLEL_READERS.decrementAndGet();
+  }
+
   private Ty cached;
   private final Supplier<Ty> formula;
   private int generation;
@@ -64,11 +78,23 @@ public class RxLazy<Ty> extends RxBase implements RxChild {
   }
 
   public Ty get() {
+    if (PARALLEL_READERS.get() > 0) {
+      synchronized (this) {
+        ensureCacheValid();
+        return cached;
+      }
+    }
     ensureCacheValid();
     return cached;
   }
 
   public int getGeneration() {
+    if (PARALLEL_READERS.get() > 0) {
+      synchronized (this) {
+        ensureCacheValid();
+        return generation;
+      }
+    }
     ensureCacheValid();
     return generation;
   }
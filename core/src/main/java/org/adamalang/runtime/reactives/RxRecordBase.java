@@ -10,15 +10,23 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 /** the base object for generated record types */
 public abstract class RxRecordBase<Ty extends RxRecordBase> extends RxBase implements Comparable<Ty>, RxParent, RxChild {
   private boolean __alive;
+  private int __generation;
   protected boolean __isDying;
   private ObjectNode cachedObjectNode;
 
   public RxRecordBase(final RxParent __owner) {
     super(__owner);
     this.__alive = true;
+    this.__generation = 0;
     this.__isDying = false;
   }
 
+  /** code generated: the data was changed without the record being dirtied (i.e.
+   * via __insert) */
+  protected void __bumpGeneration() {
+    __generation++;
+  }
+
   public abstract void __deindex();
 
   public void __delete() {
@@ -26,6 +34,13 @@ public abstract class RxRecordBase<Ty extends RxRecordBase> extends RxBase imple
     __raiseDirty();
   }
 
+  /** the generation of the record changes whenever the record (or anything
+   * within it) changes, such that a view can skip a record which it has already
+   * shown when the generation is the same */
+  public int __getGeneration() {
+    return __generation;
+  }
+
   public abstract String[] __getIndexColumns();
   public abstract int[] __getIndexValues();
   public abstract int __id();
@@ -39,10 +54,17 @@ public abstract class RxRecordBase<Ty extends RxRecordBase> extends RxBase imple
     __alive = false;
   }
 
+  @Override
+  public void __lowerDirtyRevert() {
+    __generation++;
+    super.__lowerDirtyRevert();
+  }
+
   public abstract String __name();
 
   @Override
   public void __raiseDirty() {
+    __generation++;
     cachedObjectNode = null;
     super.__raiseDirty();
   }
@@ -4,12 +4,14 @@
 package org.adamalang.runtime.reactives;
 
 import org.adamalang.runtime.contracts.CanGetAndSet;
+import org.adamalang.runtime.contracts.Indexable;
 import org.adamalang.runtime.contracts.RxParent;
+import org.adamalang.runtime.index.IndexValue;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
 
 /** a reactive string */
-public class RxString extends RxBase implements Comparable<RxString>, CanGetAndSet<String> {
+public class RxString extends RxBase implements Comparable<RxString>, CanGetAndSet<String>, Indexable {
   protected String backup;
   protected String value;
 
@@ -58,6 +60,11 @@ public class RxString extends RxBase implements Comparable<RxString>, CanGetAndS
     return value;
   }
 
+  @Override
+  public int getIndexValue() {
+    return IndexValue.ofString(value);
+  }
+
   public boolean has() {
     return !value.isEmpty();
   }
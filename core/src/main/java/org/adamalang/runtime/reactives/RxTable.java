@@ -4,16 +4,20 @@
 package org.adamalang.runtime.reactives;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
 import java.util.TreeSet;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import org.adamalang.runtime.LivingDocument;
+import org.adamalang.runtime.contracts.IndexQuerySet;
 import org.adamalang.runtime.contracts.RxChild;
 import org.adamalang.runtime.contracts.RxParent;
 import org.adamalang.runtime.contracts.WhereClause;
+import org.adamalang.runtime.index.IntBitmap;
 import org.adamalang.runtime.index.ReactiveIndex;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
@@ -22,6 +26,60 @@ import org.adamalang.runtime.natives.lists.SelectorRxObjectList;
 
 /** a reactive table */
 public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iterable<Ty>, RxParent, RxChild {
+  /** walks the rows of the ids along with the rows in flux, both in id order, without building a set */
+  private class ScanIterator implements Iterator<Ty> {
+    private Ty fromIds;
+    private Ty fromUnknowns;
+    private final PrimitiveIterator.OfInt ids;
+    private final Iterator<Ty> unknownsIt;
+
+    private ScanIterator(final PrimitiveIterator.OfInt ids, final Iterator<Ty> unknownsIt) {
+      this.ids = ids;
+      this.unknownsIt = unknownsIt;
+      advanceIds();
+      advanceUnknowns();
+    }
+
+    private void advanceIds() {
+      fromIds = null;
+      while (fromIds == null && ids.hasNext()) {
+        fromIds = itemsByKey.get(ids.nextInt());
+      }
+    }
+
+    private void advanceUnknowns() {
+      fromUnknowns = unknownsIt.hasNext() ? unknownsIt.next() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return fromIds != null || fromUnknowns != null;
+    }
+
+    @Override
+    public Ty next() {
+      final Ty result;
+      if (fromUnknowns == null || fromIds != null && fromIds.__id() < fromUnknowns.__id()) {
+        result = fromIds;
+        advanceIds();
+      } else if (fromIds == null || fromUnknowns.__id() < fromIds.__id()) {
+        result = fromUnknowns;
+        advanceUnknowns();
+      } else {
+        result = fromIds;
+        advanceIds();
+        advanceUnknowns();
+      }
+      if (result == null) { throw new NoSuchElementException(); }
+      return result;
+    }
+  }
+
+  /** an index lacking the value has no rows for it */
+  private static IntBitmap orEmpty(final IntBitmap ids) {
+    return ids != null ? ids : new IntBitmap();
+  }
+
   private int autoKey;
   private int autoKeyBackup;
   private final LinkedHashMap<Integer, Ty> createdObjects;
@@ -74,6 +132,7 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
             writer.writeNull();
           }
           row.__kill();
+          row.__deindex();
           keysToKill.add(key);
         } else if (row.__isDirty()) {
           row.__commit(key + "", writer);
@@ -124,9 +183,8 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
           case "rows":
             if (reader.startObject()) {
               while (reader.notEndOfObject()) {
-                final var f2 = reader.fieldName();
+                final var key = reader.fieldNameAsInteger();
                 if (reader.testLackOfNull()) {
-                  final var key = Integer.parseInt(f2);
                   final var tyPrior = itemsByKey.get(key);
                   if (tyPrior == null) {
                     final var tyObj = maker.apply(this);
@@ -146,7 +204,6 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
                     }
                   }
                 } else {
-                  final var key = Integer.parseInt(f2);
                   final var tyObject = itemsByKey.remove(key);
                   if (tyObject != null) {
                     tyObject.__delete();
@@ -224,34 +281,62 @@ public class RxTable<Ty extends RxRecordBase<Ty>> extends RxBase implements Iter
     return result;
   }
 
+  /** every live row in the order of the given index (rows with equal values are in id order); rows whose value is in flux come last, so the caller must still sort */
+  public ArrayList<Ty> ordered(final int column, final boolean ascending) {
+    return ordered(column, ascending, Integer.MAX_VALUE);
+  }
+
+  /** as above, but the walk of the index stops at the end of the bucket where it has at least the given number of live rows; those rows (and the rows in flux) are a superset of the first rows of the order */
+  public ArrayList<Ty> ordered(final int column, final boolean ascending, final int atLeast) {
+    final var result = new ArrayList<Ty>(Math.min(itemsByKey.size(), atLeast));
+    for (final IntBitmap bucket : indices[column].ordered(ascending)) {
+      if (result.size() >= atLeast) {
+        break;
+      }
+      final var it = bucket.iterator();
+      while (it.hasNext()) {
+        final var item = itemsByKey.get(it.nextInt());
+        if (item != null && !item.__isDying() && !unknowns.contains(item)) {
+          result.add(item);
+        }
+      }
+    }
+    for (final Ty item : unknowns) {
+      if (!item.__isDying()) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  /** the rows which the filter may accept; the index lookups are intersected smallest first (as the size of each is known exactly) such that each intersection is bound by the smallest, and an empty lookup ends it. The ids and the rows in flux are copied (as an intersection is already a copy, only a lone lookup is) such that the caller may change indexed fields while walking the rows */
   public Iterable<Ty> scan(final WhereClause<Ty> filter) {
     if (filter == null) { return this; }
-    final var prior = new AtomicReference<TreeSet<Ty>>(null);
-    filter.scopeByIndicies((column, value) -> {
-      final var specific = indices[column].of(value);
-      if (specific == null) { // no index available
-        prior.set(new TreeSet<>());
-        return;
+    final var sets = new ArrayList<IntBitmap>();
+    filter.scopeByIndicies(new IndexQuerySet() {
+      @Override
+      public void intersect(final int column, final int value) {
+        sets.add(orEmpty(indices[column].of(value)));
       }
-      if (prior.get() == null) {
-        // just use the index
-        prior.set(specific);
-      } else {
-        final var common = new TreeSet<Ty>();
-        if (specific != null) {
-          for (final Ty item : specific) {
-            if (prior.get().contains(item)) {
-              common.add(item);
-            }
-          }
-        }
-        prior.set(common);
+
+      @Override
+      public void intersect(final int column, final int value, final LookupMode mode) {
+        sets.add(orEmpty(indices[column].of(value, mode)));
       }
     });
-    if (prior.get() == null) { return this; }
-    final var clone = new TreeSet<>(prior.get());
-    clone.addAll(unknowns);
-    return clone;
+    if (sets.isEmpty()) { return this; }
+    sets.sort(Comparator.comparingInt(IntBitmap::size));
+    var ids = sets.get(0);
+    if (sets.size() == 1) {
+      ids = new IntBitmap();
+      ids.addAll(sets.get(0));
+    }
+    for (var k = 1; k < sets.size() && !ids.isEmpty(); k++) {
+      ids = IntBitmap.and(ids, sets.get(k));
+    }
+    final var result = ids;
+    final var inFlux = new ArrayList<>(unknowns);
+    return () -> new ScanIterator(result.iterator(), inFlux.iterator());
   }
 
   public int size() {
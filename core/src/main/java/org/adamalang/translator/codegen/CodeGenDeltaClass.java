@@ -4,9 +4,12 @@
 package org.adamalang.translator.codegen;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import org.adamalang.translator.env.Environment;
 import org.adamalang.translator.tree.common.StringBuilderWithTabs;
 import org.adamalang.translator.tree.privacy.PrivatePolicy;
+import org.adamalang.translator.tree.privacy.PublicPolicy;
+import org.adamalang.translator.tree.privacy.ViewerIsPolicy;
 import org.adamalang.translator.tree.types.TySimpleNative;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.natives.TyNativeArray;
@@ -30,8 +33,44 @@ public class CodeGenDeltaClass {
     return true;
   }
 
-  private static void writeCommonConstructor(final ArrayList<FieldDefinition> fds, final ArrayList<FieldDefinition> bubbles, final StringBuilderWithTabs sb, final Environment environment, final String className) {
+  /** can the delta skip the record when it has the same generation as the last
+   * time it was shown; this requires everything shown to be a function of the
+   * record's data and the viewer, so formulas, bubbles, and custom policies rule
+   * it out (as they may read beyond the record) */
+  private static boolean canSkipUnchangedRecord(final StructureStorage storage, final Environment environment, final HashSet<StructureStorage> visiting) {
+    if (storage.bubbles.size() > 0) { return false; }
+    if (!visiting.add(storage)) { return true; }
+    for (final FieldDefinition fd : storage.fieldsByOrder) {
+      if (!canFieldBeSeenAtSomePoint(fd)) {
+        continue;
+      }
+      if (fd.type instanceof TyReactiveLazy || !(fd.policy instanceof PublicPolicy || fd.policy instanceof ViewerIsPolicy)) { return false; }
+      var fieldType = environment.rules.Resolve(fd.type, false);
+      if (fieldType instanceof DetailComputeRequiresGet) {
+        fieldType = ((DetailComputeRequiresGet) fieldType).typeAfterGet(environment);
+      }
+      if (!canSkipUnchangedType(fieldType, environment, visiting)) { return false; }
+    }
+    return true;
+  }
+
+  private static boolean canSkipUnchangedType(final TyType type, final Environment environment, final HashSet<StructureStorage> visiting) {
+    if (type instanceof TySimpleNative) { return true; }
+    if (type instanceof TyReactiveRecord) { return canSkipUnchangedRecord(((TyReactiveRecord) type).storage, environment, visiting); }
+    if (type instanceof TyNativeMaybe) { return canSkipUnchangedType(environment.rules.Resolve(((TyNativeMaybe) type).getEmbeddedType(environment), false), environment, visiting); }
+    return false;
+  }
+
+  /** plan the field with its intro (i.e. "name":) encoded now rather than per viewer per commit */
+  private static String planEncodedField(final String name) {
+    return "__obj.planEncodedField(\"\\\"" + name + "\\\":\")";
+  }
+
+  private static void writeCommonConstructor(final ArrayList<FieldDefinition> fds, final ArrayList<FieldDefinition> bubbles, final StringBuilderWithTabs sb, final Environment environment, final String className, final boolean skipUnchanged) {
     sb.append("private boolean __emitted;").writeNewline();
+    if (skipUnchanged) {
+      sb.append("private int __seen;").writeNewline();
+    }
     sb.append("private Delta").append(className).append("() {").tabUp().writeNewline();
     for (final FieldDefinition fd : fds) {
       if (fd.type instanceof TyReactiveLazy) {
@@ -55,16 +94,27 @@ public class CodeGenDeltaClass {
       sb.append("__d").append(fd.name).append(" = new ").append(deltaType).append("();");
       sb.writeNewline();
     }
+    if (skipUnchanged) {
+      sb.append("__seen = -1;").writeNewline();
+    }
     sb.append("__emitted = false;").tabDown().writeNewline();
     sb.append("}").writeNewline();
   }
 
-  private static void writeCommonTrailer(final StringBuilderWithTabs sb) {
+  private static void writeCommonTrailer(final StringBuilderWithTabs sb, final boolean skipUnchanged) {
     sb.append("if (__obj.end()) {").tabUp().writeNewline();
     sb.append("__emitted = true;").tabDown().writeNewline();
-    sb.append("}").tabDown().writeNewline();
+    sb.append("}");
+    if (skipUnchanged) {
+      sb.writeNewline();
+      sb.append("__seen = __item.__getGeneration();");
+    }
+    sb.tabDown().writeNewline();
     sb.append("}").writeNewline();
     sb.append("public void hide(PrivateLazyDeltaWriter __writer) {").tabUp().writeNewline();
+    if (skipUnchanged) {
+      sb.append("__seen = -1;").writeNewline();
+    }
     sb.append("if (__emitted) {").tabUp().writeNewline();
     sb.append("__emitted = false;").writeNewline();
     sb.append("__writer.writeNull();").tabDown().writeNewline();
@@ -80,18 +130,18 @@ public class CodeGenDeltaClass {
       final var deltaType = ((DetailHasDeltaType) fieldType).getDeltaType(environment);
       sb.append("private ").append(deltaType).append(" __d").append(fd.name).append(";").writeNewline();
     }
-    writeCommonConstructor(storage.fieldsByOrder, new ArrayList<>(), sb, environment, className);
+    writeCommonConstructor(storage.fieldsByOrder, new ArrayList<>(), sb, environment, className, false);
     sb.append("public void show(").append(className).append(" __item, PrivateLazyDeltaWriter __writer) {").tabUp().writeNewline();
     final var cost = storage.fieldsByOrder.size();
     if (cost > 0 && !environment.state.hasNoCost()) {
-      sb.append("__code_cost += ").append("" + cost).append(";").writeNewline();
+      sb.append("__cost(").append("" + cost).append(");").writeNewline();
     }
     sb.append("PrivateLazyDeltaWriter __obj = __writer.planObject();").writeNewline();
     for (final FieldDefinition fd : storage.fieldsByOrder) {
       final var fieldType = environment.rules.Resolve(fd.type, false);
-      writeShowData(sb, "__d" + fd.name, "__item." + fd.name, fieldType, "__obj.planField(\"" + fd.name + "\")", environment, false);
+      writeShowData(sb, "__d" + fd.name, "__item." + fd.name, fieldType, planEncodedField(fd.name), environment, false);
     }
-    writeCommonTrailer(sb);
+    writeCommonTrailer(sb, false);
   }
 
   public static void writeRecordDeltaClass(final StructureStorage storage, final StringBuilderWithTabs sb, final Environment environment, final String className, final boolean forceManifest) {
@@ -117,11 +167,18 @@ public class CodeGenDeltaClass {
       sb.append("private ").append(((DetailHasDeltaType) bubbleType).getDeltaType(environment)).append(" __d").append(bd.nameToken.text).append(";").writeNewline();
       bubbles.add(FieldDefinition.invent(bd.expressionType, bd.nameToken.text));
     }
-    writeCommonConstructor(fds, bubbles, sb, environment, className);
+    // the root document is always walked, while an unchanged record can be skipped if nothing it shows can change without it
+    final var skipUnchanged = !forceManifest && canSkipUnchangedRecord(storage, environment, new HashSet<>());
+    writeCommonConstructor(fds, bubbles, sb, environment, className, skipUnchanged);
     sb.append("public void show(").append(className).append(" __item, PrivateLazyDeltaWriter __writer) {").tabUp().writeNewline();
+    if (skipUnchanged) {
+      sb.append("if (__seen == __item.__getGeneration()) {").tabUp().writeNewline();
+      sb.append("return;").tabDown().writeNewline();
+      sb.append("}").writeNewline();
+    }
     final var cost = fds.size() + storage.bubbles.size();
     if (cost > 0 && !environment.state.hasNoCost()) {
-      sb.append("__code_cost += ").append("" + cost).append(";").writeNewline();
+      sb.append("__cost(").append("" + cost).append(");").writeNewline();
     }
     sb.append("PrivateLazyDeltaWriter __obj = __writer.planObject();").writeNewline();
     if (forceManifest) {
@@ -140,7 +197,7 @@ public class CodeGenDeltaClass {
         if (isLazy) {
           sb.append("if (__g").append(fd.name).append(" != __item.").append(fd.name).append(".getGeneration()) {").tabUp().writeNewline();
         }
-        writeShowData(sb, "__d" + fd.name, "__item." + fd.name + (addGet ? ".get()" : ""), fieldType, "__obj.planField(\"" + fd.name + "\")", environment, false);
+        writeShowData(sb, "__d" + fd.name, "__item." + fd.name + (addGet ? ".get()" : ""), fieldType, planEncodedField(fd.name), environment, false);
         if (isLazy) {
           sb.append("__g").append(fd.name).append(" = __item.").append(fd.name).append(".getGeneration();").tabDown().writeNewline();
           sb.append("}").writeNewline();
@@ -151,7 +208,7 @@ public class CodeGenDeltaClass {
           if (isLazy) {
             sb.append("__g").append(fd.name).append(" = -1;").writeNewline();
           }
-          sb.append("__d").append(fd.name).append(".hide(__obj.planField(\"").append(fd.name).append("\"));").tabDown().writeNewline();
+          sb.append("__d").append(fd.name).append(".hide(").append(planEncodedField(fd.name)).append(");").tabDown().writeNewline();
           sb.append("}").writeNewline();
         }
       }
@@ -160,11 +217,11 @@ public class CodeGenDeltaClass {
       sb.append("if (__g").append(bd.nameToken.text).append(" != __item.___").append(bd.nameToken.text).append(".getGeneration()) {").tabUp().writeNewline();
       final var bubbleType = environment.rules.Resolve(bd.expressionType, false);
       sb.append(bubbleType.getJavaBoxType(environment)).append(" __local_").append(bd.nameToken.text).append(" = __item.__COMPUTE_").append(bd.nameToken.text).append("(__writer.who);").writeNewline();
-      writeShowData(sb, "__d" + bd.nameToken.text, "__local_" + bd.nameToken.text, bubbleType, "__obj.planField(\"" + bd.nameToken.text + "\")", environment, false);
+      writeShowData(sb, "__d" + bd.nameToken.text, "__local_" + bd.nameToken.text, bubbleType, planEncodedField(bd.nameToken.text), environment, false);
       sb.append("__g").append(bd.nameToken.text).append(" = __item.___").append(bd.nameToken.text).append(".getGeneration();").tabDown().writeNewline();
       sb.append("}").writeNewline();
     }
-    writeCommonTrailer(sb);
+    writeCommonTrailer(sb, skipUnchanged);
   }
 
   private static void writeShowData(final StringBuilderWithTabs sb, final String deltaObject, final String sourceData, final TyType sourceType, final String targetObjectWriter, final Environment environment, final boolean tabDown) {
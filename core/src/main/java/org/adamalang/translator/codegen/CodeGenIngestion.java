@@ -26,7 +26,7 @@ public class CodeGenIngestion {
       environment.define(assignVar, assignType, false, DocumentPosition.ZERO);
       environment.define(elementVar, elementType, false, DocumentPosition.ZERO);
       if (!environment.state.hasNoCost()) {
-        sb.append("__code_cost += ").append(Integer.toString(((IsStructure) elementType).storage().fields.size())).append(";").writeNewline();
+        sb.append("__cost(").append(Integer.toString(((IsStructure) elementType).storage().fields.size())).append(");").writeNewline();
       }
       for (final Map.Entry<String, FieldDefinition> entryType : ((IsStructure) elementType).storage().fields.entrySet()) {
         final var fd = ((IsStructure) assignType).storage().fields.get(entryType.getKey());
@@ -81,9 +81,9 @@ public class CodeGenMessage {
       sb.append("if (__reader.startObject()) {").tabUp().writeNewline(); // UP
       sb.append("while (__reader.notEndOfObject()) {").tabUp().writeNewline(); // UP
       if (domainType instanceof TyNativeInteger) {
-        sb.append("int ").append(keyValueRaw).append(" = Integer.parseInt(__reader.fieldName());").writeNewline();
+        sb.append("int ").append(keyValueRaw).append(" = __reader.fieldNameAsInteger();").writeNewline();
       } else if (domainType instanceof TyNativeLong) {
-        sb.append("long ").append(keyValueRaw).append(" = Long.parseLong(__reader.fieldName());").writeNewline();
+        sb.append("long ").append(keyValueRaw).append(" = __reader.fieldNameAsLong();").writeNewline();
       } else if (domainType instanceof TyNativeString) {
         sb.append("String ").append(keyValueRaw).append(" = __reader.fieldName();").writeNewline();
       }
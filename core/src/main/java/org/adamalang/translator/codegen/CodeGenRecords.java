@@ -3,7 +3,10 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.translator.codegen;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import org.adamalang.translator.env.ComputeContext;
 import org.adamalang.translator.env.Environment;
 import org.adamalang.translator.tree.common.StringBuilderWithTabs;
@@ -12,9 +15,6 @@ import org.adamalang.translator.tree.types.TySimpleReactive;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeBoolean;
-import org.adamalang.translator.tree.types.reactive.TyReactiveClient;
-import org.adamalang.translator.tree.types.reactive.TyReactiveEnum;
-import org.adamalang.translator.tree.types.reactive.TyReactiveInteger;
 import org.adamalang.translator.tree.types.reactive.TyReactiveLazy;
 import org.adamalang.translator.tree.types.reactive.TyReactiveMaybe;
 import org.adamalang.translator.tree.types.reactive.TyReactiveRecord;
@@ -24,6 +24,7 @@ import org.adamalang.translator.tree.types.structures.BubbleDefinition;
 import org.adamalang.translator.tree.types.structures.DefineMethod;
 import org.adamalang.translator.tree.types.structures.FieldDefinition;
 import org.adamalang.translator.tree.types.structures.StructureStorage;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsReactiveValue;
 import org.adamalang.translator.tree.types.traits.details.DetailContainsAnEmbeddedType;
 import org.adamalang.translator.tree.types.traits.details.DetailInventDefaultValueExpression;
@@ -176,7 +177,7 @@ public class CodeGenRecords {
         continue;
       }
       final var fieldType = environment.rules.Resolve(entry.getValue().type, false);
-      if (fieldType instanceof TyReactiveInteger || fieldType instanceof TyReactiveEnum || fieldType instanceof TyReactiveClient) {
+      if (fieldType instanceof CanBeIndexed) {
         if (first) {
           first = false;
         } else {
@@ -199,7 +200,7 @@ public class CodeGenRecords {
         continue;
       }
       final var fieldType = environment.rules.Resolve(entry.getValue().type, false);
-      if (fieldType instanceof TyReactiveInteger || fieldType instanceof TyReactiveEnum || fieldType instanceof TyReactiveClient) {
+      if (fieldType instanceof CanBeIndexed) {
         if (first) {
           first = false;
         } else {
@@ -213,37 +214,54 @@ public class CodeGenRecords {
   }
 
   public static void writeInsert(final StructureStorage storage, final StringBuilderWithTabs sb, final Environment environment, final boolean isRoot, final String... others) {
-    sb.append("@Override").writeNewline();
-    sb.append("public void __insert(JsonStreamReader __reader) {").tabUp().writeNewline();
-    sb.append("if (__reader.startObject()) {").tabUp().writeNewline();
-    sb.append("while(__reader.notEndOfObject()) {").tabUp().writeNewline();
-    sb.append("String __fieldName = __reader.fieldName();").writeNewline();
-    sb.append("switch (__fieldName) {").tabUp().writeNewline();
+    // field name to the code which ingests it; the dispatch is on the hash of the field name (which the reader computes while scanning) and then confirmed against the text
+    final var ingest = new LinkedHashMap<String, String>();
     for (final FieldDefinition fdInOrder : storage.fieldsByOrder) {
-      final var fieldName = fdInOrder.name;
       final var fieldType = environment.rules.Resolve(fdInOrder.type, false);
       if (isCommitRevertable(fieldType)) {
-        sb.append("case \"").append(fieldName).append("\":").tabUp().writeNewline();
-        sb.append(fieldName).append(".__insert(__reader);").writeNewline();
-        sb.append("break;").tabDown().writeNewline();
+        ingest.put(fdInOrder.name, fdInOrder.name + ".__insert(__reader);");
       }
     }
     for (final String other : others) {
-      sb.append("case \"").append(other).append("\":").tabUp().writeNewline();
-      sb.append(other).append(".__insert(__reader);").writeNewline();
-      sb.append("break;").tabDown().writeNewline();
+      ingest.put(other, other + ".__insert(__reader);");
     }
     if (isRoot) {
-      sb.append("case \"__clients\":").tabUp().writeNewline();
-      sb.append("__hydrateClients(__reader);").writeNewline();
-      sb.append("break;").tabDown().writeNewline();
-      sb.append("case \"__messages\":").tabUp().writeNewline();
-      sb.append("__hydrateMessages(__reader);").writeNewline();
-      sb.append("break;").tabDown().writeNewline();
+      ingest.put("__clients", "__hydrateClients(__reader);");
+      ingest.put("__messages", "__hydrateMessages(__reader);");
     }
-    sb.append("default:").tabUp().writeNewline();
-    sb.append("__reader.skipValue();").tabDown().tabDown().writeNewline();
-    sb.append("}").tabDown().writeNewline();
+    final var byHash = new TreeMap<Integer, ArrayList<String>>();
+    for (final String fieldName : ingest.keySet()) {
+      byHash.computeIfAbsent(fieldName.hashCode(), h -> new ArrayList<>()).add(fieldName);
+    }
+    sb.append("@Override").writeNewline();
+    sb.append("public void __insert(JsonStreamReader __reader) {").tabUp().writeNewline();
+    if (!isRoot) {
+      sb.append("__bumpGeneration();").writeNewline();
+    }
+    sb.append("if (__reader.startObject()) {").tabUp().writeNewline();
+    sb.append("while(__reader.notEndOfObject()) {").tabUp().writeNewline();
+    if (byHash.size() > 0) {
+      sb.append("switch (__reader.fieldNameHash()) {").tabUp().writeNewline();
+      final var it = byHash.entrySet().iterator();
+      while (it.hasNext()) {
+        final var entry = it.next();
+        sb.append("case ").append("" + entry.getKey()).append(":").tabUp().writeNewline();
+        for (final String fieldName : entry.getValue()) {
+          sb.append("if (__reader.matchFieldName(\"").append(fieldName).append("\")) {").tabUp().writeNewline();
+          sb.append(ingest.get(fieldName)).writeNewline();
+          sb.append("continue;").tabDown().writeNewline();
+          sb.append("}").writeNewline();
+        }
+        sb.append("break;").tabDown();
+        if (!it.hasNext()) {
+          sb.tabDown();
+        }
+        sb.writeNewline();
+      }
+      sb.append("}").writeNewline();
+    }
+    sb.append("__reader.fieldName();").writeNewline();
+    sb.append("__reader.skipValue();").tabDown().writeNewline();
     sb.append("}").tabDown().writeNewline();
     sb.append("}").tabDown().writeNewline();
     sb.append("}").writeNewline();
@@ -643,9 +643,26 @@ public class Parser {
   }
 
   public IndexDefinition define_indexing(final Token indexToken) throws AdamaLangException {
-    final var name = id();
+    final var open = tokens.popIf(t -> t.isSymbolWithTextEq("("));
+    final var columns = new ArrayList<TokenizedItem<Token>>();
+    var column = new TokenizedItem<>(id());
+    columns.add(column);
+    if (open != null) {
+      column.before(open);
+      while (true) {
+        final var comma = consumeExpectedSymbol(",", ")");
+        if (comma.isSymbolWithTextEq(",")) {
+          column = new TokenizedItem<>(id());
+          column.before(comma);
+          columns.add(column);
+        } else {
+          column.after(comma);
+          break;
+        }
+      }
+    }
     final var semicolon = consumeExpectedSymbol(";");
-    return new IndexDefinition(indexToken, name, semicolon);
+    return new IndexDefinition(indexToken, columns.toArray(new TokenizedItem[columns.size()]), semicolon);
   }
 
   public Consumer<TopLevelDocumentHandler> define_message_trailer(final Token messageToken) throws AdamaLangException {
@@ -14,6 +14,8 @@ import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.checking.ruleset.RuleSetCommon;
 import org.adamalang.translator.tree.types.natives.TyNativeMaybe;
 import org.adamalang.translator.tree.types.natives.TyNativeRef;
+import org.adamalang.translator.tree.types.reactive.TyReactiveEnum;
+import org.adamalang.translator.tree.types.reactive.TyReactiveInteger;
 import org.adamalang.translator.tree.types.reactive.TyReactiveLazy;
 import org.adamalang.translator.tree.types.reactive.TyReactiveMaybe;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
@@ -25,6 +27,8 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
   private String comparatorName;
   private final ArrayList<String> compareLines;
   private IsStructure elementType;
+  /** the index (within the table) of the leading key if it is indexed and ordered as the index is; otherwise, -1 */
+  private int indexColumn;
   public final ArrayList<OrderPair> keys;
   public final Token orderToken;
 
@@ -40,6 +44,7 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
     }
     elementType = null;
     compareLines = new ArrayList<>();
+    indexColumn = -1;
   }
 
   @Override
@@ -54,6 +59,21 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
     }
   }
 
+  /** the leading key can be served by an index if it is an integer (or enum) which the record indexes */
+  private int findIndexColumn(final Environment environment) {
+    if (keys.size() == 0) { return -1; }
+    final var leading = keys.get(0).name;
+    final var fd = elementType.storage().fields.get(leading);
+    if (fd == null) { return -1; }
+    final var fieldType = RuleSetCommon.Resolve(environment, fd.type, false);
+    if (!(fieldType instanceof TyReactiveInteger || fieldType instanceof TyReactiveEnum)) { return -1; }
+    final var indices = elementType.storage().indices;
+    for (var k = 0; k < indices.size(); k++) {
+      if (!indices.get(k).isComposite() && indices.get(k).name.equals(leading)) { return k; }
+    }
+    return -1;
+  }
+
   @Override
   protected TyType typingInternal(final Environment environment, final TyType suggestion) {
     final var typeSql = sql.typing(environment, null /* no suggestion makes sense */);
@@ -113,6 +133,7 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
         compareLines.add(cmpLine.toString());
       }
     }
+    indexColumn = findIndexColumn(environment);
     comparatorName = comparatorNameBuilder.toString();
     sb.append(".orderBy(").append(intermediateExpression ? "false, " : "true, ").append(comparatorName).append(")");
     environment.document.add(comparatorName, this);
@@ -121,7 +142,17 @@ public class OrderBy extends LinqExpression implements LatentCodeSnippet {
   @Override
   public void writeLatentJava(final StringBuilderWithTabs sb) {
     if (elementType != null) {
-      sb.append("private final static Comparator<RTx").append(elementType.name()).append("> ").append(comparatorName).append(" = new Comparator<RTx").append(elementType.name()).append(">() {").tabUp().writeNewline();
+      sb.append("private final static Comparator<RTx").append(elementType.name()).append("> ").append(comparatorName).append(" = new ").append(indexColumn >= 0 ? "IndexedComparator" : "Comparator").append("<RTx").append(elementType.name()).append(">() {").tabUp().writeNewline();
+      if (indexColumn >= 0) {
+        sb.append("@Override").writeNewline();
+        sb.append("public boolean ascending() {").tabUp().writeNewline();
+        sb.append("return ").append(keys.get(0).asc ? "true" : "false").append(";").tabDown().writeNewline();
+        sb.append("}").writeNewline();
+        sb.append("@Override").writeNewline();
+        sb.append("public int column() {").tabUp().writeNewline();
+        sb.append("return ").append(indexColumn + "").append(";").tabDown().writeNewline();
+        sb.append("}").writeNewline();
+      }
       sb.append("@Override").writeNewline();
       sb.append("public int compare(RTx").append(elementType.name()).append(" __a, RTx").append(elementType.name()).append(" __b) {").tabUp().writeNewline();
       var first = true;
@@ -4,8 +4,11 @@
 package org.adamalang.translator.tree.expressions.linq;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.adamalang.translator.env.ComputeContext;
 import org.adamalang.translator.env.Environment;
@@ -20,13 +23,18 @@ import org.adamalang.translator.tree.expressions.operators.BinaryExpression;
 import org.adamalang.translator.tree.expressions.operators.Parentheses;
 import org.adamalang.translator.tree.operands.BinaryOp;
 import org.adamalang.translator.tree.types.TyType;
+import org.adamalang.translator.tree.types.checking.properties.CanTestEqualityResult;
 import org.adamalang.translator.tree.types.checking.ruleset.RuleSetCommon;
 import org.adamalang.translator.tree.types.natives.TyNativeList;
+import org.adamalang.translator.tree.types.reactive.TyReactiveBoolean;
 import org.adamalang.translator.tree.types.reactive.TyReactiveClient;
 import org.adamalang.translator.tree.types.reactive.TyReactiveEnum;
 import org.adamalang.translator.tree.types.reactive.TyReactiveInteger;
+import org.adamalang.translator.tree.types.reactive.TyReactiveLong;
+import org.adamalang.translator.tree.types.reactive.TyReactiveString;
 import org.adamalang.translator.tree.types.structures.FieldDefinition;
 import org.adamalang.translator.tree.types.structures.StructureStorage;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsStructure;
 import org.adamalang.translator.tree.types.traits.details.DetailComputeRequiresGet;
 
@@ -50,6 +58,55 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
     return null;
   }
 
+  /** find every comparison (other than equality) of the indexed variable under the &&s; the comparison is given as INDEX_FIELD (op) VALUE */
+  public static void findIndexRanges(final Expression root, final String aliasName, final String indexName, final BiConsumer<BinaryOp, Expression> found) {
+    if (root instanceof Parentheses) {
+      findIndexRanges(((Parentheses) root).expression, aliasName, indexName, found);
+      return;
+    }
+    if (root instanceof BinaryExpression) {
+      final var binary = (BinaryExpression) root;
+      if (binary.op == BinaryOp.LogicalAnd) {
+        findIndexRanges(binary.left, aliasName, indexName, found);
+        findIndexRanges(binary.right, aliasName, indexName, found);
+        return;
+      }
+      final var flipped = flip(binary.op);
+      if (flipped != null) {
+        if (isExpressionIndexedVariable(binary.left, aliasName, indexName)) {
+          found.accept(binary.op, binary.right);
+        } else if (isExpressionIndexedVariable(binary.right, aliasName, indexName)) {
+          found.accept(flipped, binary.left);
+        }
+      }
+    }
+  }
+
+  /** the comparison with the sides swapped (i.e. VALUE < FIELD is FIELD > VALUE); null if the op isn't an ordering */
+  private static BinaryOp flip(final BinaryOp op) {
+    switch (op) {
+      case GreaterThan:
+        return BinaryOp.LessThan;
+      case GreaterThanOrEqual:
+        return BinaryOp.LessThanOrEqual;
+      case LessThan:
+        return BinaryOp.GreaterThan;
+      case LessThanOrEqual:
+        return BinaryOp.GreaterThanOrEqual;
+      default:
+        return null;
+    }
+  }
+
+  /** wrap the code of a value such that it becomes the int which the index holds the value by (see IndexValue) */
+  private static String indexValueOf(final TyType fieldType, final String code) {
+    if (fieldType instanceof TyReactiveBoolean) { return "IndexValue.ofBoolean(" + code + ")"; }
+    if (fieldType instanceof TyReactiveClient) { return "IndexValue.ofClient(" + code + ")"; }
+    if (fieldType instanceof TyReactiveLong) { return "IndexValue.ofLong(" + code + ")"; }
+    if (fieldType instanceof TyReactiveString) { return "IndexValue.ofString(" + code + ")"; }
+    return code;
+  }
+
   public static boolean isExpressionIndexedVariable(final Expression root, final String aliasName, final String variableCheck) {
     if (root instanceof Parentheses) { return isExpressionIndexedVariable(((Parentheses) root).expression, aliasName, variableCheck); }
     if (aliasName == null && root instanceof Lookup) {
@@ -60,6 +117,15 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
     return false;
   }
 
+  /** can the index of the field be narrowed by the value; the types must be equal without being near (i.e. int vs double), and an int index holds the value as-is so the value must be an int */
+  private static boolean isIndexableBy(final Environment environment, final TyType fieldType, final Expression value) {
+    final var valueType = value.getCachedType();
+    if (valueType == null) { return false; }
+    if (environment.rules.CanTestEquality(fieldType, valueType, true) != CanTestEqualityResult.Yes) { return false; }
+    if (fieldType instanceof TyReactiveInteger) { return environment.rules.IsInteger(valueType, true); }
+    return true;
+  }
+
   private final Token aliasToken;
   private final ArrayList<String> applyQuerySetStatements;
   private final TreeMap<String, String> closureTypes;
@@ -97,6 +163,7 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
 
   private void buildIndex(final Environment environment) {
     final var intersectCodeByName = new TreeMap<String, String>();
+    final var rangeCodeByName = new TreeMap<String, ArrayList<String>>();
     indexKeysExpr.append("new int[] {");
     var first = true;
     var index = 0;
@@ -105,14 +172,12 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
         continue;
       }
       final var fieldType = environment.rules.Resolve(entry.getValue().type, false);
-      if (fieldType instanceof TyReactiveInteger || fieldType instanceof TyReactiveEnum || fieldType instanceof TyReactiveClient) {
+      if (fieldType instanceof CanBeIndexed) {
         final var indexValue = findIndex(expression, aliasToken != null ? aliasToken.text : null, entry.getKey());
-        if (indexValue != null) {
-          var indexValueString = compileIndexExpr(indexValue, environment);
-          if (indexValueString != null) {
-            if (fieldType instanceof TyReactiveClient) {
-              indexValueString += ".hashCode()";
-            }
+        if (indexValue != null && isIndexableBy(environment, fieldType, indexValue)) {
+          final var indexValueCode = compileIndexExpr(indexValue, environment);
+          if (indexValueCode != null) {
+            final var indexValueString = indexValueOf(fieldType, indexValueCode);
             intersectCodeByName.put(entry.getKey(), indexValueString);
             if (first) {
               first = false;
@@ -122,14 +187,62 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
             indexKeysExpr.append(index).append(", ").append(indexValueString);
           }
         }
+        if (fieldType instanceof TyReactiveInteger || fieldType instanceof TyReactiveEnum) {
+          final var ranges = new ArrayList<String>();
+          findIndexRanges(expression, aliasToken != null ? aliasToken.text : null, entry.getKey(), (op, value) -> {
+            if (!isIndexableBy(environment, fieldType, value)) { return; }
+            final var rangeValueString = compileIndexExpr(value, environment);
+            if (rangeValueString != null) {
+              ranges.add(rangeValueString + ", IndexQuerySet.LookupMode." + op.name());
+            }
+          });
+          if (ranges.size() > 0) {
+            rangeCodeByName.put(entry.getKey(), ranges);
+          }
+        }
         index++;
       }
     }
     indexKeysExpr.append("}");
+    // a composite index which has every field bound by equality is a single bucket, so it is used over the indices of its fields (wider first)
+    final var covered = new HashSet<String>();
+    final var composites = new ArrayList<Integer>();
     for (var k = 0; k < structureStorage.indices.size(); k++) {
-      final var code = intersectCodeByName.get(structureStorage.indices.get(k).nameToken.text);
+      if (structureStorage.indices.get(k).isComposite()) {
+        composites.add(k);
+      }
+    }
+    composites.sort((a, b) -> Integer.compare(structureStorage.indices.get(b).names.length, structureStorage.indices.get(a).names.length));
+    for (final int k : composites) {
+      final var idefn = structureStorage.indices.get(k);
+      if (covered.containsAll(Arrays.asList(idefn.names))) {
+        continue;
+      }
+      var code = intersectCodeByName.get(idefn.names[0]);
+      for (var j = 1; code != null && j < idefn.names.length; j++) {
+        final var next = intersectCodeByName.get(idefn.names[j]);
+        code = next != null ? "IndexValue.combine(" + code + ", " + next + ")" : null;
+      }
       if (code != null) {
         applyQuerySetStatements.add("__set.intersect(" + k + ", " + code + ");");
+        covered.addAll(Arrays.asList(idefn.names));
+      }
+    }
+    for (var k = 0; k < structureStorage.indices.size(); k++) {
+      final var idefn = structureStorage.indices.get(k);
+      if (idefn.isComposite() || covered.contains(idefn.name)) {
+        continue;
+      }
+      final var code = intersectCodeByName.get(idefn.name);
+      if (code != null) {
+        applyQuerySetStatements.add("__set.intersect(" + k + ", " + code + ");");
+      } else {
+        final var ranges = rangeCodeByName.get(idefn.name);
+        if (ranges != null) {
+          for (final String range : ranges) {
+            applyQuerySetStatements.add("__set.intersect(" + k + ", " + range + ");");
+          }
+        }
       }
     }
   }
@@ -300,7 +413,7 @@ public class Where extends LinqExpression implements LatentCodeSnippet {
     for (final String trapToWrite : trapBuilder) {
       sb.append(trapToWrite).writeNewline();
     }
-    sb.append(String.format("__code_cost ++;")).writeNewline();
+    sb.append("__cost(1);").writeNewline();
     sb.append("return " + exprCode.toString() + ";").tabDown().writeNewline();
     sb.append("}").tabDown().writeNewline();
     sb.append("}").writeNewline();
@@ -58,10 +58,10 @@ public class Block extends Statement {
     if (brace) {
       sb.tabUp().append("{").writeNewline();
       if (!environment.state.hasNoCost()) {
-        sb.append(String.format("__code_cost += %d;", 1 + statements.size())).writeNewline();
+        sb.append(String.format("__cost(%d);", 1 + statements.size())).writeNewline();
       }
     } else if (!environment.state.hasNoCost()) {
-      sb.append(String.format("__code_cost += %d;", 1 + statements.size())).writeNewline();
+      sb.append(String.format("__cost(%d);", 1 + statements.size())).writeNewline();
     }
     for (var k = 0; k < n; k++) {
       final var s = statements.get(k);
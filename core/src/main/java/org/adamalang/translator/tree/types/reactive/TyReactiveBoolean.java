@@ -12,11 +12,13 @@ import org.adamalang.translator.tree.types.TySimpleReactive;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeBoolean;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
 
 /** Represents the reactive type for a boolean value (true/false); this uses the
  * reactive 'TBoolean' java type */
-public class TyReactiveBoolean extends TySimpleReactive implements IsOrderable //
+public class TyReactiveBoolean extends TySimpleReactive implements IsOrderable, //
+    CanBeIndexed //
 {
   public TyReactiveBoolean(final Token token) {
     super(token, "RxBoolean");
@@ -12,9 +12,12 @@ import org.adamalang.translator.tree.types.TySimpleReactive;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeClient;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
 
-public class TyReactiveClient extends TySimpleReactive implements IsOrderable {
+public class TyReactiveClient extends TySimpleReactive implements IsOrderable, //
+    CanBeIndexed //
+{
   public TyReactiveClient(final Token token) {
     super(token, "RxClient");
   }
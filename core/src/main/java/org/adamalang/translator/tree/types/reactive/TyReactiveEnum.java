@@ -13,11 +13,13 @@ import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeEnum;
 import org.adamalang.translator.tree.types.shared.EnumStorage;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsEnum;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
 
 public class TyReactiveEnum extends TySimpleReactive implements IsOrderable, //
-    IsEnum //
+    IsEnum, //
+    CanBeIndexed //
 {
   public final String name;
   public final EnumStorage storage;
@@ -12,11 +12,13 @@ import org.adamalang.translator.tree.types.TySimpleReactive;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeInteger;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
 
 /** Represents the integral with 32 bits of storage; this uses the 'RxInt32'
  * reactive java type */
-public class TyReactiveInteger extends TySimpleReactive implements IsOrderable //
+public class TyReactiveInteger extends TySimpleReactive implements IsOrderable, //
+    CanBeIndexed //
 {
   public TyReactiveInteger(final Token token) {
     super(token, "RxInt32");
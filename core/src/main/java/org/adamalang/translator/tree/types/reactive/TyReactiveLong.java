@@ -12,11 +12,13 @@ import org.adamalang.translator.tree.types.TySimpleReactive;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeLong;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
 
 /** Represents the integral with 64 bits of storage; this uses the 'RxInt64'
  * reactive java type */
-public class TyReactiveLong extends TySimpleReactive implements IsOrderable //
+public class TyReactiveLong extends TySimpleReactive implements IsOrderable, //
+    CanBeIndexed //
 {
   public TyReactiveLong(final Token token) {
     super(token, "RxInt64");
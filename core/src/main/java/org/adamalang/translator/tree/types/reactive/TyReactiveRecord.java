@@ -29,6 +29,15 @@ public class TyReactiveRecord extends TyType implements IsStructure, //
     DetailHasDeltaType, //
     DetailTypeProducesRootLevelCode, //
     DetailTypeHasMethods {
+  /** the code to pull the value of the index from the record; a tuple folds the value of every field together (see IndexValue.combine) */
+  private static String pullIndexValue(final IndexDefinition idefn) {
+    var code = idefn.names[0] + ".getIndexValue()";
+    for (var k = 1; k < idefn.names.length; k++) {
+      code = "IndexValue.combine(" + code + ", " + idefn.names[k] + ".getIndexValue())";
+    }
+    return code;
+  }
+
   public String name;
   public Token nameToken;
   public Token recordToken;
@@ -55,28 +64,23 @@ public class TyReactiveRecord extends TyType implements IsStructure, //
     classConstructor.append("if (__owner instanceof RxTable) {").tabUp().writeNewline();
     var colNum = 0;
     for (final IndexDefinition idefn : storage.indices) {
-      classFields.append("private final ReactiveIndexInvalidator __INDEX_").append(idefn.nameToken.text).append(";").writeNewline();
-      classConstructor.append("__INDEX_").append(idefn.nameToken.text).append(" = new ReactiveIndexInvalidator(((RxTable<RTx").append(name).append(">)(__owner)).getIndex((short)").append("" + colNum).append("), this) {").tabUp().tabUp()
+      classFields.append("private final ReactiveIndexInvalidator __INDEX_").append(idefn.name).append(";").writeNewline();
+      classConstructor.append("__INDEX_").append(idefn.name).append(" = new ReactiveIndexInvalidator(((RxTable<RTx").append(name).append(">)(__owner)).getIndex((short)").append("" + colNum).append("), this) {").tabUp().tabUp()
           .writeNewline();
       classConstructor.append("@Override").writeNewline();
       classConstructor.append("public int pullValue() {").tabUp().writeNewline();
-      classConstructor.append("  return ").append(idefn.nameToken.text).append(".get()");
-      final var fd = storage.fields.get(idefn.nameToken.text);
-      if (fd != null) {
-        if (fd.type instanceof TyReactiveClient) {
-          classConstructor.append(".hashCode()");
-        }
-      }
-      classConstructor.append(";").tabDown().writeNewline();
+      classConstructor.append("  return ").append(pullIndexValue(idefn)).append(";").tabDown().writeNewline();
       classConstructor.append("}").tabDown().writeNewline();
       classConstructor.append("};").tabDown().writeNewline();
-      classConstructor.append(idefn.nameToken.text).append(".__subscribe(__INDEX_").append(idefn.nameToken.text).append(");").writeNewline();
+      for (final String column : idefn.names) {
+        classConstructor.append(column).append(".__subscribe(__INDEX_").append(idefn.name).append(");").writeNewline();
+      }
       colNum++;
     }
     classConstructor.append("/* ok */").tabDown().writeNewline();
     classConstructor.append("} else {").tabUp().writeNewline();
     for (final IndexDefinition idefn : storage.indices) {
-      classConstructor.append("__INDEX_").append(idefn.nameToken.text).append(" = null;").writeNewline();
+      classConstructor.append("__INDEX_").append(idefn.name).append(" = null;").writeNewline();
     }
     classConstructor.append("/* ok */").tabDown().writeNewline();
     classConstructor.append("}").writeNewline();
@@ -98,13 +102,13 @@ public class TyReactiveRecord extends TyType implements IsStructure, //
     sb.append("@Override").writeNewline();
     sb.append("public void __deindex() {").tabUp().writeNewline();
     for (final IndexDefinition idefn : storage.indices) {
-      sb.append("__INDEX_").append(idefn.nameToken.text).append(".deindex();").writeNewline();
+      sb.append("__INDEX_").append(idefn.name).append(".deindex();").writeNewline();
     }
     sb.append("/* ok */").tabDown().writeNewline();
     sb.append("}").writeNewline();
     sb.append("public void __reindex() {").tabUp().writeNewline();
     for (final IndexDefinition idefn : storage.indices) {
-      sb.append("__INDEX_").append(idefn.nameToken.text).append(".reindex();").writeNewline();
+      sb.append("__INDEX_").append(idefn.name).append(".reindex();").writeNewline();
     }
     sb.append("/* ok */").tabDown().writeNewline();
     sb.append("}").writeNewline();
@@ -12,11 +12,13 @@ import org.adamalang.translator.tree.types.TySimpleReactive;
 import org.adamalang.translator.tree.types.TyType;
 import org.adamalang.translator.tree.types.TypeBehavior;
 import org.adamalang.translator.tree.types.natives.TyNativeString;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 import org.adamalang.translator.tree.types.traits.IsOrderable;
 
 /** The type representing a utf-8 encoded string. This uses the reactive
  * 'RxString' java type. */
-public class TyReactiveString extends TySimpleReactive implements IsOrderable //
+public class TyReactiveString extends TySimpleReactive implements IsOrderable, //
+    CanBeIndexed //
 {
   public TyReactiveString(final Token token) {
     super(token, "RxString");
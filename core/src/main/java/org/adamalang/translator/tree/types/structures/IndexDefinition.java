@@ -5,16 +5,27 @@ package org.adamalang.translator.tree.types.structures;
 
 import java.util.function.Consumer;
 import org.adamalang.translator.parser.token.Token;
+import org.adamalang.translator.tree.common.TokenizedItem;
 
+/** an index of a single field (i.e. index x;) or of a tuple of fields (i.e.
+ * index (x, y);) within a record */
 public class IndexDefinition extends StructureComponent {
+  public final TokenizedItem<Token>[] columns;
   public final Token indexToken;
-  public final Token nameToken;
+  /** the name of the index; this is the field for a single field, and the fields joined by '$' (which a field name can't have) for a tuple */
+  public final String name;
+  public final String[] names;
   public final Token semicolonToken;
 
-  public IndexDefinition(final Token indexToken, final Token nameToken, final Token semicolonToken) {
+  public IndexDefinition(final Token indexToken, final TokenizedItem<Token>[] columns, final Token semicolonToken) {
     this.indexToken = indexToken;
-    this.nameToken = nameToken;
+    this.columns = columns;
     this.semicolonToken = semicolonToken;
+    names = new String[columns.length];
+    for (var k = 0; k < columns.length; k++) {
+      names[k] = columns[k].item.text;
+    }
+    name = String.join("$", names);
     ingest(indexToken);
     ingest(semicolonToken);
   }
@@ -22,7 +33,16 @@ public class IndexDefinition extends StructureComponent {
   @Override
   public void emit(final Consumer<Token> yielder) {
     yielder.accept(indexToken);
-    yielder.accept(nameToken);
+    for (final TokenizedItem<Token> column : columns) {
+      column.emitBefore(yielder);
+      yielder.accept(column.item);
+      column.emitAfter(yielder);
+    }
     yielder.accept(semicolonToken);
   }
+
+  /** is the index over a tuple of fields */
+  public boolean isComposite() {
+    return names.length > 1;
+  }
 }
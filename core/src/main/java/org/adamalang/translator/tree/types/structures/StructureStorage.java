@@ -14,9 +14,8 @@ import org.adamalang.translator.tree.common.DocumentPosition;
 import org.adamalang.translator.tree.privacy.DefineCustomPolicy;
 import org.adamalang.translator.tree.types.natives.TyNativeFunctional;
 import org.adamalang.translator.tree.types.natives.functions.FunctionStyleJava;
-import org.adamalang.translator.tree.types.reactive.TyReactiveClient;
-import org.adamalang.translator.tree.types.reactive.TyReactiveEnum;
 import org.adamalang.translator.tree.types.reactive.TyReactiveInteger;
+import org.adamalang.translator.tree.types.traits.CanBeIndexed;
 
 public class StructureStorage extends DocumentPosition {
   public final boolean anonymous;
@@ -131,23 +130,30 @@ public class StructureStorage extends DocumentPosition {
 
   public void add(final IndexDefinition indexDefn) {
     emissions.add(x -> indexDefn.emit(x));
-    if (!indexSet.contains(indexDefn.nameToken.text)) {
+    if (!indexSet.contains(indexDefn.name)) {
       indices.add(indexDefn);
-      indexSet.add(indexDefn.nameToken.text);
+      indexSet.add(indexDefn.name);
       typeCheckOrder.add(env -> {
-        final var fd = fields.get(indexDefn.nameToken.text);
-        if (fd == null) {
-          env.document.createError(indexDefn, String.format("Index could not find field '%s'", indexDefn.nameToken.text), "StructureDefine");
-        } else {
-          final var canBeIndex = fd.type instanceof TyReactiveInteger || fd.type instanceof TyReactiveEnum || fd.type instanceof TyReactiveClient;
-          if (!canBeIndex) {
-            env.document.createError(indexDefn, String.format("Index for field '%s' is not possible due to type", indexDefn.nameToken.text, fd.type.getAdamaType()), "StructureDefine");
+        final var seen = new HashSet<String>();
+        for (final String column : indexDefn.names) {
+          if (!seen.add(column)) {
+            env.document.createError(indexDefn, String.format("Index has the field '%s' more than once", column), "StructureDefine");
+            continue;
+          }
+          final var fd = fields.get(column);
+          if (fd == null) {
+            env.document.createError(indexDefn, String.format("Index could not find field '%s'", column), "StructureDefine");
+          } else {
+            final var canBeIndex = fd.type instanceof CanBeIndexed;
+            if (!canBeIndex) {
+              env.document.createError(indexDefn, String.format("Index for field '%s' is not possible due to type", column, fd.type.getAdamaType()), "StructureDefine");
+            }
           }
         }
       });
     } else {
       typeCheckOrder.add(env -> {
-        env.document.createError(indexDefn, String.format("Index was already defined: '%s'", indexDefn.nameToken.text), "StructureDefine");
+        env.document.createError(indexDefn, String.format("Index was already defined: '%s'", String.join(", ", indexDefn.names)), "StructureDefine");
       });
     }
   }
@@ -0,0 +1,8 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.translator.tree.types.traits;
+
+/** declares the type can be the field of a reactive index (i.e. the reactive
+ * type implements Indexable) */
+public interface CanBeIndexed {}
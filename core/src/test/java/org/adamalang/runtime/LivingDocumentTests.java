@@ -5,10 +5,16 @@ package org.adamalang.runtime;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
 import org.adamalang.runtime.exceptions.GoodwillExhaustedException;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
+import org.adamalang.runtime.json.PrivateView;
+import org.adamalang.runtime.logger.NoOpLogger;
+import org.adamalang.runtime.logger.TransactionRequest;
+import org.adamalang.runtime.logger.Transactor;
+import org.adamalang.runtime.mocks.MockTime;
 import org.adamalang.runtime.natives.NtClient;
 import org.adamalang.runtime.ops.StdOutDocumentMonitor;
 import org.adamalang.runtime.ops.TestReportBuilder;
@@ -92,10 +98,9 @@ public class LivingDocumentTests {
     final var setup = new RealDocumentSetup("@construct {}");
     final var document = setup.factory.create(new StdOutDocumentMonitor());
     document.__insert(new JsonStreamReader(state.toString()));
-    final var writer = setup.transactor.forge("nope", A);
-    writer.endObject();
+    final var request = new TransactionRequest("nope", 0, A, null, null, null, null);
     try {
-      document.__transact(writer.toString());
+      document.__transact(request.json);
     } catch (final ErrorCodeException drre) {
       Assert.assertEquals(5009, drre.code);
     }
@@ -105,10 +110,9 @@ public class LivingDocumentTests {
   public void construct_requirements_must_have_arg() throws Exception {
     final var setup = new RealDocumentSetup("@construct {}");
     final var document = setup.factory.create(new StdOutDocumentMonitor());
-    final var writer = setup.transactor.forge("construct", A);
-    writer.endObject();
+    final var request = new TransactionRequest("construct", 0, A, null, null, null, null);
     try {
-      document.__transact(writer.toString());
+      document.__transact(request.json);
     } catch (final ErrorCodeException drre) {
       Assert.assertEquals(5013, drre.code);
     }
@@ -361,10 +365,9 @@ public class LivingDocumentTests {
     final var setup = new RealDocumentSetup("@construct {}");
     final var document = setup.factory.create(new StdOutDocumentMonitor());
     document.__insert(new JsonStreamReader(state.toString()));
-    final var writer = setup.transactor.forge("send", A);
-    writer.endObject();
+    final var request = new TransactionRequest("send", 0, A, null, null, null, null);
     try {
-      document.__transact(writer.toString());
+      document.__transact(request.json);
     } catch (final ErrorCodeException drre) {
       Assert.assertEquals(5016, drre.code);
     }
@@ -382,12 +385,9 @@ public class LivingDocumentTests {
     final var setup = new RealDocumentSetup("@construct {}");
     final var document = setup.factory.create(new StdOutDocumentMonitor());
     document.__insert(new JsonStreamReader(state.toString()));
-    final var writer = setup.transactor.forge("send", A);
-    writer.writeObjectFieldIntro("channel");
-    writer.writeFastString("foo");
-    writer.endObject();
+    final var request = new TransactionRequest("send", 0, A, "foo", null, null, null);
     try {
-      document.__transact(writer.toString());
+      document.__transact(request.json);
     } catch (final ErrorCodeException drre) {
       Assert.assertEquals(5017, drre.code);
     }
@@ -502,13 +502,9 @@ public class LivingDocumentTests {
       final var setup = new RealDocumentSetup("@construct {} @connected(who) { return true; }");
       final var document = setup.factory.create(new StdOutDocumentMonitor());
       document.__insert(new JsonStreamReader(prior.toString()));
-      final var writer = setup.transactor.forge("construct", A);
-      writer.writeObjectFieldIntro("arg");
-      writer.beginObject();
-      writer.endObject();
-      writer.endObject();
+      final var request = new TransactionRequest("construct", 0, A, null, null, "{}", null);
       try {
-        document.__transact(writer.toString());
+        document.__transact(request.json);
         Assert.fail();
       } catch (final ErrorCodeException drre) {
         Assert.assertEquals(5012, drre.code);
@@ -588,15 +584,46 @@ public class LivingDocumentTests {
   public void transact_requirements_must_have_who_for_construct() throws Exception {
     final var setup = new RealDocumentSetup("@construct {}");
     final var document = setup.factory.create(new StdOutDocumentMonitor());
-    final var writer = setup.transactor.forge("construct", null);
-    writer.endObject();
+    final var request = new TransactionRequest("construct", 0, null, null, null, null, null);
     try {
-      document.__transact(writer.toString());
+      document.__transact(request.json);
     } catch (final ErrorCodeException drre) {
       Assert.assertEquals(5008, drre.code);
     }
   }
 
+  @Test
+  public void transact_typed() throws Exception {
+    final var setup = new RealDocumentSetup("@connected(who) { return true; } @construct { transition #wait; } int t = 0; message Set { int v; } channel<Set> chan; #wait { t = chan.fetch(@no_one).await().v; }");
+    final var document = setup.factory.create(new StdOutDocumentMonitor());
+    try {
+      document.__transact(new TransactionRequest(null, 0, A, null, null, null, null));
+      Assert.fail();
+    } catch (final ErrorCodeException drre) {
+      Assert.assertEquals(5006, drre.code);
+    }
+    try {
+      document.__transact(new TransactionRequest("construct", 0, A, null, null, null, null));
+      Assert.fail();
+    } catch (final ErrorCodeException drre) {
+      Assert.assertEquals(5013, drre.code);
+    }
+    document.__transact(new TransactionRequest("construct", 0, A, null, null, "{}", "123"));
+    document.__transact(new TransactionRequest("connect", 0, NtClient.NO_ONE, null, null, null, null));
+    try {
+      document.__transact(new TransactionRequest("send", 0, NtClient.NO_ONE, null, "{\"v\":42}", null, null));
+      Assert.fail();
+    } catch (final ErrorCodeException drre) {
+      Assert.assertEquals(5016, drre.code);
+    }
+    final var sent = document.__transact(new TransactionRequest("send", 0, NtClient.NO_ONE, "chan", "{\"v\":42}", null, null));
+    Assert.assertTrue(sent.request.contains("\"channel\":\"chan\",\"message\":{\"v\":42}"));
+    document.__transact(new TransactionRequest("invalidate", 0, null, null, null, null, null));
+    final var writer = new JsonStreamWriter();
+    document.__dump(writer);
+    Assert.assertTrue(writer.toString().contains("\"t\":42"));
+  }
+
   @Test
   public void views() throws Exception {
     final var setup = new RealDocumentSetup("public int x; @construct { x = 123; } @connected (who) { x++; return true; }");
@@ -640,4 +667,134 @@ public class LivingDocumentTests {
     Assert.assertEquals("{\"data\":{\"x\":126},\"outstanding\":[],\"blockers\":[],\"seq\":7}", deB.get(0).toString());
     setup.assertCompare();
   }
-}
\ No newline at end of file
+
+  @Test
+  public void views_parallel() throws Exception {
+    final var code = "public int x; private int y; public formula z = x * 2; record R { public int v; } table<R> t; public formula big = iterate t where v > 1; message M { int d; } channel foo(M m) { x += m.d; y++; t <- {v:m.d}; } @construct { x = 1; } @connected (who) { x++; return true; }";
+    final var factory = compile(code);
+    final var clients = new NtClient[] {NtClient.NO_ONE, A, B};
+    final var serial = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    final var parallel = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    final var pool = new ForkJoinPool(4);
+    try {
+      serial.construct(NtClient.NO_ONE, "{}", "123");
+      parallel.construct(NtClient.NO_ONE, "{}", "123");
+      parallel.parallelViews(pool);
+      final var serialDeliveries = new ArrayList<ArrayList<String>>();
+      final var parallelDeliveries = new ArrayList<ArrayList<String>>();
+      for (var k = 0; k < 24; k++) {
+        final var serialOut = new ArrayList<String>();
+        final var parallelOut = new ArrayList<String>();
+        serialDeliveries.add(serialOut);
+        parallelDeliveries.add(parallelOut);
+        serial.createView(clients[k % 3], str -> serialOut.add(str));
+        parallel.createView(clients[k % 3], str -> parallelOut.add(str));
+      }
+      for (final NtClient who : clients) {
+        serial.connect(who);
+        parallel.connect(who);
+      }
+      for (var k = 0; k < 5; k++) {
+        serial.send(clients[k % 3], "foo", "{\"d\":" + k + "}");
+        parallel.send(clients[k % 3], "foo", "{\"d\":" + k + "}");
+        serial.drive();
+        parallel.drive();
+      }
+      Assert.assertEquals(serialDeliveries, parallelDeliveries);
+      Assert.assertEquals("{\"data\":{\"x\":14,\"z\":28,\"big\":{\"4\":{\"v\":4},\"@o\":[\"2\",\"3\",\"4\"]}},\"outstanding\":[],\"blockers\":[],\"seq\":13}", parallelDeliveries.get(0).get(4));
+      Assert.assertEquals(serial.getCodeCost(), parallel.getCodeCost());
+      parallel.parallelViews(null);
+      serial.send(A, "foo", "{\"d\":100}");
+      parallel.send(A, "foo", "{\"d\":100}");
+      Assert.assertEquals(serialDeliveries, parallelDeliveries);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void views_public() throws Exception {
+    final var factory = compile("public int x; @construct { x = 1; } @connected (who) { return true; } message M { int d; } channel foo(M m) { x = m.d; }");
+    final var transactor = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    transactor.construct(NtClient.NO_ONE, "{}", "123");
+    transactor.connect(NtClient.NO_ONE);
+    final var first = new ArrayList<String>();
+    final var second = new ArrayList<String>();
+    final var firstView = transactor.createPublicView(str -> first.add(str));
+    final var secondView = transactor.createPublicView(str -> second.add(str));
+    Assert.assertEquals(NtClient.NO_ONE, firstView.who);
+    transactor.drive();
+    // the computing view belongs to the document, so killing the first spectator doesn't affect the second
+    firstView.kill();
+    transactor.send(NtClient.NO_ONE, "foo", "{\"d\":42}");
+    transactor.drive();
+    Assert.assertEquals(1, first.size());
+    Assert.assertEquals(2, second.size());
+    Assert.assertSame(first.get(0), second.get(0));
+    Assert.assertEquals("{\"data\":{\"x\":42},\"outstanding\":[],\"blockers\":[],\"seq\":4}", second.get(1));
+    secondView.kill();
+    Assert.assertEquals(0, transactor.gcViewsFor(NtClient.NO_ONE));
+  }
+
+  @Test
+  public void views_skip_unchanged_records() throws Exception {
+    final var setup = new RealDocumentSetup("record R { public int v; public int w; } table<R> t; public formula all = iterate t; message M { int d; } channel bump(M m) { (iterate t where v == m.d).w = m.d * 10; } @construct { for (int k = 0; k < 4; k++) { t <- {v:k}; } } @connected (who) { return true; }", null, false);
+    setup.drive(setup.transactor.construct(NtClient.NO_ONE, "{}", "123"));
+    final var deliveries = new ArrayList<String>();
+    setup.transactor.createView(NtClient.NO_ONE, str -> deliveries.add(str));
+    setup.drive(setup.transactor.connect(NtClient.NO_ONE));
+    Assert.assertEquals("{\"data\":{\"all\":{\"0\":{\"v\":0,\"w\":0},\"1\":{\"v\":1,\"w\":0},\"2\":{\"v\":2,\"w\":0},\"3\":{\"v\":3,\"w\":0},\"@o\":[\"0\",\"1\",\"2\",\"3\"]}},\"outstanding\":[],\"blockers\":[],\"seq\":3}", deliveries.get(0));
+    setup.drive(setup.transactor.send(NtClient.NO_ONE, "bump", "{\"d\":2}"));
+    Assert.assertEquals("{\"data\":{\"all\":{\"2\":{\"w\":20}}},\"outstanding\":[],\"blockers\":[],\"seq\":5}", deliveries.get(deliveries.size() - 1));
+    // an insert changes the record without dirtying it
+    setup.transactor.insert("{\"t\":{\"rows\":{\"1\":{\"w\":7}}}}");
+    setup.drive(setup.transactor.send(NtClient.NO_ONE, "bump", "{\"d\":3}"));
+    Assert.assertEquals("{\"data\":{\"all\":{\"1\":{\"w\":7},\"3\":{\"w\":30}}},\"outstanding\":[],\"blockers\":[],\"seq\":7}", deliveries.get(deliveries.size() - 1));
+  }
+
+  @Test
+  public void views_shared() throws Exception {
+    final var code = "public int x; record R { public int v; } table<R> t; public formula all = iterate t; message M { int d; } channel foo(M m) { x = m.d % 2; (iterate t where v == m.d - 2).delete(); t <- {v:m.d}; } @construct { x = 1; } @connected (who) { return true; }";
+    final var factory = compile(code);
+    final var spectator = new NtClient("spectator", "TEST");
+    final var shared = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    final var independent = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    shared.construct(NtClient.NO_ONE, "{}", "123");
+    independent.construct(NtClient.NO_ONE, "{}", "123");
+    shared.connect(NtClient.NO_ONE);
+    independent.connect(NtClient.NO_ONE);
+    final var sharedDeliveries = new ArrayList<ArrayList<String>>();
+    final var independentDeliveries = new ArrayList<ArrayList<String>>();
+    final var sharedViews = new ArrayList<PrivateView>();
+    final var independentViews = new ArrayList<PrivateView>();
+    for (var k = 0; k < 12; k++) {
+      if (k % 3 == 0) {
+        final var sharedOut = new ArrayList<String>();
+        final var independentOut = new ArrayList<String>();
+        sharedDeliveries.add(sharedOut);
+        independentDeliveries.add(independentOut);
+        sharedViews.add(shared.createView(spectator, str -> sharedOut.add(str)));
+        independentViews.add(independent.createView(new NtClient("spectator-" + k, "TEST"), str -> independentOut.add(str)));
+      }
+      if (k == 5) {
+        // the first view has been computing for the others
+        sharedViews.get(0).kill();
+        independentViews.get(0).kill();
+        Assert.assertEquals(1, shared.gcViewsFor(spectator));
+      }
+      shared.send(NtClient.NO_ONE, "foo", "{\"d\":" + k + "}");
+      independent.send(NtClient.NO_ONE, "foo", "{\"d\":" + k + "}");
+      shared.drive();
+      independent.drive();
+    }
+    Assert.assertEquals(independentDeliveries, sharedDeliveries);
+    // the views which have seen the same state share the same delivery
+    final var last = sharedDeliveries.get(1).size() - 1;
+    Assert.assertSame(sharedDeliveries.get(1).get(last), sharedDeliveries.get(2).get(sharedDeliveries.get(2).size() - 1));
+    Assert.assertNotSame(sharedDeliveries.get(0).get(0), sharedDeliveries.get(1).get(0));
+    for (final PrivateView view : sharedViews) {
+      view.kill();
+    }
+    Assert.assertEquals(0, shared.gcViewsFor(spectator));
+  }
+}
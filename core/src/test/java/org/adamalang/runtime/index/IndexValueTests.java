@@ -0,0 +1,25 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.index;
+
+import org.adamalang.runtime.natives.NtClient;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexValueTests {
+  @Test
+  public void combine_is_ordered() {
+    Assert.assertEquals(IndexValue.combine(1, 2), IndexValue.combine(1, 2));
+    Assert.assertNotEquals(IndexValue.combine(1, 2), IndexValue.combine(2, 1));
+  }
+
+  @Test
+  public void equal_values_share() {
+    Assert.assertEquals(IndexValue.ofBoolean(true), IndexValue.ofBoolean(true));
+    Assert.assertNotEquals(IndexValue.ofBoolean(true), IndexValue.ofBoolean(false));
+    Assert.assertEquals(IndexValue.ofClient(new NtClient("a", "b")), IndexValue.ofClient(new NtClient("a", "b")));
+    Assert.assertEquals(IndexValue.ofLong(3000000000L), IndexValue.ofLong(3000000000L));
+    Assert.assertEquals(IndexValue.ofString(new String("xyz")), IndexValue.ofString("xyz"));
+  }
+}
@@ -0,0 +1,104 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.index;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntBitmapTests {
+  private static void assertSame(final TreeSet<Integer> expected, final IntBitmap actual) {
+    Assert.assertEquals(expected.size(), actual.size());
+    Assert.assertEquals(expected.isEmpty(), actual.isEmpty());
+    final var it = actual.iterator();
+    for (final Integer value : expected) {
+      Assert.assertTrue(it.hasNext());
+      Assert.assertEquals((int) value, it.nextInt());
+      Assert.assertTrue(actual.contains(value));
+    }
+    Assert.assertFalse(it.hasNext());
+  }
+
+  private static TreeSet<Integer> fill(final Random rng, final IntBitmap bitmap, final int n, final int range) {
+    final var model = new TreeSet<Integer>();
+    for (var k = 0; k < n; k++) {
+      final var value = rng.nextInt(range);
+      Assert.assertEquals(model.add(value), bitmap.add(value));
+    }
+    return model;
+  }
+
+  @Test
+  public void and_or_dense_and_sparse() {
+    final var rng = new Random(42);
+    for (final int[] shape : new int[][] { { 100, 1000000 }, { 50000, 100000 }, { 6000, 65536 }, { 20000, 300000 } }) {
+      final var a = new IntBitmap();
+      final var b = new IntBitmap();
+      final var ma = fill(rng, a, shape[0], shape[1]);
+      final var mb = fill(rng, b, shape[0] / 2 + 1, shape[1]);
+      final var and = new TreeSet<>(ma);
+      and.retainAll(mb);
+      final var or = new TreeSet<>(ma);
+      or.addAll(mb);
+      assertSame(and, IntBitmap.and(a, b));
+      assertSame(and, IntBitmap.and(b, a));
+      assertSame(or, IntBitmap.or(a, b));
+      assertSame(or, IntBitmap.or(b, a));
+      assertSame(ma, a);
+      assertSame(mb, b);
+    }
+  }
+
+  @Test
+  public void empty() {
+    final var bitmap = new IntBitmap();
+    Assert.assertTrue(bitmap.isEmpty());
+    Assert.assertFalse(bitmap.contains(0));
+    Assert.assertFalse(bitmap.remove(0));
+    Assert.assertFalse(bitmap.iterator().hasNext());
+    try {
+      bitmap.iterator().nextInt();
+      Assert.fail();
+    } catch (final NoSuchElementException nsee) {
+    }
+    Assert.assertTrue(IntBitmap.and(bitmap, bitmap).isEmpty());
+    Assert.assertTrue(IntBitmap.or(bitmap, bitmap).isEmpty());
+  }
+
+  @Test
+  public void grow_and_shrink() {
+    final var bitmap = new IntBitmap();
+    final var model = new TreeSet<Integer>();
+    for (var k = 0; k < 10000; k++) {
+      bitmap.add(k * 3);
+      model.add(k * 3);
+    }
+    Assert.assertFalse(bitmap.add(9));
+    assertSame(model, bitmap);
+    for (var k = 0; k < 10000; k += 2) {
+      Assert.assertTrue(bitmap.remove(k * 3));
+      model.remove(k * 3);
+    }
+    Assert.assertFalse(bitmap.remove(0));
+    assertSame(model, bitmap);
+    for (var k = 1; k < 10000; k += 2) {
+      Assert.assertTrue(bitmap.remove(k * 3));
+    }
+    Assert.assertTrue(bitmap.isEmpty());
+    Assert.assertFalse(bitmap.iterator().hasNext());
+  }
+
+  @Test
+  public void negatives() {
+    final var bitmap = new IntBitmap();
+    final var model = new TreeSet<Integer>();
+    for (final int value : new int[] { -1, 5, -70000, 70000, Integer.MIN_VALUE, Integer.MAX_VALUE, 0 }) {
+      bitmap.add(value);
+      model.add(value);
+    }
+    assertSame(model, bitmap);
+  }
+}
@@ -4,6 +4,7 @@
 package org.adamalang.runtime.index;
 
 import java.util.TreeSet;
+import org.adamalang.runtime.contracts.IndexQuerySet;
 import org.adamalang.runtime.mocks.MockRecord;
 import org.junit.Assert;
 import org.junit.Test;
@@ -37,4 +38,49 @@ public class ReactiveIndexTests {
     Assert.assertNull(index.of(42));
     Assert.assertTrue(unknowns.contains(MockRecord.make(1)));
   }
+
+  @Test
+  public void ordered() {
+    final var unknowns = new TreeSet<MockRecord>();
+    final var index = new ReactiveIndex<>(unknowns);
+    index.add(3, MockRecord.make(1));
+    index.add(1, MockRecord.make(2));
+    index.add(2, MockRecord.make(3));
+    index.add(1, MockRecord.make(4));
+    final var ascending = new StringBuilder();
+    for (final IntBitmap bucket : index.ordered(true)) {
+      final var it = bucket.iterator();
+      while (it.hasNext()) {
+        ascending.append(it.nextInt());
+      }
+    }
+    Assert.assertEquals("2431", ascending.toString());
+    final var descending = new StringBuilder();
+    for (final IntBitmap bucket : index.ordered(false)) {
+      final var it = bucket.iterator();
+      while (it.hasNext()) {
+        descending.append(it.nextInt());
+      }
+    }
+    Assert.assertEquals("1324", descending.toString());
+  }
+
+  @Test
+  public void ranges() {
+    final var unknowns = new TreeSet<MockRecord>();
+    final var index = new ReactiveIndex<>(unknowns);
+    for (var k = 0; k < 10; k++) {
+      index.add(k * 10, MockRecord.make(k));
+    }
+    index.add(50, MockRecord.make(100));
+    Assert.assertEquals(2, index.of(50, IndexQuerySet.LookupMode.Equals).size());
+    Assert.assertEquals(4, index.of(50, IndexQuerySet.LookupMode.GreaterThan).size());
+    Assert.assertEquals(6, index.of(50, IndexQuerySet.LookupMode.GreaterThanOrEqual).size());
+    Assert.assertEquals(5, index.of(50, IndexQuerySet.LookupMode.LessThan).size());
+    Assert.assertEquals(7, index.of(50, IndexQuerySet.LookupMode.LessThanOrEqual).size());
+    Assert.assertSame(index.of(90), index.of(80, IndexQuerySet.LookupMode.GreaterThan));
+    Assert.assertNull(index.of(90, IndexQuerySet.LookupMode.GreaterThan));
+    Assert.assertNull(index.of(0, IndexQuerySet.LookupMode.LessThan));
+    Assert.assertNull(index.of(42, IndexQuerySet.LookupMode.Equals));
+  }
 }
@@ -0,0 +1,48 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.adamalang.runtime.stdlib.Utility;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonAlgebra_MergeTests {
+    private static String merge(String earlier, String later) {
+        JsonNode result = JsonAlgebra.merge(Utility.parseJsonObject(earlier), Utility.parseJsonObject(later));
+        return result == null ? null : result.toString();
+    }
+
+    @Test
+    public void merge_same_as_patching_twice() {
+        String a = "{\"x\":{\"y\":1,\"z\":2},\"w\":3}";
+        String b = "{\"x\":{\"y\":null},\"w\":4,\"v\":5}";
+        JsonNode target = Utility.parseJsonObject("{\"x\":{\"y\":0,\"q\":7}}");
+        JsonNode twice = JsonAlgebra.patch(JsonAlgebra.patch(target.deepCopy(), Utility.parseJsonObject(a)), Utility.parseJsonObject(b));
+        JsonNode once = JsonAlgebra.patch(target.deepCopy(), Utility.parseJsonObject(merge(a, b)));
+        Assert.assertEquals(twice.toString(), once.toString());
+    }
+    @Test
+    public void merge_keeps_nulls() {
+        Assert.assertEquals("{\"x\":null,\"y\":1}", merge("{\"x\":1}", "{\"x\":null,\"y\":1}"));
+    }
+    @Test
+    public void merge_later_wins() {
+        Assert.assertEquals("{\"seq\":2,\"outstanding\":[]}", merge("{\"seq\":1,\"outstanding\":[{\"a\":1}]}", "{\"seq\":2,\"outstanding\":[]}"));
+    }
+    @Test
+    public void merge_does_not_change_inputs() {
+        JsonNode earlier = Utility.parseJsonObject("{\"x\":{\"y\":1}}");
+        JsonNode later = Utility.parseJsonObject("{\"x\":{\"z\":2}}");
+        Assert.assertEquals("{\"x\":{\"y\":1,\"z\":2}}", JsonAlgebra.merge(earlier, later).toString());
+        Assert.assertEquals("{\"x\":{\"y\":1}}", earlier.toString());
+    }
+    @Test
+    public void merge_orderings() {
+        Assert.assertEquals("{\"l\":{\"@o\":[\"2\",\"1\"]}}", merge("{\"l\":{\"@o\":[\"1\",\"2\"]}}", "{\"l\":{\"@o\":[\"2\",\"1\"]}}"));
+        Assert.assertEquals("{\"l\":{\"1\":{\"x\":1},\"@o\":[{\"@r\":[0,2]}]}}", merge("{\"l\":{\"1\":{\"x\":1}}}", "{\"l\":{\"@o\":[{\"@r\":[0,2]}]}}"));
+        Assert.assertNull(merge("{\"l\":{\"@o\":[\"1\",\"2\"]}}", "{\"l\":{\"@o\":[{\"@r\":[0,2]}]}}"));
+        Assert.assertNull(merge("{\"a\":{\"l\":{\"@o\":[\"1\"]}}}", "{\"a\":{\"l\":{\"@o\":[{\"@r\":[0,2]}]}}}"));
+    }
+}
@@ -45,4 +45,34 @@ public class JsonAlgebra_PatchTests {
         JsonNode result = JsonAlgebra.patch(target, patch);
         Assert.assertEquals("{\"x\":{}}", result.toString());
     }
+    private static void assertStreamMatchesTree(String target, String patch) {
+        JsonNode expected = JsonAlgebra.patch(Utility.parseJsonObject(target), Utility.parseJsonObject(patch));
+        JsonNode streamed = JsonAlgebra.patch(Utility.parseJsonObject(target), new JsonStreamReader(patch));
+        Assert.assertEquals(expected, streamed);
+        ObjectNode original = Utility.parseJsonObject(target);
+        JsonNode copied = JsonAlgebra.patchCopyOnWrite(original, new JsonStreamReader(patch));
+        Assert.assertEquals(expected, copied);
+        Assert.assertEquals(Utility.parseJsonObject(target), original);
+    }
+    @Test
+    public void stream_matches_tree() {
+        assertStreamMatchesTree("{}", "{}");
+        assertStreamMatchesTree("{\"x\":123}", "{}");
+        assertStreamMatchesTree("{}", "{\"x\":123}");
+        assertStreamMatchesTree("{\"x\":123}", "{\"x\":null}");
+        assertStreamMatchesTree("{\"x\":123}", "{\"x\":{\"y\":1,\"z\":null}}");
+        assertStreamMatchesTree("{\"x\":{\"y\":1,\"z\":2}}", "{\"x\":{\"z\":null,\"w\":\"hi\\n\"}}");
+        assertStreamMatchesTree("{\"x\":1}", "{\"a\":[1,null,{\"b\":null}],\"t\":true,\"f\":false}");
+        assertStreamMatchesTree("{}", "{\"i\":-42,\"l\":12345678901,\"d\":1.5,\"e\":2E3,\"big\":123456789012345678901234567890}");
+    }
+    @Test
+    public void copy_on_write_shares_untouched() {
+        ObjectNode target = Utility.parseJsonObject("{\"a\":{\"x\":1},\"b\":{\"y\":{\"z\":2}}}");
+        JsonNode result = JsonAlgebra.patchCopyOnWrite(target, new JsonStreamReader("{\"b\":{\"w\":3}}"));
+        Assert.assertEquals("{\"a\":{\"x\":1},\"b\":{\"y\":{\"z\":2},\"w\":3}}", result.toString());
+        Assert.assertSame(target.get("a"), result.get("a"));
+        Assert.assertNotSame(target.get("b"), result.get("b"));
+        Assert.assertSame(target.get("b").get("y"), result.get("b").get("y"));
+        Assert.assertEquals("{\"a\":{\"x\":1},\"b\":{\"y\":{\"z\":2}}}", target.toString());
+    }
 }
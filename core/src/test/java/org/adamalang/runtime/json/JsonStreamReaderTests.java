@@ -160,4 +160,115 @@ public class JsonStreamReaderTests {
 
         }
     }
+
+    @Test
+    public void whitespace() {
+        JsonStreamReader reader = new JsonStreamReader(" { \"x\" : [ 1 , 2 ] ,\n\t\"y\" : true } \r\n");
+        Assert.assertTrue(reader.startObject());
+        Assert.assertTrue(reader.notEndOfObject());
+        Assert.assertEquals("x", reader.fieldName());
+        Assert.assertTrue(reader.startArray());
+        Assert.assertTrue(reader.notEndOfArray());
+        Assert.assertEquals(1, reader.readInteger());
+        Assert.assertTrue(reader.notEndOfArray());
+        Assert.assertEquals(2, reader.readInteger());
+        Assert.assertFalse(reader.notEndOfArray());
+        Assert.assertTrue(reader.notEndOfObject());
+        Assert.assertEquals("y", reader.fieldName());
+        Assert.assertTrue(reader.readBoolean());
+        Assert.assertFalse(reader.notEndOfObject());
+        Assert.assertTrue(reader.end());
+    }
+
+    @Test
+    public void fieldNamesInterned() {
+        JsonStreamReader a = new JsonStreamReader("{\"interned_field_name\":1}");
+        JsonStreamReader b = new JsonStreamReader("{\"interned_field_name\":2}");
+        a.startObject();
+        b.startObject();
+        a.notEndOfObject();
+        b.notEndOfObject();
+        Assert.assertEquals("interned_field_name".hashCode(), a.fieldNameHash());
+        String x = a.fieldName();
+        String y = b.fieldName();
+        Assert.assertEquals("interned_field_name", x);
+        Assert.assertSame(x, y);
+    }
+
+    @Test
+    public void fieldNameHashEscaped() {
+        JsonStreamReader reader = new JsonStreamReader("{\"a\\nb\":1,\"x\":2}");
+        reader.startObject();
+        reader.notEndOfObject();
+        Assert.assertEquals("a\nb".hashCode(), reader.fieldNameHash());
+        Assert.assertEquals("a\nb", reader.fieldName());
+        Assert.assertEquals(1, reader.readInteger());
+    }
+
+    @Test
+    public void numbers() {
+        JsonStreamReader reader = new JsonStreamReader("[-42,+7,\"-9000000000\",2147483647,-2147483648,123456789012345678901,1.5e3]");
+        Assert.assertTrue(reader.startArray());
+        Assert.assertEquals(-42, reader.readInteger());
+        Assert.assertEquals(7, reader.readInteger());
+        Assert.assertEquals(-9000000000L, reader.readLong());
+        Assert.assertEquals(Integer.MAX_VALUE, reader.readInteger());
+        Assert.assertEquals(Integer.MIN_VALUE, reader.readInteger());
+        try {
+            reader.readLong();
+            Assert.fail();
+        } catch (NumberFormatException nfe) {
+        }
+        Assert.assertEquals(1500.0, reader.readDouble(), 0.01);
+        Assert.assertFalse(reader.notEndOfArray());
+    }
+
+    @Test
+    public void intOverflow() {
+        JsonStreamReader reader = new JsonStreamReader("[2147483648, 1.5]");
+        reader.startArray();
+        try {
+            reader.readInteger();
+            Assert.fail();
+        } catch (NumberFormatException nfe) {
+        }
+        try {
+            reader.readInteger();
+            Assert.fail();
+        } catch (NumberFormatException nfe) {
+        }
+    }
+
+    @Test
+    public void matchFieldName() {
+        JsonStreamReader reader = new JsonStreamReader("{\"xy\":1,\"x\\ty\":2,\"z\":3}");
+        reader.startObject();
+        Assert.assertTrue(reader.notEndOfObject());
+        Assert.assertFalse(reader.matchFieldName("x"));
+        Assert.assertFalse(reader.matchFieldName("xyz"));
+        Assert.assertTrue(reader.matchFieldName("xy"));
+        Assert.assertEquals(1, reader.readInteger());
+        Assert.assertFalse(reader.matchFieldName("xy"));
+        Assert.assertTrue(reader.matchFieldName("x\ty"));
+        Assert.assertEquals(2, reader.readInteger());
+        Assert.assertEquals("z", reader.fieldName());
+        Assert.assertEquals(3, reader.readInteger());
+        Assert.assertFalse(reader.matchFieldName("z"));
+        Assert.assertFalse(reader.notEndOfObject());
+    }
+
+    @Test
+    public void numericFieldNames() {
+        JsonStreamReader reader = new JsonStreamReader("{\"42\":1,\"-7\":2,\"9000000000\":3,\"\\u0031\":4}");
+        reader.startObject();
+        Assert.assertEquals(42, reader.fieldNameAsInteger());
+        Assert.assertEquals(1, reader.readInteger());
+        Assert.assertEquals(-7, reader.fieldNameAsInteger());
+        Assert.assertEquals(2, reader.readInteger());
+        Assert.assertEquals(9000000000L, reader.fieldNameAsLong());
+        Assert.assertEquals(3, reader.readInteger());
+        Assert.assertEquals(1, reader.fieldNameAsInteger());
+        Assert.assertEquals(4, reader.readInteger());
+        Assert.assertFalse(reader.notEndOfObject());
+    }
 }
@@ -260,4 +260,55 @@ public class JsonStreamWriterTests {
         writer.writeString("" + (char) (5 * 256) + "" + (char) (40 * 256 + 5));
         Assert.assertEquals("\"\\u0500\\u2805\"", writer.toString());
     }
+
+    @Test
+    public void deepNesting() {
+        JsonStreamWriter w = new JsonStreamWriter();
+        StringBuilder expected = new StringBuilder();
+        for (int k = 0; k < 100; k++) {
+            w.beginArray();
+            w.writeInteger(k);
+            expected.append(k == 0 ? "[" : ",[").append(k);
+        }
+        for (int k = 0; k < 100; k++) {
+            w.endArray();
+            expected.append("]");
+        }
+        w.writeInteger(1);
+        Assert.assertEquals(expected.toString() + "1", w.toString());
+    }
+
+    @Test
+    public void escapes() {
+        JsonStreamWriter w = new JsonStreamWriter();
+        w.writeString("a\u0001b\u001fc\u00e9\u4e16\uffff");
+        Assert.assertEquals("\"a\\u0001b\\u001fc\\u00e9\\u4e16\\uffff\"", w.toString());
+    }
+
+    @Test
+    public void reset() {
+        JsonStreamWriter w = new JsonStreamWriter();
+        w.beginObject();
+        w.writeObjectFieldIntro("x");
+        w.beginArray();
+        w.writeInteger(1);
+        w.reset();
+        Assert.assertEquals("", w.toString());
+        w.beginArray();
+        w.writeInteger(1);
+        w.writeInteger(2);
+        w.endArray();
+        Assert.assertEquals("[1,2]", w.toString());
+    }
+
+    @Test
+    public void resetDropsHugeBuffers() {
+        JsonStreamWriter w = new JsonStreamWriter();
+        String big = "x".repeat(1024 * 1024);
+        w.writeFastString(big);
+        w.writeFastString(big);
+        w.reset();
+        w.writeInteger(42);
+        Assert.assertEquals("42", w.toString());
+    }
 }
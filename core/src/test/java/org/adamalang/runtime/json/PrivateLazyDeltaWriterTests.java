@@ -60,4 +60,46 @@ public class PrivateLazyDeltaWriterTests {
         obj.end();
         Assert.assertEquals("[123,null,\"hi\",13.271,true]", writer.toString());
     }
+
+    @Test
+    public void encodedFields() {
+        JsonStreamWriter writer = new JsonStreamWriter();
+        PrivateLazyDeltaWriter lazy = PrivateLazyDeltaWriter.bind(NtClient.NO_ONE, writer);
+        PrivateLazyDeltaWriter obj = lazy.planObject();
+        obj.planEncodedField("\"x\":").writeInt(1);
+        obj.planEncodedField("\"y\":").planObject().planEncodedField("\"z\":").writeInt(2);
+        obj.end();
+        Assert.assertEquals("{\"x\":1,\"y\":{\"z\":2}", writer.toString());
+    }
+
+    @Test
+    public void siblingsAbandonUnwritten() {
+        JsonStreamWriter writer = new JsonStreamWriter();
+        PrivateLazyDeltaWriter lazy = PrivateLazyDeltaWriter.bind(NtClient.NO_ONE, writer);
+        PrivateLazyDeltaWriter obj = lazy.planObject();
+        PrivateLazyDeltaWriter a = obj.planField("a");
+        PrivateLazyDeltaWriter inner = a.planObject();
+        inner.planField("deep").planArray();
+        Assert.assertFalse(inner.end());
+        PrivateLazyDeltaWriter b = obj.planField("b");
+        Assert.assertSame(a, b);
+        b.planObject().planField(7).writeInt(7);
+        Assert.assertTrue(inner.end());
+        Assert.assertTrue(obj.end());
+        Assert.assertEquals("{\"b\":{\"7\":7}}", writer.toString());
+    }
+
+    @Test
+    public void deep() {
+        JsonStreamWriter writer = new JsonStreamWriter();
+        PrivateLazyDeltaWriter at = PrivateLazyDeltaWriter.bind(NtClient.NO_ONE, writer);
+        StringBuilder expected = new StringBuilder();
+        for (int k = 0; k < 40; k++) {
+            at = at.planObject().planField(k);
+            expected.append("{\"").append(k).append("\":");
+        }
+        at.writeNull();
+        expected.append("null");
+        Assert.assertEquals(expected.toString(), writer.toString());
+    }
 }
@@ -0,0 +1,34 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Utf8BufferPoolTests {
+  @Test
+  public void drops_big() {
+    final var pool = new Utf8BufferPool(16, 64, 4);
+    final var buffer = pool.acquire();
+    buffer.append("0123456789012345678901234567890123456789012345678901234567890123456789");
+    pool.release(buffer);
+    Assert.assertEquals(0, pool.available());
+  }
+
+  @Test
+  public void reuse() {
+    final var pool = new Utf8BufferPool(16, 1024, 1);
+    final var a = pool.acquire();
+    final var b = pool.acquire();
+    Assert.assertTrue(a != b);
+    a.append("hello");
+    pool.release(a);
+    pool.release(b);
+    Assert.assertEquals(1, pool.available());
+    final var c = pool.acquire();
+    Assert.assertTrue(c == a);
+    Assert.assertEquals(0, c.size());
+    Assert.assertEquals(0, pool.available());
+  }
+}
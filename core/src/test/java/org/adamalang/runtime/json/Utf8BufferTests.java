@@ -0,0 +1,65 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.json;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Utf8BufferTests {
+  @Test
+  public void ascii_grows() {
+    final var buffer = new Utf8Buffer(1);
+    Assert.assertEquals(16, buffer.capacity());
+    for (var k = 0; k < 100; k++) {
+      buffer.append("xyz");
+      buffer.append(',');
+    }
+    Assert.assertEquals(400, buffer.size());
+    Assert.assertTrue(buffer.capacity() >= 400);
+    Assert.assertEquals("xyz,xyz,", buffer.toString().substring(0, 8));
+    buffer.reset();
+    Assert.assertEquals(0, buffer.size());
+    Assert.assertEquals("", buffer.toString());
+  }
+
+  @Test
+  public void integers_and_booleans() {
+    final var buffer = new Utf8Buffer(1);
+    final int[] values = new int[] {0, 7, -7, 10, 1234567890, Integer.MAX_VALUE, Integer.MIN_VALUE};
+    final var expected = new StringBuilder();
+    for (final int value : values) {
+      buffer.appendInteger(value);
+      buffer.append(',');
+      expected.append(value).append(',');
+    }
+    buffer.appendBoolean(true);
+    buffer.appendBoolean(false);
+    expected.append("truefalse");
+    Assert.assertEquals(expected.toString(), buffer.toString());
+  }
+
+  @Test
+  public void lone_surrogate() {
+    final var buffer = new Utf8Buffer(16);
+    buffer.append("a\ud83db");
+    Assert.assertEquals("a?b", buffer.toString());
+  }
+
+  @Test
+  public void matches_jdk() throws Exception {
+    final var text = "{\"x\":\"éß世界😀\"}";
+    final var buffer = new Utf8Buffer(4);
+    buffer.append(text);
+    Assert.assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), buffer.toByteArray());
+    Assert.assertEquals(text, buffer.toString());
+    final var memory = new ByteArrayOutputStream();
+    buffer.writeTo(memory);
+    Assert.assertArrayEquals(text.getBytes(StandardCharsets.UTF_8), memory.toByteArray());
+    final var view = buffer.toByteBuffer();
+    Assert.assertEquals(buffer.size(), view.remaining());
+    Assert.assertTrue(view.array() == buffer.bytes());
+  }
+}
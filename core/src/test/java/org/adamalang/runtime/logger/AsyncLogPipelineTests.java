@@ -0,0 +1,88 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncLogPipelineTests {
+  @Test
+  public void backed_up_then_blocks() throws Exception {
+    final var pipeline = new AsyncLogPipeline(4);
+    final var gate = new CountDownLatch(1);
+    final var started = new CountDownLatch(1);
+    pipeline.execute(() -> {
+      started.countDown();
+      try {
+        gate.await();
+      } catch (final InterruptedException ie) {
+      }
+    });
+    Assert.assertTrue(started.await(5000, TimeUnit.MILLISECONDS));
+    pipeline.execute(() -> {});
+    Assert.assertFalse(pipeline.isBackedUp());
+    pipeline.execute(() -> {});
+    Assert.assertTrue(pipeline.isBackedUp());
+    pipeline.execute(() -> {});
+    pipeline.execute(() -> {});
+    Assert.assertEquals(4, pipeline.size());
+    final var blocked = new CountDownLatch(1);
+    final var producer = new Thread(() -> {
+      try {
+        pipeline.execute(() -> {});
+        blocked.countDown();
+      } catch (final ErrorCodeException ece) {
+      }
+    });
+    producer.start();
+    Assert.assertFalse(blocked.await(50, TimeUnit.MILLISECONDS));
+    gate.countDown();
+    Assert.assertTrue(blocked.await(5000, TimeUnit.MILLISECONDS));
+    pipeline.close();
+    Assert.assertEquals(0, pipeline.size());
+  }
+
+  @Test
+  public void closed() throws Exception {
+    final var pipeline = new AsyncLogPipeline(0);
+    pipeline.close();
+    try {
+      pipeline.execute(() -> {});
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(ErrorCodeException.ASYNC_LOGGER_CANT_QUEUE, ece.code);
+    }
+  }
+
+  @Test
+  public void in_order() throws Exception {
+    final var pipeline = new AsyncLogPipeline(8);
+    final var seen = new ArrayList<Integer>();
+    for (var k = 0; k < 100; k++) {
+      final var value = k;
+      pipeline.execute(() -> seen.add(value));
+    }
+    pipeline.close();
+    Assert.assertEquals(100, seen.size());
+    for (var k = 0; k < 100; k++) {
+      Assert.assertEquals(k, (int) seen.get(k));
+    }
+  }
+
+  @Test
+  public void survives_a_failing_task() throws Exception {
+    final var pipeline = new AsyncLogPipeline(4);
+    final var ran = new CountDownLatch(1);
+    pipeline.execute(() -> {
+      throw new IllegalStateException("bad task");
+    });
+    pipeline.execute(ran::countDown);
+    Assert.assertTrue(ran.await(5000, TimeUnit.MILLISECONDS));
+    pipeline.close();
+  }
+}
@@ -0,0 +1,29 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncTransactionLogStoreTests {
+  @Test
+  public void flow() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var store = new AsyncTransactionLogStore(new JsonDeltaDiskLogStore(null), 16);
+    try {
+      Assert.assertFalse(store.exists(root, "doc"));
+      final var logger = store.openFillAndAppend(root, "doc", NoOpLogger.INSTANCE);
+      Assert.assertTrue(logger instanceof AsyncTransactionLogger);
+      logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("a", "1"), new TransactionResult(false, 0, 1)));
+      logger.close();
+      Assert.assertTrue(store.exists(root, "doc"));
+      final var recovered = ObjectNodeLogger.fresh();
+      store.openFillAndAppend(root, "doc", recovered).close();
+      Assert.assertEquals("{\"a\":1}", recovered.node.toString());
+    } finally {
+      store.close();
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
@@ -0,0 +1,275 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.adamalang.runtime.contracts.DurabilityCallback;
+import org.adamalang.runtime.contracts.SnapshotTransactionLogger;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncTransactionLoggerTests {
+  private static DurabilityCallback recorder(final ArrayList<String> events, final String name, final CountDownLatch latch) {
+    return new DurabilityCallback() {
+      @Override
+      public void failure(final ErrorCodeException ex) {
+        synchronized (events) {
+          events.add(name + ":" + ex.code);
+        }
+        latch.countDown();
+      }
+
+      @Override
+      public void success() {
+        synchronized (events) {
+          events.add(name);
+        }
+        latch.countDown();
+      }
+    };
+  }
+
+  private static Transaction transaction(final int seq) {
+    return new Transaction(seq, JsonHelper.encode("x", "" + seq), JsonHelper.encode("delta" + seq, "" + seq), new TransactionResult(true, 0, seq));
+  }
+
+  @Test
+  public void callbacks_in_order() throws Exception {
+    final var pipeline = new AsyncLogPipeline(4);
+    final var written = new ArrayList<Integer>();
+    final var logger = new AsyncTransactionLogger(pipeline, new TransactionLogger() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) {
+        written.add(transaction.transactionResult.seq);
+      }
+    });
+    final var events = new ArrayList<String>();
+    final var latch = new CountDownLatch(10);
+    for (var k = 1; k <= 10; k++) {
+      logger.ingest(transaction(k));
+      logger.whenDurable(recorder(events, "t" + k, latch));
+    }
+    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    logger.close();
+    pipeline.close();
+    for (var k = 1; k <= 10; k++) {
+      Assert.assertEquals(k, (int) written.get(k - 1));
+      Assert.assertEquals("t" + k, events.get(k - 1));
+    }
+  }
+
+  @Test
+  public void closed_pipeline() throws Exception {
+    final var pipeline = new AsyncLogPipeline(4);
+    final var logger = new AsyncTransactionLogger(pipeline, NoOpLogger.INSTANCE);
+    pipeline.close();
+    final var events = new ArrayList<String>();
+    final var latch = new CountDownLatch(1);
+    logger.whenDurable(recorder(events, "x", latch));
+    Assert.assertEquals("x:" + ErrorCodeException.ASYNC_LOGGER_CANT_QUEUE, events.get(0));
+    try {
+      logger.ingest(transaction(1));
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(ErrorCodeException.ASYNC_LOGGER_CANT_QUEUE, ece.code);
+    }
+  }
+
+  @Test
+  public void durable_delegate() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(1024 * 1024, 5);
+      final var pipeline = new AsyncLogPipeline(4);
+      final var logger = new AsyncTransactionLogger(pipeline, GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, NoOpLogger.INSTANCE));
+      final var events = new ArrayList<String>();
+      final var latch = new CountDownLatch(1);
+      logger.ingest(transaction(1));
+      logger.whenDurable(recorder(events, "x", latch));
+      Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals(1, SynchronousJsonDeltaDiskLogger.pump(dump, NoOpLogger.INSTANCE));
+      logger.close();
+      pipeline.close();
+      spool.close();
+    } finally {
+      dump.delete();
+    }
+  }
+
+  @Test
+  public void failure_stops_writing() throws Exception {
+    final var pipeline = new AsyncLogPipeline(8);
+    final var written = new ArrayList<Integer>();
+    final var logger = new AsyncTransactionLogger(pipeline, new TransactionLogger() {
+      @Override
+      public void close() throws Exception {
+        throw new ErrorCodeException(ErrorCodeException.BINARY_DISK_LOGGER_CANT_WRITE);
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) throws ErrorCodeException {
+        if (transaction.transactionResult.seq == 2) { throw new ErrorCodeException(ErrorCodeException.BINARY_DISK_LOGGER_CANT_WRITE); }
+        written.add(transaction.transactionResult.seq);
+      }
+    });
+    final var events = new ArrayList<String>();
+    final var latch = new CountDownLatch(2);
+    // hold the I/O thread such that every ingest is queued before the failure
+    final var gate = new CountDownLatch(1);
+    pipeline.execute(() -> {
+      try {
+        gate.await();
+      } catch (final InterruptedException ie) {
+      }
+    });
+    logger.ingest(transaction(1));
+    logger.whenDurable(recorder(events, "a", latch));
+    logger.ingest(transaction(2));
+    logger.ingest(transaction(3));
+    logger.whenDurable(recorder(events, "b", latch));
+    gate.countDown();
+    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    Assert.assertEquals("a", events.get(0));
+    Assert.assertEquals("b:" + ErrorCodeException.BINARY_DISK_LOGGER_CANT_WRITE, events.get(1));
+    Assert.assertEquals(1, written.size());
+    try {
+      logger.ingest(transaction(4));
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(ErrorCodeException.BINARY_DISK_LOGGER_CANT_WRITE, ece.code);
+    }
+    try {
+      logger.close();
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(ErrorCodeException.BINARY_DISK_LOGGER_CANT_WRITE, ece.code);
+    }
+    pipeline.close();
+  }
+
+  @Test
+  public void runtime_failure_stops_writing() throws Exception {
+    final var pipeline = new AsyncLogPipeline(8);
+    final var written = new ArrayList<Integer>();
+    final var logger = new AsyncTransactionLogger(pipeline, new TransactionLogger() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) {
+        if (transaction.transactionResult.seq == 2) { throw new IllegalStateException("bad disk"); }
+        written.add(transaction.transactionResult.seq);
+      }
+    });
+    final var events = new ArrayList<String>();
+    final var latch = new CountDownLatch(2);
+    // hold the I/O thread such that every ingest is queued before the failure
+    final var gate = new CountDownLatch(1);
+    pipeline.execute(() -> {
+      try {
+        gate.await();
+      } catch (final InterruptedException ie) {
+      }
+    });
+    logger.ingest(transaction(1));
+    logger.whenDurable(recorder(events, "a", latch));
+    logger.ingest(transaction(2));
+    logger.ingest(transaction(3));
+    logger.whenDurable(recorder(events, "b", latch));
+    gate.countDown();
+    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    Assert.assertEquals("a", events.get(0));
+    Assert.assertEquals("b:" + ErrorCodeException.ASYNC_LOGGER_CANT_WRITE, events.get(1));
+    Assert.assertEquals(1, written.size());
+    try {
+      logger.ingest(transaction(4));
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(ErrorCodeException.ASYNC_LOGGER_CANT_WRITE, ece.code);
+    }
+    logger.close();
+    pipeline.close();
+  }
+
+  @Test
+  public void snapshots_are_queued() throws Exception {
+    final var pipeline = new AsyncLogPipeline(4);
+    final var seen = new ArrayList<String>();
+    final var logger = new AsyncTransactionLogger(pipeline, new SnapshotTransactionLogger() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) {
+        seen.add("t" + transaction.transactionResult.seq);
+      }
+
+      @Override
+      public boolean shouldSnapshot() {
+        return seen.size() == 2;
+      }
+
+      @Override
+      public void snapshot(final int seq, final String dump) throws ErrorCodeException {
+        seen.add("s" + seq + dump);
+        throw new ErrorCodeException(ErrorCodeException.SNAPSHOT_LOGGER_CANT_SNAPSHOT);
+      }
+    });
+    Assert.assertFalse(logger.shouldSnapshot());
+    logger.ingest(transaction(1));
+    logger.ingest(transaction(2));
+    final var latch = new CountDownLatch(1);
+    logger.whenDurable(recorder(new ArrayList<>(), "x", latch));
+    Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+    Assert.assertTrue(logger.shouldSnapshot());
+    logger.snapshot(2, "{}");
+    Assert.assertFalse(logger.shouldSnapshot());
+    logger.ingest(transaction(3));
+    logger.close();
+    pipeline.close();
+    Assert.assertEquals("[t1, t2, s2{}, t3]", seen.toString());
+  }
+
+  @Test
+  public void transactor_backpressure() throws Exception {
+    final var pipeline = new AsyncLogPipeline(2);
+    final var gate = new CountDownLatch(1);
+    final var logger = new AsyncTransactionLogger(pipeline, new TransactionLogger() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) {
+        try {
+          gate.await();
+        } catch (final InterruptedException ie) {
+        }
+      }
+    });
+    final var transactor = new Transactor(null, null, null, logger);
+    Assert.assertFalse(transactor.isBackedUp());
+    logger.ingest(transaction(1));
+    logger.ingest(transaction(2));
+    logger.ingest(transaction(3));
+    Assert.assertTrue(transactor.isBackedUp());
+    Assert.assertTrue(logger.isBackedUp());
+    gate.countDown();
+    logger.close();
+    Assert.assertFalse(transactor.isBackedUp());
+    pipeline.close();
+    Assert.assertFalse(new Transactor(null, null, null, NoOpLogger.INSTANCE).isBackedUp());
+  }
+}
@@ -0,0 +1,155 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryTransactionDiskLoggerTests {
+  private static void appendBytes(final File file, final byte[] bytes) throws Exception {
+    final var output = new FileOutputStream(file, true);
+    try {
+      output.write(bytes);
+    } finally {
+      output.close();
+    }
+  }
+
+  private static void fill(final TransactionLogger logger) throws Exception {
+    logger.ingest(new Transaction(1, JsonHelper.encode("x", "1"), JsonHelper.encode("delta", "data"), new TransactionResult(true, 0, 1)));
+    logger.ingest(new Transaction(2, JsonHelper.encode("x", "2"), JsonHelper.encode("delta", "data_overwrite"), new TransactionResult(true, 0, 2)));
+    logger.ingest(new Transaction(3, JsonHelper.encode("x", "3"), JsonHelper.encode("delta1", "d1"), new TransactionResult(true, 0, 3)));
+    logger.ingest(new Transaction(4, JsonHelper.encode("x", "4"), JsonHelper.encode("delta2", "d2"), new TransactionResult(false, 100, 4)));
+  }
+
+  @Test
+  public void convert() throws Exception {
+    final var source = File.createTempFile("__test_file", ".jsonlog");
+    final var destination = new File(source.getPath() + ".binlog");
+    try {
+      {
+        final var logger = SynchronousJsonDeltaDiskLogger.openFillAndAppend(source, NoOpLogger.INSTANCE);
+        fill(logger);
+        logger.close();
+      }
+      Assert.assertEquals(4, BinaryTransactionDiskLogger.convertFromNewlineJson(source, destination));
+      final var target = ObjectNodeLogger.fresh();
+      final var logger = BinaryTransactionDiskLogger.openFillAndAppend(destination, target);
+      Assert.assertEquals(4, logger.getRecordsReadAtStart());
+      logger.close();
+      Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\",\"delta2\":\"d2\"}", target.node.toString());
+      try {
+        BinaryTransactionDiskLogger.convertFromNewlineJson(source, destination);
+        Assert.fail();
+      } catch (final ErrorCodeException ece) {
+        Assert.assertEquals(5205, ece.code);
+      }
+    } finally {
+      source.delete();
+      destination.delete();
+    }
+  }
+
+  @Test
+  public void flow_cant_open_dir1() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".binlog");
+    final var dumpIsDir = new File(dump.getName() + ".dir");
+    dumpIsDir.mkdir();
+    try {
+      BinaryTransactionDiskLogger.openFillAndAppend(dumpIsDir, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5202, ece.code);
+    } finally {
+      dump.delete();
+      dumpIsDir.delete();
+    }
+  }
+
+  @Test
+  public void flow_cant_open_dir2() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".binlog");
+    final var dumpIsDir = new File(dump.getName() + ".dir2");
+    dumpIsDir.mkdir();
+    try {
+      new BinaryTransactionDiskLogger(0, 0, dumpIsDir, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5203, ece.code);
+    } finally {
+      dump.delete();
+      dumpIsDir.delete();
+    }
+  }
+
+  @Test
+  public void flow_file_create_from_nothing() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".binlog");
+    final var dumpDoesNotExist = new File(dump.getName() + ".na");
+    try {
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = BinaryTransactionDiskLogger.openFillAndAppend(dumpDoesNotExist, target);
+        logger.getFile();
+        Assert.assertEquals(-1, logger.getRecordsReadAtStart());
+        fill(logger);
+        logger.close();
+        Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\",\"delta2\":\"d2\"}", target.node.toString());
+      }
+      {
+        final var seqs = new StringBuilder();
+        Assert.assertEquals(4, BinaryTransactionDiskLogger.pump(dumpDoesNotExist, new TransactionLogger() {
+          @Override
+          public void close() {
+          }
+
+          @Override
+          public void ingest(final Transaction transaction) {
+            seqs.append(transaction.seq).append(transaction.transactionResult.needsInvalidation ? "+" : "-");
+          }
+        }));
+        Assert.assertEquals("1+2+3+4-", seqs.toString());
+      }
+    } finally {
+      dump.delete();
+      dumpDoesNotExist.delete();
+    }
+  }
+
+  @Test
+  public void torn_tail_is_cut_off() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".binlog");
+    try {
+      {
+        final var logger = BinaryTransactionDiskLogger.openFillAndAppend(dump, NoOpLogger.INSTANCE);
+        Assert.assertEquals(0, logger.getRecordsReadAtStart());
+        fill(logger);
+        logger.close();
+      }
+      final var goodLength = dump.length();
+      final var partial = BinaryTransactionDiskRecordTests.bytesOf(new Transaction(5, "{}", "{\"lost\":true}", new TransactionResult(true, 0, 5)));
+      appendBytes(dump, Arrays.copyOf(partial, partial.length - 3));
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = BinaryTransactionDiskLogger.openFillAndAppend(dump, target);
+        Assert.assertEquals(4, logger.getRecordsReadAtStart());
+        Assert.assertEquals(goodLength, dump.length());
+        logger.ingest(new Transaction(5, "{}", "{\"kept\":true}", new TransactionResult(true, 0, 5)));
+        logger.close();
+      }
+      {
+        final var target = ObjectNodeLogger.fresh();
+        Assert.assertEquals(5, BinaryTransactionDiskLogger.pump(dump, target));
+        Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\",\"delta2\":\"d2\",\"kept\":true}", target.node.toString());
+      }
+    } finally {
+      dump.delete();
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryTransactionDiskRecordTests {
+  public static byte[] bytesOf(final Transaction transaction) {
+    final var buffer = BinaryTransactionDiskRecord.encode(transaction);
+    final var bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  public static DataInputStream inputOf(final byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+
+  @Test
+  public void bad_crc() throws Exception {
+    final var bytes = bytesOf(new Transaction(1, "{\"x\":1}", "{\"y\":2}", new TransactionResult(true, 0, 1)));
+    bytes[bytes.length - 2] = 'z';
+    final var record = new BinaryTransactionDiskRecord(inputOf(bytes), bytes.length);
+    Assert.assertFalse(record.valid());
+    Assert.assertTrue(record.torn);
+  }
+
+  @Test
+  public void bad_inner_length() throws Exception {
+    final var bytes = bytesOf(new Transaction(1, "{}", "{}", new TransactionResult(false, 0, 1)));
+    // corrupt the request length while keeping a valid crc
+    bytes[8 + 13 + 3] = 100;
+    final var body = Arrays.copyOfRange(bytes, 8, bytes.length);
+    final var crc = new CRC32();
+    crc.update(body);
+    final var fixed = ByteBuffer.wrap(bytes);
+    fixed.putInt(4, (int) crc.getValue());
+    final var record = new BinaryTransactionDiskRecord(inputOf(bytes), bytes.length);
+    Assert.assertFalse(record.valid());
+    Assert.assertTrue(record.torn);
+  }
+
+  @Test
+  public void empty() throws Exception {
+    final var record = new BinaryTransactionDiskRecord(inputOf(new byte[0]), 0);
+    Assert.assertFalse(record.valid());
+    Assert.assertFalse(record.torn);
+    Assert.assertEquals(0, record.size);
+  }
+
+  @Test
+  public void read_buffer() throws Exception {
+    final var a = bytesOf(new Transaction(1, "{}", "{\"a\":1}", new TransactionResult(false, 0, 1)));
+    final var b = bytesOf(new Transaction(2, "{}", "{\"b\":2}", new TransactionResult(true, 10, 2)));
+    final var buffer = ByteBuffer.allocateDirect(a.length + b.length + 20);
+    buffer.put(a);
+    buffer.put(b);
+    buffer.put(Arrays.copyOf(a, 10));
+    buffer.flip();
+    Assert.assertEquals("{\"a\":1}", BinaryTransactionDiskRecord.read(buffer).delta);
+    Assert.assertEquals(a.length, buffer.position());
+    Assert.assertEquals(2, BinaryTransactionDiskRecord.read(buffer).transactionResult.seq);
+    Assert.assertNull(BinaryTransactionDiskRecord.read(buffer));
+    Assert.assertEquals(a.length + b.length, buffer.position());
+    buffer.limit(buffer.capacity());
+    buffer.put(a.length + b.length + 9, (byte) 0);
+    buffer.position(a.length + b.length + 12);
+    Assert.assertNull(BinaryTransactionDiskRecord.read(buffer));
+    Assert.assertEquals(a.length + b.length + 12, buffer.position());
+  }
+
+  @Test
+  public void read_buffer_bad_crc() throws Exception {
+    final var bytes = bytesOf(new Transaction(1, "{}", "{\"a\":1}", new TransactionResult(false, 0, 1)));
+    bytes[bytes.length - 2] = 'z';
+    final var buffer = ByteBuffer.wrap(bytes);
+    Assert.assertNull(BinaryTransactionDiskRecord.read(buffer));
+    Assert.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  public void roundtrip() throws Exception {
+    final var bytes = bytesOf(new Transaction(42, "{\"command\":\"send\"}", "{\"name\":\"été\"}", new TransactionResult(true, 250, 43)));
+    final var record = new BinaryTransactionDiskRecord(inputOf(bytes), bytes.length);
+    Assert.assertTrue(record.valid());
+    Assert.assertFalse(record.torn);
+    Assert.assertEquals(bytes.length, record.size);
+    Assert.assertEquals(42, record.transaction.seq);
+    Assert.assertEquals("{\"command\":\"send\"}", record.transaction.request);
+    Assert.assertEquals("{\"name\":\"été\"}", record.transaction.delta);
+    Assert.assertTrue(record.transaction.transactionResult.needsInvalidation);
+    Assert.assertEquals(250, record.transaction.transactionResult.whenToInvalidMilliseconds);
+    Assert.assertEquals(43, record.transaction.transactionResult.seq);
+  }
+
+  @Test
+  public void too_big_for_remaining() throws Exception {
+    final var bytes = bytesOf(new Transaction(1, "{}", "{}", new TransactionResult(false, 0, 1)));
+    final var record = new BinaryTransactionDiskRecord(inputOf(bytes), bytes.length - 1);
+    Assert.assertFalse(record.valid());
+    Assert.assertTrue(record.torn);
+  }
+
+  @Test
+  public void truncated() throws Exception {
+    final var bytes = bytesOf(new Transaction(1, "{}", "{}", new TransactionResult(false, 0, 1)));
+    final var cut = Arrays.copyOf(bytes, 6);
+    final var record = new BinaryTransactionDiskRecord(inputOf(cut), 100);
+    Assert.assertFalse(record.valid());
+    Assert.assertTrue(record.torn);
+  }
+}
@@ -0,0 +1,78 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.adamalang.runtime.json.Utf8Buffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeflatedJsonLogBlockTests {
+  private static byte[] plain() {
+    final var transaction = new Transaction(-1, "{\"command\":\"send\",\"timestamp\":\"1234\",\"who\":{\"agent\":\"jeff\",\"authority\":\"me\"},\"channel\":\"chan\",\"message\":{\"x\":1}}", "{\"__seq\":42,\"__entropy\":\"-5106534569952410475\",\"__messages\":null,\"x\":1}", new TransactionResult(false, 0, 42));
+    final var buffer = new Utf8Buffer(256);
+    NewlineJsonTransactionDiskRecord.writeTo(transaction, buffer);
+    return buffer.toByteArray();
+  }
+
+  private static byte[] read(final byte[] block, final int length) throws Exception {
+    final var input = new DataInputStream(new ByteArrayInputStream(block, 1, length - 1));
+    final var inflater = new Inflater();
+    try {
+      return DeflatedJsonLogBlock.read(input, inflater);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  @Test
+  public void corrupt() throws Exception {
+    final var deflater = new Deflater();
+    final var block = DeflatedJsonLogBlock.encode(deflater, plain(), 0, plain().length);
+    deflater.end();
+    block[block.length - 3] ^= 0x5A;
+    Assert.assertNull(read(block, block.length));
+  }
+
+  @Test
+  public void oversized_header_is_torn() throws Exception {
+    final var deflater = new Deflater();
+    final var block = DeflatedJsonLogBlock.encode(deflater, plain(), 0, plain().length);
+    deflater.end();
+    final var compressedTooBig = block.clone();
+    ByteBuffer.wrap(compressedTooBig).putInt(1, DeflatedJsonLogBlock.MAX_BLOCK_SIZE + 1);
+    Assert.assertNull(read(compressedTooBig, compressedTooBig.length));
+    final var plainTooBig = block.clone();
+    ByteBuffer.wrap(plainTooBig).putInt(5, Integer.MAX_VALUE);
+    Assert.assertNull(read(plainTooBig, plainTooBig.length));
+  }
+
+  @Test
+  public void roundtrip_and_smaller() throws Exception {
+    final var deflater = new Deflater();
+    final var plain = plain();
+    final var first = DeflatedJsonLogBlock.encode(deflater, plain, 0, plain.length);
+    final var second = DeflatedJsonLogBlock.encode(deflater, plain, 0, plain.length);
+    deflater.end();
+    Assert.assertArrayEquals(first, second);
+    Assert.assertEquals(DeflatedJsonLogBlock.MAGIC, first[0]);
+    Assert.assertTrue(first.length * 2 < plain.length);
+    Assert.assertEquals(new String(plain, StandardCharsets.UTF_8), new String(read(first, first.length), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void torn() throws Exception {
+    final var deflater = new Deflater();
+    final var block = DeflatedJsonLogBlock.encode(deflater, plain(), 0, plain().length);
+    deflater.end();
+    for (var k = 1; k < block.length; k++) {
+      Assert.assertNull(read(block, k));
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeflatedJsonLogInputStreamTests {
+  private static String drain(final byte[] bytes, final int chunk) throws Exception {
+    final var input = new DeflatedJsonLogInputStream(new ByteArrayInputStream(bytes));
+    try {
+      final var output = new ByteArrayOutputStream();
+      final var buffer = new byte[chunk];
+      int read;
+      while ((read = input.read(buffer, 0, chunk)) >= 0) {
+        output.write(buffer, 0, read);
+      }
+      Assert.assertEquals(0, input.read(buffer, 0, 0));
+      return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    } finally {
+      input.close();
+    }
+  }
+
+  @Test
+  public void mixed() throws Exception {
+    final var deflater = new Deflater();
+    final var log = new ByteArrayOutputStream();
+    final var a = "{\"a\":1}\n{\"b\":\"­\"}\n".getBytes(StandardCharsets.UTF_8);
+    final var b = "{\"c\":3}\n".getBytes(StandardCharsets.UTF_8);
+    log.write(a);
+    log.write(DeflatedJsonLogBlock.encode(deflater, b, 0, b.length));
+    log.write(DeflatedJsonLogBlock.encode(deflater, b, 0, b.length));
+    log.write(a);
+    deflater.end();
+    final var expected = "{\"a\":1}\n{\"b\":\"­\"}\n{\"c\":3}\n{\"c\":3}\n{\"a\":1}\n{\"b\":\"­\"}\n";
+    Assert.assertEquals(expected, drain(log.toByteArray(), 1));
+    Assert.assertEquals(expected, drain(log.toByteArray(), 1024));
+  }
+
+  @Test
+  public void plain_lines_in_bulk() throws Exception {
+    final var deflater = new Deflater();
+    final var log = new ByteArrayOutputStream();
+    final var a = "{\"a\":1}\n{\"b\":2}\n".getBytes(StandardCharsets.UTF_8);
+    final var b = "{\"c\":3}\n".getBytes(StandardCharsets.UTF_8);
+    log.write(a);
+    log.write(DeflatedJsonLogBlock.encode(deflater, b, 0, b.length));
+    log.write(a);
+    deflater.end();
+    final var input = new DeflatedJsonLogInputStream(new ByteArrayInputStream(log.toByteArray()));
+    try {
+      final var buffer = new byte[1024];
+      Assert.assertEquals(a.length, input.read(buffer, 0, buffer.length));
+      Assert.assertEquals(b.length, input.read(buffer, 0, buffer.length));
+      Assert.assertEquals(a.length, input.read(buffer, 0, buffer.length));
+      Assert.assertEquals("{\"a\":1}\n{\"b\":2}\n", new String(buffer, 0, a.length, StandardCharsets.UTF_8));
+      Assert.assertEquals(-1, input.read(buffer, 0, buffer.length));
+    } finally {
+      input.close();
+    }
+  }
+
+  @Test
+  public void torn_tail_ends() throws Exception {
+    final var deflater = new Deflater();
+    final var log = new ByteArrayOutputStream();
+    final var a = "{\"a\":1}\n".getBytes(StandardCharsets.UTF_8);
+    final var block = DeflatedJsonLogBlock.encode(deflater, a, 0, a.length);
+    deflater.end();
+    log.write(block);
+    log.write(block, 0, block.length - 2);
+    log.write(a);
+    Assert.assertEquals("{\"a\":1}\n", drain(log.toByteArray(), 16));
+  }
+}
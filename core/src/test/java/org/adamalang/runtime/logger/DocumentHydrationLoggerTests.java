@@ -0,0 +1,85 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.util.ArrayList;
+import org.adamalang.runtime.LivingDocumentTests;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.mocks.MockTime;
+import org.adamalang.runtime.natives.NtClient;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DocumentHydrationLoggerTests {
+  private static final String CODE = "@connected(who) { return true; } record R { int v; } table<R> tbl; public int t = 0; message Set { int v; } channel<Set> chan; @construct { transition #wait; } #wait { t += chan.fetch(@no_one).await().v; tbl <- {v:t}; (iterate tbl where v < 3).delete(); transition #wait; }";
+
+  private static void history(final Transactor transactor) throws Exception {
+    transactor.construct(NtClient.NO_ONE, "{}", "123");
+    transactor.drive();
+    transactor.connect(NtClient.NO_ONE);
+    for (var k = 1; k <= 4; k++) {
+      transactor.send(NtClient.NO_ONE, "chan", "{\"v\":" + k + "}");
+      transactor.drive();
+    }
+  }
+
+  @Test
+  public void adopt_when_created() throws Exception {
+    final var factory = LivingDocumentTests.compile(CODE);
+    final var transactor = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    transactor.create();
+    try {
+      transactor.adopt(factory.create(null));
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(ErrorCodeException.TRANSACTOR_CANT_CREATE_BECAUSE_ALREADY_CREATED, ece.code);
+    }
+  }
+
+  @Test
+  public void hydrate_matches_original() throws Exception {
+    final var factory = LivingDocumentTests.compile(CODE);
+    final var transactions = new ArrayList<Transaction>();
+    final var log = new TransactionLogger() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) {
+        transactions.add(transaction);
+      }
+    };
+    final var original = new Transactor(factory, null, new MockTime(), log);
+    history(original);
+    final var hydrator = new DocumentHydrationLogger(factory.create(null));
+    for (final Transaction transaction : transactions) {
+      hydrator.ingest(transaction);
+    }
+    hydrator.live();
+    final var hydrated = new Transactor(factory, null, new MockTime(), hydrator);
+    hydrated.adopt(hydrator.document);
+    Assert.assertEquals(original.json(), hydrated.json());
+    Assert.assertTrue(hydrated.json().contains("\"t\":10"));
+    hydrated.send(NtClient.NO_ONE, "chan", "{\"v\":100}");
+    hydrated.drive();
+    original.send(NtClient.NO_ONE, "chan", "{\"v\":100}");
+    original.drive();
+    Assert.assertEquals(original.json(), hydrated.json());
+    hydrated.close();
+  }
+
+  @Test
+  public void live_ignores() throws Exception {
+    final var factory = LivingDocumentTests.compile(CODE);
+    final var hydrator = new DocumentHydrationLogger(factory.create(null));
+    hydrator.ingest(new Transaction(1, "{}", "{\"t\":42}", new TransactionResult(false, 0, 1)));
+    hydrator.live();
+    hydrator.ingest(new Transaction(2, "{}", "{\"t\":50}", new TransactionResult(false, 0, 2)));
+    final var transactor = new Transactor(factory, null, new MockTime(), NoOpLogger.INSTANCE);
+    transactor.adopt(hydrator.document);
+    Assert.assertTrue(transactor.json().contains("\"t\":42"));
+  }
+}
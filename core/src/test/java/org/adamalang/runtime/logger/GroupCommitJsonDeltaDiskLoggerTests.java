@@ -0,0 +1,90 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GroupCommitJsonDeltaDiskLoggerTests {
+  @Test
+  public void flow_cant_open_dir() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    final var dumpIsDir = new File(dump.getName() + ".dir3");
+    dumpIsDir.mkdir();
+    final var spool = new GroupCommitSpool(1024, 10);
+    try {
+      new GroupCommitJsonDeltaDiskLogger(spool, 0, dumpIsDir, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5206, ece.code);
+    } finally {
+      spool.close();
+      dump.delete();
+      dumpIsDir.delete();
+    }
+  }
+
+  @Test
+  public void flow_compressed() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    final var spool = new GroupCommitSpool(1024 * 1024, 5);
+    try {
+      {
+        final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, true, NoOpLogger.INSTANCE);
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("delta", "data"), new TransactionResult(true, 0, 1)));
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "2"), JsonHelper.encode("delta1", "d1"), new TransactionResult(true, 0, 2)));
+        logger.close();
+      }
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, target);
+        Assert.assertEquals(2, logger.getRecordsReadAtStart());
+        logger.close();
+        Assert.assertEquals("{\"delta\":\"data\",\"delta1\":\"d1\"}", target.node.toString());
+      }
+    } finally {
+      spool.close();
+      dump.delete();
+    }
+  }
+
+  @Test
+  public void flow_file_create_and_recover() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    final var dumpDoesNotExist = new File(dump.getName() + ".gc");
+    final var spool = new GroupCommitSpool(1024 * 1024, 5);
+    try {
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dumpDoesNotExist, target);
+        logger.getFile();
+        Assert.assertEquals(-1, logger.getRecordsReadAtStart());
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("delta", "data"), new TransactionResult(true, 0, 1)));
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "2"), JsonHelper.encode("delta", "data_overwrite"), new TransactionResult(true, 0, 2)));
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "3"), JsonHelper.encode("delta1", "d1"), new TransactionResult(true, 0, 3)));
+        final var latch = new CountDownLatch(1);
+        logger.whenDurable(GroupCommitSpoolTests.latched(latch));
+        Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "4"), JsonHelper.encode("delta2", "d2"), new TransactionResult(true, 0, 4)));
+        logger.close();
+        Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\",\"delta2\":\"d2\"}", target.node.toString());
+      }
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dumpDoesNotExist, target);
+        Assert.assertEquals(4, logger.getRecordsReadAtStart());
+        logger.close();
+        Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\",\"delta2\":\"d2\"}", target.node.toString());
+      }
+    } finally {
+      spool.close();
+      dump.delete();
+      dumpDoesNotExist.delete();
+    }
+  }
+}
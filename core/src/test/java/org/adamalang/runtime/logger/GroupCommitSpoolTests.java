@@ -0,0 +1,186 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.adamalang.runtime.contracts.DurabilityCallback;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GroupCommitSpoolTests {
+  public static DurabilityCallback latched(final CountDownLatch latch) {
+    return new DurabilityCallback() {
+      @Override
+      public void failure(final ErrorCodeException ex) {
+      }
+
+      @Override
+      public void success() {
+        latch.countDown();
+      }
+    };
+  }
+
+  private static Transaction transaction(final int seq) {
+    return new Transaction(seq, JsonHelper.encode("x", "" + seq), JsonHelper.encode("delta" + seq, "" + seq), new TransactionResult(true, 0, seq));
+  }
+
+  @Test
+  public void close_commits_remainder() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(1024 * 1024, 60000);
+      final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, NoOpLogger.INSTANCE);
+      final var latch = new CountDownLatch(1);
+      logger.ingest(transaction(1));
+      logger.whenDurable(latched(latch));
+      Assert.assertEquals(1, latch.getCount());
+      spool.close();
+      Assert.assertTrue(latch.await(1000, TimeUnit.MILLISECONDS));
+      logger.close();
+      Assert.assertEquals(1, SynchronousJsonDeltaDiskLogger.pump(dump, NoOpLogger.INSTANCE));
+    } finally {
+      dump.delete();
+    }
+  }
+
+  @Test
+  public void many_documents_one_group() throws Exception {
+    final var dumpA = File.createTempFile("__test_file_a", ".jsonlog");
+    final var dumpB = File.createTempFile("__test_file_b", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(1024 * 1024, 25);
+      final var loggerA = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dumpA, NoOpLogger.INSTANCE);
+      final var loggerB = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dumpB, NoOpLogger.INSTANCE);
+      final var latch = new CountDownLatch(2);
+      for (var k = 1; k <= 10; k++) {
+        loggerA.ingest(transaction(k));
+        loggerB.ingest(transaction(k));
+      }
+      loggerA.whenDurable(latched(latch));
+      loggerB.whenDurable(latched(latch));
+      Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals(10, SynchronousJsonDeltaDiskLogger.pump(dumpA, NoOpLogger.INSTANCE));
+      Assert.assertEquals(10, SynchronousJsonDeltaDiskLogger.pump(dumpB, NoOpLogger.INSTANCE));
+      loggerA.close();
+      loggerB.close();
+      spool.close();
+    } finally {
+      dumpA.delete();
+      dumpB.delete();
+    }
+  }
+
+  @Test
+  public void one_failure_leaves_the_group() throws Exception {
+    final var dumpA = File.createTempFile("__test_file_a", ".jsonlog");
+    final var dumpB = File.createTempFile("__test_file_b", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(1024 * 1024, 60000);
+      final var loggerA = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dumpA, NoOpLogger.INSTANCE);
+      final var loggerB = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dumpB, NoOpLogger.INSTANCE);
+      final var failures = new AtomicInteger(0);
+      final var successes = new AtomicInteger(0);
+      final var callback = new DurabilityCallback() {
+        @Override
+        public void failure(final ErrorCodeException ex) {
+          failures.incrementAndGet();
+        }
+
+        @Override
+        public void success() {
+          successes.incrementAndGet();
+        }
+      };
+      loggerA.ingest(transaction(1));
+      loggerB.ingest(transaction(1));
+      loggerA.whenDurable(callback);
+      loggerB.whenDurable(callback);
+      loggerA.channel.close();
+      spool.flush();
+      Assert.assertEquals(1, failures.get());
+      Assert.assertEquals(1, successes.get());
+      Assert.assertEquals(1, SynchronousJsonDeltaDiskLogger.pump(dumpB, NoOpLogger.INSTANCE));
+      loggerB.close();
+      spool.close();
+    } finally {
+      dumpA.delete();
+      dumpB.delete();
+    }
+  }
+
+  @Test
+  public void nothing_pending_is_durable() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(1024, 60000);
+      final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, NoOpLogger.INSTANCE);
+      final var latch = new CountDownLatch(1);
+      logger.whenDurable(latched(latch));
+      Assert.assertEquals(0, latch.getCount());
+      logger.close();
+      spool.close();
+    } finally {
+      dump.delete();
+    }
+  }
+
+  @Test
+  public void size_boundary() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(16, 60000);
+      final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, NoOpLogger.INSTANCE);
+      final var latch = new CountDownLatch(1);
+      logger.ingest(transaction(1));
+      logger.whenDurable(latched(latch));
+      Assert.assertTrue(latch.await(5000, TimeUnit.MILLISECONDS));
+      logger.close();
+      spool.close();
+    } finally {
+      dump.delete();
+    }
+  }
+  @Test
+  public void write_failure_is_permanent() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    try {
+      final var spool = new GroupCommitSpool(1024 * 1024, 60000);
+      final var logger = GroupCommitJsonDeltaDiskLogger.openFillAndAppend(spool, dump, NoOpLogger.INSTANCE);
+      final var failures = new AtomicInteger(0);
+      final var callback = new DurabilityCallback() {
+        @Override
+        public void failure(final ErrorCodeException ex) {
+          Assert.assertEquals(ErrorCodeException.GROUP_COMMIT_LOGGER_CANT_WRITE, ex.code);
+          failures.incrementAndGet();
+        }
+
+        @Override
+        public void success() {
+          Assert.fail();
+        }
+      };
+      logger.ingest(transaction(1));
+      logger.whenDurable(callback);
+      logger.channel.close();
+      spool.flush();
+      Assert.assertEquals(1, failures.get());
+      logger.whenDurable(callback);
+      Assert.assertEquals(2, failures.get());
+      try {
+        logger.ingest(transaction(2));
+        Assert.fail();
+      } catch (final ErrorCodeException ece) {
+        Assert.assertEquals(ErrorCodeException.GROUP_COMMIT_LOGGER_CANT_WRITE, ece.code);
+      }
+      spool.close();
+    } finally {
+      dump.delete();
+    }
+  }
+}
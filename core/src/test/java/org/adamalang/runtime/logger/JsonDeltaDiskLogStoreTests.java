@@ -0,0 +1,46 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonDeltaDiskLogStoreTests {
+  @Test
+  public void group_commit() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var store = new JsonDeltaDiskLogStore(new GroupCommitSpool(1024, 5));
+    try {
+      Assert.assertFalse(store.exists(root, "doc"));
+      final var logger = store.openFillAndAppend(root, "doc", NoOpLogger.INSTANCE);
+      Assert.assertTrue(logger instanceof GroupCommitJsonDeltaDiskLogger);
+      logger.close();
+      Assert.assertTrue(store.exists(root, "doc"));
+    } finally {
+      store.close();
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void synchronous() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var store = new JsonDeltaDiskLogStore(null);
+    try {
+      Assert.assertFalse(store.exists(root, "doc"));
+      final var target = ObjectNodeLogger.fresh();
+      final var logger = store.openFillAndAppend(root, "doc", target);
+      Assert.assertTrue(logger instanceof SynchronousJsonDeltaDiskLogger);
+      logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("a", "1"), new TransactionResult(false, 0, 1)));
+      logger.close();
+      Assert.assertTrue(store.exists(root, "doc"));
+      final var recovered = ObjectNodeLogger.fresh();
+      store.openFillAndAppend(root, "doc", recovered).close();
+      Assert.assertEquals("{\"a\":1}", recovered.node.toString());
+    } finally {
+      store.close();
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
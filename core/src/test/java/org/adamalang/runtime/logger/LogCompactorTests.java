@@ -0,0 +1,42 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LogCompactorTests {
+  @Test
+  public void deletes_scheduled() throws Exception {
+    final var a = File.createTempFile("__test_file", ".jsonlog.0");
+    final var b = File.createTempFile("__test_file", ".jsonlog.1");
+    final var compactor = new LogCompactor();
+    compactor.schedule(a);
+    compactor.schedule(b);
+    compactor.schedule(new File(a.getPath() + ".na"));
+    compactor.close();
+    Assert.assertEquals(2, compactor.getCompacted());
+    Assert.assertFalse(a.exists());
+    Assert.assertFalse(b.exists());
+  }
+
+  @Test
+  public void executes_in_order_and_after_close() throws Exception {
+    final var order = new StringBuilder();
+    final var compactor = new LogCompactor();
+    compactor.execute(() -> order.append("a"));
+    compactor.execute(() -> order.append("b"));
+    compactor.close();
+    compactor.execute(() -> order.append("c"));
+    Assert.assertEquals("abc", order.toString());
+  }
+
+  @Test
+  public void nothing_to_do() throws Exception {
+    final var compactor = new LogCompactor();
+    compactor.close();
+    Assert.assertEquals(0, compactor.getCompacted());
+  }
+}
@@ -8,9 +8,11 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.regex.Pattern;
+import org.adamalang.runtime.json.Utf8Buffer;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -115,4 +117,16 @@ public class NewlineJsonTransactionDiskRecordTests {
     final var str = new String(memory.toByteArray());
     Assert.assertEquals("{\"request\":\"data\"}\n" + "{\"delta\":\"data\"}\n" + "{\"needsInvalidation\":false,\"whenToInvalidMilliseconds\":0,\"seq\":0}", str.trim().replaceAll(Pattern.quote("\r"), ""));
   }
+
+  @Test
+  public void utf8_matches_print_writer() throws Exception {
+    final var transaction = new Transaction(-1, "{\"x\":\"\u00e9\u4e16\"}", JsonHelper.encode("delta", "data"), new TransactionResult(true, 250, 42));
+    final var memory = new ByteArrayOutputStream();
+    final var writer = new PrintWriter(new OutputStreamWriter(memory, StandardCharsets.UTF_8));
+    NewlineJsonTransactionDiskRecord.writeTo(transaction, writer);
+    writer.flush();
+    final var buffer = new Utf8Buffer(16);
+    NewlineJsonTransactionDiskRecord.writeTo(transaction, buffer);
+    Assert.assertEquals(new String(memory.toByteArray(), StandardCharsets.UTF_8).replaceAll(Pattern.quote("\r"), ""), buffer.toString());
+  }
 }
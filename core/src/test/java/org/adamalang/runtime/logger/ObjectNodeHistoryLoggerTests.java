@@ -0,0 +1,39 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.adamalang.runtime.stdlib.Utility;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ObjectNodeHistoryLoggerTests {
+  @Test
+  public void flow() {
+    final var log = ObjectNodeHistoryLogger.fresh(0);
+    Assert.assertNull(log.at(0));
+    log.ingest(new Transaction(-1, "{}", "{\"x\":1,\"y\":{\"z\":1}}", new TransactionResult(true, 0, 1)));
+    log.ingest(new Transaction(-1, "{}", "{\"x\":2}", new TransactionResult(true, 0, 3)));
+    log.ingest(new Transaction(-1, "{}", "{\"x\":null,\"y\":{\"z\":2}}", new TransactionResult(true, 0, 4)));
+    Assert.assertEquals("{\"x\":1,\"y\":{\"z\":1}}", log.at(1).toString());
+    Assert.assertEquals("{\"x\":1,\"y\":{\"z\":1}}", log.at(2).toString());
+    Assert.assertEquals("{\"x\":2,\"y\":{\"z\":1}}", log.at(3).toString());
+    Assert.assertEquals("{\"y\":{\"z\":2}}", log.at(4).toString());
+    Assert.assertEquals("{\"y\":{\"z\":2}}", log.latest().toString());
+    Assert.assertSame(log.at(1).get("y"), log.at(3).get("y"));
+    Assert.assertEquals(3, log.size());
+    log.close();
+  }
+
+  @Test
+  public void retain() {
+    final var log = ObjectNodeHistoryLogger.recover(Utility.parseJsonObject("{\"x\":0}"), 2);
+    for (var k = 1; k <= 5; k++) {
+      log.ingest(new Transaction(-1, "{}", "{\"x\":" + k + "}", new TransactionResult(true, 0, k)));
+    }
+    Assert.assertEquals(2, log.size());
+    Assert.assertNull(log.at(3));
+    Assert.assertEquals("{\"x\":4}", log.at(4).toString());
+    Assert.assertEquals("{\"x\":5}", log.latest().toString());
+  }
+}
@@ -0,0 +1,145 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SegmentedTransactionDiskLoggerTests {
+  public static void fill(final TransactionLogger logger, final int count) throws Exception {
+    for (var k = 0; k < count; k++) {
+      logger.ingest(new Transaction(k, JsonHelper.encode("x", "" + k), JsonHelper.encode("at", "" + k), new TransactionResult(false, 0, k)));
+    }
+  }
+
+  @Test
+  public void flow_cant_open_dir() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      final var dir = SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0);
+      dir.mkdir();
+      new SegmentedTransactionDiskLogger(root, "doc", 1024, 0, new TransactionLogSegment(dir), -1, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5212, ece.code);
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_cant_pump() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      final var dir = SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0);
+      dir.mkdir();
+      SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 1024, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5211, ece.code);
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_roll_and_recover() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      {
+        final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 256, NoOpLogger.INSTANCE);
+        Assert.assertEquals(-1, logger.getRecordsReadAtStart());
+        fill(logger, 20);
+        Assert.assertTrue(logger.getSegmentNumber() > 1);
+        logger.close();
+      }
+      final var segments = SegmentedTransactionDiskLogger.segmentsOf(root, "doc");
+      Assert.assertTrue(segments.size() > 2);
+      for (final Integer number : segments.keySet()) {
+        Assert.assertEquals(number < segments.lastKey(), TransactionLogSegment.indexOf(segments.get(number)).exists());
+        Assert.assertEquals(256, segments.get(number).length());
+      }
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 256, target);
+        Assert.assertEquals(20, logger.getRecordsReadAtStart());
+        Assert.assertEquals(segments.lastKey().intValue(), logger.getSegmentNumber());
+        Assert.assertEquals("{\"at\":19}", target.node.toString());
+        logger.ingest(new Transaction(20, "{}", "{\"more\":true}", new TransactionResult(false, 0, 20)));
+        logger.close();
+      }
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 256, target);
+        Assert.assertEquals(21, logger.getRecordsReadAtStart());
+        logger.close();
+        Assert.assertEquals("{\"at\":19,\"more\":true}", target.node.toString());
+      }
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void huge_record_grows_segment() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      final var huge = new char[1000];
+      Arrays.fill(huge, 'x');
+      {
+        final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 128, NoOpLogger.INSTANCE);
+        fill(logger, 1);
+        logger.ingest(new Transaction(1, "{}", JsonHelper.encode("huge", new String(huge)), new TransactionResult(false, 0, 1)));
+        Assert.assertEquals(1, logger.getSegmentNumber());
+        fill(logger, 1);
+        Assert.assertEquals(2, logger.getSegmentNumber());
+        logger.close();
+      }
+      Assert.assertTrue(SegmentedTransactionDiskLogger.segmentOf(root, "doc", 1).length() > 1000);
+      final var target = ObjectNodeLogger.fresh();
+      Assert.assertEquals(3, SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 128, target).getRecordsReadAtStart());
+      Assert.assertEquals(new String(huge), target.node.get("huge").textValue());
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void torn_tail_is_overwritten() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      {
+        final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 4096, NoOpLogger.INSTANCE);
+        fill(logger, 3);
+        logger.close();
+      }
+      final var end = TransactionLogSegment.scan(SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0), NoOpLogger.INSTANCE).end;
+      final var partial = BinaryTransactionDiskRecordTests.bytesOf(new Transaction(3, "{}", "{\"lost\":true}", new TransactionResult(false, 0, 3)));
+      final var file = new RandomAccessFile(SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0), "rw");
+      try {
+        file.seek(end);
+        file.write(partial, 0, partial.length - 3);
+      } finally {
+        file.close();
+      }
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 4096, target);
+        Assert.assertEquals(3, logger.getRecordsReadAtStart());
+        logger.ingest(new Transaction(3, "{}", "{\"kept\":true}", new TransactionResult(false, 0, 3)));
+        logger.close();
+      }
+      final var target = ObjectNodeLogger.fresh();
+      Assert.assertEquals(4, SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 4096, target).getRecordsReadAtStart());
+      Assert.assertEquals("{\"at\":2,\"kept\":true}", target.node.toString());
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.FileOutputStream;
+import org.adamalang.runtime.contracts.TransactionLogger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SegmentedTransactionLogReaderTests {
+  private static TransactionLogger seqsInto(final StringBuilder seqs) {
+    return new TransactionLogger() {
+      @Override
+      public void close() {
+      }
+
+      @Override
+      public void ingest(final Transaction transaction) {
+        seqs.append(transaction.transactionResult.seq).append(",");
+      }
+    };
+  }
+
+  @Test
+  public void damaged_index_is_rebuilt() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 256, NoOpLogger.INSTANCE);
+      SegmentedTransactionDiskLoggerTests.fill(logger, 20);
+      logger.close();
+      final var index = TransactionLogSegment.indexOf(SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0));
+      final var length = index.length();
+      new FileOutputStream(index).close();
+      final var seqs = new StringBuilder();
+      Assert.assertEquals(2, new SegmentedTransactionLogReader(root, "doc").read(18, seqsInto(seqs)));
+      Assert.assertEquals("18,19,", seqs.toString());
+      Assert.assertEquals(length, index.length());
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void empty() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      final var reader = new SegmentedTransactionLogReader(root, "doc");
+      Assert.assertEquals(0, reader.size());
+      Assert.assertEquals(0, reader.read(0, NoOpLogger.INSTANCE));
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void read_from_seq() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      final var logger = SegmentedTransactionDiskLogger.openFillAndAppend(root, "doc", 1024, NoOpLogger.INSTANCE);
+      for (var k = 0; k < 200; k++) {
+        // every seq appears twice, much like a bill which doesn't advance the seq
+        logger.ingest(new Transaction(k / 2, "{}", JsonHelper.encode("at", "" + k), new TransactionResult(false, 0, k / 2)));
+      }
+      logger.close();
+      TransactionLogSegment.indexOf(SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0)).delete();
+      final var reader = new SegmentedTransactionLogReader(root, "doc");
+      Assert.assertTrue(TransactionLogSegment.indexOf(SegmentedTransactionDiskLogger.segmentOf(root, "doc", 0)).exists());
+      Assert.assertEquals(200, reader.size());
+      Assert.assertEquals(200, reader.read(0, NoOpLogger.INSTANCE));
+      final var seqs = new StringBuilder();
+      Assert.assertEquals(6, reader.read(97, seqsInto(seqs)));
+      Assert.assertEquals("97,97,98,98,99,99,", seqs.toString());
+      Assert.assertEquals(0, reader.read(100, NoOpLogger.INSTANCE));
+      for (var seq = 0; seq < 100; seq++) {
+        Assert.assertEquals(200 - 2 * seq, reader.read(seq, NoOpLogger.INSTANCE));
+      }
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
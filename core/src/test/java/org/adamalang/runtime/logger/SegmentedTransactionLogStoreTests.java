@@ -0,0 +1,29 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SegmentedTransactionLogStoreTests {
+  @Test
+  public void flow() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var store = new SegmentedTransactionLogStore(512);
+    try {
+      Assert.assertFalse(store.exists(root, "doc"));
+      final var logger = store.openFillAndAppend(root, "doc", NoOpLogger.INSTANCE);
+      SegmentedTransactionDiskLoggerTests.fill(logger, 10);
+      logger.close();
+      Assert.assertTrue(store.exists(root, "doc"));
+      final var target = ObjectNodeLogger.fresh();
+      store.openFillAndAppend(root, "doc", target).close();
+      Assert.assertEquals("{\"at\":9}", target.node.toString());
+      Assert.assertEquals(3, store.reader(root, "doc").read(7, NoOpLogger.INSTANCE));
+    } finally {
+      store.close();
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SharedWriteAheadLogTests {
+  private static void append(final File file, final byte[] bytes) throws Exception {
+    final var output = new FileOutputStream(file, true);
+    try {
+      output.write(bytes);
+    } finally {
+      output.close();
+    }
+  }
+
+  @Test
+  public void concurrent_appends() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var space = new File(root, "space");
+    space.mkdir();
+    try {
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 4096);
+        final var threads = new Thread[4];
+        final var failures = new AtomicInteger(0);
+        for (var t = 0; t < threads.length; t++) {
+          final var logger = wal.openFillAndAppend(space, "doc" + t, NoOpLogger.INSTANCE);
+          threads[t] = new Thread(() -> {
+            try {
+              for (var k = 0; k < 50; k++) {
+                logger.ingest(new Transaction(k, "{}", JsonHelper.encode("x", "" + k), new TransactionResult(false, 0, k)));
+              }
+            } catch (final ErrorCodeException ece) {
+              failures.incrementAndGet();
+            }
+          });
+          threads[t].start();
+        }
+        for (final Thread thread : threads) {
+          thread.join();
+        }
+        Assert.assertEquals(0, failures.get());
+        wal.close();
+      }
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 4096);
+        for (var t = 0; t < 4; t++) {
+          final var doc = ObjectNodeLogger.fresh();
+          wal.openFillAndAppend(space, "doc" + t, doc);
+          Assert.assertEquals("{\"x\":49}", doc.node.toString());
+        }
+        wal.close();
+      }
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_cant_open() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      new File(root, "wal.0").mkdir();
+      new SharedWriteAheadLog(root, 1024);
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5215, ece.code);
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void many_documents_one_log() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var space = new File(root, "space");
+    space.mkdir();
+    try {
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 1024 * 1024);
+        Assert.assertFalse(wal.exists(space, "a"));
+        final var a = wal.openFillAndAppend(space, "a", NoOpLogger.INSTANCE);
+        final var b = wal.openFillAndAppend(space, "b", NoOpLogger.INSTANCE);
+        Assert.assertEquals(-1, ((WriteAheadDocumentLogger) a).getRecordsReadAtStart());
+        for (var k = 0; k < 10; k++) {
+          a.ingest(new Transaction(k, "{}", JsonHelper.encode("a", "" + k), new TransactionResult(false, 0, k)));
+          b.ingest(new Transaction(k, "{}", JsonHelper.encode("b", "" + k * 2), new TransactionResult(false, 0, k)));
+        }
+        a.close();
+        b.close();
+        Assert.assertTrue(wal.exists(space, "a"));
+        Assert.assertEquals(0, space.listFiles().length);
+        wal.close();
+        Assert.assertEquals(1, wal.getSegments());
+      }
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 1024 * 1024);
+        final var a = ObjectNodeLogger.fresh();
+        final var logger = wal.openFillAndAppend(space, "a", a);
+        Assert.assertEquals(10, ((WriteAheadDocumentLogger) logger).getRecordsReadAtStart());
+        logger.ingest(new Transaction(10, "{}", "{\"more\":true}", new TransactionResult(false, 0, 10)));
+        final var b = ObjectNodeLogger.fresh();
+        wal.openFillAndAppend(space, "b", b);
+        Assert.assertEquals("{\"a\":9,\"more\":true}", a.node.toString());
+        Assert.assertEquals("{\"b\":18}", b.node.toString());
+        wal.close();
+      }
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void segment_too_large() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    try {
+      new SharedWriteAheadLog(root, SharedWriteAheadLog.MAX_SEGMENT_BYTES + 1);
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5222, ece.code);
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void spill_and_recover() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var space = new File(root, "space");
+    space.mkdir();
+    try {
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 512);
+        final var a = wal.openFillAndAppend(space, "a", NoOpLogger.INSTANCE);
+        final var b = wal.openFillAndAppend(space, "b", NoOpLogger.INSTANCE);
+        for (var k = 0; k < 50; k++) {
+          a.ingest(new Transaction(k, "{}", JsonHelper.encode("a", "" + k), new TransactionResult(false, 0, k)));
+          if (k % 10 == 0) {
+            b.ingest(new Transaction(k, "{}", JsonHelper.encode("b" + k, "true"), new TransactionResult(false, 0, k)));
+          }
+        }
+        wal.close();
+        Assert.assertTrue(wal.getSpilled() > 1);
+        Assert.assertEquals(1, wal.getSegments());
+        Assert.assertTrue(SharedWriteAheadLog.stateOf(space, "a").exists());
+        Assert.assertTrue(SharedWriteAheadLog.stateOf(space, "b").exists());
+      }
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 512);
+        Assert.assertTrue(wal.exists(space, "a"));
+        Assert.assertTrue(wal.exists(space, "b"));
+        final var a = ObjectNodeLogger.fresh();
+        final var logger = wal.openFillAndAppend(space, "a", a);
+        Assert.assertTrue(((WriteAheadDocumentLogger) logger).getRecordsReadAtStart() < 50);
+        final var b = ObjectNodeLogger.fresh();
+        wal.openFillAndAppend(space, "b", b);
+        Assert.assertEquals("{\"a\":49}", a.node.toString());
+        Assert.assertEquals("{\"b0\":true,\"b10\":true,\"b20\":true,\"b30\":true,\"b40\":true}", b.node.toString());
+        wal.close();
+      }
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+
+  @Test
+  public void torn_tail_is_cut_off() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var space = new File(root, "space");
+    space.mkdir();
+    try {
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 1024 * 1024);
+        final var a = wal.openFillAndAppend(space, "a", NoOpLogger.INSTANCE);
+        a.ingest(new Transaction(1, "{}", "{\"x\":1}", new TransactionResult(false, 0, 1)));
+        wal.close();
+      }
+      final var segment = new File(new File(root, "wal"), "wal.0");
+      final var length = segment.length();
+      final var torn = WriteAheadRecord.encode(new File(space, "a").getPath(), new Transaction(2, "{}", "{\"lost\":true}", new TransactionResult(false, 0, 2)));
+      final var bytes = new byte[torn.remaining() - 2];
+      torn.get(bytes);
+      append(segment, bytes);
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 1024 * 1024);
+        Assert.assertEquals(length, segment.length());
+        final var target = ObjectNodeLogger.fresh();
+        final var a = wal.openFillAndAppend(space, "a", target);
+        a.ingest(new Transaction(2, "{}", "{\"kept\":true}", new TransactionResult(false, 0, 2)));
+        wal.close();
+      }
+      {
+        final var wal = new SharedWriteAheadLog(new File(root, "wal"), 1024 * 1024);
+        final var target = ObjectNodeLogger.fresh();
+        wal.openFillAndAppend(space, "a", target);
+        Assert.assertEquals("{\"x\":1,\"kept\":true}", target.node.toString());
+        wal.close();
+      }
+    } finally {
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
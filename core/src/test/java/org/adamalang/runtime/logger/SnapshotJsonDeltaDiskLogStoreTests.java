@@ -0,0 +1,32 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SnapshotJsonDeltaDiskLogStoreTests {
+  @Test
+  public void flow() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var store = new SnapshotJsonDeltaDiskLogStore(1);
+    try {
+      Assert.assertFalse(store.exists(root, "doc"));
+      final var target = ObjectNodeLogger.fresh();
+      final var logger = (SnapshotJsonDeltaDiskLogger) store.openFillAndAppend(root, "doc", target);
+      logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("a", "1"), new TransactionResult(false, 0, 1)));
+      Assert.assertTrue(logger.shouldSnapshot());
+      logger.snapshot(1, target.node.toString());
+      logger.close();
+      SnapshotJsonDeltaDiskLogger.activeOf(root, "doc").delete();
+      Assert.assertTrue(store.exists(root, "doc"));
+      final var recovered = ObjectNodeLogger.fresh();
+      store.openFillAndAppend(root, "doc", recovered).close();
+      Assert.assertEquals("{\"a\":1}", recovered.node.toString());
+    } finally {
+      store.close();
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
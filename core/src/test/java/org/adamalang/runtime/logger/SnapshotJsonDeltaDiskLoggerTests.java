@@ -0,0 +1,189 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SnapshotJsonDeltaDiskLoggerTests {
+  public static File tempRoot() throws Exception {
+    final var root = File.createTempFile("__test_dir", ".snapshots");
+    root.delete();
+    root.mkdir();
+    return root;
+  }
+
+  public static void wipe(final File dir) {
+    for (final File file : dir.listFiles()) {
+      if (file.isDirectory()) {
+        wipe(file);
+      }
+      file.delete();
+    }
+    dir.delete();
+  }
+
+  private static void write(final File file, final String content) throws Exception {
+    final var output = new FileOutputStream(file);
+    try {
+      output.write(content.getBytes(StandardCharsets.UTF_8));
+    } finally {
+      output.close();
+    }
+  }
+
+  private static void writeLog(final File file, final String key, final String value) throws Exception {
+    final var logger = SynchronousJsonDeltaDiskLogger.openFillAndAppend(file, NoOpLogger.INSTANCE);
+    logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode(key, value), new TransactionResult(false, 0, 1)));
+    logger.close();
+  }
+
+  @Test
+  public void flow_cant_load() throws Exception {
+    final var root = tempRoot();
+    final var compactor = new LogCompactor();
+    try {
+      write(SnapshotJsonDeltaDiskLogger.snapshotOf(root, "doc"), "{\"generation\":0}\n");
+      SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 2, compactor, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5208, ece.code);
+    } finally {
+      compactor.close();
+      wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_cant_open_dir() throws Exception {
+    final var root = tempRoot();
+    final var compactor = new LogCompactor();
+    try {
+      SnapshotJsonDeltaDiskLogger.activeOf(root, "doc").mkdir();
+      new SnapshotJsonDeltaDiskLogger(root, "doc", 0, -1, new ArrayList<>(), 2, compactor, ObjectNodeLogger.fresh());
+      Assert.fail();
+    } catch (final ErrorCodeException ece) {
+      Assert.assertEquals(5209, ece.code);
+    } finally {
+      compactor.close();
+      wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_cant_snapshot() throws Exception {
+    final var root = tempRoot();
+    final var compactor = new LogCompactor();
+    try {
+      final var logger = SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 1, compactor, ObjectNodeLogger.fresh());
+      final var blocker = new File(root, "doc.jsonlog.0");
+      blocker.mkdir();
+      new File(blocker, "child").mkdir();
+      try {
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("a", "1"), new TransactionResult(false, 0, 1)));
+        logger.snapshot(1, "{\"a\":1}");
+        Assert.fail();
+      } catch (final ErrorCodeException ece) {
+        Assert.assertEquals(5210, ece.code);
+      } finally {
+        logger.close();
+      }
+    } finally {
+      compactor.close();
+      wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_cant_write_snapshot() throws Exception {
+    final var root = tempRoot();
+    final var compactor = new LogCompactor();
+    try {
+      final var logger = SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 1, compactor, ObjectNodeLogger.fresh());
+      final var blocker = new File(root, "doc.snapshot.tmp");
+      blocker.mkdir();
+      new File(blocker, "child").mkdir();
+      logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("a", "1"), new TransactionResult(false, 0, 1)));
+      logger.snapshot(1, "{\"a\":1}");
+      Assert.assertEquals(1, logger.getGeneration());
+      logger.close();
+      Assert.assertFalse(SnapshotJsonDeltaDiskLogger.snapshotOf(root, "doc").exists());
+      Assert.assertTrue(new File(root, "doc.jsonlog.0").exists());
+    } finally {
+      compactor.close();
+      Assert.assertEquals(0, compactor.getCompacted());
+      wipe(root);
+    }
+  }
+
+  @Test
+  public void flow_snapshot_and_recover() throws Exception {
+    final var root = tempRoot();
+    final var compactor = new LogCompactor();
+    try {
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 2, compactor, target);
+        Assert.assertEquals(-1, logger.getRecordsReadAtStart());
+        Assert.assertEquals(0, logger.getGeneration());
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("delta", "data"), new TransactionResult(true, 0, 1)));
+        Assert.assertFalse(logger.shouldSnapshot());
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "2"), JsonHelper.encode("delta", "data_overwrite"), new TransactionResult(true, 0, 2)));
+        Assert.assertTrue(logger.shouldSnapshot());
+        logger.snapshot(2, target.node.toString());
+        Assert.assertFalse(logger.shouldSnapshot());
+        Assert.assertEquals(1, logger.getGeneration());
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "3"), JsonHelper.encode("delta1", "d1"), new TransactionResult(true, 0, 3)));
+        logger.close();
+      }
+      compactor.close();
+      Assert.assertEquals(1, compactor.getCompacted());
+      Assert.assertFalse(new File(root, "doc.jsonlog.0").exists());
+      {
+        final var target = ObjectNodeLogger.fresh();
+        final var logger = SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 2, new LogCompactor(), target);
+        Assert.assertEquals(1, logger.getRecordsReadAtStart());
+        Assert.assertEquals(1, logger.getGeneration());
+        Assert.assertFalse(logger.shouldSnapshot());
+        logger.close();
+        Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\"}", target.node.toString());
+      }
+    } finally {
+      wipe(root);
+    }
+  }
+
+  @Test
+  public void recover_uncovered_segments() throws Exception {
+    final var root = tempRoot();
+    final var compactor = new LogCompactor();
+    try {
+      write(SnapshotJsonDeltaDiskLogger.snapshotOf(root, "doc"), "{\"generation\":0,\"seq\":1}\n{\"a\":1}\n");
+      writeLog(new File(root, "doc.jsonlog.0"), "covered", "true");
+      writeLog(new File(root, "doc.jsonlog.1"), "b", "2");
+      writeLog(new File(root, "doc.jsonlog.x"), "ignored", "true");
+      writeLog(SnapshotJsonDeltaDiskLogger.activeOf(root, "doc"), "c", "3");
+      final var target = ObjectNodeLogger.fresh();
+      final var logger = SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 10, compactor, target);
+      Assert.assertEquals(2, logger.getRecordsReadAtStart());
+      Assert.assertEquals(2, logger.getGeneration());
+      Assert.assertEquals("{\"a\":1,\"b\":2,\"c\":3}", target.node.toString());
+      logger.snapshot(3, target.node.toString());
+      logger.close();
+      compactor.close();
+      Assert.assertEquals(3, compactor.getCompacted());
+      Assert.assertEquals(0, SnapshotJsonDeltaDiskLogger.sealedOf(root, "doc").size());
+      final var recovered = ObjectNodeLogger.fresh();
+      SnapshotJsonDeltaDiskLogger.openFillAndAppend(root, "doc", 10, new LogCompactor(), recovered).close();
+      Assert.assertEquals("{\"a\":1,\"b\":2,\"c\":3}", recovered.node.toString());
+    } finally {
+      wipe(root);
+    }
+  }
+}
@@ -43,6 +43,35 @@ public class SynchronousJsonDeltaDiskLoggerTests {
     }
   }
 
+  @Test
+  public void flow_compressed_mixed_with_plain() throws Exception {
+    final var dump = File.createTempFile("__test_file", ".jsonlog");
+    try {
+      {
+        final var logger = SynchronousJsonDeltaDiskLogger.openFillAndAppend(dump, NoOpLogger.INSTANCE);
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "1"), JsonHelper.encode("delta", "data"), new TransactionResult(true, 0, 1)));
+        logger.close();
+      }
+      {
+        final var logger = SynchronousJsonDeltaDiskLogger.openFillAndAppend(dump, true, NoOpLogger.INSTANCE);
+        Assert.assertEquals(1, logger.getRecordsReadAtStart());
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "2"), JsonHelper.encode("delta1", "d1"), new TransactionResult(true, 0, 2)));
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "3"), JsonHelper.encode("delta2", "d2"), new TransactionResult(true, 0, 3)));
+        logger.close();
+      }
+      {
+        final var logger = SynchronousJsonDeltaDiskLogger.openFillAndAppend(dump, NoOpLogger.INSTANCE);
+        logger.ingest(new Transaction(-1, JsonHelper.encode("x", "4"), JsonHelper.encode("delta", "data_overwrite"), new TransactionResult(true, 0, 4)));
+        logger.close();
+      }
+      final var target = ObjectNodeLogger.fresh();
+      Assert.assertEquals(4, SynchronousJsonDeltaDiskLogger.pump(dump, target));
+      Assert.assertEquals("{\"delta\":\"data_overwrite\",\"delta1\":\"d1\",\"delta2\":\"d2\"}", target.node.toString());
+    } finally {
+      dump.delete();
+    }
+  }
+
   @Test
   public void flow_file_create_from_empty_file() throws Exception {
     final var dump = File.createTempFile("__test_file", ".jsonlog");
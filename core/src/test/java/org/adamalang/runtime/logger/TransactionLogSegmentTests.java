@@ -0,0 +1,36 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionLogSegmentTests {
+  @Test
+  public void empty() {
+    final var segment = new TransactionLogSegment(new File("nope"));
+    Assert.assertEquals(Integer.MAX_VALUE, segment.firstSeq());
+    Assert.assertEquals(0, segment.floor(100));
+    Assert.assertEquals(0, segment.records);
+    Assert.assertEquals(0, segment.end);
+  }
+
+  @Test
+  public void sparse_index() {
+    final var segment = new TransactionLogSegment(new File("nope"));
+    for (var k = 0; k < 1000; k++) {
+      segment.add(10 + k, k * 100, 100);
+    }
+    Assert.assertEquals(1000, segment.records);
+    Assert.assertEquals(100000, segment.end);
+    Assert.assertEquals(10, segment.firstSeq());
+    Assert.assertEquals(0, segment.floor(0));
+    Assert.assertEquals(0, segment.floor(10));
+    Assert.assertEquals(0, segment.floor(11));
+    Assert.assertEquals(0, segment.floor(42));
+    Assert.assertEquals(TransactionLogSegment.INDEX_EVERY * 100, segment.floor(43));
+    Assert.assertEquals(992 * 100, segment.floor(5000));
+  }
+}
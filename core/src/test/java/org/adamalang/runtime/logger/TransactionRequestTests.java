@@ -0,0 +1,32 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import org.adamalang.runtime.natives.NtClient;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransactionRequestTests {
+  @Test
+  public void construct() {
+    final var request = new TransactionRequest("construct", 42, NtClient.NO_ONE, null, null, "{\"x\":1}", "123");
+    Assert.assertEquals("{\"command\":\"construct\",\"timestamp\":\"42\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{\"x\":1},\"entropy\":\"123\"}", request.json);
+  }
+
+  @Test
+  public void invalidate() {
+    final var request = new TransactionRequest("invalidate", 42, null, null, null, null, null);
+    Assert.assertEquals("{\"command\":\"invalidate\",\"timestamp\":\"42\"}", request.json);
+    Assert.assertEquals("invalidate", request.command);
+    Assert.assertEquals(42, request.timestamp);
+  }
+
+  @Test
+  public void send() {
+    final var request = new TransactionRequest("send", 42, NtClient.NO_ONE, "chan", "{\"v\":1}", null, null);
+    Assert.assertEquals("{\"command\":\"send\",\"timestamp\":\"42\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"channel\":\"chan\",\"message\":{\"v\":1}}", request.json);
+    Assert.assertEquals("chan", request.channel);
+    Assert.assertEquals("{\"v\":1}", request.message);
+  }
+}
@@ -0,0 +1,28 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.io.File;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WriteAheadDocumentLoggerTests {
+  @Test
+  public void forwards_to_target() throws Exception {
+    final var root = SnapshotJsonDeltaDiskLoggerTests.tempRoot();
+    final var wal = new SharedWriteAheadLog(new File(root, "wal"), 1024);
+    try {
+      final var target = ObjectNodeLogger.fresh();
+      final var logger = new WriteAheadDocumentLogger(wal, new File(root, "doc").getPath(), 0, target);
+      Assert.assertEquals(0, logger.getRecordsReadAtStart());
+      logger.ingest(new Transaction(1, "{}", "{\"x\":1}", new TransactionResult(false, 0, 1)));
+      logger.close();
+      Assert.assertEquals("{\"x\":1}", target.node.toString());
+      Assert.assertTrue(wal.exists(root, "doc"));
+    } finally {
+      wal.close();
+      SnapshotJsonDeltaDiskLoggerTests.wipe(root);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.runtime.logger;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WriteAheadRecordTests {
+  private static byte[] bytesOf(final String key, final Transaction transaction) {
+    final var buffer = WriteAheadRecord.encode(key, transaction);
+    final var bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  @Test
+  public void bad_crc() {
+    final var bytes = bytesOf("space/doc", new Transaction(1, "{}", "{\"x\":1}", new TransactionResult(false, 0, 1)));
+    bytes[14] = 'z';
+    final var buffer = ByteBuffer.wrap(bytes);
+    Assert.assertNull(WriteAheadRecord.read(buffer));
+    Assert.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  public void empty() {
+    Assert.assertNull(WriteAheadRecord.read(ByteBuffer.allocate(0)));
+    Assert.assertNull(WriteAheadRecord.read(ByteBuffer.allocate(100)));
+  }
+
+  @Test
+  public void roundtrip() {
+    final var a = bytesOf("space/été", new Transaction(1, "{\"command\":\"send\"}", "{\"x\":1}", new TransactionResult(true, 100, 2)));
+    final var b = bytesOf("space/b", new Transaction(3, "{}", "{}", new TransactionResult(false, 0, 3)));
+    final var buffer = ByteBuffer.allocate(a.length + b.length);
+    buffer.put(a);
+    buffer.put(b);
+    buffer.flip();
+    final var first = WriteAheadRecord.read(buffer);
+    Assert.assertEquals("space/été", first.key);
+    Assert.assertEquals("{\"command\":\"send\"}", first.transaction.request);
+    Assert.assertEquals("{\"x\":1}", first.transaction.delta);
+    Assert.assertEquals(100, first.transaction.transactionResult.whenToInvalidMilliseconds);
+    Assert.assertEquals(2, first.transaction.transactionResult.seq);
+    Assert.assertEquals(a.length, buffer.position());
+    Assert.assertEquals("space/b", WriteAheadRecord.read(buffer).key);
+    Assert.assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  public void truncated() {
+    final var bytes = bytesOf("space/doc", new Transaction(1, "{}", "{\"x\":1}", new TransactionResult(false, 0, 1)));
+    Assert.assertNull(WriteAheadRecord.read(ByteBuffer.wrap(Arrays.copyOf(bytes, bytes.length - 1))));
+  }
+}
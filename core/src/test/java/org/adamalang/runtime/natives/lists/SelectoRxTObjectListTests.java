@@ -3,8 +3,10 @@
  * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
 package org.adamalang.runtime.natives.lists;
 
+import java.util.Comparator;
 import java.util.Random;
 import org.adamalang.runtime.contracts.IndexQuerySet;
+import org.adamalang.runtime.contracts.IndexedComparator;
 import org.adamalang.runtime.contracts.WhereClause;
 import org.adamalang.runtime.json.JsonStreamReader;
 import org.adamalang.runtime.json.JsonStreamWriter;
@@ -18,6 +20,30 @@ import org.junit.Assert;
 import org.junit.Test;
 
 public class SelectoRxTObjectListTests {
+  private static WhereClause<MockRecord> indexIs(final int value) {
+    return new WhereClause<>() {
+      @Override
+      public int[] getIndices() {
+        return new int[] { 0, value };
+      }
+
+      @Override
+      public Integer getPrimaryKey() {
+        return null;
+      }
+
+      @Override
+      public void scopeByIndicies(final IndexQuerySet __set) {
+        __set.intersect(0, value);
+      }
+
+      @Override
+      public boolean test(final MockRecord item) {
+        return item.index.get() == value;
+      }
+    };
+  }
+
   @Test
   public void flow() {
     final var document = new MockLivingDocument();
@@ -78,6 +104,90 @@ public class SelectoRxTObjectListTests {
     Assert.assertEquals("\"t\":{\"auto_key\":7,\"rows\":{\"4\":{\"data\":\"cake\"},\"5\":{\"data\":\"cake\"},\"6\":{\"data\":\"cake\"}}}", writer.toString());
   }
 
+  @Test
+  public void table_iterate_order_limit() {
+    final var document = new MockLivingDocument();
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    final var rng = new Random(42);
+    final var json = new StringBuilder("{\"auto_key\":100,\"rows\":{");
+    for (var k = 0; k < 100; k++) {
+      if (k > 0) {
+        json.append(",");
+      }
+      json.append("\"").append(k).append("\":{\"index\":").append(rng.nextInt(6)).append("}");
+    }
+    json.append("}}");
+    table.__insert(new JsonStreamReader(json.toString()));
+    final Comparator<MockRecord> cmp = (a, b) -> Integer.compare(b.index.get(), a.index.get());
+    for (final int skip : new int[] { 0, 1, 7, 99, 150 }) {
+      for (final int limit : new int[] { 0, 1, 5, 20, 200 }) {
+        final var expected = table.iterate(false).orderBy(true, cmp).skipAndLimit(true, skip, limit);
+        final var actual = table.iterate(false).orderBy(false, cmp).skipAndLimit(true, skip, limit);
+        Assert.assertEquals(expected.size(), actual.size());
+        for (var k = 0; k < expected.size(); k++) {
+          Assert.assertEquals(expected.lookup(k).get().__id(), actual.lookup(k).get().__id());
+        }
+        final var filtered = table.iterate(false).where(false, indexIs(3)).orderBy(false, cmp).skipAndLimit(true, skip, limit);
+        final var filteredExpected = table.iterate(false).where(true, indexIs(3)).skipAndLimit(true, skip, limit);
+        Assert.assertEquals(filteredExpected.size(), filtered.size());
+        for (var k = 0; k < filtered.size(); k++) {
+          Assert.assertEquals(filteredExpected.lookup(k).get().__id(), filtered.lookup(k).get().__id());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void table_iterate_order_indexed_limit() {
+    final var document = new MockLivingDocument();
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    final var rng = new Random(42);
+    final var json = new StringBuilder("{\"auto_key\":100,\"rows\":{");
+    for (var k = 0; k < 100; k++) {
+      if (k > 0) {
+        json.append(",");
+      }
+      json.append("\"").append(k).append("\":{\"index\":").append(rng.nextInt(6)).append("}");
+    }
+    json.append("}}");
+    table.__insert(new JsonStreamReader(json.toString()));
+    // rows in flux (i.e. not yet reindexed) must still be ranked
+    for (final int id : new int[] { 50, 51 }) {
+      table.getById(id).index.__subscribe(table.getById(id).inv);
+    }
+    table.getById(50).index.set(9);
+    table.getById(51).index.set(-1);
+    table.getById(52).__delete();
+    final var cmp = new IndexedComparator<MockRecord>() {
+      @Override
+      public boolean ascending() {
+        return false;
+      }
+
+      @Override
+      public int column() {
+        return 0;
+      }
+
+      @Override
+      public int compare(final MockRecord a, final MockRecord b) {
+        final var delta = Integer.compare(b.index.get(), a.index.get());
+        return delta != 0 ? delta : Integer.compare(b.__id(), a.__id());
+      }
+    };
+    for (final int skip : new int[] { 0, 1, 7, 99, 150 }) {
+      for (final int limit : new int[] { 0, 1, 5, 20, 200 }) {
+        final var expected = table.iterate(false).orderBy(true, cmp).skipAndLimit(true, skip, limit);
+        final var actual = table.iterate(false).orderBy(false, cmp).skipAndLimit(true, skip, limit);
+        Assert.assertEquals(expected.size(), actual.size());
+        for (var k = 0; k < expected.size(); k++) {
+          Assert.assertEquals(expected.lookup(k).get().__id(), actual.lookup(k).get().__id());
+        }
+      }
+    }
+    Assert.assertEquals(50, table.iterate(false).orderBy(false, cmp).skipAndLimit(true, 0, 1).lookup(0).get().__id());
+  }
+
   @Test
   public void table_iterate_reduce() {
     final var document = new MockLivingDocument();
@@ -159,6 +269,18 @@ public class SelectoRxTObjectListTests {
     Assert.assertEquals(5, table.iterate(true).get().where(true, where).lookup(0).get().__id());
   }
 
+  @Test
+  public void table_iterate_where_limit() {
+    final var document = new MockLivingDocument();
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    table.__insert(new JsonStreamReader("{\"auto_key\":8,\"rows\":{\"4\":{\"index\":13},\"5\":{\"index\":12},\"6\":{\"index\":13},\"7\":{\"index\":13}}}}"));
+    final var list = table.iterate(false).where(false, indexIs(13)).skipAndLimit(true, 1, 1);
+    Assert.assertEquals(1, list.size());
+    Assert.assertEquals(6, list.lookup(0).get().__id());
+    Assert.assertEquals(0, table.iterate(false).where(false, indexIs(13)).skipAndLimit(true, 3, 2).size());
+    Assert.assertEquals(2, table.iterate(false).where(false, indexIs(13)).orderBy(false, (a, b) -> 0).where(true, indexIs(13)).skipAndLimit(true, 0, 2).size());
+  }
+
   @Test
   public void table_iterate_where_pkey_lookup() {
     final var document = new MockLivingDocument();
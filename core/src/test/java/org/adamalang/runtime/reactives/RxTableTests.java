@@ -126,6 +126,30 @@ public class RxTableTests {
     new RxTable<>(document, document, "name", MockRecord::new, 0);
   }
 
+  @Test
+  public void ordered() {
+    final var document = new MockLivingDocument();
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    table.__insert(new JsonStreamReader("{\"auto_key\":7,\"rows\":{\"4\":{\"index\":13},\"5\":{\"index\":12},\"6\":{\"index\":14}}}"));
+    table.make().index.set(1);
+    table.getById(6).__delete();
+    final var ids = new StringBuilder();
+    for (final MockRecord mr : table.ordered(0, true)) {
+      ids.append(mr.id).append(",");
+    }
+    Assert.assertEquals("5,4,7,", ids.toString());
+    ids.setLength(0);
+    for (final MockRecord mr : table.ordered(0, false)) {
+      ids.append(mr.id).append(",");
+    }
+    Assert.assertEquals("4,5,7,", ids.toString());
+    ids.setLength(0);
+    for (final MockRecord mr : table.ordered(0, true, 1)) {
+      ids.append(mr.id).append(",");
+    }
+    Assert.assertEquals("5,7,", ids.toString());
+  }
+
   @Test
   public void revert_creates() {
     final var document = new MockLivingDocument();
@@ -308,6 +332,79 @@ public class RxTableTests {
     Assert.assertEquals(3, records.size());
   }
 
+  @Test
+  public void scanning_range() {
+    final var document = new MockLivingDocument();
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    table.__insert(new JsonStreamReader("{\"auto_key\":7,\"rows\":{\"4\":{\"index\":13},\"5\":{\"index\":12},\"6\":{\"index\":14}}}"));
+    final var records = new ArrayList<MockRecord>();
+    for (final MockRecord mr : table.scan(new WhereClause<MockRecord>() {
+      @Override
+      public int[] getIndices() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Integer getPrimaryKey() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void scopeByIndicies(final IndexQuerySet __set) {
+        __set.intersect(0, 12, IndexQuerySet.LookupMode.GreaterThanOrEqual);
+        __set.intersect(0, 14, IndexQuerySet.LookupMode.LessThan);
+      }
+
+      @Override
+      public boolean test(final MockRecord item) {
+        return false;
+      }
+    })) {
+      records.add(mr);
+    }
+    Assert.assertEquals(2, records.size());
+    Assert.assertEquals(4, records.get(0).id);
+    Assert.assertEquals(5, records.get(1).id);
+  }
+
+  @Test
+  public void scanning_survives_changes() {
+    final var document = new MockLivingDocument();
+    final var table = new RxTable<>(document, document, "name", MockRecord::new, 1);
+    table.__insert(new JsonStreamReader("{\"auto_key\":7,\"rows\":{\"4\":{\"index\":13},\"5\":{\"index\":13},\"6\":{\"index\":13}}}"));
+    final var r7 = table.make();
+    r7.index.set(13);
+    final var records = new ArrayList<MockRecord>();
+    for (final MockRecord mr : table.scan(new WhereClause<MockRecord>() {
+      @Override
+      public int[] getIndices() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Integer getPrimaryKey() {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void scopeByIndicies(final IndexQuerySet __set) {
+        __set.intersect(0, 13);
+      }
+
+      @Override
+      public boolean test(final MockRecord item) {
+        return true;
+      }
+    })) {
+      // moving the row out of its bucket (and into the rows in flux) must not disturb the walk
+      mr.index.__subscribe(mr.inv);
+      mr.index.set(12);
+      records.add(mr);
+    }
+    Assert.assertEquals(4, records.size());
+    Assert.assertEquals(7, records.get(3).id);
+  }
+
   @Test
   public void scanning_use_the_index() {
     final var document = new MockLivingDocument();
@@ -83,50 +83,88 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -243,19 +281,25 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"i\":");
-    gold.append("\n              i.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 105:");
+    gold.append("\n              if (__reader.matchFieldName(\"i\")) {");
+    gold.append("\n                i.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -314,16 +358,23 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -387,13 +438,13 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef3 = x;");
     gold.append("\n      for (RTxAutoMaxRecord2 _AutoElement4 : new RTxAutoMaxRecord2[] {new RTxAutoMaxRecord2()}) {");
     gold.append("\n        RTxX _CreateRef4 = _AutoRef3.make();");
-    gold.append("\n        __code_cost += 0;");
+    gold.append("\n        __cost(0);");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n      __track(1);");
@@ -580,50 +631,88 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -729,7 +818,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    private void __METH_0_foo1() {}");
     gold.append("\n    private int __METH_1_goo() {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(0);");
     gold.append("\n      return 1;");
     gold.append("\n    }");
@@ -744,16 +833,19 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -808,16 +900,23 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -852,7 +951,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(1);");
     gold.append("\n    (x.iterate(true)).map((__item) -> { __item.__METH_0_foo1(); });");
     gold.append("\n    __track(2);");
@@ -974,62 +1073,112 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"zzz\":");
-    gold.append("\n            zzz.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"zzz2\":");
-    gold.append("\n            zzz2.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"count\":");
-    gold.append("\n            count.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"count_after\":");
-    gold.append("\n            count_after.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"vkzsum\":");
-    gold.append("\n            vkzsum.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -2042137940:");
+    gold.append("\n            if (__reader.matchFieldName(\"count_after\")) {");
+    gold.append("\n              count_after.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -814161978:");
+    gold.append("\n            if (__reader.matchFieldName(\"vkzsum\")) {");
+    gold.append("\n              vkzsum.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 121146:");
+    gold.append("\n            if (__reader.matchFieldName(\"zzz\")) {");
+    gold.append("\n              zzz.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3755576:");
+    gold.append("\n            if (__reader.matchFieldName(\"zzz2\")) {");
+    gold.append("\n              zzz2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 94851343:");
+    gold.append("\n            if (__reader.matchFieldName(\"count\")) {");
+    gold.append("\n              count.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1157,39 +1306,54 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
-    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"c\", \"v\", \"z\"};");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"b\", \"c\", \"v\", \"z\"};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
     gold.append("\n      return __INDEX_COLUMNS;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {c.getIndexValue(), v.getIndexValue(), z.getIndexValue()};");
+    gold.append("\n      return new int[] {b.getIndexValue(), c.getIndexValue(), v.getIndexValue(), z.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 98:");
+    gold.append("\n              if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n                b.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"v\":");
-    gold.append("\n              v.__insert(__reader);");
+    gold.append("\n            case 99:");
+    gold.append("\n              if (__reader.matchFieldName(\"c\")) {");
+    gold.append("\n                c.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"b\":");
-    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n            case 118:");
+    gold.append("\n              if (__reader.matchFieldName(\"v\")) {");
+    gold.append("\n                v.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"c\":");
-    gold.append("\n              c.__insert(__reader);");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1260,16 +1424,23 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1321,10 +1492,10 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __db.show(__item.b, __obj.planField(\"b\"));");
-    gold.append("\n      __dz.show(__item.z, __obj.planField(\"z\"));");
+    gold.append("\n      __db.show(__item.b, __obj.planEncodedField(\"\\\"b\\\":\"));");
+    gold.append("\n      __dz.show(__item.z, __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1349,13 +1520,13 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 17;");
+    gold.append("\n    __cost(17);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef3 = zzz;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr5 = new RTx_AnonObjConvert_0(false, 2);");
     gold.append("\n      RTxX _CreateRef4 = _AutoRef3.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef4.b.set(_AutoExpr5.b);");
     gold.append("\n      _CreateRef4.z.set(_AutoExpr5.z);");
     gold.append("\n    }");
@@ -1364,7 +1535,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef6 = zzz;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr8 = new RTx_AnonObjConvert_0(false, 42);");
     gold.append("\n      RTxX _CreateRef7 = _AutoRef6.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef7.b.set(_AutoExpr8.b);");
     gold.append("\n      _CreateRef7.z.set(_AutoExpr8.z);");
     gold.append("\n    }");
@@ -1373,13 +1544,13 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef9 = zzz2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr11 = new RTx_AnonObjConvert_0(false, 2);");
     gold.append("\n      RTxX _CreateRef10 = _AutoRef9.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef10.b.set(_AutoExpr11.b);");
     gold.append("\n      _CreateRef10.z.set(_AutoExpr11.z);");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
     gold.append("\n    for(RTxX z : zzz.iterate(true)) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(4);");
     gold.append("\n      z.z.set(1000);");
     gold.append("\n    }");
@@ -1391,7 +1562,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    ((zzz.iterate(true)).transform((item) -> item.b.get())).transform((item) -> !item);");
     gold.append("\n    __track(8);");
     gold.append("\n    for(Integer kz : (zzz.iterate(true)).transform((item) -> item.z.get()).transform((item) -> -item)) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(9);");
     gold.append("\n      vkzsum.opAddTo(kz);");
     gold.append("\n    }");
@@ -1446,7 +1617,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(18);");
     gold.append("\n    __transitionStateMachine(\"setup\", 0);");
     gold.append("\n  }");
@@ -1561,50 +1732,88 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1677,13 +1886,13 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(MethodOnList_5 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gx != __item.x.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DInt32> __deltaList6 = __dx;");
-    gold.append("\n          PrivateLazyDeltaWriter __list5 = __obj.planField(\"x\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list5 = __obj.planEncodedField(\"\\\"x\\\":\").planObject();");
     gold.append("\n          int __index9 = 0;");
     gold.append("\n          for (Integer __listElement7 : __item.x.get()) {");
     gold.append("\n            DInt32 __deltaElement8 = __deltaList6.getPrior(__index9, () -> new DInt32());");
@@ -1731,7 +1940,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n    private int __METH_0_foo() {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(0);");
     gold.append("\n      return x.get() * x.get();");
     gold.append("\n    }");
@@ -1746,19 +1955,25 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1817,16 +2032,23 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1869,9 +2091,9 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_1 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1898,7 +2120,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(1);");
     gold.append("\n    return true;");
     gold.append("\n  }");
@@ -1917,13 +2139,13 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(2);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef10 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr12 = new RTx_AnonObjConvert_1(1);");
     gold.append("\n      RTxR _CreateRef11 = _AutoRef10.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef11.x.set(_AutoExpr12.x);");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
@@ -1931,7 +2153,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef13 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr15 = new RTx_AnonObjConvert_1(2);");
     gold.append("\n      RTxR _CreateRef14 = _AutoRef13.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef14.x.set(_AutoExpr15.x);");
     gold.append("\n    }");
     gold.append("\n    __track(4);");
@@ -1939,7 +2161,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef16 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr18 = new RTx_AnonObjConvert_1(3);");
     gold.append("\n      RTxR _CreateRef17 = _AutoRef16.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef17.x.set(_AutoExpr18.x);");
     gold.append("\n    }");
     gold.append("\n    __track(5);");
@@ -1947,7 +2169,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef19 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr21 = new RTx_AnonObjConvert_1(4);");
     gold.append("\n      RTxR _CreateRef20 = _AutoRef19.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef20.x.set(_AutoExpr21.x);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2059,50 +2281,88 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2208,30 +2468,36 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
-    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {};");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"x\"};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
     gold.append("\n      return __INDEX_COLUMNS;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {};");
+    gold.append("\n      return new int[] {x.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2290,16 +2556,23 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -2334,7 +2607,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtList<Boolean> ls = (((t.iterate(true)).transform((item) -> item.x.get())).transform((item) -> !item)).transform((item) -> !item);");
     gold.append("\n  }");
@@ -2446,50 +2719,88 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2606,19 +2917,25 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2677,16 +2994,23 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -2721,7 +3045,7 @@ public class GeneratedAggregatesTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtList<Integer> ls = (((t.iterate(true)).transform((item) -> item.x.get())).transform((item) -> -item)).transform((item) -> -item);");
     gold.append("\n  }");
@@ -83,50 +83,88 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"things\":");
-    gold.append("\n            things.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -874702523:");
+    gold.append("\n            if (__reader.matchFieldName(\"things\")) {");
+    gold.append("\n              things.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -247,25 +285,37 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -335,23 +385,30 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n    private DInt32 __dy;");
     gold.append("\n    private DDouble __dz;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxThing() {");
     gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __dy = new DInt32();");
     gold.append("\n      __dz = new DDouble();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxThing __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
-    gold.append("\n      __dz.show(__item.z.get(), __obj.planField(\"z\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dz.show(__item.z.get(), __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -403,10 +460,10 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -537,13 +594,13 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxThing> _AutoRef17 = things;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr19 = new RTx_AnonObjConvert_0(1, 2);");
     gold.append("\n      RTxThing _CreateRef18 = _AutoRef17.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef18.x.set(_AutoExpr19.x);");
     gold.append("\n      _CreateRef18.y.set(_AutoExpr19.y);");
     gold.append("\n    }");
@@ -552,7 +609,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxThing> _AutoRef20 = things;");
     gold.append("\n      for (RTx_AnonObjConvert_0 _AutoElement21 : new RTx_AnonObjConvert_0[] {new RTx_AnonObjConvert_0(2, 3)}) {");
     gold.append("\n        RTxThing _CreateRef21 = _AutoRef20.make();");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        _CreateRef21.x.set(_AutoElement21.x);");
     gold.append("\n        _CreateRef21.y.set(_AutoElement21.y);");
     gold.append("\n      }");
@@ -562,7 +619,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxThing> _AutoRef22 = things;");
     gold.append("\n      for (RTxAutoMaxRecord6 _AutoElement23 : new RTxAutoMaxRecord6[] {new RTxAutoMaxRecord6(4)}) {");
     gold.append("\n        RTxThing _CreateRef23 = _AutoRef22.make();");
-    gold.append("\n        __code_cost += 1;");
+    gold.append("\n        __cost(1);");
     gold.append("\n        _CreateRef23.z.set(_AutoElement23.z);");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -571,7 +628,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxThing> _AutoRef24 = things;");
     gold.append("\n      for (RTx_AnonObjConvert_0 _AutoElement25 : new RTx_AnonObjConvert_0[] {new RTx_AnonObjConvert_0(3, 4), new RTx_AnonObjConvert_0(4, 5)}) {");
     gold.append("\n        RTxThing _CreateRef25 = _AutoRef24.make();");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        _CreateRef25.x.set(_AutoElement25.x);");
     gold.append("\n        _CreateRef25.y.set(_AutoElement25.y);");
     gold.append("\n      }");
@@ -581,7 +638,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxThing> _AutoRef26 = things;");
     gold.append("\n      for (RTxAutoMaxRecord16 _AutoElement27 : new RTxAutoMaxRecord16[] {new RTxAutoMaxRecord16(3, 4, 1), new RTxAutoMaxRecord16(4, 5, 3.14)}) {");
     gold.append("\n        RTxThing _CreateRef27 = _AutoRef26.make();");
-    gold.append("\n        __code_cost += 3;");
+    gold.append("\n        __cost(3);");
     gold.append("\n        _CreateRef27.x.set(_AutoElement27.x);");
     gold.append("\n        _CreateRef27.y.set(_AutoElement27.y);");
     gold.append("\n        _CreateRef27.z.set(_AutoElement27.z);");
@@ -610,7 +667,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(5);");
     gold.append("\n    __transitionStateMachine(\"setup\", 0);");
     gold.append("\n  }");
@@ -720,47 +777,82 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1166,9 +1258,9 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_35 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dz1.show(__item.z1, __obj.planField(\"z1\"));");
+    gold.append("\n      __dz1.show(__item.z1, __obj.planEncodedField(\"\\\"z1\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1376,7 +1468,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(0);");
     gold.append("\n    final RTxAutoMaxRecord4[] a = new RTxAutoMaxRecord4[] {new RTxAutoMaxRecord4(0), new RTxAutoMaxRecord4(1)};");
     gold.append("\n    __track(1);");
@@ -1496,47 +1588,82 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1788,7 +1915,7 @@ public class GeneratedAnonymousTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(0);");
     gold.append("\n    final RTxAutoMaxRecord4[] x = new RTxAutoMaxRecord4[] {new RTxAutoMaxRecord4(1, 0), (new RTxAutoMaxRecord4(0, 2))};");
     gold.append("\n    __track(1);");
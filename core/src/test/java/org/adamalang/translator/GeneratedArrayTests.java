@@ -83,50 +83,88 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"count\":");
-    gold.append("\n            count.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 94851343:");
+    gold.append("\n            if (__reader.matchFieldName(\"count\")) {");
+    gold.append("\n              count.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -197,10 +235,10 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(Empty_1 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dcount.show(__item.count.get(), __obj.planField(\"count\"));");
+    gold.append("\n      __dcount.show(__item.count.get(), __obj.planEncodedField(\"\\\"count\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -280,7 +318,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    count.set(new RTx__EmptyMessageNoArgs_[] {}.length);");
     gold.append("\n  }");
@@ -396,56 +434,100 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"sum\":");
-    gold.append("\n            sum.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"found_impossible_thing\":");
-    gold.append("\n            found_impossible_thing.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1387956767:");
+    gold.append("\n            if (__reader.matchFieldName(\"found_impossible_thing\")) {");
+    gold.append("\n              found_impossible_thing.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 114251:");
+    gold.append("\n            if (__reader.matchFieldName(\"sum\")) {");
+    gold.append("\n              sum.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -572,22 +654,31 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -650,16 +741,23 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -711,10 +809,10 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -754,13 +852,13 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 11;");
+    gold.append("\n    __cost(11);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef6 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr8 = new RTx_AnonObjConvert_0(100, 3);");
     gold.append("\n      RTxX _CreateRef7 = _AutoRef6.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef7.x.set(_AutoExpr8.x);");
     gold.append("\n      _CreateRef7.y.set(_AutoExpr8.y);");
     gold.append("\n    }");
@@ -769,7 +867,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef9 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr11 = new RTx_AnonObjConvert_0(2, 2);");
     gold.append("\n      RTxX _CreateRef10 = _AutoRef9.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef10.x.set(_AutoExpr11.x);");
     gold.append("\n      _CreateRef10.y.set(_AutoExpr11.y);");
     gold.append("\n    }");
@@ -778,7 +876,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef12 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr14 = new RTx_AnonObjConvert_0(100, 1);");
     gold.append("\n      RTxX _CreateRef13 = _AutoRef12.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef13.x.set(_AutoExpr14.x);");
     gold.append("\n      _CreateRef13.y.set(_AutoExpr14.y);");
     gold.append("\n    }");
@@ -787,7 +885,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef15 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr17 = new RTx_AnonObjConvert_0(4, 2);");
     gold.append("\n      RTxX _CreateRef16 = _AutoRef15.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef16.x.set(_AutoExpr17.x);");
     gold.append("\n      _CreateRef16.y.set(_AutoExpr17.y);");
     gold.append("\n    }");
@@ -796,7 +894,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef18 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr20 = new RTx_AnonObjConvert_0(5, 2);");
     gold.append("\n      RTxX _CreateRef19 = _AutoRef18.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef19.x.set(_AutoExpr20.x);");
     gold.append("\n      _CreateRef19.y.set(_AutoExpr20.y);");
     gold.append("\n    }");
@@ -805,7 +903,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef21 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr23 = new RTx_AnonObjConvert_0(1, 2);");
     gold.append("\n      RTxX _CreateRef22 = _AutoRef21.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef22.x.set(_AutoExpr23.x);");
     gold.append("\n      _CreateRef22.y.set(_AutoExpr23.y);");
     gold.append("\n    }");
@@ -813,7 +911,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxX> _AutoConditionthing_24;");
     gold.append("\n    if ((_AutoConditionthing_24 = (tbl.iterate(false).orderBy(true, __ORDER_X_x_d_y_d)).lookup(0)).has()) {");
     gold.append("\n      RTxX thing = _AutoConditionthing_24.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(7);");
     gold.append("\n      sum.set(thing.x.get() + thing.y.get());");
     gold.append("\n    }");
@@ -823,7 +921,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxX> _AutoConditionthing_25;");
     gold.append("\n    if ((_AutoConditionthing_25 = (tbl.iterate(false).orderBy(true, __ORDER_X_x_d_y_d)).lookup(100)).has()) {");
     gold.append("\n      RTxX thing = _AutoConditionthing_25.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(10);");
     gold.append("\n      found_impossible_thing.set(true);");
     gold.append("\n    }");
@@ -831,7 +929,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxX> _AutoConditionthing_26;");
     gold.append("\n    if ((_AutoConditionthing_26 = (tbl.iterate(false).orderBy(true, __ORDER_X_x_d_y_d)).lookup(-100)).has()) {");
     gold.append("\n      RTxX thing = _AutoConditionthing_26.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(12);");
     gold.append("\n      found_impossible_thing.set(true);");
     gold.append("\n    }");
@@ -952,50 +1050,88 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1090,12 +1226,12 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private static final int [] __ALL_VALUES_E = new int[] {0, 1};");
     gold.append("\n  private int __FUNC_0_mesum(int[] s) {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(0);");
     gold.append("\n    int r = 0;");
     gold.append("\n    __track(1);");
     gold.append("\n    for(Integer v : s) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(2);");
     gold.append("\n      r += v;");
     gold.append("\n    }");
@@ -1132,7 +1268,7 @@ public class GeneratedArrayTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    x.set(__FUNC_0_mesum(new int[] {1, 2, 3}));");
     gold.append("\n  }");
@@ -83,50 +83,88 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -236,36 +274,48 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
-    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"i\"};");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"i\", \"s\"};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
     gold.append("\n      return __INDEX_COLUMNS;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {i.getIndexValue()};");
+    gold.append("\n      return new int[] {i.getIndexValue(), s.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"i\":");
-    gold.append("\n              i.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 100:");
+    gold.append("\n              if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n                d.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"d\":");
-    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n            case 105:");
+    gold.append("\n              if (__reader.matchFieldName(\"i\")) {");
+    gold.append("\n                i.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"s\":");
-    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n            case 115:");
+    gold.append("\n              if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n                s.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -335,23 +385,30 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n    private DDouble __dd;");
     gold.append("\n    private DString __ds;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
     gold.append("\n      __di = new DInt32();");
     gold.append("\n      __dd = new DDouble();");
     gold.append("\n      __ds = new DString();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __di.show(__item.i.get(), __obj.planField(\"i\"));");
-    gold.append("\n      __dd.show(__item.d.get(), __obj.planField(\"d\"));");
-    gold.append("\n      __ds.show(__item.s.get(), __obj.planField(\"s\"));");
+    gold.append("\n      __di.show(__item.i.get(), __obj.planEncodedField(\"\\\"i\\\":\"));");
+    gold.append("\n      __dd.show(__item.d.get(), __obj.planEncodedField(\"\\\"d\\\":\"));");
+    gold.append("\n      __ds.show(__item.s.get(), __obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -403,10 +460,10 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dd.show(__item.d, __obj.planField(\"d\"));");
-    gold.append("\n      __di.show(__item.i, __obj.planField(\"i\"));");
+    gold.append("\n      __dd.show(__item.d, __obj.planEncodedField(\"\\\"d\\\":\"));");
+    gold.append("\n      __di.show(__item.i, __obj.planEncodedField(\"\\\"i\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -446,13 +503,13 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 11;");
+    gold.append("\n    __cost(11);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef1 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr3 = new RTx_AnonObjConvert_0(3, 1);");
     gold.append("\n      RTxX _CreateRef2 = _AutoRef1.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef2.d.set(_AutoExpr3.d);");
     gold.append("\n      _CreateRef2.i.set(_AutoExpr3.i);");
     gold.append("\n    }");
@@ -617,47 +674,82 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -770,7 +862,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_PrimaryTest(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"PrimaryTest\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 28;");
+    gold.append("\n      __cost(28);");
     gold.append("\n      __track(0);");
     gold.append("\n      __assert_truth(1 == 1, 1, 2, 1, 16);");
     gold.append("\n      __track(1);");
@@ -949,53 +1041,94 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"other\":");
-    gold.append("\n            other.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            s.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 115:");
+    gold.append("\n            if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 106069776:");
+    gold.append("\n            if (__reader.matchFieldName(\"other\")) {");
+    gold.append("\n              other.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1116,7 +1249,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Addition(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Addition\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 12;");
+    gold.append("\n      __cost(12);");
     gold.append("\n      __track(0);");
     gold.append("\n      __assert_truth(LibString.equality(\"xy\", \"x\" + \"y\"), 1, 2, 1, 27);");
     gold.append("\n      __track(1);");
@@ -1145,7 +1278,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Subtraction(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Subtraction\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      __track(11);");
     gold.append("\n      __assert_truth(5 == 10 - 5, 15, 2, 15, 21);");
     gold.append("\n      __track(12);");
@@ -1160,7 +1293,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Multiply(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Multiply\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 6;");
+    gold.append("\n      __cost(6);");
     gold.append("\n      __track(15);");
     gold.append("\n      __assert_truth(LibString.equality(\"xxx\", LibString.multiply(\"x\", 3)), 22, 2, 22, 26);");
     gold.append("\n      __track(16);");
@@ -1177,7 +1310,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Divide(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Divide\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      __track(20);");
     gold.append("\n      __assert_truth(2 == 4 / 2, 30, 2, 30, 20);");
     gold.append("\n      __track(21);");
@@ -1192,7 +1325,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Mod(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Mod\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(24);");
     gold.append("\n      __assert_truth(2 == 7 % 5, 37, 2, 37, 20);");
     gold.append("\n    }");
@@ -1201,7 +1334,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Relate(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Relate\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      __track(25);");
     gold.append("\n      __assert_truth(1 < 2, 41, 2, 41, 15);");
     gold.append("\n      __track(26);");
@@ -1212,7 +1345,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Logic(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Logic\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 11;");
+    gold.append("\n      __cost(11);");
     gold.append("\n      __track(27);");
     gold.append("\n      __assert_truth(true == true, 46, 2, 46, 22);");
     gold.append("\n      __track(28);");
@@ -1239,7 +1372,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_Equals(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"Equals\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 8;");
+    gold.append("\n      __cost(8);");
     gold.append("\n      __track(37);");
     gold.append("\n      __assert_truth((NtClient.NO_ONE.equals(NtClient.NO_ONE)), 62, 2, 62, 28);");
     gold.append("\n      __track(38);");
@@ -1402,47 +1535,82 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1555,7 +1723,7 @@ public class GeneratedBinaryExpressionTests extends GeneratedBase {
     gold.append("\n  public void __test_PrimaryTest(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"PrimaryTest\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 12;");
+    gold.append("\n      __cost(12);");
     gold.append("\n      __track(0);");
     gold.append("\n      __assert_truth(LibString.equality(\"x\", \"x\"), 1, 2, 1, 20);");
     gold.append("\n      __track(1);");
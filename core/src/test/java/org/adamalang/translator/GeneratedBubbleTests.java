@@ -89,50 +89,88 @@ public class GeneratedBubbleTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -207,13 +245,13 @@ public class GeneratedBubbleTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(CanOnlyCallPure_1 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__gk != __item.___k.getGeneration()) {");
     gold.append("\n        Integer __local_k = __item.__COMPUTE_k(__writer.who);");
-    gold.append("\n        __dk.show(__local_k, __obj.planField(\"k\"));");
+    gold.append("\n        __dk.show(__local_k, __obj.planEncodedField(\"\\\"k\\\":\"));");
     gold.append("\n        __gk = __item.___k.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
@@ -239,7 +277,7 @@ public class GeneratedBubbleTests extends GeneratedBase {
     gold.append("\n    };");
     gold.append("\n  }");
     gold.append("\n  private int __FUNC_0_square(int x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return x * x;");
     gold.append("\n  }");
@@ -382,50 +420,88 @@ public class GeneratedBubbleTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -500,13 +576,13 @@ public class GeneratedBubbleTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(Define_2 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__gk != __item.___k.getGeneration()) {");
     gold.append("\n        Integer __local_k = __item.__COMPUTE_k(__writer.who);");
-    gold.append("\n        __dk.show(__local_k, __obj.planField(\"k\"));");
+    gold.append("\n        __dk.show(__local_k, __obj.planEncodedField(\"\\\"k\\\":\"));");
     gold.append("\n        __gk = __item.___k.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
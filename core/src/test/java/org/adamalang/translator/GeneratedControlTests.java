@@ -197,56 +197,100 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"skip\":");
-    gold.append("\n            skip.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3089282:");
+    gold.append("\n            if (__reader.matchFieldName(\"done\")) {");
+    gold.append("\n              done.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3532159:");
+    gold.append("\n            if (__reader.matchFieldName(\"skip\")) {");
+    gold.append("\n              skip.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 2004434043:");
+    gold.append("\n            if (__reader.matchFieldName(\"lastValue\")) {");
+    gold.append("\n              lastValue.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"done\":");
-    gold.append("\n            done.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"lastValue\":");
-    gold.append("\n            lastValue.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -383,9 +427,9 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dv.show(__item.v, __obj.planField(\"v\"));");
+    gold.append("\n      __dv.show(__item.v, __obj.planEncodedField(\"\\\"v\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -398,12 +442,12 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_x(NtClient client, RTxX msg) throws AbortMessageException {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    lastValue.set(msg.v);");
     gold.append("\n    __track(1);");
     gold.append("\n    if (msg.v == 50) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(2);");
     gold.append("\n      skip.set(true);");
     gold.append("\n    }");
@@ -433,10 +477,10 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(3);");
     gold.append("\n    if (!skip.get()) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(4);");
     gold.append("\n      throw new ComputeBlockedException(null, null);");
     gold.append("\n    }");
@@ -461,7 +505,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __test_foo(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"foo\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 9;");
+    gold.append("\n      __cost(9);");
     gold.append("\n      __track(6);");
     gold.append("\n      __queue.add(new AsyncTask(0, NtClient.NO_ONE, \"x\", 0, new RTxX(42)));");
     gold.append("\n      __track(7);");
@@ -494,7 +538,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(14);");
     gold.append("\n    __transitionStateMachine(\"setup\", 0);");
     gold.append("\n  }");
@@ -609,53 +653,94 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"zzz\":");
-    gold.append("\n            zzz.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"out\":");
-    gold.append("\n            out.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 110414:");
+    gold.append("\n            if (__reader.matchFieldName(\"out\")) {");
+    gold.append("\n              out.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 121146:");
+    gold.append("\n            if (__reader.matchFieldName(\"zzz\")) {");
+    gold.append("\n              zzz.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -776,19 +861,25 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -847,16 +938,23 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -899,9 +997,9 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dz.show(__item.z, __obj.planField(\"z\"));");
+    gold.append("\n      __dz.show(__item.z, __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -926,13 +1024,13 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef2 = zzz;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr4 = new RTx_AnonObjConvert_0(2);");
     gold.append("\n      RTxX _CreateRef3 = _AutoRef2.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef3.z.set(_AutoExpr4.z);");
     gold.append("\n    }");
     gold.append("\n    __track(1);");
@@ -940,12 +1038,12 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef5 = zzz;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr7 = new RTx_AnonObjConvert_0(3);");
     gold.append("\n      RTxX _CreateRef6 = _AutoRef5.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef6.z.set(_AutoExpr7.z);");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
     gold.append("\n    for(RTxX chk : (zzz.iterate(true))) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(3);");
     gold.append("\n      out.opAddTo(chk.z.get());");
     gold.append("\n    }");
@@ -972,7 +1070,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(4);");
     gold.append("\n    __transitionStateMachine(\"setup\", 0);");
     gold.append("\n  }");
@@ -1098,71 +1196,130 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"y\":");
-    gold.append("\n            y.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"b\":");
-    gold.append("\n            b.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            s.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"d\":");
-    gold.append("\n            d.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"s2\":");
-    gold.append("\n            s2.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"testDel\":");
-    gold.append("\n            testDel.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"bbbb\":");
-    gold.append("\n            bbbb.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1422481895:");
+    gold.append("\n            if (__reader.matchFieldName(\"testDel\")) {");
+    gold.append("\n              testDel.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 98:");
+    gold.append("\n            if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 100:");
+    gold.append("\n            if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 115:");
+    gold.append("\n            if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 121:");
+    gold.append("\n            if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3615:");
+    gold.append("\n            if (__reader.matchFieldName(\"s2\")) {");
+    gold.append("\n              s2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3016832:");
+    gold.append("\n            if (__reader.matchFieldName(\"bbbb\")) {");
+    gold.append("\n              bbbb.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1296,12 +1453,12 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 8;");
+    gold.append("\n    __cost(8);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtMaybe<Integer> _AutoConditionxx_0;");
     gold.append("\n    if ((_AutoConditionxx_0 = x.get()).has()) {");
     gold.append("\n      int xx = _AutoConditionxx_0.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(1);");
     gold.append("\n      y.set(xx * 2);");
     gold.append("\n    }");
@@ -1311,11 +1468,11 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    NtMaybe<Integer> _AutoConditionxx_1;");
     gold.append("\n    if ((_AutoConditionxx_1 = x.get()).has()) {");
     gold.append("\n      int xx = _AutoConditionxx_1.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(4);");
     gold.append("\n      y.set(xx * 3);");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(5);");
     gold.append("\n      y.set(42);");
     gold.append("\n    }");
@@ -1329,7 +1486,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"next\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_next() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(10);");
     gold.append("\n    x.make().set(40);");
     gold.append("\n    __track(11);");
@@ -1342,7 +1499,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"end\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_end() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(15);");
     gold.append("\n    x.get().delete();");
     gold.append("\n    __track(16);");
@@ -1355,16 +1512,16 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"done\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_done() {");
-    gold.append("\n    __code_cost += 10;");
+    gold.append("\n    __cost(10);");
     gold.append("\n    __track(20);");
     gold.append("\n    NtMaybe<Boolean> _AutoConditionbbb_2;");
     gold.append("\n    if ((_AutoConditionbbb_2 = b.get()).has()) {");
     gold.append("\n      boolean bbb = _AutoConditionbbb_2.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(21);");
     gold.append("\n      testDel.set(1);");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(22);");
     gold.append("\n      testDel.set(0);");
     gold.append("\n    }");
@@ -1372,13 +1529,13 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    NtMaybe<String> _AutoConditionsss_3;");
     gold.append("\n    if ((_AutoConditionsss_3 = s.get()).has()) {");
     gold.append("\n      String sss = _AutoConditionsss_3.get();");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      __track(24);");
     gold.append("\n      testDel.opAddTo(4);");
     gold.append("\n      __track(25);");
     gold.append("\n      s2.make().set(sss);");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(26);");
     gold.append("\n      testDel.opAddTo(2);");
     gold.append("\n    }");
@@ -1386,11 +1543,11 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    NtMaybe<Double> _AutoConditionddd_4;");
     gold.append("\n    if ((_AutoConditionddd_4 = d.get()).has()) {");
     gold.append("\n      double ddd = _AutoConditionddd_4.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(28);");
     gold.append("\n      testDel.opAddTo(16);");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(29);");
     gold.append("\n      testDel.opAddTo(8);");
     gold.append("\n    }");
@@ -1404,7 +1561,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    NtMaybe<Boolean> _AutoConditionmbv_5;");
     gold.append("\n    if ((_AutoConditionmbv_5 = mmbb).has()) {");
     gold.append("\n      boolean mbv = _AutoConditionmbv_5.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(34);");
     gold.append("\n      __assert_truth(mbv, 70, 4, 70, 15);");
     gold.append("\n    }");
@@ -1414,7 +1571,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    NtMaybe<Boolean> _AutoConditionmbv_6;");
     gold.append("\n    if ((_AutoConditionmbv_6 = mmbb).has()) {");
     gold.append("\n      boolean mbv = _AutoConditionmbv_6.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(37);");
     gold.append("\n      bbbb.set(mbv);");
     gold.append("\n    }");
@@ -1450,7 +1607,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(38);");
     gold.append("\n    __transitionStateMachine(\"setup\", 0);");
     gold.append("\n  }");
@@ -1577,59 +1734,106 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"y\":");
-    gold.append("\n            y.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"out\":");
-    gold.append("\n            out.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"tbl2\":");
-    gold.append("\n            tbl2.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 121:");
+    gold.append("\n            if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 110414:");
+    gold.append("\n            if (__reader.matchFieldName(\"out\")) {");
+    gold.append("\n              out.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3553332:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl2\")) {");
+    gold.append("\n              tbl2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1760,22 +1964,31 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1838,16 +2051,23 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1945,10 +2165,10 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_6 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1961,11 +2181,11 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private int __FUNC_0_foo() {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      for (;__goodwill(5, 2, 7, 3);) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(1);");
     gold.append("\n        return 1;");
     gold.append("\n      }");
@@ -2001,18 +2221,18 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 20;");
+    gold.append("\n    __cost(20);");
     gold.append("\n    __track(0);");
     gold.append("\n    x.set(0);");
     gold.append("\n    __track(1);");
     gold.append("\n    while (__goodwill(20, 9, 20, 14) && (x.get() < 5)) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(2);");
     gold.append("\n      x.bumpUpPost();");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
     gold.append("\n    do {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(4);");
     gold.append("\n      x.bumpDownPost();");
     gold.append("\n    } while (__goodwill(26, 11, 26, 16) && (x.get() > 0));");
@@ -2022,7 +2242,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    {");
     gold.append("\n      int z = 2;");
     gold.append("\n      for (;__goodwill(29, 17, 29, 23) && (z < 10);z++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(7);");
     gold.append("\n        y.set(z * y.get());");
     gold.append("\n      }");
@@ -2032,7 +2252,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __track(9);");
     gold.append("\n    {");
     gold.append("\n      for (;__goodwill(34, 8, 34, 14) && (z < 10);z++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(10);");
     gold.append("\n        y.set(z * y.get());");
     gold.append("\n      }");
@@ -2042,7 +2262,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __track(12);");
     gold.append("\n    {");
     gold.append("\n      for (;__goodwill(39, 8, 39, 14) && (z < 10);) {");
-    gold.append("\n        __code_cost += 3;");
+    gold.append("\n        __cost(3);");
     gold.append("\n        __track(13);");
     gold.append("\n        y.set(z * y.get());");
     gold.append("\n        __track(14);");
@@ -2053,7 +2273,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    y.set(0);");
     gold.append("\n    __track(16);");
     gold.append("\n    for(RTxAutoMaxRecord5 k : new RTxAutoMaxRecord5[] {new RTxAutoMaxRecord5(1), new RTxAutoMaxRecord5(2)}) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(17);");
     gold.append("\n      y.opAddTo(k.x);");
     gold.append("\n    }");
@@ -2062,7 +2282,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef12 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_6 _AutoExpr14 = new RTx_AnonObjConvert_6(100, 3);");
     gold.append("\n      RTxX _CreateRef13 = _AutoRef12.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef13.x.set(_AutoExpr14.x);");
     gold.append("\n      _CreateRef13.y.set(_AutoExpr14.y);");
     gold.append("\n    }");
@@ -2071,7 +2291,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef15 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_6 _AutoExpr17 = new RTx_AnonObjConvert_6(2, 2);");
     gold.append("\n      RTxX _CreateRef16 = _AutoRef15.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef16.x.set(_AutoExpr17.x);");
     gold.append("\n      _CreateRef16.y.set(_AutoExpr17.y);");
     gold.append("\n    }");
@@ -2080,7 +2300,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef18 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_6 _AutoExpr20 = new RTx_AnonObjConvert_6(100, 1);");
     gold.append("\n      RTxX _CreateRef19 = _AutoRef18.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef19.x.set(_AutoExpr20.x);");
     gold.append("\n      _CreateRef19.y.set(_AutoExpr20.y);");
     gold.append("\n    }");
@@ -2089,7 +2309,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef21 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_6 _AutoExpr23 = new RTx_AnonObjConvert_6(4, 2);");
     gold.append("\n      RTxX _CreateRef22 = _AutoRef21.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef22.x.set(_AutoExpr23.x);");
     gold.append("\n      _CreateRef22.y.set(_AutoExpr23.y);");
     gold.append("\n    }");
@@ -2098,7 +2318,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef24 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_6 _AutoExpr26 = new RTx_AnonObjConvert_6(5, 2);");
     gold.append("\n      RTxX _CreateRef25 = _AutoRef24.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef25.x.set(_AutoExpr26.x);");
     gold.append("\n      _CreateRef25.y.set(_AutoExpr26.y);");
     gold.append("\n    }");
@@ -2107,7 +2327,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef27 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_6 _AutoExpr29 = new RTx_AnonObjConvert_6(1, 2);");
     gold.append("\n      RTxX _CreateRef28 = _AutoRef27.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef28.x.set(_AutoExpr29.x);");
     gold.append("\n      _CreateRef28.y.set(_AutoExpr29.y);");
     gold.append("\n    }");
@@ -2115,7 +2335,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    out.set(0);");
     gold.append("\n    __track(25);");
     gold.append("\n    for(RTxX vv : tbl2.iterate(true)) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(26);");
     gold.append("\n      out.opAddTo(vv.x.get() + vv.y.get());");
     gold.append("\n    }");
@@ -2230,53 +2450,94 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"sum\":");
-    gold.append("\n            sum.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"lastV\":");
-    gold.append("\n            lastV.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114251:");
+    gold.append("\n            if (__reader.matchFieldName(\"sum\")) {");
+    gold.append("\n              sum.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 102744192:");
+    gold.append("\n            if (__reader.matchFieldName(\"lastV\")) {");
+    gold.append("\n              lastV.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2409,9 +2670,9 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dv.show(__item.v, __obj.planField(\"v\"));");
+    gold.append("\n      __dv.show(__item.v, __obj.planEncodedField(\"\\\"v\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2424,12 +2685,12 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_x(NtClient client, RTxX msg) throws AbortMessageException {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    lastV.set(msg.v);");
     gold.append("\n    __track(1);");
     gold.append("\n    if (msg.v == 32) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(2);");
     gold.append("\n      throw new AbortMessageException();");
     gold.append("\n    }");
@@ -2459,21 +2720,21 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(3);");
     gold.append("\n    {");
     gold.append("\n      int k = 0;");
     gold.append("\n      for (;__goodwill(21, 18, 21, 25) && (k < 100);k++) {");
-    gold.append("\n        __code_cost += 4;");
+    gold.append("\n        __cost(4);");
     gold.append("\n        __track(4);");
     gold.append("\n        if (k == 5) {");
-    gold.append("\n          __code_cost += 2;");
+    gold.append("\n          __cost(2);");
     gold.append("\n          __track(5);");
     gold.append("\n          continue;");
     gold.append("\n        }");
     gold.append("\n        __track(6);");
     gold.append("\n        if (k == 50) {");
-    gold.append("\n          __code_cost += 2;");
+    gold.append("\n          __cost(2);");
     gold.append("\n          __track(7);");
     gold.append("\n          break;");
     gold.append("\n        }");
@@ -2500,7 +2761,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __test_foo(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"foo\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 10;");
+    gold.append("\n      __cost(10);");
     gold.append("\n      __track(9);");
     gold.append("\n      __queue.add(new AsyncTask(0, NtClient.NO_ONE, \"x\", 0, new RTxX(42)));");
     gold.append("\n      __track(10);");
@@ -2535,7 +2796,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(18);");
     gold.append("\n    __transitionStateMachine(\"setup\", 0);");
     gold.append("\n  }");
@@ -2650,53 +2911,94 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"y\":");
-    gold.append("\n            y.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 121:");
+    gold.append("\n            if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2821,38 +3123,38 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(0);");
     gold.append("\n    if (true) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(1);");
     gold.append("\n      x.set(1);");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
     gold.append("\n    if (x.get() > 0) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(3);");
     gold.append("\n      x.set(0);");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(4);");
     gold.append("\n      x.bumpUpPost();");
     gold.append("\n    }");
     gold.append("\n    __track(5);");
     gold.append("\n    if (x.get() == 0) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(6);");
     gold.append("\n      y.set(1);");
     gold.append("\n    } else if (x.get() == 1) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(7);");
     gold.append("\n      y.set(2);");
     gold.append("\n    } else if (x.get() == 2) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(8);");
     gold.append("\n      y.set(3);");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(9);");
     gold.append("\n      y.set(4);");
     gold.append("\n    }");
@@ -3020,50 +3322,88 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"sum\":");
-    gold.append("\n            sum.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114251:");
+    gold.append("\n            if (__reader.matchFieldName(\"sum\")) {");
+    gold.append("\n              sum.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
-    gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3134,10 +3474,10 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(VariousFor_10 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dsum.show(__item.sum.get(), __obj.planField(\"sum\"));");
+    gold.append("\n      __dsum.show(__item.sum.get(), __obj.planEncodedField(\"\\\"sum\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3188,12 +3528,12 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      int x = 0;");
     gold.append("\n      for (;__goodwill(3, 18, 3, 24) && (x < 10);x++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(1);");
     gold.append("\n        sum.opAddTo(x);");
     gold.append("\n      }");
@@ -3203,7 +3543,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __track(3);");
     gold.append("\n    {");
     gold.append("\n      for (;__goodwill(7, 8, 7, 15) && (k < 100);k++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(4);");
     gold.append("\n        sum.bumpUpPost();");
     gold.append("\n      }");
@@ -3211,7 +3551,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __track(5);");
     gold.append("\n    {");
     gold.append("\n      for (;__goodwill(11, 2, 13, 3);) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(6);");
     gold.append("\n        break;");
     gold.append("\n      }");
@@ -3219,7 +3559,7 @@ public class GeneratedControlTests extends GeneratedBase {
     gold.append("\n    __track(7);");
     gold.append("\n    {");
     gold.append("\n      for (;__goodwill(15, 7, 15, 11) && (true);k++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(8);");
     gold.append("\n        break;");
     gold.append("\n      }");
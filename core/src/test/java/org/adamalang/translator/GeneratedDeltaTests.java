@@ -160,62 +160,112 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"i\":");
-    gold.append("\n            i.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"l\":");
-    gold.append("\n            l.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"d\":");
-    gold.append("\n            d.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"b\":");
-    gold.append("\n            b.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            s.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 98:");
+    gold.append("\n            if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 100:");
+    gold.append("\n            if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 105:");
+    gold.append("\n            if (__reader.matchFieldName(\"i\")) {");
+    gold.append("\n              i.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 108:");
+    gold.append("\n            if (__reader.matchFieldName(\"l\")) {");
+    gold.append("\n              l.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 115:");
+    gold.append("\n            if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -310,14 +360,14 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowBasics_2 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __di.show(__item.i.get(), __obj.planField(\"i\"));");
-    gold.append("\n      __dl.show(__item.l.get(), __obj.planField(\"l\"));");
-    gold.append("\n      __dd.show(__item.d.get(), __obj.planField(\"d\"));");
-    gold.append("\n      __db.show(__item.b.get(), __obj.planField(\"b\"));");
-    gold.append("\n      __ds.show(__item.s.get(), __obj.planField(\"s\"));");
+    gold.append("\n      __di.show(__item.i.get(), __obj.planEncodedField(\"\\\"i\\\":\"));");
+    gold.append("\n      __dl.show(__item.l.get(), __obj.planEncodedField(\"\\\"l\\\":\"));");
+    gold.append("\n      __dd.show(__item.d.get(), __obj.planEncodedField(\"\\\"d\\\":\"));");
+    gold.append("\n      __db.show(__item.b.get(), __obj.planEncodedField(\"\\\"b\\\":\"));");
+    gold.append("\n      __ds.show(__item.s.get(), __obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -353,7 +403,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_one() {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(0);");
     gold.append("\n    i.set(100);");
     gold.append("\n    __track(1);");
@@ -368,7 +418,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"two\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_two() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(6);");
     gold.append("\n    i.set(1000);");
     gold.append("\n    __track(7);");
@@ -405,7 +455,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(11);");
     gold.append("\n    i.set(42);");
     gold.append("\n    __track(12);");
@@ -530,50 +580,88 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -644,10 +732,10 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowChildRecordWithPrivacyChange_3 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -695,42 +783,60 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __track(0);");
     gold.append("\n      return b.get();");
     gold.append("\n    }");
-    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"i\"};");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"b\", \"i\", \"l\", \"s\"};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
     gold.append("\n      return __INDEX_COLUMNS;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {i.getIndexValue()};");
+    gold.append("\n      return new int[] {b.getIndexValue(), i.getIndexValue(), l.getIndexValue(), s.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"i\":");
-    gold.append("\n              i.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 98:");
+    gold.append("\n              if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n                b.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"l\":");
-    gold.append("\n              l.__insert(__reader);");
+    gold.append("\n            case 100:");
+    gold.append("\n              if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n                d.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"d\":");
-    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n            case 105:");
+    gold.append("\n              if (__reader.matchFieldName(\"i\")) {");
+    gold.append("\n                i.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"b\":");
-    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n            case 108:");
+    gold.append("\n              if (__reader.matchFieldName(\"l\")) {");
+    gold.append("\n                l.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"s\":");
-    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n            case 115:");
+    gold.append("\n              if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n                s.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -819,37 +925,37 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__item.__POLICY_foo(__writer.who)) {");
-    gold.append("\n        __di.show(__item.i.get(), __obj.planField(\"i\"));");
+    gold.append("\n        __di.show(__item.i.get(), __obj.planEncodedField(\"\\\"i\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __di.hide(__obj.planField(\"i\"));");
+    gold.append("\n        __di.hide(__obj.planEncodedField(\"\\\"i\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.__POLICY_foo(__writer.who)) {");
-    gold.append("\n        __dl.show(__item.l.get(), __obj.planField(\"l\"));");
+    gold.append("\n        __dl.show(__item.l.get(), __obj.planEncodedField(\"\\\"l\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dl.hide(__obj.planField(\"l\"));");
+    gold.append("\n        __dl.hide(__obj.planEncodedField(\"\\\"l\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.__POLICY_foo(__writer.who)) {");
-    gold.append("\n        __dd.show(__item.d.get(), __obj.planField(\"d\"));");
+    gold.append("\n        __dd.show(__item.d.get(), __obj.planEncodedField(\"\\\"d\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dd.hide(__obj.planField(\"d\"));");
+    gold.append("\n        __dd.hide(__obj.planEncodedField(\"\\\"d\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.__POLICY_foo(__writer.who)) {");
-    gold.append("\n        __db.show(__item.b.get(), __obj.planField(\"b\"));");
+    gold.append("\n        __db.show(__item.b.get(), __obj.planEncodedField(\"\\\"b\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __db.hide(__obj.planField(\"b\"));");
+    gold.append("\n        __db.hide(__obj.planEncodedField(\"\\\"b\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.__POLICY_foo(__writer.who)) {");
-    gold.append("\n        __ds.show(__item.s.get(), __obj.planField(\"s\"));");
+    gold.append("\n        __ds.show(__item.s.get(), __obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __ds.hide(__obj.planField(\"s\"));");
+    gold.append("\n        __ds.hide(__obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
@@ -875,7 +981,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_one() {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(1);");
     gold.append("\n    x.i.set(100);");
     gold.append("\n    __track(2);");
@@ -890,7 +996,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"two\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_two() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(7);");
     gold.append("\n    x.i.set(1000);");
     gold.append("\n    __track(8);");
@@ -927,7 +1033,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(12);");
     gold.append("\n    x.i.set(42);");
     gold.append("\n    __track(13);");
@@ -1063,50 +1169,88 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1195,7 +1339,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowMaybeComplex_4 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gtx1 != __item.tx1.getGeneration()) {");
@@ -1204,7 +1348,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n          DList<DeltaRTxM> __maybeDeltaElement6 = __dtx1.get(() -> new DList<DeltaRTxM>());");
     gold.append("\n          {");
     gold.append("\n            DList<DeltaRTxM> __deltaList8 = __maybeDeltaElement6;");
-    gold.append("\n            PrivateLazyDeltaWriter __list7 = __obj.planField(\"tx1\").planObject();");
+    gold.append("\n            PrivateLazyDeltaWriter __list7 = __obj.planEncodedField(\"\\\"tx1\\\":\").planObject();");
     gold.append("\n            int __index11 = 0;");
     gold.append("\n            for (RTxM __listElement9 : __maybeElement5) {");
     gold.append("\n              DeltaRTxM __deltaElement10 = __deltaList8.getPrior(__index11, () -> new DeltaRTxM());");
@@ -1215,7 +1359,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n            __list7.end();");
     gold.append("\n          }");
     gold.append("\n        } else {");
-    gold.append("\n          __dtx1.hide(__obj.planField(\"tx1\"));");
+    gold.append("\n          __dtx1.hide(__obj.planEncodedField(\"\\\"tx1\\\":\"));");
     gold.append("\n        }");
     gold.append("\n        __gtx1 = __item.tx1.getGeneration();");
     gold.append("\n      }");
@@ -1228,7 +1372,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n            DList<DeltaRTxM> __maybeDeltaElement15 = __maybeDeltaElement13.get(() -> new DList<DeltaRTxM>());");
     gold.append("\n            {");
     gold.append("\n              DList<DeltaRTxM> __deltaList17 = __maybeDeltaElement15;");
-    gold.append("\n              PrivateLazyDeltaWriter __list16 = __obj.planField(\"tx2\").planObject();");
+    gold.append("\n              PrivateLazyDeltaWriter __list16 = __obj.planEncodedField(\"\\\"tx2\\\":\").planObject();");
     gold.append("\n              int __index20 = 0;");
     gold.append("\n              for (RTxM __listElement18 : __maybeElement14) {");
     gold.append("\n                DeltaRTxM __deltaElement19 = __deltaList17.getPrior(__index20, () -> new DeltaRTxM());");
@@ -1239,10 +1383,10 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n              __list16.end();");
     gold.append("\n            }");
     gold.append("\n          } else {");
-    gold.append("\n            __maybeDeltaElement13.hide(__obj.planField(\"tx2\"));");
+    gold.append("\n            __maybeDeltaElement13.hide(__obj.planEncodedField(\"\\\"tx2\\\":\"));");
     gold.append("\n          }");
     gold.append("\n        } else {");
-    gold.append("\n          __dtx2.hide(__obj.planField(\"tx2\"));");
+    gold.append("\n          __dtx2.hide(__obj.planEncodedField(\"\\\"tx2\\\":\"));");
     gold.append("\n        }");
     gold.append("\n        __gtx2 = __item.tx2.getGeneration();");
     gold.append("\n      }");
@@ -1251,7 +1395,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n          NtList<RTxR> __maybeElement21 = (NtList<RTxR>)(__item.tx.get().get());");
     gold.append("\n          DRecordList<DeltaRTxR> __maybeDeltaElement22 = __dtx.get(() -> new DRecordList<DeltaRTxR>());");
     gold.append("\n          {");
-    gold.append("\n            PrivateLazyDeltaWriter __list23 = __obj.planField(\"tx\").planObject();");
+    gold.append("\n            PrivateLazyDeltaWriter __list23 = __obj.planEncodedField(\"\\\"tx\\\":\").planObject();");
     gold.append("\n            DRecordList<DeltaRTxR> __deltaList24 = __maybeDeltaElement22;");
     gold.append("\n            DRecordList<DeltaRTxR>.Walk __deltaListWalker25 = __deltaList24.begin();");
     gold.append("\n            for (RTxR __listElement26 : __maybeElement21) {");
@@ -1263,13 +1407,13 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n            __list23.end();");
     gold.append("\n          }");
     gold.append("\n        } else {");
-    gold.append("\n          __dtx.hide(__obj.planField(\"tx\"));");
+    gold.append("\n          __dtx.hide(__obj.planEncodedField(\"\\\"tx\\\":\"));");
     gold.append("\n        }");
     gold.append("\n        __gtx = __item.tx.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gm1 != __item.m1.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __map28 = __obj.planField(\"m1\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __map28 = __obj.planEncodedField(\"\\\"m1\\\":\").planObject();");
     gold.append("\n          DMap<Integer,DInt32> __deltaMap29 = __dm1;");
     gold.append("\n          DMap<Integer,DInt32>.Walk __deltaMapWalker30 = __deltaMap29.begin();");
     gold.append("\n          for (Map.Entry<Integer,Integer> __mapEntry31 : __item.m1.get()) {");
@@ -1286,7 +1430,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n          NtMap<Integer,Integer> __maybeElement33 = (NtMap<Integer,Integer>)(__item.m2.get().get());");
     gold.append("\n          DMap<Integer,DInt32> __maybeDeltaElement34 = __dm2.get(() -> new DMap<Integer,DInt32>());");
     gold.append("\n          {");
-    gold.append("\n            PrivateLazyDeltaWriter __map35 = __obj.planField(\"m2\").planObject();");
+    gold.append("\n            PrivateLazyDeltaWriter __map35 = __obj.planEncodedField(\"\\\"m2\\\":\").planObject();");
     gold.append("\n            DMap<Integer,DInt32> __deltaMap36 = __maybeDeltaElement34;");
     gold.append("\n            DMap<Integer,DInt32>.Walk __deltaMapWalker37 = __deltaMap36.begin();");
     gold.append("\n            for (Map.Entry<Integer,Integer> __mapEntry38 : __maybeElement33) {");
@@ -1297,7 +1441,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n            __map35.end();");
     gold.append("\n          }");
     gold.append("\n        } else {");
-    gold.append("\n          __dm2.hide(__obj.planField(\"m2\"));");
+    gold.append("\n          __dm2.hide(__obj.planEncodedField(\"\\\"m2\\\":\"));");
     gold.append("\n        }");
     gold.append("\n        __gm2 = __item.m2.getGeneration();");
     gold.append("\n      }");
@@ -1359,9 +1503,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1397,19 +1541,25 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1469,19 +1619,26 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private DInt32 __dy;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
     gold.append("\n      __dy = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1489,7 +1646,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private NtList<RTxM> __FUNC_0_glist() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtTable<RTxM> tbl = new NtTable<RTxM>(() -> new RTxM());");
     gold.append("\n    __track(1);");
@@ -1497,7 +1654,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      NtTable<RTxM> _AutoRef40 = tbl;");
     gold.append("\n      RTxM _AutoExpr42 = new RTxM(1);");
     gold.append("\n      RTxM _CreateRef41 = _AutoRef40.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef41.x = _AutoExpr42.x;");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
@@ -1505,7 +1662,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      NtTable<RTxM> _AutoRef43 = tbl;");
     gold.append("\n      RTxM _AutoExpr45 = new RTxM(2);");
     gold.append("\n      RTxM _CreateRef44 = _AutoRef43.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef44.x = _AutoExpr45.x;");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
@@ -1513,14 +1670,14 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      NtTable<RTxM> _AutoRef46 = tbl;");
     gold.append("\n      RTxM _AutoExpr48 = new RTxM(3);");
     gold.append("\n      RTxM _CreateRef47 = _AutoRef46.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef47.x = _AutoExpr48.x;");
     gold.append("\n    }");
     gold.append("\n    __track(4);");
     gold.append("\n    return tbl.iterate(true);");
     gold.append("\n  }");
     gold.append("\n  private NtMap<Integer,Integer> __FUNC_1_mp() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtMap<Integer,Integer> m = new NtMap<Integer,Integer>();");
     gold.append("\n    __track(1);");
@@ -1663,47 +1820,82 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1776,17 +1968,17 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowMessageArray_5 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gm != __item.m.getGeneration()) {");
-    gold.append("\n        __dm.show(__item.m.get(), __obj.planField(\"m\"));");
+    gold.append("\n        __dm.show(__item.m.get(), __obj.planEncodedField(\"\\\"m\\\":\"));");
     gold.append("\n        __gm = __item.m.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gmlist != __item.mlist.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DeltaRTxM> __deltaList9 = __dmlist;");
-    gold.append("\n          PrivateLazyDeltaWriter __list8 = __obj.planField(\"mlist\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list8 = __obj.planEncodedField(\"\\\"mlist\\\":\").planObject();");
     gold.append("\n          int __index12 = 0;");
     gold.append("\n          for (RTxM __listElement10 : __item.mlist.get()) {");
     gold.append("\n            DeltaRTxM __deltaElement11 = __deltaList9.getPrior(__index12, () -> new DeltaRTxM());");
@@ -1856,9 +2048,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2003,47 +2195,82 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2112,13 +2339,13 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowMessageList_6 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gtx != __item.tx.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DeltaRTxM> __deltaList5 = __dtx;");
-    gold.append("\n          PrivateLazyDeltaWriter __list4 = __obj.planField(\"tx\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list4 = __obj.planEncodedField(\"\\\"tx\\\":\").planObject();");
     gold.append("\n          int __index8 = 0;");
     gold.append("\n          for (RTxM __listElement6 : __item.tx.get()) {");
     gold.append("\n            DeltaRTxM __deltaElement7 = __deltaList5.getPrior(__index8, () -> new DeltaRTxM());");
@@ -2188,9 +2415,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2203,7 +2430,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private NtList<RTxM> __FUNC_0_glist() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtTable<RTxM> tbl = new NtTable<RTxM>(() -> new RTxM());");
     gold.append("\n    __track(1);");
@@ -2211,7 +2438,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      NtTable<RTxM> _AutoRef9 = tbl;");
     gold.append("\n      RTxM _AutoExpr11 = new RTxM(1);");
     gold.append("\n      RTxM _CreateRef10 = _AutoRef9.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef10.x = _AutoExpr11.x;");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
@@ -2219,7 +2446,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      NtTable<RTxM> _AutoRef12 = tbl;");
     gold.append("\n      RTxM _AutoExpr14 = new RTxM(2);");
     gold.append("\n      RTxM _CreateRef13 = _AutoRef12.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef13.x = _AutoExpr14.x;");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
@@ -2227,7 +2454,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      NtTable<RTxM> _AutoRef15 = tbl;");
     gold.append("\n      RTxM _AutoExpr17 = new RTxM(3);");
     gold.append("\n      RTxM _CreateRef16 = _AutoRef15.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef16.x = _AutoExpr17.x;");
     gold.append("\n    }");
     gold.append("\n    __track(4);");
@@ -2369,50 +2596,88 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2485,12 +2750,12 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowRecordArray_7 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gtx != __item.tx.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list9 = __obj.planField(\"tx\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list9 = __obj.planEncodedField(\"\\\"tx\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxR> __deltaList10 = __dtx;");
     gold.append("\n          DRecordList<DeltaRTxR>.Walk __deltaListWalker11 = __deltaList10.begin();");
     gold.append("\n          for (RTxR __listElement12 : __item.tx.get()) {");
@@ -2549,19 +2814,25 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2621,19 +2892,26 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private DInt32 __dx;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
     gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -2676,9 +2954,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2703,13 +2981,13 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_one() {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef14 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr16 = new RTx_AnonObjConvert_0(4);");
     gold.append("\n      RTxR _CreateRef15 = _AutoRef14.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef15.x.set(_AutoExpr16.x);");
     gold.append("\n    }");
     gold.append("\n    __track(1);");
@@ -2717,7 +2995,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef17 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr19 = new RTx_AnonObjConvert_0(5);");
     gold.append("\n      RTxR _CreateRef18 = _AutoRef17.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef18.x.set(_AutoExpr19.x);");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
@@ -2725,20 +3003,20 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef20 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr22 = new RTx_AnonObjConvert_0(6);");
     gold.append("\n      RTxR _CreateRef21 = _AutoRef20.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef21.x.set(_AutoExpr22.x);");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
     gold.append("\n    __transitionStateMachine(\"two\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_two() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(4);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef23 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr25 = new RTx_AnonObjConvert_0(7);");
     gold.append("\n      RTxR _CreateRef24 = _AutoRef23.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef24.x.set(_AutoExpr25.x);");
     gold.append("\n    }");
     gold.append("\n    __track(5);");
@@ -2746,7 +3024,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef26 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr28 = new RTx_AnonObjConvert_0(8);");
     gold.append("\n      RTxR _CreateRef27 = _AutoRef26.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef27.x.set(_AutoExpr28.x);");
     gold.append("\n    }");
     gold.append("\n    __track(6);");
@@ -2754,7 +3032,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef29 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr31 = new RTx_AnonObjConvert_0(9);");
     gold.append("\n      RTxR _CreateRef30 = _AutoRef29.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef30.x.set(_AutoExpr31.x);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2783,13 +3061,13 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(7);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef32 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr34 = new RTx_AnonObjConvert_0(1);");
     gold.append("\n      RTxR _CreateRef33 = _AutoRef32.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef33.x.set(_AutoExpr34.x);");
     gold.append("\n    }");
     gold.append("\n    __track(8);");
@@ -2797,7 +3075,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef35 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr37 = new RTx_AnonObjConvert_0(2);");
     gold.append("\n      RTxR _CreateRef36 = _AutoRef35.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef36.x.set(_AutoExpr37.x);");
     gold.append("\n    }");
     gold.append("\n    __track(9);");
@@ -2805,7 +3083,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef38 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr40 = new RTx_AnonObjConvert_0(3);");
     gold.append("\n      RTxR _CreateRef39 = _AutoRef38.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef39.x.set(_AutoExpr40.x);");
     gold.append("\n    }");
     gold.append("\n    __track(10);");
@@ -2834,9 +3112,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n+ NO_ONE DELTA:{\"data\":{\"tx\":{\"6\":{\"x\":7},\"7\":{\"x\":8},\"8\":{\"x\":9},\"@o\":[{\"@r\":[0,5]},\"6\",\"7\",\"8\"]}},\"outstanding\":[],\"blockers\":[],\"seq\":2}");
     gold.append("\n+ RANDO DELTA:{\"data\":{\"tx\":{\"6\":{\"x\":7},\"7\":{\"x\":8},\"8\":{\"x\":9},\"@o\":[{\"@r\":[0,5]},\"6\",\"7\",\"8\"]}},\"outstanding\":[],\"blockers\":[],\"seq\":2}");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__messages\":null,\"__seedUsed\":\"-4962768465676381896\",\"__state\":\"\",\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"50\",\"t\":{\"auto_key\":9,\"rows\":{\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}}} need:false in:-25");
-    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"75\"}-->{\"__goodwill_used\":0,\"__cost\":57,\"__billing_seq\":2} need:true in:0");
+    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"75\"}-->{\"__goodwill_used\":0,\"__cost\":45,\"__billing_seq\":2} need:true in:0");
     gold.append("\n--JAVA RESULTS-------------------------------------");
-    gold.append("\n{\"__state\":\"\",\"__constructed\":true,\"__entropy\":\"4804307197456638271\",\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__seedUsed\":\"-4962768465676381896\",\"__next_time\":\"25\",\"__seq\":2,\"__time\":\"50\",\"__goodwill_used\":0,\"__cost\":57,\"__billing_seq\":2}");
+    gold.append("\n{\"__state\":\"\",\"__constructed\":true,\"__entropy\":\"4804307197456638271\",\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__seedUsed\":\"-4962768465676381896\",\"__next_time\":\"25\",\"__seq\":2,\"__time\":\"50\",\"__goodwill_used\":0,\"__cost\":45,\"__billing_seq\":2}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
     gold.append("\n{\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1,\"id\":0},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"25\",\"__blocked\":false,\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"75\"}");
     gold.append("\n{\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1,\"id\":0},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"25\",\"__blocked\":false,\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"75\"}");
@@ -2925,50 +3203,88 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3041,12 +3357,12 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowRecordList_8 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gtx != __item.tx.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list9 = __obj.planField(\"tx\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list9 = __obj.planEncodedField(\"\\\"tx\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxR> __deltaList10 = __dtx;");
     gold.append("\n          DRecordList<DeltaRTxR>.Walk __deltaListWalker11 = __deltaList10.begin();");
     gold.append("\n          for (RTxR __listElement12 : __item.tx.get()) {");
@@ -3105,19 +3421,25 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -3177,19 +3499,26 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private DInt32 __dx;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
     gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -3232,9 +3561,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3259,13 +3588,13 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_one() {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef14 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr16 = new RTx_AnonObjConvert_0(4);");
     gold.append("\n      RTxR _CreateRef15 = _AutoRef14.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef15.x.set(_AutoExpr16.x);");
     gold.append("\n    }");
     gold.append("\n    __track(1);");
@@ -3273,7 +3602,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef17 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr19 = new RTx_AnonObjConvert_0(5);");
     gold.append("\n      RTxR _CreateRef18 = _AutoRef17.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef18.x.set(_AutoExpr19.x);");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
@@ -3281,20 +3610,20 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef20 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr22 = new RTx_AnonObjConvert_0(6);");
     gold.append("\n      RTxR _CreateRef21 = _AutoRef20.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef21.x.set(_AutoExpr22.x);");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
     gold.append("\n    __transitionStateMachine(\"two\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_two() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(4);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef23 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr25 = new RTx_AnonObjConvert_0(7);");
     gold.append("\n      RTxR _CreateRef24 = _AutoRef23.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef24.x.set(_AutoExpr25.x);");
     gold.append("\n    }");
     gold.append("\n    __track(5);");
@@ -3302,7 +3631,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef26 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr28 = new RTx_AnonObjConvert_0(8);");
     gold.append("\n      RTxR _CreateRef27 = _AutoRef26.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef27.x.set(_AutoExpr28.x);");
     gold.append("\n    }");
     gold.append("\n    __track(6);");
@@ -3310,7 +3639,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef29 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr31 = new RTx_AnonObjConvert_0(9);");
     gold.append("\n      RTxR _CreateRef30 = _AutoRef29.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef30.x.set(_AutoExpr31.x);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3339,13 +3668,13 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(7);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxR> _AutoRef32 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr34 = new RTx_AnonObjConvert_0(1);");
     gold.append("\n      RTxR _CreateRef33 = _AutoRef32.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef33.x.set(_AutoExpr34.x);");
     gold.append("\n    }");
     gold.append("\n    __track(8);");
@@ -3353,7 +3682,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef35 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr37 = new RTx_AnonObjConvert_0(2);");
     gold.append("\n      RTxR _CreateRef36 = _AutoRef35.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef36.x.set(_AutoExpr37.x);");
     gold.append("\n    }");
     gold.append("\n    __track(9);");
@@ -3361,7 +3690,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxR> _AutoRef38 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr40 = new RTx_AnonObjConvert_0(3);");
     gold.append("\n      RTxR _CreateRef39 = _AutoRef38.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef39.x.set(_AutoExpr40.x);");
     gold.append("\n    }");
     gold.append("\n    __track(10);");
@@ -3390,9 +3719,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n+ NO_ONE DELTA:{\"data\":{\"tx\":{\"6\":{\"x\":7},\"7\":{\"x\":8},\"8\":{\"x\":9},\"@o\":[{\"@r\":[0,5]},\"6\",\"7\",\"8\"]}},\"outstanding\":[],\"blockers\":[],\"seq\":2}");
     gold.append("\n+ RANDO DELTA:{\"data\":{\"tx\":{\"6\":{\"x\":7},\"7\":{\"x\":8},\"8\":{\"x\":9},\"@o\":[{\"@r\":[0,5]},\"6\",\"7\",\"8\"]}},\"outstanding\":[],\"blockers\":[],\"seq\":2}");
     gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"50\"}-->{\"__messages\":null,\"__seedUsed\":\"-4962768465676381896\",\"__state\":\"\",\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__time\":\"50\",\"t\":{\"auto_key\":9,\"rows\":{\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}}} need:false in:-25");
-    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"75\"}-->{\"__goodwill_used\":0,\"__cost\":57,\"__billing_seq\":2} need:true in:0");
+    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"75\"}-->{\"__goodwill_used\":0,\"__cost\":45,\"__billing_seq\":2} need:true in:0");
     gold.append("\n--JAVA RESULTS-------------------------------------");
-    gold.append("\n{\"__state\":\"\",\"__constructed\":true,\"__entropy\":\"4804307197456638271\",\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__seedUsed\":\"-4962768465676381896\",\"__next_time\":\"25\",\"__seq\":2,\"__time\":\"50\",\"__goodwill_used\":0,\"__cost\":57,\"__billing_seq\":2}");
+    gold.append("\n{\"__state\":\"\",\"__constructed\":true,\"__entropy\":\"4804307197456638271\",\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__seedUsed\":\"-4962768465676381896\",\"__next_time\":\"25\",\"__seq\":2,\"__time\":\"50\",\"__goodwill_used\":0,\"__cost\":45,\"__billing_seq\":2}");
     gold.append("\n--DUMP RESULTS-------------------------------------");
     gold.append("\n{\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1,\"id\":0},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"25\",\"__blocked\":false,\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"75\"}");
     gold.append("\n{\"t\":{\"auto_key\":9,\"rows\":{\"0\":{\"x\":1,\"id\":0},\"1\":{\"x\":2,\"id\":1},\"2\":{\"x\":3,\"id\":2},\"3\":{\"x\":4,\"id\":3},\"4\":{\"x\":5,\"id\":4},\"5\":{\"x\":6,\"id\":5},\"6\":{\"x\":7,\"id\":6},\"7\":{\"x\":8,\"id\":7},\"8\":{\"x\":9,\"id\":8}}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"25\",\"__blocked\":false,\"__seq\":2,\"__entropy\":\"4804307197456638271\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"75\"}");
@@ -3493,50 +3822,88 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"input\":");
-    gold.append("\n            input.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 100358090:");
+    gold.append("\n            if (__reader.matchFieldName(\"input\")) {");
+    gold.append("\n              input.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3627,14 +3994,14 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowSimpleArray_9 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 6;");
+    gold.append("\n      __cost(6);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dinput.show(__item.input.get(), __obj.planField(\"input\"));");
+    gold.append("\n      __dinput.show(__item.input.get(), __obj.planEncodedField(\"\\\"input\\\":\"));");
     gold.append("\n      if (__garr_int != __item.arr_int.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DInt32> __deltaList6 = __darr_int;");
-    gold.append("\n          PrivateLazyDeltaWriter __list5 = __obj.planField(\"arr_int\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list5 = __obj.planEncodedField(\"\\\"arr_int\\\":\").planObject();");
     gold.append("\n          int __index9 = 0;");
     gold.append("\n          for (Integer __listElement7 : __item.arr_int.get()) {");
     gold.append("\n            DInt32 __deltaElement8 = __deltaList6.getPrior(__index9, () -> new DInt32());");
@@ -3649,7 +4016,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      if (__garr_long != __item.arr_long.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DInt64> __deltaList11 = __darr_long;");
-    gold.append("\n          PrivateLazyDeltaWriter __list10 = __obj.planField(\"arr_long\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list10 = __obj.planEncodedField(\"\\\"arr_long\\\":\").planObject();");
     gold.append("\n          int __index14 = 0;");
     gold.append("\n          for (Long __listElement12 : __item.arr_long.get()) {");
     gold.append("\n            DInt64 __deltaElement13 = __deltaList11.getPrior(__index14, () -> new DInt64());");
@@ -3664,7 +4031,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      if (__garr_double != __item.arr_double.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DDouble> __deltaList16 = __darr_double;");
-    gold.append("\n          PrivateLazyDeltaWriter __list15 = __obj.planField(\"arr_double\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list15 = __obj.planEncodedField(\"\\\"arr_double\\\":\").planObject();");
     gold.append("\n          int __index19 = 0;");
     gold.append("\n          for (Double __listElement17 : __item.arr_double.get()) {");
     gold.append("\n            DDouble __deltaElement18 = __deltaList16.getPrior(__index19, () -> new DDouble());");
@@ -3679,7 +4046,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      if (__garr_bool != __item.arr_bool.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DBoolean> __deltaList21 = __darr_bool;");
-    gold.append("\n          PrivateLazyDeltaWriter __list20 = __obj.planField(\"arr_bool\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list20 = __obj.planEncodedField(\"\\\"arr_bool\\\":\").planObject();");
     gold.append("\n          int __index24 = 0;");
     gold.append("\n          for (Boolean __listElement22 : __item.arr_bool.get()) {");
     gold.append("\n            DBoolean __deltaElement23 = __deltaList21.getPrior(__index24, () -> new DBoolean());");
@@ -3694,7 +4061,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      if (__garr_string != __item.arr_string.getGeneration()) {");
     gold.append("\n        {");
     gold.append("\n          DList<DString> __deltaList26 = __darr_string;");
-    gold.append("\n          PrivateLazyDeltaWriter __list25 = __obj.planField(\"arr_string\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list25 = __obj.planEncodedField(\"\\\"arr_string\\\":\").planObject();");
     gold.append("\n          int __index29 = 0;");
     gold.append("\n          for (String __listElement27 : __item.arr_string.get()) {");
     gold.append("\n            DString __deltaElement28 = __deltaList26.getPrior(__index29, () -> new DString());");
@@ -3729,27 +4096,27 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    };");
     gold.append("\n  }");
     gold.append("\n  private int[] __FUNC_0_arr1(int x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return new int[] {1 + x, 2 * x, 3 * x * x};");
     gold.append("\n  }");
     gold.append("\n  private long[] __FUNC_1_arr2(int x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return new long[] {1L + x, 2L * x, 3L * x * x};");
     gold.append("\n  }");
     gold.append("\n  private double[] __FUNC_2_arr3(int x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return new double[] {1 + x, 2.71 * x, 3.14 * x * x};");
     gold.append("\n  }");
     gold.append("\n  private boolean[] __FUNC_3_arr4(int x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return new boolean[] {x % 2 == 0, x % 2 != 0};");
     gold.append("\n  }");
     gold.append("\n  private String[] __FUNC_4_arr5(int x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return new String[] {\"Hi:\" + x, \"There:\" + (x * x)};");
     gold.append("\n  }");
@@ -3766,14 +4133,14 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_one() {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    input.set(3);");
     gold.append("\n    __track(1);");
     gold.append("\n    __transitionStateMachine(\"two\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_two() {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(2);");
     gold.append("\n    input.set(100);");
     gold.append("\n  }");
@@ -3802,7 +4169,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(3);");
     gold.append("\n    input.set(2);");
     gold.append("\n    __track(4);");
@@ -3927,62 +4294,112 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"i\":");
-    gold.append("\n            i.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"l\":");
-    gold.append("\n            l.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"d\":");
-    gold.append("\n            d.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"b\":");
-    gold.append("\n            b.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            s.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 98:");
+    gold.append("\n            if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 100:");
+    gold.append("\n            if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 105:");
+    gold.append("\n            if (__reader.matchFieldName(\"i\")) {");
+    gold.append("\n              i.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 108:");
+    gold.append("\n            if (__reader.matchFieldName(\"l\")) {");
+    gold.append("\n              l.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 115:");
+    gold.append("\n            if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4077,43 +4494,43 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowSimpleMaybe_10 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__item.i.get().has()) {");
     gold.append("\n        Integer __maybeElement0 = (Integer)(__item.i.get().get());");
     gold.append("\n        DInt32 __maybeDeltaElement1 = __di.get(() -> new DInt32());");
-    gold.append("\n        __maybeDeltaElement1.show(__maybeElement0, __obj.planField(\"i\"));");
+    gold.append("\n        __maybeDeltaElement1.show(__maybeElement0, __obj.planEncodedField(\"\\\"i\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __di.hide(__obj.planField(\"i\"));");
+    gold.append("\n        __di.hide(__obj.planEncodedField(\"\\\"i\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.l.get().has()) {");
     gold.append("\n        Long __maybeElement2 = (Long)(__item.l.get().get());");
     gold.append("\n        DInt64 __maybeDeltaElement3 = __dl.get(() -> new DInt64());");
-    gold.append("\n        __maybeDeltaElement3.show(__maybeElement2, __obj.planField(\"l\"));");
+    gold.append("\n        __maybeDeltaElement3.show(__maybeElement2, __obj.planEncodedField(\"\\\"l\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dl.hide(__obj.planField(\"l\"));");
+    gold.append("\n        __dl.hide(__obj.planEncodedField(\"\\\"l\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.d.get().has()) {");
     gold.append("\n        Double __maybeElement4 = (Double)(__item.d.get().get());");
     gold.append("\n        DDouble __maybeDeltaElement5 = __dd.get(() -> new DDouble());");
-    gold.append("\n        __maybeDeltaElement5.show(__maybeElement4, __obj.planField(\"d\"));");
+    gold.append("\n        __maybeDeltaElement5.show(__maybeElement4, __obj.planEncodedField(\"\\\"d\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dd.hide(__obj.planField(\"d\"));");
+    gold.append("\n        __dd.hide(__obj.planEncodedField(\"\\\"d\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.b.get().has()) {");
     gold.append("\n        Boolean __maybeElement6 = (Boolean)(__item.b.get().get());");
     gold.append("\n        DBoolean __maybeDeltaElement7 = __db.get(() -> new DBoolean());");
-    gold.append("\n        __maybeDeltaElement7.show(__maybeElement6, __obj.planField(\"b\"));");
+    gold.append("\n        __maybeDeltaElement7.show(__maybeElement6, __obj.planEncodedField(\"\\\"b\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __db.hide(__obj.planField(\"b\"));");
+    gold.append("\n        __db.hide(__obj.planEncodedField(\"\\\"b\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.s.get().has()) {");
     gold.append("\n        String __maybeElement8 = (String)(__item.s.get().get());");
     gold.append("\n        DString __maybeDeltaElement9 = __ds.get(() -> new DString());");
-    gold.append("\n        __maybeDeltaElement9.show(__maybeElement8, __obj.planField(\"s\"));");
+    gold.append("\n        __maybeDeltaElement9.show(__maybeElement8, __obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __ds.hide(__obj.planField(\"s\"));");
+    gold.append("\n        __ds.hide(__obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
@@ -4150,7 +4567,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_one() {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(0);");
     gold.append("\n    i.get().delete();");
     gold.append("\n    __track(1);");
@@ -4165,7 +4582,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"two\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_two() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(6);");
     gold.append("\n    i.make().set(1000);");
     gold.append("\n    __track(7);");
@@ -4202,7 +4619,7 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(11);");
     gold.append("\n    i.make().set(42);");
     gold.append("\n    __track(12);");
@@ -4329,47 +4746,82 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4442,15 +4894,15 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(FlowSimpleMessage_11 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gm1 != __item.m1.getGeneration()) {");
-    gold.append("\n        __dm1.show(__item.m1.get(), __obj.planField(\"m1\"));");
+    gold.append("\n        __dm1.show(__item.m1.get(), __obj.planEncodedField(\"\\\"m1\\\":\"));");
     gold.append("\n        __gm1 = __item.m1.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gm2 != __item.m2.getGeneration()) {");
-    gold.append("\n        __dm2.show(__item.m2.get(), __obj.planField(\"m2\"));");
+    gold.append("\n        __dm2.show(__item.m2.get(), __obj.planEncodedField(\"\\\"m2\\\":\"));");
     gold.append("\n        __gm2 = __item.m2.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
@@ -4511,9 +4963,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxY __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -4571,10 +5023,10 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -4622,9 +5074,9 @@ public class GeneratedDeltaTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
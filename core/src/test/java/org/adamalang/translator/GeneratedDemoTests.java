@@ -85,53 +85,94 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"k\":");
-    gold.append("\n            k.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 107:");
+    gold.append("\n            if (__reader.matchFieldName(\"k\")) {");
+    gold.append("\n              k.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -206,10 +247,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(Bomb_1 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -245,7 +286,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_game_setup() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(0);");
     gold.append("\n    x.set(\"Initializing Device\");");
     gold.append("\n    __track(1);");
@@ -254,14 +295,14 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"tick\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_tick() {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(3);");
     gold.append("\n    x.set(\"Tick\");");
     gold.append("\n    __track(4);");
     gold.append("\n    __transitionStateMachine(\"tock\", 0.5);");
     gold.append("\n  }");
     gold.append("\n  private void __step_tock() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(5);");
     gold.append("\n    x.set(\"Tock\");");
     gold.append("\n    __track(6);");
@@ -270,7 +311,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine((k.get() < 10 ? \"tick\" : \"end\"), 0.5);");
     gold.append("\n  }");
     gold.append("\n  private void __step_end() {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(8);");
     gold.append("\n    x.set(\"Boom!!!!\");");
     gold.append("\n  }");
@@ -292,7 +333,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(9);");
     gold.append("\n    return (who.equals(NtClient.NO_ONE));");
     gold.append("\n  }");
@@ -311,7 +352,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(10);");
     gold.append("\n    __transitionStateMachine(\"game_setup\", 0);");
     gold.append("\n  }");
@@ -841,92 +882,172 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"deck\":");
-    gold.append("\n            deck.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"owner\":");
-    gold.append("\n            owner.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"players\":");
-    gold.append("\n            players.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"playing\":");
-    gold.append("\n            playing.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"passing_mode\":");
-    gold.append("\n            passing_mode.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"player1\":");
-    gold.append("\n            player1.__insert(__reader);");
+    gold.append("\n          case -985752877:");
+    gold.append("\n            if (__reader.matchFieldName(\"played\")) {");
+    gold.append("\n              played.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"player2\":");
-    gold.append("\n            player2.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"player3\":");
-    gold.append("\n            player3.__insert(__reader);");
+    gold.append("\n          case -493567632:");
+    gold.append("\n            if (__reader.matchFieldName(\"player1\")) {");
+    gold.append("\n              player1.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"player4\":");
-    gold.append("\n            player4.__insert(__reader);");
+    gold.append("\n          case -493567631:");
+    gold.append("\n            if (__reader.matchFieldName(\"player2\")) {");
+    gold.append("\n              player2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"current\":");
-    gold.append("\n            current.__insert(__reader);");
+    gold.append("\n          case -493567630:");
+    gold.append("\n            if (__reader.matchFieldName(\"player3\")) {");
+    gold.append("\n              player3.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"played\":");
-    gold.append("\n            played.__insert(__reader);");
+    gold.append("\n          case -493567629:");
+    gold.append("\n            if (__reader.matchFieldName(\"player4\")) {");
+    gold.append("\n              player4.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"suit_in_play\":");
-    gold.append("\n            suit_in_play.__insert(__reader);");
+    gold.append("\n          case -493567566:");
+    gold.append("\n            if (__reader.matchFieldName(\"players\")) {");
+    gold.append("\n              players.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"points_played\":");
-    gold.append("\n            points_played.__insert(__reader);");
+    gold.append("\n          case -493563858:");
+    gold.append("\n            if (__reader.matchFieldName(\"playing\")) {");
+    gold.append("\n              playing.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"last_winner\":");
-    gold.append("\n            last_winner.__insert(__reader);");
+    gold.append("\n          case -493421860:");
+    gold.append("\n            if (__reader.matchFieldName(\"suit_in_play\")) {");
+    gold.append("\n              suit_in_play.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"points_awarded\":");
-    gold.append("\n            points_awarded.__insert(__reader);");
+    gold.append("\n          case -124942929:");
+    gold.append("\n            if (__reader.matchFieldName(\"points_played\")) {");
+    gold.append("\n              points_played.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case 3079337:");
+    gold.append("\n            if (__reader.matchFieldName(\"deck\")) {");
+    gold.append("\n              deck.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 106164915:");
+    gold.append("\n            if (__reader.matchFieldName(\"owner\")) {");
+    gold.append("\n              owner.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 308794464:");
+    gold.append("\n            if (__reader.matchFieldName(\"points_awarded\")) {");
+    gold.append("\n              points_awarded.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 731233009:");
+    gold.append("\n            if (__reader.matchFieldName(\"passing_mode\")) {");
+    gold.append("\n              passing_mode.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 1126940025:");
+    gold.append("\n            if (__reader.matchFieldName(\"current\")) {");
+    gold.append("\n              current.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 2140239368:");
+    gold.append("\n            if (__reader.matchFieldName(\"last_winner\")) {");
+    gold.append("\n              last_winner.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1097,12 +1218,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(GameHearts_2 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 15;");
+    gold.append("\n      __cost(15);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__ghand != __item.hand.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list3 = __obj.planField(\"hand\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list3 = __obj.planEncodedField(\"\\\"hand\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxCard> __deltaList4 = __dhand;");
     gold.append("\n          DRecordList<DeltaRTxCard>.Walk __deltaListWalker5 = __deltaList4.begin();");
     gold.append("\n          for (RTxCard __listElement6 : __item.hand.get()) {");
@@ -1116,16 +1237,16 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n        __ghand = __item.hand.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gplayers_connected != __item.players_connected.getGeneration()) {");
-    gold.append("\n        __dplayers_connected.show(__item.players_connected.get(), __obj.planField(\"players_connected\"));");
+    gold.append("\n        __dplayers_connected.show(__item.players_connected.get(), __obj.planEncodedField(\"\\\"players_connected\\\":\"));");
     gold.append("\n        __gplayers_connected = __item.players_connected.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gobservers_connected != __item.observers_connected.getGeneration()) {");
-    gold.append("\n        __dobservers_connected.show(__item.observers_connected.get(), __obj.planField(\"observers_connected\"));");
+    gold.append("\n        __dobservers_connected.show(__item.observers_connected.get(), __obj.planEncodedField(\"\\\"observers_connected\\\":\"));");
     gold.append("\n        __gobservers_connected = __item.observers_connected.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gpeople != __item.people.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list8 = __obj.planField(\"people\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list8 = __obj.planEncodedField(\"\\\"people\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxPlayer> __deltaList9 = __dpeople;");
     gold.append("\n          DRecordList<DeltaRTxPlayer>.Walk __deltaListWalker10 = __deltaList9.begin();");
     gold.append("\n          for (RTxPlayer __listElement11 : __item.people.get()) {");
@@ -1140,7 +1261,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n      if (__gplayers_ordered != __item.players_ordered.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list13 = __obj.planField(\"players_ordered\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list13 = __obj.planEncodedField(\"\\\"players_ordered\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxPlayer> __deltaList14 = __dplayers_ordered;");
     gold.append("\n          DRecordList<DeltaRTxPlayer>.Walk __deltaListWalker15 = __deltaList14.begin();");
     gold.append("\n          for (RTxPlayer __listElement16 : __item.players_ordered.get()) {");
@@ -1154,17 +1275,17 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n        __gplayers_ordered = __item.players_ordered.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__gready != __item.ready.getGeneration()) {");
-    gold.append("\n        __dready.show(__item.ready.get(), __obj.planField(\"ready\"));");
+    gold.append("\n        __dready.show(__item.ready.get(), __obj.planEncodedField(\"\\\"ready\\\":\"));");
     gold.append("\n        __gready = __item.ready.getGeneration();");
     gold.append("\n      }");
-    gold.append("\n      __dplaying.show(__item.playing.get(), __obj.planField(\"playing\"));");
-    gold.append("\n      __dpassing_mode.show(__item.passing_mode.get(), __obj.planField(\"passing_mode\"));");
-    gold.append("\n      __dplayed.show(__item.played.get(), __obj.planField(\"played\"));");
-    gold.append("\n      __dsuit_in_play.show(__item.suit_in_play.get(), __obj.planField(\"suit_in_play\"));");
-    gold.append("\n      __dpoints_played.show(__item.points_played.get(), __obj.planField(\"points_played\"));");
+    gold.append("\n      __dplaying.show(__item.playing.get(), __obj.planEncodedField(\"\\\"playing\\\":\"));");
+    gold.append("\n      __dpassing_mode.show(__item.passing_mode.get(), __obj.planEncodedField(\"\\\"passing_mode\\\":\"));");
+    gold.append("\n      __dplayed.show(__item.played.get(), __obj.planEncodedField(\"\\\"played\\\":\"));");
+    gold.append("\n      __dsuit_in_play.show(__item.suit_in_play.get(), __obj.planEncodedField(\"\\\"suit_in_play\\\":\"));");
+    gold.append("\n      __dpoints_played.show(__item.points_played.get(), __obj.planEncodedField(\"\\\"points_played\\\":\"));");
     gold.append("\n      if (__gin_play != __item.in_play.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list18 = __obj.planField(\"in_play\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list18 = __obj.planEncodedField(\"\\\"in_play\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxCard> __deltaList19 = __din_play;");
     gold.append("\n          DRecordList<DeltaRTxCard>.Walk __deltaListWalker20 = __deltaList19.begin();");
     gold.append("\n          for (RTxCard __listElement21 : __item.in_play.get()) {");
@@ -1177,12 +1298,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n        }");
     gold.append("\n        __gin_play = __item.in_play.getGeneration();");
     gold.append("\n      }");
-    gold.append("\n      __dlast_winner.show(__item.last_winner.get(), __obj.planField(\"last_winner\"));");
-    gold.append("\n      __dpoints_awarded.show(__item.points_awarded.get(), __obj.planField(\"points_awarded\"));");
+    gold.append("\n      __dlast_winner.show(__item.last_winner.get(), __obj.planEncodedField(\"\\\"last_winner\\\":\"));");
+    gold.append("\n      __dpoints_awarded.show(__item.points_awarded.get(), __obj.planEncodedField(\"\\\"points_awarded\\\":\"));");
     gold.append("\n      if (__gmy_take != __item.___my_take.getGeneration()) {");
     gold.append("\n        NtList<RTxCard> __local_my_take = __item.__COMPUTE_my_take(__writer.who);");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list23 = __obj.planField(\"my_take\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list23 = __obj.planEncodedField(\"\\\"my_take\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxCard> __deltaList24 = __dmy_take;");
     gold.append("\n          DRecordList<DeltaRTxCard>.Walk __deltaListWalker25 = __deltaList24.begin();");
     gold.append("\n          for (RTxCard __listElement26 : __local_my_take) {");
@@ -1271,31 +1392,49 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"suit\":");
-    gold.append("\n              suit.__insert(__reader);");
+    gold.append("\n            case 3492908:");
+    gold.append("\n              if (__reader.matchFieldName(\"rank\")) {");
+    gold.append("\n                rank.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"rank\":");
-    gold.append("\n              rank.__insert(__reader);");
+    gold.append("\n            case 3541773:");
+    gold.append("\n              if (__reader.matchFieldName(\"suit\")) {");
+    gold.append("\n                suit.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"owner\":");
-    gold.append("\n              owner.__insert(__reader);");
+    gold.append("\n            case 106164915:");
+    gold.append("\n              if (__reader.matchFieldName(\"owner\")) {");
+    gold.append("\n                owner.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"ordering\":");
-    gold.append("\n              ordering.__insert(__reader);");
+    gold.append("\n            case 106748167:");
+    gold.append("\n              if (__reader.matchFieldName(\"place\")) {");
+    gold.append("\n                place.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"place\":");
-    gold.append("\n              place.__insert(__reader);");
+    gold.append("\n            case 1234314708:");
+    gold.append("\n              if (__reader.matchFieldName(\"ordering\")) {");
+    gold.append("\n                ordering.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1373,23 +1512,30 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private DInt32 __dsuit;");
     gold.append("\n    private DInt32 __drank;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxCard() {");
     gold.append("\n      __did = new DInt32();");
     gold.append("\n      __dsuit = new DInt32();");
     gold.append("\n      __drank = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxCard __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __did.show(__item.id.get(), __obj.planField(\"id\"));");
-    gold.append("\n      __dsuit.show(__item.suit.get(), __obj.planField(\"suit\"));");
-    gold.append("\n      __drank.show(__item.rank.get(), __obj.planField(\"rank\"));");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planEncodedField(\"\\\"id\\\":\"));");
+    gold.append("\n      __dsuit.show(__item.suit.get(), __obj.planEncodedField(\"\\\"suit\\\":\"));");
+    gold.append("\n      __drank.show(__item.rank.get(), __obj.planEncodedField(\"\\\"rank\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1446,42 +1592,60 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
-    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"link\", \"play_order\", \"points\"};");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"leader\", \"link\", \"play_order\", \"playing\", \"points\"};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
     gold.append("\n      return __INDEX_COLUMNS;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {link.getIndexValue(), play_order.getIndexValue(), points.getIndexValue()};");
+    gold.append("\n      return new int[] {leader.getIndexValue(), link.getIndexValue(), play_order.getIndexValue(), playing.getIndexValue(), points.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case -1106754295:");
+    gold.append("\n              if (__reader.matchFieldName(\"leader\")) {");
+    gold.append("\n                leader.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"link\":");
-    gold.append("\n              link.__insert(__reader);");
+    gold.append("\n            case -982754077:");
+    gold.append("\n              if (__reader.matchFieldName(\"points\")) {");
+    gold.append("\n                points.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"playing\":");
-    gold.append("\n              playing.__insert(__reader);");
+    gold.append("\n            case -493563858:");
+    gold.append("\n              if (__reader.matchFieldName(\"playing\")) {");
+    gold.append("\n                playing.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"points\":");
-    gold.append("\n              points.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"leader\":");
-    gold.append("\n              leader.__insert(__reader);");
+    gold.append("\n            case 3321850:");
+    gold.append("\n              if (__reader.matchFieldName(\"link\")) {");
+    gold.append("\n                link.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"play_order\":");
-    gold.append("\n              play_order.__insert(__reader);");
+    gold.append("\n            case 1922186883:");
+    gold.append("\n              if (__reader.matchFieldName(\"play_order\")) {");
+    gold.append("\n                play_order.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1561,37 +1725,44 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private DBoolean __dleader;");
     gold.append("\n    private DInt32 __dplay_order;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxPlayer() {");
     gold.append("\n      __did = new DInt32();");
     gold.append("\n      __dlink = new DClient();");
     gold.append("\n      __dpoints = new DInt32();");
     gold.append("\n      __dleader = new DBoolean();");
     gold.append("\n      __dplay_order = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxPlayer __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(5);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __did.show(__item.id.get(), __obj.planField(\"id\"));");
-    gold.append("\n      __dlink.show(__item.link.get(), __obj.planField(\"link\"));");
-    gold.append("\n      __dpoints.show(__item.points.get(), __obj.planField(\"points\"));");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planEncodedField(\"\\\"id\\\":\"));");
+    gold.append("\n      __dlink.show(__item.link.get(), __obj.planEncodedField(\"\\\"link\\\":\"));");
+    gold.append("\n      __dpoints.show(__item.points.get(), __obj.planEncodedField(\"\\\"points\\\":\"));");
     gold.append("\n      if (__writer.who.equals(__item.link.get())) {");
-    gold.append("\n        __dleader.show(__item.leader.get(), __obj.planField(\"leader\"));");
+    gold.append("\n        __dleader.show(__item.leader.get(), __obj.planEncodedField(\"\\\"leader\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dleader.hide(__obj.planField(\"leader\"));");
+    gold.append("\n        __dleader.hide(__obj.planEncodedField(\"\\\"leader\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__writer.who.equals(__item.link.get())) {");
-    gold.append("\n        __dplay_order.show(__item.play_order.get(), __obj.planField(\"play_order\"));");
+    gold.append("\n        __dplay_order.show(__item.play_order.get(), __obj.planEncodedField(\"\\\"play_order\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dplay_order.hide(__obj.planField(\"play_order\"));");
+    gold.append("\n        __dplay_order.hide(__obj.planEncodedField(\"\\\"play_order\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1644,10 +1815,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxLeaderActionMessage __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __daction.show(__item.action, __obj.planField(\"action\"));");
-    gold.append("\n      __did.show(__item.id, __obj.planField(\"id\"));");
+    gold.append("\n      __daction.show(__item.action, __obj.planEncodedField(\"\\\"action\\\":\"));");
+    gold.append("\n      __did.show(__item.id, __obj.planEncodedField(\"\\\"id\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1696,9 +1867,9 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxCardDecision __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __did.show(__item.id, __obj.planField(\"id\"));");
+    gold.append("\n      __did.show(__item.id, __obj.planEncodedField(\"\\\"id\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1782,13 +1953,13 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 5;");
+    gold.append("\n      __cost(5);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dleader.show(__item.leader, __obj.planField(\"leader\"));");
-    gold.append("\n      __dlink.show(__item.link, __obj.planField(\"link\"));");
-    gold.append("\n      __dplay_order.show(__item.play_order, __obj.planField(\"play_order\"));");
-    gold.append("\n      __dplaying.show(__item.playing, __obj.planField(\"playing\"));");
-    gold.append("\n      __dpoints.show(__item.points, __obj.planField(\"points\"));");
+    gold.append("\n      __dleader.show(__item.leader, __obj.planEncodedField(\"\\\"leader\\\":\"));");
+    gold.append("\n      __dlink.show(__item.link, __obj.planEncodedField(\"\\\"link\\\":\"));");
+    gold.append("\n      __dplay_order.show(__item.play_order, __obj.planEncodedField(\"\\\"play_order\\\":\"));");
+    gold.append("\n      __dplaying.show(__item.playing, __obj.planEncodedField(\"\\\"playing\\\":\"));");
+    gold.append("\n      __dpoints.show(__item.points, __obj.planEncodedField(\"\\\"points\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1854,11 +2025,11 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_2 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dplace.show(__item.place, __obj.planField(\"place\"));");
-    gold.append("\n      __drank.show(__item.rank, __obj.planField(\"rank\"));");
-    gold.append("\n      __dsuit.show(__item.suit, __obj.planField(\"suit\"));");
+    gold.append("\n      __dplace.show(__item.place, __obj.planEncodedField(\"\\\"place\\\":\"));");
+    gold.append("\n      __drank.show(__item.rank, __obj.planEncodedField(\"\\\"rank\\\":\"));");
+    gold.append("\n      __dsuit.show(__item.suit, __obj.planEncodedField(\"\\\"suit\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1931,12 +2102,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __queue_single_play.clear();");
     gold.append("\n  }");
     gold.append("\n  private void __step_lobby() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(5);");
     gold.append("\n    final RTxLeaderActionMessage decision = leader.fetch(owner.get()).await();");
     gold.append("\n    __track(6);");
     gold.append("\n    if (decision.action == 1 && !ready.get()) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(7);");
     gold.append("\n      NtList<RxBoolean> _auto_28 = (players.iterate(false).where(true, new __CLOSURE_WhereClause7(decision))).transform((item) -> item.playing);");
     gold.append("\n      for (RxBoolean _auto_29 : _auto_28) {");
@@ -1944,7 +2115,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n");
     gold.append("\n    } else if (decision.action == 2) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(8);");
     gold.append("\n      NtList<RxBoolean> _auto_30 = (players.iterate(false).where(true, new __CLOSURE_WhereClause8(decision))).transform((item) -> item.playing);");
     gold.append("\n      for (RxBoolean _auto_31 : _auto_30) {");
@@ -1952,7 +2123,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n");
     gold.append("\n    } else if (decision.action == 3) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(9);");
     gold.append("\n      NtList<RxInt32> _auto_32 = (players.iterate(false).where(true, new __CLOSURE_WhereClause9())).transform((item) -> item.play_order);");
     gold.append("\n      for (RxInt32 _auto_33 : _auto_32) {");
@@ -1960,12 +2131,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n");
     gold.append("\n    } else if (decision.action == 10) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      __track(10);");
     gold.append("\n      playing.set(true);");
     gold.append("\n      __track(11);");
     gold.append("\n      if ((players.iterate(false).where(true, new __CLOSURE_WhereClause10())).size() == 4) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(12);");
     gold.append("\n        __transitionStateMachine(\"setup\", 0);");
     gold.append("\n      }");
@@ -1974,19 +2145,19 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"lobby\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_setup() {");
-    gold.append("\n    __code_cost += 6;");
+    gold.append("\n    __cost(6);");
     gold.append("\n    __track(14);");
     gold.append("\n    for(Integer s : __ALL_VALUES_Suit) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(15);");
     gold.append("\n      for(Integer r : __ALL_VALUES_Rank) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(16);");
     gold.append("\n        {");
     gold.append("\n          RxTable<RTxCard> _AutoRef34 = deck;");
     gold.append("\n          RTx_AnonObjConvert_2 _AutoExpr36 = new RTx_AnonObjConvert_2(1, r, s);");
     gold.append("\n          RTxCard _CreateRef35 = _AutoRef34.make();");
-    gold.append("\n          __code_cost += 3;");
+    gold.append("\n          __cost(3);");
     gold.append("\n          _CreateRef35.place.set(_AutoExpr36.place);");
     gold.append("\n          _CreateRef35.rank.set(_AutoExpr36.rank);");
     gold.append("\n          _CreateRef35.suit.set(_AutoExpr36.suit);");
@@ -2011,7 +2182,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"shuffle_and_distribute\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_shuffle_and_distribute() {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(21);");
     gold.append("\n    NtList<RxInt32> _auto_41 = (deck.iterate(true)).transform((item) -> item.ordering);");
     gold.append("\n    for (RxInt32 _auto_42 : _auto_41) {");
@@ -2036,12 +2207,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    {");
     gold.append("\n      int k = 0;");
     gold.append("\n      for (;__goodwill(225, 18, 225, 23) && (k < 4);k++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(26);");
     gold.append("\n        NtMaybe<RTxPlayer> _AutoConditionplayer_47;");
     gold.append("\n        if ((_AutoConditionplayer_47 = Utility.lookup(op, k)).has()) {");
     gold.append("\n          RTxPlayer player = _AutoConditionplayer_47.get();");
-    gold.append("\n          __code_cost += 2;");
+    gold.append("\n          __cost(2);");
     gold.append("\n          __track(27);");
     gold.append("\n          NtList<RxClient> _auto_48 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause14()).orderBy(false, __ORDER_Card_ordering_a).skipAndLimit(true, 0, 13)).transform((item) -> item.owner);");
     gold.append("\n          for (RxClient _auto_49 : _auto_48) {");
@@ -2055,10 +2226,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"pass\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_pass() {");
-    gold.append("\n    __code_cost += 13;");
+    gold.append("\n    __cost(13);");
     gold.append("\n    __track(29);");
     gold.append("\n    if (passing_mode.get() == 3) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(30);");
     gold.append("\n      __transitionStateMachine(\"start_play\", 0);");
     gold.append("\n    }");
@@ -2068,7 +2239,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxPlayer> _AutoConditionplayer_50;");
     gold.append("\n    if ((_AutoConditionplayer_50 = Utility.lookup(op, 0)).has()) {");
     gold.append("\n      RTxPlayer player = _AutoConditionplayer_50.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(33);");
     gold.append("\n      player1.set(player.link.get());");
     gold.append("\n    }");
@@ -2076,7 +2247,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxPlayer> _AutoConditionplayer_51;");
     gold.append("\n    if ((_AutoConditionplayer_51 = Utility.lookup(op, 1)).has()) {");
     gold.append("\n      RTxPlayer player = _AutoConditionplayer_51.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(35);");
     gold.append("\n      player2.set(player.link.get());");
     gold.append("\n    }");
@@ -2084,7 +2255,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxPlayer> _AutoConditionplayer_52;");
     gold.append("\n    if ((_AutoConditionplayer_52 = Utility.lookup(op, 2)).has()) {");
     gold.append("\n      RTxPlayer player = _AutoConditionplayer_52.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(37);");
     gold.append("\n      player3.set(player.link.get());");
     gold.append("\n    }");
@@ -2092,7 +2263,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxPlayer> _AutoConditionplayer_53;");
     gold.append("\n    if ((_AutoConditionplayer_53 = Utility.lookup(op, 3)).has()) {");
     gold.append("\n      RTxPlayer player = _AutoConditionplayer_53.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(39);");
     gold.append("\n      player4.set(player.link.get());");
     gold.append("\n    }");
@@ -2108,28 +2279,28 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxCardDecision[]> _AutoConditiondecision1_54;");
     gold.append("\n    if ((_AutoConditiondecision1_54 = pass1.await()).has()) {");
     gold.append("\n      RTxCardDecision[] decision1 = _AutoConditiondecision1_54.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(45);");
     gold.append("\n      NtMaybe<RTxCardDecision[]> _AutoConditiondecision2_55;");
     gold.append("\n      if ((_AutoConditiondecision2_55 = pass2.await()).has()) {");
     gold.append("\n        RTxCardDecision[] decision2 = _AutoConditiondecision2_55.get();");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(46);");
     gold.append("\n        NtMaybe<RTxCardDecision[]> _AutoConditiondecision3_56;");
     gold.append("\n        if ((_AutoConditiondecision3_56 = pass3.await()).has()) {");
     gold.append("\n          RTxCardDecision[] decision3 = _AutoConditiondecision3_56.get();");
-    gold.append("\n          __code_cost += 2;");
+    gold.append("\n          __cost(2);");
     gold.append("\n          __track(47);");
     gold.append("\n          NtMaybe<RTxCardDecision[]> _AutoConditiondecision4_57;");
     gold.append("\n          if ((_AutoConditiondecision4_57 = pass4.await()).has()) {");
     gold.append("\n            RTxCardDecision[] decision4 = _AutoConditiondecision4_57.get();");
-    gold.append("\n            __code_cost += 2;");
+    gold.append("\n            __cost(2);");
     gold.append("\n            __track(48);");
     gold.append("\n            if (passing_mode.get() == 2) {");
-    gold.append("\n              __code_cost += 5;");
+    gold.append("\n              __cost(5);");
     gold.append("\n              __track(49);");
     gold.append("\n              for(RTxCardDecision dec : decision1) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(50);");
     gold.append("\n                NtList<RxClient> _auto_58 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause20(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_59 : _auto_58) {");
@@ -2139,7 +2310,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(51);");
     gold.append("\n              for(RTxCardDecision dec : decision2) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(52);");
     gold.append("\n                NtList<RxClient> _auto_60 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause21(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_61 : _auto_60) {");
@@ -2149,7 +2320,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(53);");
     gold.append("\n              for(RTxCardDecision dec : decision3) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(54);");
     gold.append("\n                NtList<RxClient> _auto_62 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause22(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_63 : _auto_62) {");
@@ -2159,7 +2330,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(55);");
     gold.append("\n              for(RTxCardDecision dec : decision4) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(56);");
     gold.append("\n                NtList<RxClient> _auto_64 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause23(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_65 : _auto_64) {");
@@ -2168,10 +2339,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n");
     gold.append("\n              }");
     gold.append("\n            } else if (passing_mode.get() == 1) {");
-    gold.append("\n              __code_cost += 5;");
+    gold.append("\n              __cost(5);");
     gold.append("\n              __track(57);");
     gold.append("\n              for(RTxCardDecision dec : decision1) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(58);");
     gold.append("\n                NtList<RxClient> _auto_66 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause24(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_67 : _auto_66) {");
@@ -2181,7 +2352,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(59);");
     gold.append("\n              for(RTxCardDecision dec : decision2) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(60);");
     gold.append("\n                NtList<RxClient> _auto_68 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause25(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_69 : _auto_68) {");
@@ -2191,7 +2362,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(61);");
     gold.append("\n              for(RTxCardDecision dec : decision3) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(62);");
     gold.append("\n                NtList<RxClient> _auto_70 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause26(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_71 : _auto_70) {");
@@ -2201,7 +2372,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(63);");
     gold.append("\n              for(RTxCardDecision dec : decision4) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(64);");
     gold.append("\n                NtList<RxClient> _auto_72 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause27(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_73 : _auto_72) {");
@@ -2210,10 +2381,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n");
     gold.append("\n              }");
     gold.append("\n            } else if (passing_mode.get() == 0) {");
-    gold.append("\n              __code_cost += 5;");
+    gold.append("\n              __cost(5);");
     gold.append("\n              __track(65);");
     gold.append("\n              for(RTxCardDecision dec : decision1) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(66);");
     gold.append("\n                NtList<RxClient> _auto_74 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause28(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_75 : _auto_74) {");
@@ -2223,7 +2394,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(67);");
     gold.append("\n              for(RTxCardDecision dec : decision2) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(68);");
     gold.append("\n                NtList<RxClient> _auto_76 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause29(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_77 : _auto_76) {");
@@ -2233,7 +2404,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(69);");
     gold.append("\n              for(RTxCardDecision dec : decision3) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(70);");
     gold.append("\n                NtList<RxClient> _auto_78 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause30(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_79 : _auto_78) {");
@@ -2243,7 +2414,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n              }");
     gold.append("\n              __track(71);");
     gold.append("\n              for(RTxCardDecision dec : decision4) {");
-    gold.append("\n                __code_cost += 2;");
+    gold.append("\n                __cost(2);");
     gold.append("\n                __track(72);");
     gold.append("\n                NtList<RxClient> _auto_80 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause31(dec))).transform((item) -> item.owner);");
     gold.append("\n                for (RxClient _auto_81 : _auto_80) {");
@@ -2260,7 +2431,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"start_play\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_start_play() {");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(74);");
     gold.append("\n    played.set(0);");
     gold.append("\n    __track(75);");
@@ -2269,7 +2440,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxCard> _AutoConditiontwo_clubs_82;");
     gold.append("\n    if ((_AutoConditiontwo_clubs_82 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause32())).lookup(0)).has()) {");
     gold.append("\n      RTxCard two_clubs = _AutoConditiontwo_clubs_82.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(77);");
     gold.append("\n      current.set(two_clubs.owner.get());");
     gold.append("\n    }");
@@ -2277,12 +2448,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"play\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_play() {");
-    gold.append("\n    __code_cost += 8;");
+    gold.append("\n    __cost(8);");
     gold.append("\n    __track(79);");
     gold.append("\n    NtList<RTxCard> choices = deck.iterate(false).where(true, new __CLOSURE_WhereClause34(current, played, points_played, suit_in_play));");
     gold.append("\n    __track(80);");
     gold.append("\n    if (choices.get().size() == 0) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(81);");
     gold.append("\n      choices = deck.iterate(false).where(true, new __CLOSURE_WhereClause35(current));");
     gold.append("\n    }");
@@ -2292,10 +2463,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxCardDecision[]> _AutoConditionthePlay_83;");
     gold.append("\n    if ((_AutoConditionthePlay_83 = playX.await()).has()) {");
     gold.append("\n      RTxCardDecision[] thePlay = _AutoConditionthePlay_83.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(84);");
     gold.append("\n      for(RTxCardDecision dec : thePlay) {");
-    gold.append("\n        __code_cost += 3;");
+    gold.append("\n        __cost(3);");
     gold.append("\n        __track(85);");
     gold.append("\n        NtList<RxInt32> _auto_84 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause36(dec))).transform((item) -> item.place);");
     gold.append("\n        for (RxInt32 _auto_85 : _auto_84) {");
@@ -2306,16 +2477,16 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n        NtMaybe<RTxCard> _AutoConditioncardPlayed_86;");
     gold.append("\n        if ((_AutoConditioncardPlayed_86 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause37(dec))).lookup(0)).has()) {");
     gold.append("\n          RTxCard cardPlayed = _AutoConditioncardPlayed_86.get();");
-    gold.append("\n          __code_cost += 3;");
+    gold.append("\n          __cost(3);");
     gold.append("\n          __track(87);");
     gold.append("\n          if (cardPlayed.points.get() > 0) {");
-    gold.append("\n            __code_cost += 2;");
+    gold.append("\n            __cost(2);");
     gold.append("\n            __track(88);");
     gold.append("\n            points_played.set(true);");
     gold.append("\n          }");
     gold.append("\n          __track(89);");
     gold.append("\n          if (played.get() == 0) {");
-    gold.append("\n            __code_cost += 2;");
+    gold.append("\n            __cost(2);");
     gold.append("\n            __track(90);");
     gold.append("\n            suit_in_play.set(cardPlayed.suit.get());");
     gold.append("\n          }");
@@ -2324,30 +2495,30 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    __track(91);");
     gold.append("\n    if ((current.get().equals(player1.get()))) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(92);");
     gold.append("\n      current.set(player2.get());");
     gold.append("\n    } else if ((current.get().equals(player2.get()))) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(93);");
     gold.append("\n      current.set(player3.get());");
     gold.append("\n    } else if ((current.get().equals(player3.get()))) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(94);");
     gold.append("\n      current.set(player4.get());");
     gold.append("\n    } else if ((current.get().equals(player4.get()))) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(95);");
     gold.append("\n      current.set(player1.get());");
     gold.append("\n    }");
     gold.append("\n    __track(96);");
     gold.append("\n    if (played.get() == 3) {");
-    gold.append("\n      __code_cost += 6;");
+    gold.append("\n      __cost(6);");
     gold.append("\n      __track(97);");
     gold.append("\n      NtMaybe<RTxCard> _AutoConditionwinner_87;");
     gold.append("\n      if ((_AutoConditionwinner_87 = (deck.iterate(false).where(false, new __CLOSURE_WhereClause38(suit_in_play)).orderBy(true, __ORDER_Card_rank_d)).lookup(0)).has()) {");
     gold.append("\n        RTxCard winner = _AutoConditionwinner_87.get();");
-    gold.append("\n        __code_cost += 3;");
+    gold.append("\n        __cost(3);");
     gold.append("\n        __track(98);");
     gold.append("\n        NtList<RxClient> _auto_88 = (deck.iterate(false).where(true, new __CLOSURE_WhereClause39())).transform((item) -> item.owner);");
     gold.append("\n        for (RxClient _auto_89 : _auto_88) {");
@@ -2369,12 +2540,12 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      current.set(last_winner.get());");
     gold.append("\n      __track(103);");
     gold.append("\n      if ((deck.iterate(false).where(true, new __CLOSURE_WhereClause41(current))).size() == 0) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(104);");
     gold.append("\n        __transitionStateMachine(\"score\", 0);");
     gold.append("\n      }");
     gold.append("\n    } else {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(105);");
     gold.append("\n      played.bumpUpPost();");
     gold.append("\n    }");
@@ -2382,31 +2553,31 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"play\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_score() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(107);");
     gold.append("\n    for(RTxPlayer p : players.iterate(false).where(true, new __CLOSURE_WhereClause42())) {");
-    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      __cost(4);");
     gold.append("\n      __track(108);");
     gold.append("\n      int local_points = 0;");
     gold.append("\n      __track(109);");
     gold.append("\n      for(RTxCard c : deck.iterate(false).where(true, new __CLOSURE_WhereClause43(p))) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(110);");
     gold.append("\n        local_points += c.points.get();");
     gold.append("\n      }");
     gold.append("\n      __track(111);");
     gold.append("\n      if (local_points == 26) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(112);");
     gold.append("\n        for(RTxPlayer p2 : players.iterate(false).where(true, new __CLOSURE_WhereClause44(p))) {");
-    gold.append("\n          __code_cost += 3;");
+    gold.append("\n          __cost(3);");
     gold.append("\n          __track(113);");
     gold.append("\n          p2.points.opAddTo(26);");
     gold.append("\n          __track(114);");
     gold.append("\n          points_awarded.opAddTo(26);");
     gold.append("\n        }");
     gold.append("\n      } else {");
-    gold.append("\n        __code_cost += 3;");
+    gold.append("\n        __cost(3);");
     gold.append("\n        __track(115);");
     gold.append("\n        p.points.opAddTo(local_points);");
     gold.append("\n        __track(116);");
@@ -2415,19 +2586,19 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    __track(117);");
     gold.append("\n    if (passing_mode.get() == 0) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(118);");
     gold.append("\n      passing_mode.set(2);");
     gold.append("\n    } else if (passing_mode.get() == 2) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(119);");
     gold.append("\n      passing_mode.set(1);");
     gold.append("\n    } else if (passing_mode.get() == 1) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(120);");
     gold.append("\n      passing_mode.set(3);");
     gold.append("\n    } else if (passing_mode.get() == 3) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(121);");
     gold.append("\n      passing_mode.set(0);");
     gold.append("\n    }");
@@ -2461,10 +2632,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  public boolean __onConnected__0(NtClient cv){");
-    gold.append("\n    __code_cost += 5;");
+    gold.append("\n    __cost(5);");
     gold.append("\n    __track(123);");
     gold.append("\n    if ((owner.get().equals(NtClient.NO_ONE))) {");
-    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      __cost(4);");
     gold.append("\n      __track(124);");
     gold.append("\n      owner.set(cv);");
     gold.append("\n      __track(125);");
@@ -2472,7 +2643,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n        RxTable<RTxPlayer> _AutoRef92 = players;");
     gold.append("\n        RTx_AnonObjConvert_0 _AutoExpr94 = new RTx_AnonObjConvert_0(true, cv, 0, true, 0);");
     gold.append("\n        RTxPlayer _CreateRef93 = _AutoRef92.make();");
-    gold.append("\n        __code_cost += 5;");
+    gold.append("\n        __cost(5);");
     gold.append("\n        _CreateRef93.leader.set(_AutoExpr94.leader);");
     gold.append("\n        _CreateRef93.link.set(_AutoExpr94.link);");
     gold.append("\n        _CreateRef93.play_order.set(_AutoExpr94.play_order);");
@@ -2484,19 +2655,19 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    __track(127);");
     gold.append("\n    if ((owner.get().equals(cv))) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(128);");
     gold.append("\n      return true;");
     gold.append("\n    }");
     gold.append("\n    __track(129);");
     gold.append("\n    if ((players.iterate(false).where(true, new __CLOSURE_WhereClause2(cv))).size() == 0) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(130);");
     gold.append("\n      {");
     gold.append("\n        RxTable<RTxPlayer> _AutoRef95 = players;");
     gold.append("\n        RTx_AnonObjConvert_0 _AutoExpr97 = new RTx_AnonObjConvert_0(false, cv, players.size(), false, 0);");
     gold.append("\n        RTxPlayer _CreateRef96 = _AutoRef95.make();");
-    gold.append("\n        __code_cost += 5;");
+    gold.append("\n        __cost(5);");
     gold.append("\n        _CreateRef96.leader.set(_AutoExpr97.leader);");
     gold.append("\n        _CreateRef96.link.set(_AutoExpr97.link);");
     gold.append("\n        _CreateRef96.play_order.set(_AutoExpr97.play_order);");
@@ -2508,7 +2679,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    return true;");
     gold.append("\n  }");
     gold.append("\n  public void __onDisconnected__0(NtClient cv) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(132);");
     gold.append("\n    (players.iterate(false).where(true, new __CLOSURE_WhereClause3(cv))).map((__item) -> { __item.__delete(); });");
     gold.append("\n  }");
@@ -2549,7 +2720,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return place == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2557,7 +2728,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private NtClient who;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, who.hashCode(), 2, 4};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(who), 2, 4};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2572,7 +2743,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int place = __obj.place.get();");
     gold.append("\n      NtClient owner = __obj.owner.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return place == 4 && (owner.equals(who));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2580,7 +2751,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private NtClient cv;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {0, cv.hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(cv)};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2594,7 +2765,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      NtClient link = __obj.link.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (link.equals(cv));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2602,7 +2773,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private NtClient cv;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {0, cv.hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(cv)};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2617,7 +2788,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      NtClient link = __obj.link.get();");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (link.equals(cv)) && !playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2635,7 +2806,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2653,7 +2824,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return !playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2671,7 +2842,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2693,7 +2864,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == decision.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2715,7 +2886,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == decision.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2733,7 +2904,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2751,7 +2922,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2769,7 +2940,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return !playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2787,7 +2958,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2805,14 +2976,14 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private class __CLOSURE_WhereClause14 implements WhereClause<RTxCard> {");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, NtClient.NO_ONE.hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(NtClient.NO_ONE)};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2823,7 +2994,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(NtClient.NO_ONE));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2841,7 +3012,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2849,7 +3020,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxClient player1;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, player1.get().hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(player1.get())};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2863,7 +3034,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(player1.get()));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2871,7 +3042,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxClient player2;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, player2.get().hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(player2.get())};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2885,7 +3056,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(player2.get()));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2893,7 +3064,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxClient player3;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, player3.get().hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(player3.get())};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2907,7 +3078,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(player3.get()));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2915,7 +3086,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxClient player4;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, player4.get().hashCode()};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(player4.get())};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -2929,7 +3100,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(player4.get()));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2951,7 +3122,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2973,7 +3144,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2995,7 +3166,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3017,7 +3188,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3039,7 +3210,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3061,7 +3232,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3083,7 +3254,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3105,7 +3276,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3127,7 +3298,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3149,7 +3320,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3171,7 +3342,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3193,7 +3364,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3212,7 +3383,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int rank = __obj.rank.get();");
     gold.append("\n      int suit = __obj.suit.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return rank == 2 && suit == 1;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3230,7 +3401,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return place == 3;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3241,7 +3412,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxInt32 suit_in_play;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, current.get().hashCode(), 2, 2};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(current.get()), 2, 2};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -3261,7 +3432,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      int place = __obj.place.get();");
     gold.append("\n      int points = __obj.points.get();");
     gold.append("\n      int suit = __obj.suit.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(current.get())) && place == 2 && (played.get() == 0 && (points_played.get() || points == 0) || played.get() > 0 && suit_in_play.get() == suit);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3269,7 +3440,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxClient current;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, current.get().hashCode(), 2, 2};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(current.get()), 2, 2};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -3284,7 +3455,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(current.get())) && place == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3306,7 +3477,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3328,7 +3499,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == dec.id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3351,7 +3522,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int place = __obj.place.get();");
     gold.append("\n      int suit = __obj.suit.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return place == 3 && suit == suit_in_play.get();");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3369,7 +3540,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return place == 3;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3387,7 +3558,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return place == 3;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3395,7 +3566,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RxClient current;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, current.get().hashCode(), 2, 2};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(current.get()), 2, 2};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -3410,7 +3581,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(current.get())) && place == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3428,7 +3599,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3436,7 +3607,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    private RTxPlayer p;");
     gold.append("\n    @Override");
     gold.append("\n    public int[] getIndices() {");
-    gold.append("\n      return new int[] {1, p.link.get().hashCode(), 2, 4};");
+    gold.append("\n      return new int[] {1, IndexValue.ofClient(p.link.get()), 2, 4};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
@@ -3451,7 +3622,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxCard __obj) {");
     gold.append("\n      NtClient owner = __obj.owner.get();");
     gold.append("\n      int place = __obj.place.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (owner.equals(p.link.get())) && place == 4;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3474,7 +3645,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxPlayer __obj) {");
     gold.append("\n      boolean playing = __obj.playing.get();");
     gold.append("\n      NtClient link = __obj.link.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return playing && !(link.equals(p.link.get()));");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3595,50 +3766,88 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3709,10 +3918,10 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(ServiceHandler_3 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3771,9 +3980,9 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __ddx.show(__item.dx, __obj.planField(\"dx\"));");
+    gold.append("\n      __ddx.show(__item.dx, __obj.planEncodedField(\"\\\"dx\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3786,7 +3995,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private void handleChannelMessage_change(NtClient client, RTxM m) throws AbortMessageException {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    x.opAddTo(m.dx);");
     gold.append("\n");
@@ -3817,7 +4026,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(1);");
     gold.append("\n    return true;");
     gold.append("\n  }");
@@ -3836,7 +4045,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(2);");
     gold.append("\n    x.set(123);");
     gold.append("\n  }");
@@ -3987,71 +4196,130 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"y\":");
-    gold.append("\n            y.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"d\":");
-    gold.append("\n            d.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"b\":");
-    gold.append("\n            b.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"name\":");
-    gold.append("\n            name.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"c1\":");
-    gold.append("\n            c1.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"c2\":");
-    gold.append("\n            c2.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            s.__insert(__reader);");
+    gold.append("\n          case 98:");
+    gold.append("\n            if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case 100:");
+    gold.append("\n            if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case 115:");
+    gold.append("\n            if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 121:");
+    gold.append("\n            if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 3118:");
+    gold.append("\n            if (__reader.matchFieldName(\"c1\")) {");
+    gold.append("\n              c1.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 3119:");
+    gold.append("\n            if (__reader.matchFieldName(\"c2\")) {");
+    gold.append("\n              c2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 3373707:");
+    gold.append("\n            if (__reader.matchFieldName(\"name\")) {");
+    gold.append("\n              name.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4185,7 +4453,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_next() {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(0);");
     gold.append("\n    name.set(\"12345678901234567890123456789012345678901234567890 x \");");
     gold.append("\n    __track(1);");
@@ -4200,7 +4468,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n    __transitionStateMachine(\"end\", 0);");
     gold.append("\n  }");
     gold.append("\n  private void __step_end() {");
-    gold.append("\n    __code_cost += 9;");
+    gold.append("\n    __cost(9);");
     gold.append("\n    __track(6);");
     gold.append("\n    x.set(0);");
     gold.append("\n    __track(7);");
@@ -4243,7 +4511,7 @@ public class GeneratedDemoTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(14);");
     gold.append("\n    x.set(2);");
     gold.append("\n    __track(15);");
@@ -252,74 +252,3543 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n}, {");
     gold.append("\n  \"range\" : {");
     gold.append("\n    \"start\" : {");
+    gold.append("\n      \"line\" : 8,");
+    gold.append("\n      \"character\" : 2");
+    gold.append("\n    },");
+    gold.append("\n    \"end\" : {");
+    gold.append("\n      \"line\" : 8,");
+    gold.append("\n      \"character\" : 10");
+    gold.append("\n    }");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Index was already defined: 'x' (StructureDefine)\"");
+    gold.append("\n} ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingCompositeCant_4 = null;
+  private String get_IndexingCompositeCant_4() {
+    if (cached_IndexingCompositeCant_4 != null) {
+      return cached_IndexingCompositeCant_4;
+    }
+    cached_IndexingCompositeCant_4 = generateTestOutput(false, "IndexingCompositeCant_4", "./test_code/Linq_IndexingCompositeCant_failure.a");
+    return cached_IndexingCompositeCant_4;
+  }
+
+  @Test
+  public void testIndexingCompositeCantFailure() {
+    assertLiveFail(get_IndexingCompositeCant_4());
+  }
+
+  @Test
+  public void testIndexingCompositeCantNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_IndexingCompositeCant_4());
+  }
+
+  @Test
+  public void testIndexingCompositeCantExceptionFree() {
+    assertExceptionFree(get_IndexingCompositeCant_4());
+  }
+
+  @Test
+  public void testIndexingCompositeCantTODOFree() {
+    assertTODOFree(get_IndexingCompositeCant_4());
+  }
+
+  @Test
+  public void stable_IndexingCompositeCant_4() {
+    String live = get_IndexingCompositeCant_4();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:./test_code/Linq_IndexingCompositeCant_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[ {");
+    gold.append("\n  \"range\" : {");
+    gold.append("\n    \"start\" : {");
+    gold.append("\n      \"line\" : 4,");
+    gold.append("\n      \"character\" : 2");
+    gold.append("\n    },");
+    gold.append("\n    \"end\" : {");
+    gold.append("\n      \"line\" : 4,");
+    gold.append("\n      \"character\" : 15");
+    gold.append("\n    }");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Index has the field 'x' more than once (StructureDefine)\"");
+    gold.append("\n}, {");
+    gold.append("\n  \"range\" : {");
+    gold.append("\n    \"start\" : {");
+    gold.append("\n      \"line\" : 5,");
+    gold.append("\n      \"character\" : 2");
+    gold.append("\n    },");
+    gold.append("\n    \"end\" : {");
+    gold.append("\n      \"line\" : 5,");
+    gold.append("\n      \"character\" : 15");
+    gold.append("\n    }");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Index for field 'y' is not possible due to type (StructureDefine)\"");
+    gold.append("\n}, {");
+    gold.append("\n  \"range\" : {");
+    gold.append("\n    \"start\" : {");
     gold.append("\n      \"line\" : 6,");
     gold.append("\n      \"character\" : 2");
     gold.append("\n    },");
     gold.append("\n    \"end\" : {");
     gold.append("\n      \"line\" : 6,");
-    gold.append("\n      \"character\" : 10");
+    gold.append("\n      \"character\" : 15");
+    gold.append("\n    }");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Index could not find field 'z' (StructureDefine)\"");
+    gold.append("\n}, {");
+    gold.append("\n  \"range\" : {");
+    gold.append("\n    \"start\" : {");
+    gold.append("\n      \"line\" : 7,");
+    gold.append("\n      \"character\" : 2");
+    gold.append("\n    },");
+    gold.append("\n    \"end\" : {");
+    gold.append("\n      \"line\" : 7,");
+    gold.append("\n      \"character\" : 15");
+    gold.append("\n    }");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Index was already defined: 'x, z' (StructureDefine)\"");
+    gold.append("\n} ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingComposite_5 = null;
+  private String get_IndexingComposite_5() {
+    if (cached_IndexingComposite_5 != null) {
+      return cached_IndexingComposite_5;
+    }
+    cached_IndexingComposite_5 = generateTestOutput(true, "IndexingComposite_5", "./test_code/Linq_IndexingComposite_success.a");
+    return cached_IndexingComposite_5;
+  }
+
+  @Test
+  public void testIndexingCompositeEmission() {
+    assertEmissionGood(get_IndexingComposite_5());
+  }
+
+  @Test
+  public void testIndexingCompositeSuccess() {
+    assertLivePass(get_IndexingComposite_5());
+  }
+
+  @Test
+  public void testIndexingCompositeGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingComposite_5());
+  }
+
+  @Test
+  public void testIndexingCompositeExceptionFree() {
+    assertExceptionFree(get_IndexingComposite_5());
+  }
+
+  @Test
+  public void testIndexingCompositeTODOFree() {
+    assertTODOFree(get_IndexingComposite_5());
+  }
+
+  @Test
+  public void stable_IndexingComposite_5() {
+    String live = get_IndexingComposite_5();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:./test_code/Linq_IndexingComposite_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[ ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\nimport com.fasterxml.jackson.databind.JsonNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ArrayNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ObjectNode;");
+    gold.append("\nimport org.adamalang.runtime.*;");
+    gold.append("\nimport org.adamalang.runtime.async.*;");
+    gold.append("\nimport org.adamalang.runtime.contracts.*;");
+    gold.append("\nimport org.adamalang.runtime.delta.*;");
+    gold.append("\nimport org.adamalang.runtime.exceptions.*;");
+    gold.append("\nimport org.adamalang.runtime.index.*;");
+    gold.append("\nimport org.adamalang.runtime.json.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.lists.*;");
+    gold.append("\nimport org.adamalang.runtime.ops.*;");
+    gold.append("\nimport org.adamalang.runtime.reactives.*;");
+    gold.append("\nimport org.adamalang.runtime.stdlib.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.lang.Math;");
+    gold.append("\npublic class IndexingComposite_5 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxR> tbl;");
+    gold.append("\n  private final RxInt32 pair;");
+    gold.append("\n  private final RxInt32 triple;");
+    gold.append("\n  private final RxInt32 partial;");
+    gold.append("\n  private final RxInt32 ranged;");
+    gold.append("\n  private final RxInt32 moved;");
+    gold.append("\n  public IndexingComposite_5(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent), 4);");
+    gold.append("\n    pair = new RxInt32(this, 0);");
+    gold.append("\n    triple = new RxInt32(this, 0);");
+    gold.append("\n    partial = new RxInt32(this, 0);");
+    gold.append("\n    ranged = new RxInt32(this, 0);");
+    gold.append("\n    moved = new RxInt32(this, 0);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -938283321:");
+    gold.append("\n            if (__reader.matchFieldName(\"ranged\")) {");
+    gold.append("\n              ranged.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -865465250:");
+    gold.append("\n            if (__reader.matchFieldName(\"triple\")) {");
+    gold.append("\n              triple.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -792934015:");
+    gold.append("\n            if (__reader.matchFieldName(\"partial\")) {");
+    gold.append("\n              partial.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 3433178:");
+    gold.append("\n            if (__reader.matchFieldName(\"pair\")) {");
+    gold.append("\n              pair.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 104087219:");
+    gold.append("\n            if (__reader.matchFieldName(\"moved\")) {");
+    gold.append("\n              moved.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"pair\");");
+    gold.append("\n    pair.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"triple\");");
+    gold.append("\n    triple.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"partial\");");
+    gold.append("\n    partial.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"ranged\");");
+    gold.append("\n    ranged.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"moved\");");
+    gold.append("\n    moved.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n    __state.__commit(\"__state\", __writer);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __writer);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __writer);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __writer);");
+    gold.append("\n    __seq.__commit(\"__seq\", __writer);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __writer);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __writer);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __writer);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __writer);");
+    gold.append("\n    __time.__commit(\"__time\", __writer);");
+    gold.append("\n    tbl.__commit(\"tbl\", __writer);");
+    gold.append("\n    pair.__commit(\"pair\", __writer);");
+    gold.append("\n    triple.__commit(\"triple\", __writer);");
+    gold.append("\n    partial.__commit(\"partial\", __writer);");
+    gold.append("\n    ranged.__commit(\"ranged\", __writer);");
+    gold.append("\n    moved.__commit(\"moved\", __writer);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    tbl.__revert();");
+    gold.append("\n    pair.__revert();");
+    gold.append("\n    triple.__revert();");
+    gold.append("\n    partial.__revert();");
+    gold.append("\n    ranged.__revert();");
+    gold.append("\n    moved.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaIndexingComposite_5 {");
+    gold.append("\n    private DInt32 __dpair;");
+    gold.append("\n    private DInt32 __dtriple;");
+    gold.append("\n    private DInt32 __dpartial;");
+    gold.append("\n    private DInt32 __dranged;");
+    gold.append("\n    private DInt32 __dmoved;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaIndexingComposite_5() {");
+    gold.append("\n      __dpair = new DInt32();");
+    gold.append("\n      __dtriple = new DInt32();");
+    gold.append("\n      __dpartial = new DInt32();");
+    gold.append("\n      __dranged = new DInt32();");
+    gold.append("\n      __dmoved = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(IndexingComposite_5 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(5);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dpair.show(__item.pair.get(), __obj.planEncodedField(\"\\\"pair\\\":\"));");
+    gold.append("\n      __dtriple.show(__item.triple.get(), __obj.planEncodedField(\"\\\"triple\\\":\"));");
+    gold.append("\n      __dpartial.show(__item.partial.get(), __obj.planEncodedField(\"\\\"partial\\\":\"));");
+    gold.append("\n      __dranged.show(__item.ranged.get(), __obj.planEncodedField(\"\\\"ranged\\\":\"));");
+    gold.append("\n      __dmoved.show(__item.moved.get(), __obj.planEncodedField(\"\\\"moved\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
+    gold.append("\n    IndexingComposite_5 __self = this;");
+    gold.append("\n    DeltaIndexingComposite_5 __state = new DeltaIndexingComposite_5();");
+    gold.append("\n    return new PrivateView(__who, __updates) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RxInt32 game;");
+    gold.append("\n    private final RxClient player;");
+    gold.append("\n    private final RxString name;");
+    gold.append("\n    private final RxInt32 round;");
+    gold.append("\n    private final RxInt32 score;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_game$player;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_game$name$round;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_game;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_round;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      game = new RxInt32(this, 0);");
+    gold.append("\n      player = new RxClient(this, NtClient.NO_ONE);");
+    gold.append("\n      name = new RxString(this, \"\");");
+    gold.append("\n      round = new RxInt32(this, 0);");
+    gold.append("\n      score = new RxInt32(this, 0);");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        __INDEX_game$player = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return IndexValue.combine(game.getIndexValue(), player.getIndexValue());");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        game.__subscribe(__INDEX_game$player);");
+    gold.append("\n        player.__subscribe(__INDEX_game$player);");
+    gold.append("\n        __INDEX_game$name$round = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)1), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return IndexValue.combine(IndexValue.combine(game.getIndexValue(), name.getIndexValue()), round.getIndexValue());");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        game.__subscribe(__INDEX_game$name$round);");
+    gold.append("\n        name.__subscribe(__INDEX_game$name$round);");
+    gold.append("\n        round.__subscribe(__INDEX_game$name$round);");
+    gold.append("\n        __INDEX_game = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)2), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return game.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        game.__subscribe(__INDEX_game);");
+    gold.append("\n        __INDEX_round = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)3), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return round.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        round.__subscribe(__INDEX_round);");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        __INDEX_game$player = null;");
+    gold.append("\n        __INDEX_game$name$round = null;");
+    gold.append("\n        __INDEX_game = null;");
+    gold.append("\n        __INDEX_round = null;");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"game\", \"name\", \"player\", \"round\", \"score\"};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {game.getIndexValue(), name.getIndexValue(), player.getIndexValue(), round.getIndexValue(), score.getIndexValue()};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case -985752863:");
+    gold.append("\n              if (__reader.matchFieldName(\"player\")) {");
+    gold.append("\n                player.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3165170:");
+    gold.append("\n              if (__reader.matchFieldName(\"game\")) {");
+    gold.append("\n                game.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3373707:");
+    gold.append("\n              if (__reader.matchFieldName(\"name\")) {");
+    gold.append("\n                name.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 108704142:");
+    gold.append("\n              if (__reader.matchFieldName(\"round\")) {");
+    gold.append("\n                round.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 109264530:");
+    gold.append("\n              if (__reader.matchFieldName(\"score\")) {");
+    gold.append("\n                score.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"game\");");
+    gold.append("\n      game.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"player\");");
+    gold.append("\n      player.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      name.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"round\");");
+    gold.append("\n      round.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"score\");");
+    gold.append("\n      score.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __writer.writeObjectFieldIntro(__name);");
+    gold.append("\n        __writer.beginObject();");
+    gold.append("\n        game.__commit(\"game\", __writer);");
+    gold.append("\n        player.__commit(\"player\", __writer);");
+    gold.append("\n        name.__commit(\"name\", __writer);");
+    gold.append("\n        round.__commit(\"round\", __writer);");
+    gold.append("\n        score.__commit(\"score\", __writer);");
+    gold.append("\n        id.__commit(\"id\", __writer);");
+    gold.append("\n        __writer.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        game.__revert();");
+    gold.append("\n        player.__revert();");
+    gold.append("\n        name.__revert();");
+    gold.append("\n        round.__revert();");
+    gold.append("\n        score.__revert();");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      __INDEX_game$player.deindex();");
+    gold.append("\n      __INDEX_game$name$round.deindex();");
+    gold.append("\n      __INDEX_game.deindex();");
+    gold.append("\n      __INDEX_round.deindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      __INDEX_game$player.reindex();");
+    gold.append("\n      __INDEX_game$name$round.reindex();");
+    gold.append("\n      __INDEX_game.reindex();");
+    gold.append("\n      __INDEX_round.reindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxR {");
+    gold.append("\n    private DInt32 __dgame;");
+    gold.append("\n    private DClient __dplayer;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DInt32 __dround;");
+    gold.append("\n    private DInt32 __dscore;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __dgame = new DInt32();");
+    gold.append("\n      __dplayer = new DClient();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dround = new DInt32();");
+    gold.append("\n      __dscore = new DInt32();");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(5);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dgame.show(__item.game.get(), __obj.planEncodedField(\"\\\"game\\\":\"));");
+    gold.append("\n      __dplayer.show(__item.player.get(), __obj.planEncodedField(\"\\\"player\\\":\"));");
+    gold.append("\n      __dname.show(__item.name.get(), __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dround.show(__item.round.get(), __obj.planEncodedField(\"\\\"round\\\":\"));");
+    gold.append("\n      __dscore.show(__item.score.get(), __obj.planEncodedField(\"\\\"score\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_0 implements NtMessageBase {");
+    gold.append("\n    private int game = 0;");
+    gold.append("\n    private String name = \"\";");
+    gold.append("\n    private int round = 0;");
+    gold.append("\n    private int score = 0;");
+    gold.append("\n    private RTx_AnonObjConvert_0(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"game\":");
+    gold.append("\n              this.game = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              this.name = __reader.readString();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"round\":");
+    gold.append("\n              this.round = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"score\":");
+    gold.append("\n              this.score = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"game\");");
+    gold.append("\n      __writer.writeInteger(game);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      __writer.writeString(name);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"round\");");
+    gold.append("\n      __writer.writeInteger(round);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"score\");");
+    gold.append("\n      __writer.writeInteger(score);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_0() {}");
+    gold.append("\n    private RTx_AnonObjConvert_0(int game, String name, int round, int score) {");
+    gold.append("\n      this.game = game;");
+    gold.append("\n      this.name = name;");
+    gold.append("\n      this.round = round;");
+    gold.append("\n      this.score = score;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_0 {");
+    gold.append("\n    private DInt32 __dgame;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DInt32 __dround;");
+    gold.append("\n    private DInt32 __dscore;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_0() {");
+    gold.append("\n      __dgame = new DInt32();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dround = new DInt32();");
+    gold.append("\n      __dscore = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dgame.show(__item.game, __obj.planEncodedField(\"\\\"game\\\":\"));");
+    gold.append("\n      __dname.show(__item.name, __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dround.show(__item.round, __obj.planEncodedField(\"\\\"round\\\":\"));");
+    gold.append("\n      __dscore.show(__item.score, __obj.planEncodedField(\"\\\"score\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message2(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public boolean __onConnected__0(NtClient who){");
+    gold.append("\n    __cost(10);");
+    gold.append("\n    __track(0);");
+    gold.append("\n    NtList<RxClient> _auto_4 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause0())).transform((item) -> item.player);");
+    gold.append("\n    for (RxClient _auto_5 : _auto_4) {");
+    gold.append("\n      _auto_5.set(who);");
+    gold.append("\n    }");
+    gold.append("\n");
+    gold.append("\n    __track(1);");
+    gold.append("\n    pair.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause1(who))).size());");
+    gold.append("\n    __track(2);");
+    gold.append("\n    triple.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause2())).size());");
+    gold.append("\n    __track(3);");
+    gold.append("\n    partial.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause3())).size());");
+    gold.append("\n    __track(4);");
+    gold.append("\n    ranged.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause4())).size());");
+    gold.append("\n    __track(5);");
+    gold.append("\n    NtList<RxInt32> _auto_6 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause5(who))).transform((item) -> item.game);");
+    gold.append("\n    for (RxInt32 _auto_7 : _auto_6) {");
+    gold.append("\n      _auto_7.set(3);");
+    gold.append("\n    }");
+    gold.append("\n");
+    gold.append("\n    __track(6);");
+    gold.append("\n    moved.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause6(who))).size());");
+    gold.append("\n    __track(7);");
+    gold.append("\n    NtList<RxInt32> _auto_8 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause7())).transform((item) -> item.game);");
+    gold.append("\n    for (RxInt32 _auto_9 : _auto_8) {");
+    gold.append("\n      _auto_9.set(1);");
+    gold.append("\n    }");
+    gold.append("\n");
+    gold.append("\n    __track(8);");
+    gold.append("\n    return true;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(NtClient __cvalue) {");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    if (__onConnected__0(__cvalue)) __result = true;");
+    gold.append("\n    return __result;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(NtClient __cvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
+    gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
+    gold.append("\n    __cost(5);");
+    gold.append("\n    __track(9);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef10 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr12 = new RTx_AnonObjConvert_0(1, \"a\", 1, 10);");
+    gold.append("\n      RTxR _CreateRef11 = _AutoRef10.make();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      _CreateRef11.game.set(_AutoExpr12.game);");
+    gold.append("\n      _CreateRef11.name.set(_AutoExpr12.name);");
+    gold.append("\n      _CreateRef11.round.set(_AutoExpr12.round);");
+    gold.append("\n      _CreateRef11.score.set(_AutoExpr12.score);");
+    gold.append("\n    }");
+    gold.append("\n    __track(10);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef13 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr15 = new RTx_AnonObjConvert_0(1, \"b\", 1, 20);");
+    gold.append("\n      RTxR _CreateRef14 = _AutoRef13.make();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      _CreateRef14.game.set(_AutoExpr15.game);");
+    gold.append("\n      _CreateRef14.name.set(_AutoExpr15.name);");
+    gold.append("\n      _CreateRef14.round.set(_AutoExpr15.round);");
+    gold.append("\n      _CreateRef14.score.set(_AutoExpr15.score);");
+    gold.append("\n    }");
+    gold.append("\n    __track(11);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef16 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr18 = new RTx_AnonObjConvert_0(2, \"a\", 1, 30);");
+    gold.append("\n      RTxR _CreateRef17 = _AutoRef16.make();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      _CreateRef17.game.set(_AutoExpr18.game);");
+    gold.append("\n      _CreateRef17.name.set(_AutoExpr18.name);");
+    gold.append("\n      _CreateRef17.round.set(_AutoExpr18.round);");
+    gold.append("\n      _CreateRef17.score.set(_AutoExpr18.score);");
+    gold.append("\n    }");
+    gold.append("\n    __track(12);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef19 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr21 = new RTx_AnonObjConvert_0(2, \"a\", 2, 40);");
+    gold.append("\n      RTxR _CreateRef20 = _AutoRef19.make();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      _CreateRef20.game.set(_AutoExpr21.game);");
+    gold.append("\n      _CreateRef20.name.set(_AutoExpr21.name);");
+    gold.append("\n      _CreateRef20.round.set(_AutoExpr21.round);");
+    gold.append("\n      _CreateRef20.score.set(_AutoExpr21.score);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(NtClient __who, NtMessageBase __object) {");
+    gold.append("\n    __construct_0(__who, __object);");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {1, IndexValue.ofString(\"b\")};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibString.equality(name, \"b\");");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxR> {");
+    gold.append("\n    private NtClient who;");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 1, 2, IndexValue.ofClient(who)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, IndexValue.combine(1, IndexValue.ofClient(who)));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    private __CLOSURE_WhereClause1(NtClient who) {");
+    gold.append("\n      this.who = who;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      NtClient player = __obj.player.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return game == 1 && (player.equals(who));");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 2, 1, IndexValue.ofString(\"a\"), 3, 2};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(1, IndexValue.combine(IndexValue.combine(2, IndexValue.ofString(\"a\")), 2));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      int round = __obj.round.get();");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibString.equality(name, \"a\") && round == 2 && game == 2;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 2, 1, IndexValue.ofString(\"a\")};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(2, 2);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return game == 2 && LibString.equality(name, \"a\");");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 2, 2, IndexValue.ofClient(NtClient.NO_ONE)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, IndexValue.combine(2, IndexValue.ofClient(NtClient.NO_ONE)));");
+    gold.append("\n      __set.intersect(3, 2, IndexQuerySet.LookupMode.GreaterThanOrEqual);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      NtClient player = __obj.player.get();");
+    gold.append("\n      int round = __obj.round.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return game == 2 && (player.equals(NtClient.NO_ONE)) && round >= 2;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause5 implements WhereClause<RTxR> {");
+    gold.append("\n    private NtClient who;");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 1, 2, IndexValue.ofClient(who)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, IndexValue.combine(1, IndexValue.ofClient(who)));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    private __CLOSURE_WhereClause5(NtClient who) {");
+    gold.append("\n      this.who = who;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      NtClient player = __obj.player.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return game == 1 && (player.equals(who));");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause6 implements WhereClause<RTxR> {");
+    gold.append("\n    private NtClient who;");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 3, 2, IndexValue.ofClient(who)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, IndexValue.combine(3, IndexValue.ofClient(who)));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    private __CLOSURE_WhereClause6(NtClient who) {");
+    gold.append("\n      this.who = who;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      NtClient player = __obj.player.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return game == 3 && (player.equals(who));");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause7 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 3};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(2, 3);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int game = __obj.game.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return game == 3;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--JAVA COMPILE RESULTS-----------------------------");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\"}-->{\"__constructed\":true,\"__entropy\":\"0\",\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"game\":1,\"name\":\"a\",\"round\":1,\"score\":10},\"1\":{\"game\":1,\"name\":\"b\",\"round\":1,\"score\":20,\"id\":1},\"2\":{\"game\":2,\"name\":\"a\",\"round\":1,\"score\":30,\"id\":2},\"3\":{\"game\":2,\"name\":\"a\",\"round\":2,\"score\":40,\"id\":3}}}} need:true in:0");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"25\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"}}-->{\"__seq\":1,\"__connection_id\":1,\"__time\":\"25\",\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"game\":1},\"1\":{\"game\":1}}},\"pair\":2,\"triple\":1,\"partial\":2,\"ranged\":1,\"moved\":2,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"}}} need:true in:0");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"50\",\"who\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}-->{\"__seq\":2,\"__connection_id\":2,\"__time\":\"50\",\"tbl\":{\"auto_key\":4,\"rows\":{\"1\":{\"game\":1,\"player\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}},\"pair\":1,\"moved\":1,\"__clients\":{\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}} need:true in:0");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"pair\":1,\"triple\":1,\"partial\":2,\"ranged\":1,\"moved\":1},\"outstanding\":[],\"blockers\":[],\"seq\":3}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"pair\":1,\"triple\":1,\"partial\":2,\"ranged\":1,\"moved\":1},\"outstanding\":[],\"blockers\":[],\"seq\":3}");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__messages\":null,\"__seedUsed\":\"0\",\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__time\":\"75\"} need:false in:-75");
+    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"100\"}-->{\"__goodwill_used\":0,\"__cost\":82,\"__billing_seq\":3} need:true in:0");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"game\":1,\"name\":\"a\",\"round\":1,\"score\":10},\"1\":{\"game\":1,\"name\":\"b\",\"round\":1,\"score\":20,\"id\":1,\"player\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"2\":{\"game\":2,\"name\":\"a\",\"round\":1,\"score\":30,\"id\":2},\"3\":{\"game\":2,\"name\":\"a\",\"round\":2,\"score\":40,\"id\":3}}},\"__seq\":3,\"__connection_id\":2,\"__time\":\"75\",\"pair\":1,\"triple\":1,\"partial\":2,\"ranged\":1,\"moved\":1,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__seedUsed\":\"0\",\"__goodwill_used\":0,\"__cost\":82,\"__billing_seq\":3}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"game\":1,\"player\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"round\":1,\"score\":10,\"id\":0},\"1\":{\"game\":1,\"player\":{\"agent\":\"rando\",\"authority\":\"random-place\"},\"name\":\"b\",\"round\":1,\"score\":20,\"id\":1},\"2\":{\"game\":2,\"player\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"round\":1,\"score\":30,\"id\":2},\"3\":{\"game\":2,\"player\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"round\":2,\"score\":40,\"id\":3}}},\"pair\":1,\"triple\":1,\"partial\":2,\"ranged\":1,\"moved\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"100\",\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}");
+    gold.append("\n{\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"game\":1,\"player\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"round\":1,\"score\":10,\"id\":0},\"1\":{\"game\":1,\"player\":{\"agent\":\"rando\",\"authority\":\"random-place\"},\"name\":\"b\",\"round\":1,\"score\":20,\"id\":1},\"2\":{\"game\":2,\"player\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"round\":1,\"score\":30,\"id\":2},\"3\":{\"game\":2,\"player\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"round\":2,\"score\":40,\"id\":3}}},\"pair\":1,\"triple\":1,\"partial\":2,\"ranged\":1,\"moved\":1,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"100\",\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingDoubleCant_6 = null;
+  private String get_IndexingDoubleCant_6() {
+    if (cached_IndexingDoubleCant_6 != null) {
+      return cached_IndexingDoubleCant_6;
+    }
+    cached_IndexingDoubleCant_6 = generateTestOutput(false, "IndexingDoubleCant_6", "./test_code/Linq_IndexingDoubleCant_failure.a");
+    return cached_IndexingDoubleCant_6;
+  }
+
+  @Test
+  public void testIndexingDoubleCantFailure() {
+    assertLiveFail(get_IndexingDoubleCant_6());
+  }
+
+  @Test
+  public void testIndexingDoubleCantNotTerribleLineNumbers() {
+    assertNotTerribleLineNumbers(get_IndexingDoubleCant_6());
+  }
+
+  @Test
+  public void testIndexingDoubleCantExceptionFree() {
+    assertExceptionFree(get_IndexingDoubleCant_6());
+  }
+
+  @Test
+  public void testIndexingDoubleCantTODOFree() {
+    assertTODOFree(get_IndexingDoubleCant_6());
+  }
+
+  @Test
+  public void stable_IndexingDoubleCant_6() {
+    String live = get_IndexingDoubleCant_6();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:./test_code/Linq_IndexingDoubleCant_failure.a");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[ {");
+    gold.append("\n  \"range\" : {");
+    gold.append("\n    \"start\" : {");
+    gold.append("\n      \"line\" : 3,");
+    gold.append("\n      \"character\" : 2");
+    gold.append("\n    },");
+    gold.append("\n    \"end\" : {");
+    gold.append("\n      \"line\" : 3,");
+    gold.append("\n      \"character\" : 14");
+    gold.append("\n    }");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Index for field 'ratio' is not possible due to type (StructureDefine)\"");
+    gold.append("\n} ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingRanges_7 = null;
+  private String get_IndexingRanges_7() {
+    if (cached_IndexingRanges_7 != null) {
+      return cached_IndexingRanges_7;
+    }
+    cached_IndexingRanges_7 = generateTestOutput(true, "IndexingRanges_7", "./test_code/Linq_IndexingRanges_success.a");
+    return cached_IndexingRanges_7;
+  }
+
+  @Test
+  public void testIndexingRangesEmission() {
+    assertEmissionGood(get_IndexingRanges_7());
+  }
+
+  @Test
+  public void testIndexingRangesSuccess() {
+    assertLivePass(get_IndexingRanges_7());
+  }
+
+  @Test
+  public void testIndexingRangesGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingRanges_7());
+  }
+
+  @Test
+  public void testIndexingRangesExceptionFree() {
+    assertExceptionFree(get_IndexingRanges_7());
+  }
+
+  @Test
+  public void testIndexingRangesTODOFree() {
+    assertTODOFree(get_IndexingRanges_7());
+  }
+
+  @Test
+  public void stable_IndexingRanges_7() {
+    String live = get_IndexingRanges_7();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:./test_code/Linq_IndexingRanges_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[ ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\nimport com.fasterxml.jackson.databind.JsonNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ArrayNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ObjectNode;");
+    gold.append("\nimport org.adamalang.runtime.*;");
+    gold.append("\nimport org.adamalang.runtime.async.*;");
+    gold.append("\nimport org.adamalang.runtime.contracts.*;");
+    gold.append("\nimport org.adamalang.runtime.delta.*;");
+    gold.append("\nimport org.adamalang.runtime.exceptions.*;");
+    gold.append("\nimport org.adamalang.runtime.index.*;");
+    gold.append("\nimport org.adamalang.runtime.json.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.lists.*;");
+    gold.append("\nimport org.adamalang.runtime.ops.*;");
+    gold.append("\nimport org.adamalang.runtime.reactives.*;");
+    gold.append("\nimport org.adamalang.runtime.stdlib.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.lang.Math;");
+    gold.append("\npublic class IndexingRanges_7 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxR> tbl;");
+    gold.append("\n  private final RxInt32 above;");
+    gold.append("\n  private final RxInt32 atLeast;");
+    gold.append("\n  private final RxInt32 below;");
+    gold.append("\n  private final RxInt32 atMost;");
+    gold.append("\n  private final RxInt32 between;");
+    gold.append("\n  private final RxInt32 flipped;");
+    gold.append("\n  private final RxInt32 mixed;");
+    gold.append("\n  private final RxInt32 top;");
+    gold.append("\n  private final RxInt32 bottom;");
+    gold.append("\n  private final RxInt32 orderedFirst;");
+    gold.append("\n  private final RxInt32 orderedLast;");
+    gold.append("\n  public IndexingRanges_7(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent), 2);");
+    gold.append("\n    above = new RxInt32(this, 0);");
+    gold.append("\n    atLeast = new RxInt32(this, 0);");
+    gold.append("\n    below = new RxInt32(this, 0);");
+    gold.append("\n    atMost = new RxInt32(this, 0);");
+    gold.append("\n    between = new RxInt32(this, 0);");
+    gold.append("\n    flipped = new RxInt32(this, 0);");
+    gold.append("\n    mixed = new RxInt32(this, 0);");
+    gold.append("\n    top = new RxInt32(this, 0);");
+    gold.append("\n    bottom = new RxInt32(this, 0);");
+    gold.append("\n    orderedFirst = new RxInt32(this, 0);");
+    gold.append("\n    orderedLast = new RxInt32(this, 0);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1408406954:");
+    gold.append("\n            if (__reader.matchFieldName(\"atMost\")) {");
+    gold.append("\n              atMost.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1383228885:");
+    gold.append("\n            if (__reader.matchFieldName(\"bottom\")) {");
+    gold.append("\n              bottom.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -771539582:");
+    gold.append("\n            if (__reader.matchFieldName(\"flipped\")) {");
+    gold.append("\n              flipped.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -712181258:");
+    gold.append("\n            if (__reader.matchFieldName(\"atLeast\")) {");
+    gold.append("\n              atLeast.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -216634360:");
+    gold.append("\n            if (__reader.matchFieldName(\"between\")) {");
+    gold.append("\n              between.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 115029:");
+    gold.append("\n            if (__reader.matchFieldName(\"top\")) {");
+    gold.append("\n              top.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 92611485:");
+    gold.append("\n            if (__reader.matchFieldName(\"above\")) {");
+    gold.append("\n              above.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 93621297:");
+    gold.append("\n            if (__reader.matchFieldName(\"below\")) {");
+    gold.append("\n              below.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 103910395:");
+    gold.append("\n            if (__reader.matchFieldName(\"mixed\")) {");
+    gold.append("\n              mixed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1599743555:");
+    gold.append("\n            if (__reader.matchFieldName(\"orderedFirst\")) {");
+    gold.append("\n              orderedFirst.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 2129985699:");
+    gold.append("\n            if (__reader.matchFieldName(\"orderedLast\")) {");
+    gold.append("\n              orderedLast.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"above\");");
+    gold.append("\n    above.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"atLeast\");");
+    gold.append("\n    atLeast.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"below\");");
+    gold.append("\n    below.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"atMost\");");
+    gold.append("\n    atMost.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"between\");");
+    gold.append("\n    between.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"flipped\");");
+    gold.append("\n    flipped.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"mixed\");");
+    gold.append("\n    mixed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"top\");");
+    gold.append("\n    top.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"bottom\");");
+    gold.append("\n    bottom.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"orderedFirst\");");
+    gold.append("\n    orderedFirst.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"orderedLast\");");
+    gold.append("\n    orderedLast.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n    __state.__commit(\"__state\", __writer);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __writer);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __writer);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __writer);");
+    gold.append("\n    __seq.__commit(\"__seq\", __writer);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __writer);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __writer);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __writer);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __writer);");
+    gold.append("\n    __time.__commit(\"__time\", __writer);");
+    gold.append("\n    tbl.__commit(\"tbl\", __writer);");
+    gold.append("\n    above.__commit(\"above\", __writer);");
+    gold.append("\n    atLeast.__commit(\"atLeast\", __writer);");
+    gold.append("\n    below.__commit(\"below\", __writer);");
+    gold.append("\n    atMost.__commit(\"atMost\", __writer);");
+    gold.append("\n    between.__commit(\"between\", __writer);");
+    gold.append("\n    flipped.__commit(\"flipped\", __writer);");
+    gold.append("\n    mixed.__commit(\"mixed\", __writer);");
+    gold.append("\n    top.__commit(\"top\", __writer);");
+    gold.append("\n    bottom.__commit(\"bottom\", __writer);");
+    gold.append("\n    orderedFirst.__commit(\"orderedFirst\", __writer);");
+    gold.append("\n    orderedLast.__commit(\"orderedLast\", __writer);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    tbl.__revert();");
+    gold.append("\n    above.__revert();");
+    gold.append("\n    atLeast.__revert();");
+    gold.append("\n    below.__revert();");
+    gold.append("\n    atMost.__revert();");
+    gold.append("\n    between.__revert();");
+    gold.append("\n    flipped.__revert();");
+    gold.append("\n    mixed.__revert();");
+    gold.append("\n    top.__revert();");
+    gold.append("\n    bottom.__revert();");
+    gold.append("\n    orderedFirst.__revert();");
+    gold.append("\n    orderedLast.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaIndexingRanges_7 {");
+    gold.append("\n    private DInt32 __dabove;");
+    gold.append("\n    private DInt32 __datLeast;");
+    gold.append("\n    private DInt32 __dbelow;");
+    gold.append("\n    private DInt32 __datMost;");
+    gold.append("\n    private DInt32 __dbetween;");
+    gold.append("\n    private DInt32 __dflipped;");
+    gold.append("\n    private DInt32 __dmixed;");
+    gold.append("\n    private DInt32 __dtop;");
+    gold.append("\n    private DInt32 __dbottom;");
+    gold.append("\n    private DInt32 __dorderedFirst;");
+    gold.append("\n    private DInt32 __dorderedLast;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaIndexingRanges_7() {");
+    gold.append("\n      __dabove = new DInt32();");
+    gold.append("\n      __datLeast = new DInt32();");
+    gold.append("\n      __dbelow = new DInt32();");
+    gold.append("\n      __datMost = new DInt32();");
+    gold.append("\n      __dbetween = new DInt32();");
+    gold.append("\n      __dflipped = new DInt32();");
+    gold.append("\n      __dmixed = new DInt32();");
+    gold.append("\n      __dtop = new DInt32();");
+    gold.append("\n      __dbottom = new DInt32();");
+    gold.append("\n      __dorderedFirst = new DInt32();");
+    gold.append("\n      __dorderedLast = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(IndexingRanges_7 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(11);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dabove.show(__item.above.get(), __obj.planEncodedField(\"\\\"above\\\":\"));");
+    gold.append("\n      __datLeast.show(__item.atLeast.get(), __obj.planEncodedField(\"\\\"atLeast\\\":\"));");
+    gold.append("\n      __dbelow.show(__item.below.get(), __obj.planEncodedField(\"\\\"below\\\":\"));");
+    gold.append("\n      __datMost.show(__item.atMost.get(), __obj.planEncodedField(\"\\\"atMost\\\":\"));");
+    gold.append("\n      __dbetween.show(__item.between.get(), __obj.planEncodedField(\"\\\"between\\\":\"));");
+    gold.append("\n      __dflipped.show(__item.flipped.get(), __obj.planEncodedField(\"\\\"flipped\\\":\"));");
+    gold.append("\n      __dmixed.show(__item.mixed.get(), __obj.planEncodedField(\"\\\"mixed\\\":\"));");
+    gold.append("\n      __dtop.show(__item.top.get(), __obj.planEncodedField(\"\\\"top\\\":\"));");
+    gold.append("\n      __dbottom.show(__item.bottom.get(), __obj.planEncodedField(\"\\\"bottom\\\":\"));");
+    gold.append("\n      __dorderedFirst.show(__item.orderedFirst.get(), __obj.planEncodedField(\"\\\"orderedFirst\\\":\"));");
+    gold.append("\n      __dorderedLast.show(__item.orderedLast.get(), __obj.planEncodedField(\"\\\"orderedLast\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
+    gold.append("\n    IndexingRanges_7 __self = this;");
+    gold.append("\n    DeltaIndexingRanges_7 __state = new DeltaIndexingRanges_7();");
+    gold.append("\n    return new PrivateView(__who, __updates) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private static final int [] __ALL_VALUES_E = new int[] {0, 1, 2};");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RxInt32 score;");
+    gold.append("\n    private final RxInt32 kind;");
+    gold.append("\n    private final RxInt32 turn;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_score;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_kind;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      score = new RxInt32(this, 0);");
+    gold.append("\n      kind = new RxInt32(this, 0);");
+    gold.append("\n      turn = new RxInt32(this, 0);");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        __INDEX_score = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return score.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        score.__subscribe(__INDEX_score);");
+    gold.append("\n        __INDEX_kind = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)1), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return kind.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        kind.__subscribe(__INDEX_kind);");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        __INDEX_score = null;");
+    gold.append("\n        __INDEX_kind = null;");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"kind\", \"score\", \"turn\"};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {kind.getIndexValue(), score.getIndexValue(), turn.getIndexValue()};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3292052:");
+    gold.append("\n              if (__reader.matchFieldName(\"kind\")) {");
+    gold.append("\n                kind.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3571837:");
+    gold.append("\n              if (__reader.matchFieldName(\"turn\")) {");
+    gold.append("\n                turn.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 109264530:");
+    gold.append("\n              if (__reader.matchFieldName(\"score\")) {");
+    gold.append("\n                score.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"score\");");
+    gold.append("\n      score.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"kind\");");
+    gold.append("\n      kind.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"turn\");");
+    gold.append("\n      turn.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __writer.writeObjectFieldIntro(__name);");
+    gold.append("\n        __writer.beginObject();");
+    gold.append("\n        score.__commit(\"score\", __writer);");
+    gold.append("\n        kind.__commit(\"kind\", __writer);");
+    gold.append("\n        turn.__commit(\"turn\", __writer);");
+    gold.append("\n        id.__commit(\"id\", __writer);");
+    gold.append("\n        __writer.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        score.__revert();");
+    gold.append("\n        kind.__revert();");
+    gold.append("\n        turn.__revert();");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      __INDEX_score.deindex();");
+    gold.append("\n      __INDEX_kind.deindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      __INDEX_score.reindex();");
+    gold.append("\n      __INDEX_kind.reindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxR {");
+    gold.append("\n    private DInt32 __dscore;");
+    gold.append("\n    private DInt32 __dkind;");
+    gold.append("\n    private DInt32 __dturn;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __dscore = new DInt32();");
+    gold.append("\n      __dkind = new DInt32();");
+    gold.append("\n      __dturn = new DInt32();");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dscore.show(__item.score.get(), __obj.planEncodedField(\"\\\"score\\\":\"));");
+    gold.append("\n      __dkind.show(__item.kind.get(), __obj.planEncodedField(\"\\\"kind\\\":\"));");
+    gold.append("\n      __dturn.show(__item.turn.get(), __obj.planEncodedField(\"\\\"turn\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_0 implements NtMessageBase {");
+    gold.append("\n    private int kind = 0;");
+    gold.append("\n    private int score = 0;");
+    gold.append("\n    private int turn = 0;");
+    gold.append("\n    private RTx_AnonObjConvert_0(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"kind\":");
+    gold.append("\n              this.kind = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"score\":");
+    gold.append("\n              this.score = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"turn\":");
+    gold.append("\n              this.turn = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"kind\");");
+    gold.append("\n      __writer.writeInteger(kind);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"score\");");
+    gold.append("\n      __writer.writeInteger(score);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"turn\");");
+    gold.append("\n      __writer.writeInteger(turn);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_0() {}");
+    gold.append("\n    private RTx_AnonObjConvert_0(int kind, int score, int turn) {");
+    gold.append("\n      this.kind = kind;");
+    gold.append("\n      this.score = score;");
+    gold.append("\n      this.turn = turn;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_0 {");
+    gold.append("\n    private DInt32 __dkind;");
+    gold.append("\n    private DInt32 __dscore;");
+    gold.append("\n    private DInt32 __dturn;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_0() {");
+    gold.append("\n      __dkind = new DInt32();");
+    gold.append("\n      __dscore = new DInt32();");
+    gold.append("\n      __dturn = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dkind.show(__item.kind, __obj.planEncodedField(\"\\\"kind\\\":\"));");
+    gold.append("\n      __dscore.show(__item.score, __obj.planEncodedField(\"\\\"score\\\":\"));");
+    gold.append("\n      __dturn.show(__item.turn, __obj.planEncodedField(\"\\\"turn\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message2(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public boolean __onConnected__0(NtClient who){");
+    gold.append("\n    __cost(15);");
+    gold.append("\n    __track(0);");
+    gold.append("\n    int x = 20;");
+    gold.append("\n    __track(1);");
+    gold.append("\n    above.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause0(x))).size());");
+    gold.append("\n    __track(2);");
+    gold.append("\n    atLeast.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause1())).size());");
+    gold.append("\n    __track(3);");
+    gold.append("\n    below.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause2())).size());");
+    gold.append("\n    __track(4);");
+    gold.append("\n    atMost.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause3())).size());");
+    gold.append("\n    __track(5);");
+    gold.append("\n    between.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause4())).size());");
+    gold.append("\n    __track(6);");
+    gold.append("\n    flipped.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause5())).size());");
+    gold.append("\n    __track(7);");
+    gold.append("\n    mixed.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause6())).size());");
+    gold.append("\n    __track(8);");
+    gold.append("\n    for(RTxR r : tbl.iterate(false).orderBy(false, __ORDER_R_score_d_turn_a).skipAndLimit(true, 0, 1)) {");
+    gold.append("\n      __cost(2);");
+    gold.append("\n      __track(9);");
+    gold.append("\n      top.set(r.turn.get());");
+    gold.append("\n    }");
+    gold.append("\n    __track(10);");
+    gold.append("\n    for(RTxR r : tbl.iterate(false).orderBy(false, __ORDER_R_score_a).skipAndLimit(true, 0, 1)) {");
+    gold.append("\n      __cost(2);");
+    gold.append("\n      __track(11);");
+    gold.append("\n      bottom.set(r.turn.get());");
+    gold.append("\n    }");
+    gold.append("\n    __track(12);");
+    gold.append("\n    NtList<RxInt32> _auto_5 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause7())).transform((item) -> item.score);");
+    gold.append("\n    for (RxInt32 _auto_6 : _auto_5) {");
+    gold.append("\n      _auto_6.set(40);");
+    gold.append("\n    }");
+    gold.append("\n");
+    gold.append("\n    __track(13);");
+    gold.append("\n    int k = 0;");
+    gold.append("\n    __track(14);");
+    gold.append("\n    for(RTxR r : tbl.iterate(false).orderBy(true, __ORDER_R_score_d_turn_d)) {");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      __track(15);");
+    gold.append("\n      if (k == 0) {");
+    gold.append("\n        __cost(2);");
+    gold.append("\n        __track(16);");
+    gold.append("\n        orderedFirst.set(r.turn.get());");
+    gold.append("\n      }");
+    gold.append("\n      __track(17);");
+    gold.append("\n      orderedLast.set(r.turn.get());");
+    gold.append("\n      __track(18);");
+    gold.append("\n      k++;");
+    gold.append("\n    }");
+    gold.append("\n    __track(19);");
+    gold.append("\n    return true;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(NtClient __cvalue) {");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    if (__onConnected__0(__cvalue)) __result = true;");
+    gold.append("\n    return __result;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(NtClient __cvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
+    gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
+    gold.append("\n    __cost(6);");
+    gold.append("\n    __track(20);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef7 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr9 = new RTx_AnonObjConvert_0(0, 10, 1);");
+    gold.append("\n      RTxR _CreateRef8 = _AutoRef7.make();");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      _CreateRef8.kind.set(_AutoExpr9.kind);");
+    gold.append("\n      _CreateRef8.score.set(_AutoExpr9.score);");
+    gold.append("\n      _CreateRef8.turn.set(_AutoExpr9.turn);");
+    gold.append("\n    }");
+    gold.append("\n    __track(21);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef10 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr12 = new RTx_AnonObjConvert_0(1, 20, 2);");
+    gold.append("\n      RTxR _CreateRef11 = _AutoRef10.make();");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      _CreateRef11.kind.set(_AutoExpr12.kind);");
+    gold.append("\n      _CreateRef11.score.set(_AutoExpr12.score);");
+    gold.append("\n      _CreateRef11.turn.set(_AutoExpr12.turn);");
+    gold.append("\n    }");
+    gold.append("\n    __track(22);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef13 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr15 = new RTx_AnonObjConvert_0(2, 30, 3);");
+    gold.append("\n      RTxR _CreateRef14 = _AutoRef13.make();");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      _CreateRef14.kind.set(_AutoExpr15.kind);");
+    gold.append("\n      _CreateRef14.score.set(_AutoExpr15.score);");
+    gold.append("\n      _CreateRef14.turn.set(_AutoExpr15.turn);");
+    gold.append("\n    }");
+    gold.append("\n    __track(23);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef16 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr18 = new RTx_AnonObjConvert_0(0, 20, 4);");
+    gold.append("\n      RTxR _CreateRef17 = _AutoRef16.make();");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      _CreateRef17.kind.set(_AutoExpr18.kind);");
+    gold.append("\n      _CreateRef17.score.set(_AutoExpr18.score);");
+    gold.append("\n      _CreateRef17.turn.set(_AutoExpr18.turn);");
+    gold.append("\n    }");
+    gold.append("\n    __track(24);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef19 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr21 = new RTx_AnonObjConvert_0(1, 50, 5);");
+    gold.append("\n      RTxR _CreateRef20 = _AutoRef19.make();");
+    gold.append("\n      __cost(3);");
+    gold.append("\n      _CreateRef20.kind.set(_AutoExpr21.kind);");
+    gold.append("\n      _CreateRef20.score.set(_AutoExpr21.score);");
+    gold.append("\n      _CreateRef20.turn.set(_AutoExpr21.turn);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(NtClient __who, NtMessageBase __object) {");
+    gold.append("\n    __construct_0(__who, __object);");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxR> {");
+    gold.append("\n    private int x;");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, x, IndexQuerySet.LookupMode.GreaterThan);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    private __CLOSURE_WhereClause0(int x) {");
+    gold.append("\n      this.x = x;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return score > x;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, 20, IndexQuerySet.LookupMode.GreaterThanOrEqual);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return score >= 20;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, 30, IndexQuerySet.LookupMode.LessThan);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return score < 30;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, 30, IndexQuerySet.LookupMode.LessThanOrEqual);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return score <= 30;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, 20, IndexQuerySet.LookupMode.GreaterThanOrEqual);");
+    gold.append("\n      __set.intersect(0, 30, IndexQuerySet.LookupMode.LessThanOrEqual);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return score >= 20 && score <= 30;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause5 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, 20, IndexQuerySet.LookupMode.GreaterThan);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return 20 < score;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause6 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, 1};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, 10, IndexQuerySet.LookupMode.GreaterThan);");
+    gold.append("\n      __set.intersect(1, 1);");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int score = __obj.score.get();");
+    gold.append("\n      int kind = __obj.kind.get();");
+    gold.append("\n      int turn = __obj.turn.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return score > 10 && kind == 1 && turn < 5;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause7 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {2, 1};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int turn = __obj.turn.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return turn == 1;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private final static Comparator<RTxR> __ORDER_R_score_a = new IndexedComparator<RTxR>() {");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean ascending() {");
+    gold.append("\n      return true;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int column() {");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxR __a, RTxR __b) {");
+    gold.append("\n      return __a.score.compareTo(__b.score);");
+    gold.append("\n    }");
+    gold.append("\n  };");
+    gold.append("\n  private final static Comparator<RTxR> __ORDER_R_score_d_turn_a = new IndexedComparator<RTxR>() {");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean ascending() {");
+    gold.append("\n      return false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int column() {");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxR __a, RTxR __b) {");
+    gold.append("\n      int result = -__a.score.compareTo(__b.score);");
+    gold.append("\n      if (result != 0) return result;");
+    gold.append("\n      return __a.turn.compareTo(__b.turn);");
+    gold.append("\n    }");
+    gold.append("\n  };");
+    gold.append("\n  private final static Comparator<RTxR> __ORDER_R_score_d_turn_d = new IndexedComparator<RTxR>() {");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean ascending() {");
+    gold.append("\n      return false;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int column() {");
+    gold.append("\n      return 0;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int compare(RTxR __a, RTxR __b) {");
+    gold.append("\n      int result = -__a.score.compareTo(__b.score);");
+    gold.append("\n      if (result != 0) return result;");
+    gold.append("\n      return -__a.turn.compareTo(__b.turn);");
+    gold.append("\n    }");
+    gold.append("\n  };");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
+    gold.append("\n");
+    gold.append("\n--JAVA COMPILE RESULTS-----------------------------");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\"}-->{\"__constructed\":true,\"__entropy\":\"0\",\"tbl\":{\"auto_key\":5,\"rows\":{\"0\":{\"score\":10,\"turn\":1},\"1\":{\"score\":20,\"kind\":1,\"turn\":2,\"id\":1},\"2\":{\"score\":30,\"kind\":2,\"turn\":3,\"id\":2},\"3\":{\"score\":20,\"turn\":4,\"id\":3},\"4\":{\"score\":50,\"kind\":1,\"turn\":5,\"id\":4}}}} need:true in:0");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"25\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"}}-->{\"__seq\":1,\"__connection_id\":1,\"__time\":\"25\",\"tbl\":{\"auto_key\":5,\"rows\":{\"0\":{\"score\":40}}},\"above\":2,\"atLeast\":4,\"below\":3,\"atMost\":4,\"between\":3,\"flipped\":2,\"mixed\":1,\"top\":5,\"bottom\":1,\"orderedFirst\":5,\"orderedLast\":2,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"}}} need:true in:0");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"50\",\"who\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}-->{\"__seq\":2,\"__connection_id\":2,\"__time\":\"50\",\"above\":3,\"atLeast\":5,\"below\":2,\"atMost\":3,\"flipped\":3,\"bottom\":2,\"orderedLast\":2,\"__clients\":{\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}} need:true in:0");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"above\":3,\"atLeast\":5,\"below\":2,\"atMost\":3,\"between\":3,\"flipped\":3,\"mixed\":1,\"top\":5,\"bottom\":2,\"orderedFirst\":5,\"orderedLast\":2},\"outstanding\":[],\"blockers\":[],\"seq\":3}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"above\":3,\"atLeast\":5,\"below\":2,\"atMost\":3,\"between\":3,\"flipped\":3,\"mixed\":1,\"top\":5,\"bottom\":2,\"orderedFirst\":5,\"orderedLast\":2},\"outstanding\":[],\"blockers\":[],\"seq\":3}");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__messages\":null,\"__seedUsed\":\"0\",\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__time\":\"75\"} need:false in:-75");
+    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"100\"}-->{\"__goodwill_used\":0,\"__cost\":176,\"__billing_seq\":3} need:true in:0");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"tbl\":{\"auto_key\":5,\"rows\":{\"0\":{\"score\":40,\"turn\":1},\"1\":{\"score\":20,\"kind\":1,\"turn\":2,\"id\":1},\"2\":{\"score\":30,\"kind\":2,\"turn\":3,\"id\":2},\"3\":{\"score\":20,\"turn\":4,\"id\":3},\"4\":{\"score\":50,\"kind\":1,\"turn\":5,\"id\":4}}},\"__seq\":3,\"__connection_id\":2,\"__time\":\"75\",\"above\":3,\"atLeast\":5,\"below\":2,\"atMost\":3,\"between\":3,\"flipped\":3,\"mixed\":1,\"top\":5,\"bottom\":2,\"orderedFirst\":5,\"orderedLast\":2,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__seedUsed\":\"0\",\"__goodwill_used\":0,\"__cost\":176,\"__billing_seq\":3}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{\"tbl\":{\"auto_key\":5,\"rows\":{\"0\":{\"score\":40,\"kind\":0,\"turn\":1,\"id\":0},\"1\":{\"score\":20,\"kind\":1,\"turn\":2,\"id\":1},\"2\":{\"score\":30,\"kind\":2,\"turn\":3,\"id\":2},\"3\":{\"score\":20,\"kind\":0,\"turn\":4,\"id\":3},\"4\":{\"score\":50,\"kind\":1,\"turn\":5,\"id\":4}}},\"above\":3,\"atLeast\":5,\"below\":2,\"atMost\":3,\"between\":3,\"flipped\":3,\"mixed\":1,\"top\":5,\"bottom\":2,\"orderedFirst\":5,\"orderedLast\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"100\",\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}");
+    gold.append("\n{\"tbl\":{\"auto_key\":5,\"rows\":{\"0\":{\"score\":40,\"kind\":0,\"turn\":1,\"id\":0},\"1\":{\"score\":20,\"kind\":1,\"turn\":2,\"id\":1},\"2\":{\"score\":30,\"kind\":2,\"turn\":3,\"id\":2},\"3\":{\"score\":20,\"kind\":0,\"turn\":4,\"id\":3},\"4\":{\"score\":50,\"kind\":1,\"turn\":5,\"id\":4}}},\"above\":3,\"atLeast\":5,\"below\":2,\"atMost\":3,\"between\":3,\"flipped\":3,\"mixed\":1,\"top\":5,\"bottom\":2,\"orderedFirst\":5,\"orderedLast\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"100\",\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
+    assertStable(live, gold);
+  }
+  private String cached_IndexingTypes_8 = null;
+  private String get_IndexingTypes_8() {
+    if (cached_IndexingTypes_8 != null) {
+      return cached_IndexingTypes_8;
+    }
+    cached_IndexingTypes_8 = generateTestOutput(true, "IndexingTypes_8", "./test_code/Linq_IndexingTypes_success.a");
+    return cached_IndexingTypes_8;
+  }
+
+  @Test
+  public void testIndexingTypesEmission() {
+    assertEmissionGood(get_IndexingTypes_8());
+  }
+
+  @Test
+  public void testIndexingTypesSuccess() {
+    assertLivePass(get_IndexingTypes_8());
+  }
+
+  @Test
+  public void testIndexingTypesGoodWillHappy() {
+    assertGoodWillHappy(get_IndexingTypes_8());
+  }
+
+  @Test
+  public void testIndexingTypesExceptionFree() {
+    assertExceptionFree(get_IndexingTypes_8());
+  }
+
+  @Test
+  public void testIndexingTypesTODOFree() {
+    assertTODOFree(get_IndexingTypes_8());
+  }
+
+  @Test
+  public void stable_IndexingTypes_8() {
+    String live = get_IndexingTypes_8();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:./test_code/Linq_IndexingTypes_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[ ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\nimport com.fasterxml.jackson.databind.JsonNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ArrayNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ObjectNode;");
+    gold.append("\nimport org.adamalang.runtime.*;");
+    gold.append("\nimport org.adamalang.runtime.async.*;");
+    gold.append("\nimport org.adamalang.runtime.contracts.*;");
+    gold.append("\nimport org.adamalang.runtime.delta.*;");
+    gold.append("\nimport org.adamalang.runtime.exceptions.*;");
+    gold.append("\nimport org.adamalang.runtime.index.*;");
+    gold.append("\nimport org.adamalang.runtime.json.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.lists.*;");
+    gold.append("\nimport org.adamalang.runtime.ops.*;");
+    gold.append("\nimport org.adamalang.runtime.reactives.*;");
+    gold.append("\nimport org.adamalang.runtime.stdlib.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.lang.Math;");
+    gold.append("\npublic class IndexingTypes_8 extends LivingDocument {");
+    gold.append("\n  private final RxTable<RTxR> tbl;");
+    gold.append("\n  private final RxInt32 byOwner;");
+    gold.append("\n  private final RxInt32 byName;");
+    gold.append("\n  private final RxInt32 byBig;");
+    gold.append("\n  private final RxInt32 byFlag;");
+    gold.append("\n  private final RxInt32 byRatio;");
+    gold.append("\n  private final RxInt32 byZero;");
+    gold.append("\n  private final RxInt32 mixed;");
+    gold.append("\n  private final RxInt32 levelNear;");
+    gold.append("\n  private final RxInt32 levelAbove;");
+    gold.append("\n  public IndexingTypes_8(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxR(__parent), 5);");
+    gold.append("\n    byOwner = new RxInt32(this, 0);");
+    gold.append("\n    byName = new RxInt32(this, 0);");
+    gold.append("\n    byBig = new RxInt32(this, 0);");
+    gold.append("\n    byFlag = new RxInt32(this, 0);");
+    gold.append("\n    byRatio = new RxInt32(this, 0);");
+    gold.append("\n    byZero = new RxInt32(this, 0);");
+    gold.append("\n    mixed = new RxInt32(this, 0);");
+    gold.append("\n    levelNear = new RxInt32(this, 0);");
+    gold.append("\n    levelAbove = new RxInt32(this, 0);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1656408628:");
+    gold.append("\n            if (__reader.matchFieldName(\"levelNear\")) {");
+    gold.append("\n              levelNear.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1375372189:");
+    gold.append("\n            if (__reader.matchFieldName(\"byFlag\")) {");
+    gold.append("\n              byFlag.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1375144062:");
+    gold.append("\n            if (__reader.matchFieldName(\"byName\")) {");
+    gold.append("\n              byName.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1374782561:");
+    gold.append("\n            if (__reader.matchFieldName(\"byZero\")) {");
+    gold.append("\n              byZero.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 94176553:");
+    gold.append("\n            if (__reader.matchFieldName(\"byBig\")) {");
+    gold.append("\n              byBig.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 103910395:");
+    gold.append("\n            if (__reader.matchFieldName(\"mixed\")) {");
+    gold.append("\n              mixed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 178858617:");
+    gold.append("\n            if (__reader.matchFieldName(\"levelAbove\")) {");
+    gold.append("\n              levelAbove.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 321787036:");
+    gold.append("\n            if (__reader.matchFieldName(\"byOwner\")) {");
+    gold.append("\n              byOwner.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 323908084:");
+    gold.append("\n            if (__reader.matchFieldName(\"byRatio\")) {");
+    gold.append("\n              byRatio.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"tbl\");");
+    gold.append("\n    tbl.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byOwner\");");
+    gold.append("\n    byOwner.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byName\");");
+    gold.append("\n    byName.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byBig\");");
+    gold.append("\n    byBig.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byFlag\");");
+    gold.append("\n    byFlag.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byRatio\");");
+    gold.append("\n    byRatio.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"byZero\");");
+    gold.append("\n    byZero.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"mixed\");");
+    gold.append("\n    mixed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"levelNear\");");
+    gold.append("\n    levelNear.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"levelAbove\");");
+    gold.append("\n    levelAbove.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n    __state.__commit(\"__state\", __writer);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __writer);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __writer);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __writer);");
+    gold.append("\n    __seq.__commit(\"__seq\", __writer);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __writer);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __writer);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __writer);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __writer);");
+    gold.append("\n    __time.__commit(\"__time\", __writer);");
+    gold.append("\n    tbl.__commit(\"tbl\", __writer);");
+    gold.append("\n    byOwner.__commit(\"byOwner\", __writer);");
+    gold.append("\n    byName.__commit(\"byName\", __writer);");
+    gold.append("\n    byBig.__commit(\"byBig\", __writer);");
+    gold.append("\n    byFlag.__commit(\"byFlag\", __writer);");
+    gold.append("\n    byRatio.__commit(\"byRatio\", __writer);");
+    gold.append("\n    byZero.__commit(\"byZero\", __writer);");
+    gold.append("\n    mixed.__commit(\"mixed\", __writer);");
+    gold.append("\n    levelNear.__commit(\"levelNear\", __writer);");
+    gold.append("\n    levelAbove.__commit(\"levelAbove\", __writer);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    tbl.__revert();");
+    gold.append("\n    byOwner.__revert();");
+    gold.append("\n    byName.__revert();");
+    gold.append("\n    byBig.__revert();");
+    gold.append("\n    byFlag.__revert();");
+    gold.append("\n    byRatio.__revert();");
+    gold.append("\n    byZero.__revert();");
+    gold.append("\n    mixed.__revert();");
+    gold.append("\n    levelNear.__revert();");
+    gold.append("\n    levelAbove.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaIndexingTypes_8 {");
+    gold.append("\n    private DInt32 __dbyOwner;");
+    gold.append("\n    private DInt32 __dbyName;");
+    gold.append("\n    private DInt32 __dbyBig;");
+    gold.append("\n    private DInt32 __dbyFlag;");
+    gold.append("\n    private DInt32 __dbyRatio;");
+    gold.append("\n    private DInt32 __dbyZero;");
+    gold.append("\n    private DInt32 __dmixed;");
+    gold.append("\n    private DInt32 __dlevelNear;");
+    gold.append("\n    private DInt32 __dlevelAbove;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaIndexingTypes_8() {");
+    gold.append("\n      __dbyOwner = new DInt32();");
+    gold.append("\n      __dbyName = new DInt32();");
+    gold.append("\n      __dbyBig = new DInt32();");
+    gold.append("\n      __dbyFlag = new DInt32();");
+    gold.append("\n      __dbyRatio = new DInt32();");
+    gold.append("\n      __dbyZero = new DInt32();");
+    gold.append("\n      __dmixed = new DInt32();");
+    gold.append("\n      __dlevelNear = new DInt32();");
+    gold.append("\n      __dlevelAbove = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(IndexingTypes_8 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(9);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dbyOwner.show(__item.byOwner.get(), __obj.planEncodedField(\"\\\"byOwner\\\":\"));");
+    gold.append("\n      __dbyName.show(__item.byName.get(), __obj.planEncodedField(\"\\\"byName\\\":\"));");
+    gold.append("\n      __dbyBig.show(__item.byBig.get(), __obj.planEncodedField(\"\\\"byBig\\\":\"));");
+    gold.append("\n      __dbyFlag.show(__item.byFlag.get(), __obj.planEncodedField(\"\\\"byFlag\\\":\"));");
+    gold.append("\n      __dbyRatio.show(__item.byRatio.get(), __obj.planEncodedField(\"\\\"byRatio\\\":\"));");
+    gold.append("\n      __dbyZero.show(__item.byZero.get(), __obj.planEncodedField(\"\\\"byZero\\\":\"));");
+    gold.append("\n      __dmixed.show(__item.mixed.get(), __obj.planEncodedField(\"\\\"mixed\\\":\"));");
+    gold.append("\n      __dlevelNear.show(__item.levelNear.get(), __obj.planEncodedField(\"\\\"levelNear\\\":\"));");
+    gold.append("\n      __dlevelAbove.show(__item.levelAbove.get(), __obj.planEncodedField(\"\\\"levelAbove\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
+    gold.append("\n    IndexingTypes_8 __self = this;");
+    gold.append("\n    DeltaIndexingTypes_8 __state = new DeltaIndexingTypes_8();");
+    gold.append("\n    return new PrivateView(__who, __updates) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private final RxClient owner;");
+    gold.append("\n    private final RxString name;");
+    gold.append("\n    private final RxInt64 big;");
+    gold.append("\n    private final RxBoolean flag;");
+    gold.append("\n    private final RxDouble ratio;");
+    gold.append("\n    private final RxInt32 level;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_owner;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_name;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_big;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_flag;");
+    gold.append("\n    private final ReactiveIndexInvalidator __INDEX_level;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      owner = new RxClient(this, NtClient.NO_ONE);");
+    gold.append("\n      name = new RxString(this, \"\");");
+    gold.append("\n      big = new RxInt64(this, 0L);");
+    gold.append("\n      flag = new RxBoolean(this, false);");
+    gold.append("\n      ratio = new RxDouble(this, 0.0);");
+    gold.append("\n      level = new RxInt32(this, 0);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        __INDEX_owner = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)0), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return owner.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        owner.__subscribe(__INDEX_owner);");
+    gold.append("\n        __INDEX_name = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)1), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return name.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        name.__subscribe(__INDEX_name);");
+    gold.append("\n        __INDEX_big = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)2), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return big.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        big.__subscribe(__INDEX_big);");
+    gold.append("\n        __INDEX_flag = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)3), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return flag.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        flag.__subscribe(__INDEX_flag);");
+    gold.append("\n        __INDEX_level = new ReactiveIndexInvalidator(((RxTable<RTxR>)(__owner)).getIndex((short)4), this) {");
+    gold.append("\n            @Override");
+    gold.append("\n            public int pullValue() {");
+    gold.append("\n                return level.getIndexValue();");
+    gold.append("\n            }");
+    gold.append("\n          };");
+    gold.append("\n        level.__subscribe(__INDEX_level);");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        __INDEX_owner = null;");
+    gold.append("\n        __INDEX_name = null;");
+    gold.append("\n        __INDEX_big = null;");
+    gold.append("\n        __INDEX_flag = null;");
+    gold.append("\n        __INDEX_level = null;");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"big\", \"flag\", \"level\", \"name\", \"owner\"};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {big.getIndexValue(), flag.getIndexValue(), level.getIndexValue(), name.getIndexValue(), owner.getIndexValue()};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 97536:");
+    gold.append("\n              if (__reader.matchFieldName(\"big\")) {");
+    gold.append("\n                big.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3145580:");
+    gold.append("\n              if (__reader.matchFieldName(\"flag\")) {");
+    gold.append("\n                flag.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3373707:");
+    gold.append("\n              if (__reader.matchFieldName(\"name\")) {");
+    gold.append("\n                name.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 102865796:");
+    gold.append("\n              if (__reader.matchFieldName(\"level\")) {");
+    gold.append("\n                level.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 106164915:");
+    gold.append("\n              if (__reader.matchFieldName(\"owner\")) {");
+    gold.append("\n                owner.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 108285963:");
+    gold.append("\n              if (__reader.matchFieldName(\"ratio\")) {");
+    gold.append("\n                ratio.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"owner\");");
+    gold.append("\n      owner.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      name.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"big\");");
+    gold.append("\n      big.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"flag\");");
+    gold.append("\n      flag.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"ratio\");");
+    gold.append("\n      ratio.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"level\");");
+    gold.append("\n      level.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __writer.writeObjectFieldIntro(__name);");
+    gold.append("\n        __writer.beginObject();");
+    gold.append("\n        id.__commit(\"id\", __writer);");
+    gold.append("\n        owner.__commit(\"owner\", __writer);");
+    gold.append("\n        name.__commit(\"name\", __writer);");
+    gold.append("\n        big.__commit(\"big\", __writer);");
+    gold.append("\n        flag.__commit(\"flag\", __writer);");
+    gold.append("\n        ratio.__commit(\"ratio\", __writer);");
+    gold.append("\n        level.__commit(\"level\", __writer);");
+    gold.append("\n        __writer.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        owner.__revert();");
+    gold.append("\n        name.__revert();");
+    gold.append("\n        big.__revert();");
+    gold.append("\n        flag.__revert();");
+    gold.append("\n        ratio.__revert();");
+    gold.append("\n        level.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      __INDEX_owner.deindex();");
+    gold.append("\n      __INDEX_name.deindex();");
+    gold.append("\n      __INDEX_big.deindex();");
+    gold.append("\n      __INDEX_flag.deindex();");
+    gold.append("\n      __INDEX_level.deindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      __INDEX_owner.reindex();");
+    gold.append("\n      __INDEX_name.reindex();");
+    gold.append("\n      __INDEX_big.reindex();");
+    gold.append("\n      __INDEX_flag.reindex();");
+    gold.append("\n      __INDEX_level.reindex();");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxR {");
+    gold.append("\n    private DInt32 __did;");
+    gold.append("\n    private DClient __downer;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DInt64 __dbig;");
+    gold.append("\n    private DBoolean __dflag;");
+    gold.append("\n    private DDouble __dratio;");
+    gold.append("\n    private DInt32 __dlevel;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __did = new DInt32();");
+    gold.append("\n      __downer = new DClient();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dbig = new DInt64();");
+    gold.append("\n      __dflag = new DBoolean();");
+    gold.append("\n      __dratio = new DDouble();");
+    gold.append("\n      __dlevel = new DInt32();");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(7);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __did.show(__item.id.get(), __obj.planEncodedField(\"\\\"id\\\":\"));");
+    gold.append("\n      __downer.show(__item.owner.get(), __obj.planEncodedField(\"\\\"owner\\\":\"));");
+    gold.append("\n      __dname.show(__item.name.get(), __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dbig.show(__item.big.get(), __obj.planEncodedField(\"\\\"big\\\":\"));");
+    gold.append("\n      __dflag.show(__item.flag.get(), __obj.planEncodedField(\"\\\"flag\\\":\"));");
+    gold.append("\n      __dratio.show(__item.ratio.get(), __obj.planEncodedField(\"\\\"ratio\\\":\"));");
+    gold.append("\n      __dlevel.show(__item.level.get(), __obj.planEncodedField(\"\\\"level\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_0 implements NtMessageBase {");
+    gold.append("\n    private int big = 0;");
+    gold.append("\n    private boolean flag = false;");
+    gold.append("\n    private int level = 0;");
+    gold.append("\n    private String name = \"\";");
+    gold.append("\n    private double ratio = 0.0;");
+    gold.append("\n    private RTx_AnonObjConvert_0(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"big\":");
+    gold.append("\n              this.big = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"flag\":");
+    gold.append("\n              this.flag = __reader.readBoolean();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"level\":");
+    gold.append("\n              this.level = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              this.name = __reader.readString();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"ratio\":");
+    gold.append("\n              this.ratio = __reader.readDouble();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"big\");");
+    gold.append("\n      __writer.writeInteger(big);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"flag\");");
+    gold.append("\n      __writer.writeBoolean(flag);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"level\");");
+    gold.append("\n      __writer.writeInteger(level);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      __writer.writeString(name);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"ratio\");");
+    gold.append("\n      __writer.writeDouble(ratio);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_0() {}");
+    gold.append("\n    private RTx_AnonObjConvert_0(int big, boolean flag, int level, String name, double ratio) {");
+    gold.append("\n      this.big = big;");
+    gold.append("\n      this.flag = flag;");
+    gold.append("\n      this.level = level;");
+    gold.append("\n      this.name = name;");
+    gold.append("\n      this.ratio = ratio;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_0 {");
+    gold.append("\n    private DInt32 __dbig;");
+    gold.append("\n    private DBoolean __dflag;");
+    gold.append("\n    private DInt32 __dlevel;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DDouble __dratio;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_0() {");
+    gold.append("\n      __dbig = new DInt32();");
+    gold.append("\n      __dflag = new DBoolean();");
+    gold.append("\n      __dlevel = new DInt32();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dratio = new DDouble();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(5);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dbig.show(__item.big, __obj.planEncodedField(\"\\\"big\\\":\"));");
+    gold.append("\n      __dflag.show(__item.flag, __obj.planEncodedField(\"\\\"flag\\\":\"));");
+    gold.append("\n      __dlevel.show(__item.level, __obj.planEncodedField(\"\\\"level\\\":\"));");
+    gold.append("\n      __dname.show(__item.name, __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dratio.show(__item.ratio, __obj.planEncodedField(\"\\\"ratio\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_1 implements NtMessageBase {");
+    gold.append("\n    private int big = 0;");
+    gold.append("\n    private boolean flag = false;");
+    gold.append("\n    private String name = \"\";");
+    gold.append("\n    private double ratio = 0.0;");
+    gold.append("\n    private RTx_AnonObjConvert_1(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"big\":");
+    gold.append("\n              this.big = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"flag\":");
+    gold.append("\n              this.flag = __reader.readBoolean();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              this.name = __reader.readString();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"ratio\":");
+    gold.append("\n              this.ratio = __reader.readDouble();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"big\");");
+    gold.append("\n      __writer.writeInteger(big);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"flag\");");
+    gold.append("\n      __writer.writeBoolean(flag);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      __writer.writeString(name);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"ratio\");");
+    gold.append("\n      __writer.writeDouble(ratio);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_1() {}");
+    gold.append("\n    private RTx_AnonObjConvert_1(int big, boolean flag, String name, double ratio) {");
+    gold.append("\n      this.big = big;");
+    gold.append("\n      this.flag = flag;");
+    gold.append("\n      this.name = name;");
+    gold.append("\n      this.ratio = ratio;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_1 {");
+    gold.append("\n    private DInt32 __dbig;");
+    gold.append("\n    private DBoolean __dflag;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DDouble __dratio;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_1() {");
+    gold.append("\n      __dbig = new DInt32();");
+    gold.append("\n      __dflag = new DBoolean();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dratio = new DDouble();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_1 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dbig.show(__item.big, __obj.planEncodedField(\"\\\"big\\\":\"));");
+    gold.append("\n      __dflag.show(__item.flag, __obj.planEncodedField(\"\\\"flag\\\":\"));");
+    gold.append("\n      __dname.show(__item.name, __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dratio.show(__item.ratio, __obj.planEncodedField(\"\\\"ratio\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_2 implements NtMessageBase {");
+    gold.append("\n    private long big = 0L;");
+    gold.append("\n    private boolean flag = false;");
+    gold.append("\n    private String name = \"\";");
+    gold.append("\n    private double ratio = 0.0;");
+    gold.append("\n    private RTx_AnonObjConvert_2(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"big\":");
+    gold.append("\n              this.big = __reader.readLong();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"flag\":");
+    gold.append("\n              this.flag = __reader.readBoolean();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              this.name = __reader.readString();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"ratio\":");
+    gold.append("\n              this.ratio = __reader.readDouble();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"big\");");
+    gold.append("\n      __writer.writeLong(big);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"flag\");");
+    gold.append("\n      __writer.writeBoolean(flag);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      __writer.writeString(name);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"ratio\");");
+    gold.append("\n      __writer.writeDouble(ratio);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_2() {}");
+    gold.append("\n    private RTx_AnonObjConvert_2(long big, boolean flag, String name, double ratio) {");
+    gold.append("\n      this.big = big;");
+    gold.append("\n      this.flag = flag;");
+    gold.append("\n      this.name = name;");
+    gold.append("\n      this.ratio = ratio;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_2 {");
+    gold.append("\n    private DInt64 __dbig;");
+    gold.append("\n    private DBoolean __dflag;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DDouble __dratio;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_2() {");
+    gold.append("\n      __dbig = new DInt64();");
+    gold.append("\n      __dflag = new DBoolean();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dratio = new DDouble();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_2 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dbig.show(__item.big, __obj.planEncodedField(\"\\\"big\\\":\"));");
+    gold.append("\n      __dflag.show(__item.flag, __obj.planEncodedField(\"\\\"flag\\\":\"));");
+    gold.append("\n      __dname.show(__item.name, __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dratio.show(__item.ratio, __obj.planEncodedField(\"\\\"ratio\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_3 implements NtMessageBase {");
+    gold.append("\n    private long big = 0L;");
+    gold.append("\n    private boolean flag = false;");
+    gold.append("\n    private int level = 0;");
+    gold.append("\n    private String name = \"\";");
+    gold.append("\n    private double ratio = 0.0;");
+    gold.append("\n    private RTx_AnonObjConvert_3(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"big\":");
+    gold.append("\n              this.big = __reader.readLong();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"flag\":");
+    gold.append("\n              this.flag = __reader.readBoolean();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"level\":");
+    gold.append("\n              this.level = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"name\":");
+    gold.append("\n              this.name = __reader.readString();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"ratio\":");
+    gold.append("\n              this.ratio = __reader.readDouble();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"big\");");
+    gold.append("\n      __writer.writeLong(big);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"flag\");");
+    gold.append("\n      __writer.writeBoolean(flag);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"level\");");
+    gold.append("\n      __writer.writeInteger(level);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"name\");");
+    gold.append("\n      __writer.writeString(name);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"ratio\");");
+    gold.append("\n      __writer.writeDouble(ratio);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_3() {}");
+    gold.append("\n    private RTx_AnonObjConvert_3(long big, boolean flag, int level, String name, double ratio) {");
+    gold.append("\n      this.big = big;");
+    gold.append("\n      this.flag = flag;");
+    gold.append("\n      this.level = level;");
+    gold.append("\n      this.name = name;");
+    gold.append("\n      this.ratio = ratio;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_3 {");
+    gold.append("\n    private DInt64 __dbig;");
+    gold.append("\n    private DBoolean __dflag;");
+    gold.append("\n    private DInt32 __dlevel;");
+    gold.append("\n    private DString __dname;");
+    gold.append("\n    private DDouble __dratio;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_3() {");
+    gold.append("\n      __dbig = new DInt64();");
+    gold.append("\n      __dflag = new DBoolean();");
+    gold.append("\n      __dlevel = new DInt32();");
+    gold.append("\n      __dname = new DString();");
+    gold.append("\n      __dratio = new DDouble();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_3 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(5);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dbig.show(__item.big, __obj.planEncodedField(\"\\\"big\\\":\"));");
+    gold.append("\n      __dflag.show(__item.flag, __obj.planEncodedField(\"\\\"flag\\\":\"));");
+    gold.append("\n      __dlevel.show(__item.level, __obj.planEncodedField(\"\\\"level\\\":\"));");
+    gold.append("\n      __dname.show(__item.name, __obj.planEncodedField(\"\\\"name\\\":\"));");
+    gold.append("\n      __dratio.show(__item.ratio, __obj.planEncodedField(\"\\\"ratio\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message2(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  public boolean __onConnected__0(NtClient who){");
+    gold.append("\n    __cost(12);");
+    gold.append("\n    __track(0);");
+    gold.append("\n    NtList<RxClient> _auto_4 = (tbl.iterate(false).where(true, new __CLOSURE_WhereClause0())).transform((item) -> item.owner);");
+    gold.append("\n    for (RxClient _auto_5 : _auto_4) {");
+    gold.append("\n      _auto_5.set(who);");
+    gold.append("\n    }");
+    gold.append("\n");
+    gold.append("\n    __track(1);");
+    gold.append("\n    byOwner.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause1(who))).size());");
+    gold.append("\n    __track(2);");
+    gold.append("\n    byName.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause2())).size());");
+    gold.append("\n    __track(3);");
+    gold.append("\n    byBig.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause3())).size());");
+    gold.append("\n    __track(4);");
+    gold.append("\n    byFlag.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause4())).size());");
+    gold.append("\n    __track(5);");
+    gold.append("\n    byRatio.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause5())).size());");
+    gold.append("\n    __track(6);");
+    gold.append("\n    byZero.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause6())).size());");
+    gold.append("\n    __track(7);");
+    gold.append("\n    mixed.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause7())).size());");
+    gold.append("\n    __track(8);");
+    gold.append("\n    levelNear.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause8())).size());");
+    gold.append("\n    __track(9);");
+    gold.append("\n    levelAbove.set((tbl.iterate(false).where(true, new __CLOSURE_WhereClause9())).size());");
+    gold.append("\n    __track(10);");
+    gold.append("\n    return true;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(NtClient __cvalue) {");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    if (__onConnected__0(__cvalue)) __result = true;");
+    gold.append("\n    return __result;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(NtClient __cvalue) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
+    gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
+    gold.append("\n    __cost(5);");
+    gold.append("\n    __track(11);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef6 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr8 = new RTx_AnonObjConvert_0(1, true, 2, \"a\", 0.5);");
+    gold.append("\n      RTxR _CreateRef7 = _AutoRef6.make();");
+    gold.append("\n      __cost(5);");
+    gold.append("\n      _CreateRef7.big.set(_AutoExpr8.big);");
+    gold.append("\n      _CreateRef7.flag.set(_AutoExpr8.flag);");
+    gold.append("\n      _CreateRef7.level.set(_AutoExpr8.level);");
+    gold.append("\n      _CreateRef7.name.set(_AutoExpr8.name);");
+    gold.append("\n      _CreateRef7.ratio.set(_AutoExpr8.ratio);");
+    gold.append("\n    }");
+    gold.append("\n    __track(12);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef9 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr11 = new RTx_AnonObjConvert_1(2, false, \"b\", 1.5);");
+    gold.append("\n      RTxR _CreateRef10 = _AutoRef9.make();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      _CreateRef10.big.set(_AutoExpr11.big);");
+    gold.append("\n      _CreateRef10.flag.set(_AutoExpr11.flag);");
+    gold.append("\n      _CreateRef10.name.set(_AutoExpr11.name);");
+    gold.append("\n      _CreateRef10.ratio.set(_AutoExpr11.ratio);");
+    gold.append("\n    }");
+    gold.append("\n    __track(13);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef12 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_2 _AutoExpr14 = new RTx_AnonObjConvert_2(3000000000L, true, \"a\", -0.0);");
+    gold.append("\n      RTxR _CreateRef13 = _AutoRef12.make();");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      _CreateRef13.big.set(_AutoExpr14.big);");
+    gold.append("\n      _CreateRef13.flag.set(_AutoExpr14.flag);");
+    gold.append("\n      _CreateRef13.name.set(_AutoExpr14.name);");
+    gold.append("\n      _CreateRef13.ratio.set(_AutoExpr14.ratio);");
+    gold.append("\n    }");
+    gold.append("\n    __track(14);");
+    gold.append("\n    {");
+    gold.append("\n      RxTable<RTxR> _AutoRef15 = tbl;");
+    gold.append("\n      RTx_AnonObjConvert_3 _AutoExpr17 = new RTx_AnonObjConvert_3(3000000000L, false, 3, \"c\", 0.50000001);");
+    gold.append("\n      RTxR _CreateRef16 = _AutoRef15.make();");
+    gold.append("\n      __cost(5);");
+    gold.append("\n      _CreateRef16.big.set(_AutoExpr17.big);");
+    gold.append("\n      _CreateRef16.flag.set(_AutoExpr17.flag);");
+    gold.append("\n      _CreateRef16.level.set(_AutoExpr17.level);");
+    gold.append("\n      _CreateRef16.name.set(_AutoExpr17.name);");
+    gold.append("\n      _CreateRef16.ratio.set(_AutoExpr17.ratio);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(NtClient __who, NtMessageBase __object) {");
+    gold.append("\n    __construct_0(__who, __object);");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause0 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {3, IndexValue.ofString(\"b\")};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(1, IndexValue.ofString(\"b\"));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibString.equality(name, \"b\");");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause1 implements WhereClause<RTxR> {");
+    gold.append("\n    private NtClient who;");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {4, IndexValue.ofClient(who)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(0, IndexValue.ofClient(who));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    private __CLOSURE_WhereClause1(NtClient who) {");
+    gold.append("\n      this.who = who;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      NtClient owner = __obj.owner.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return (owner.equals(who));");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause2 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {3, IndexValue.ofString(\"a\")};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(1, IndexValue.ofString(\"a\"));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibString.equality(name, \"a\");");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause3 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, IndexValue.ofLong(3000000000L)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(2, IndexValue.ofLong(3000000000L));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      long big = __obj.big.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return big == 3000000000L;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause4 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {1, IndexValue.ofBoolean(true)};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(3, IndexValue.ofBoolean(true));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      boolean flag = __obj.flag.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return flag == true;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause5 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      double ratio = __obj.ratio.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibMath.near(ratio, 0.5);");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause6 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
     gold.append("\n    }");
-    gold.append("\n  },");
-    gold.append("\n  \"severity\" : 1,");
-    gold.append("\n  \"source\" : \"error\",");
-    gold.append("\n  \"message\" : \"Index for field 'z' is not possible due to type (StructureDefine)\"");
-    gold.append("\n}, {");
-    gold.append("\n  \"range\" : {");
-    gold.append("\n    \"start\" : {");
-    gold.append("\n      \"line\" : 8,");
-    gold.append("\n      \"character\" : 2");
-    gold.append("\n    },");
-    gold.append("\n    \"end\" : {");
-    gold.append("\n      \"line\" : 8,");
-    gold.append("\n      \"character\" : 10");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      double ratio = __obj.ratio.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibMath.near(ratio, 0.0);");
     gold.append("\n    }");
-    gold.append("\n  },");
-    gold.append("\n  \"severity\" : 1,");
-    gold.append("\n  \"source\" : \"error\",");
-    gold.append("\n  \"message\" : \"Index was already defined: 'x' (StructureDefine)\"");
-    gold.append("\n} ]");
-    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause7 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {0, IndexValue.ofLong(1), 3, IndexValue.ofString(\"a\")};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {");
+    gold.append("\n      __set.intersect(1, IndexValue.ofString(\"a\"));");
+    gold.append("\n      __set.intersect(2, IndexValue.ofLong(1));");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      String name = __obj.name.get();");
+    gold.append("\n      boolean flag = __obj.flag.get();");
+    gold.append("\n      long big = __obj.big.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return LibString.equality(name, \"a\") && flag && big == 1;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause8 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int level = __obj.level.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return level == 2.0;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class __CLOSURE_WhereClause9 implements WhereClause<RTxR> {");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] getIndices() {");
+    gold.append("\n      return new int[] {};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void scopeByIndicies(IndexQuerySet __set) {}");
+    gold.append("\n    @Override");
+    gold.append("\n    public Integer getPrimaryKey() {");
+    gold.append("\n      return null;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public boolean test(RTxR __obj) {");
+    gold.append("\n      int level = __obj.level.get();");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      return level > 1.5;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
     gold.append("\n");
-    gold.append("\nFailedValidation");
+    gold.append("\n--JAVA COMPILE RESULTS-----------------------------");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\"}-->{\"__constructed\":true,\"__entropy\":\"0\",\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"name\":\"a\",\"big\":\"1\",\"flag\":true,\"ratio\":0.5,\"level\":2},\"1\":{\"id\":1,\"name\":\"b\",\"big\":\"2\",\"ratio\":1.5},\"2\":{\"id\":2,\"name\":\"a\",\"big\":\"3000000000\",\"flag\":true,\"ratio\":-0.0},\"3\":{\"id\":3,\"name\":\"c\",\"big\":\"3000000000\",\"ratio\":0.50000001,\"level\":3}}}} need:true in:0");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"25\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"}}-->{\"__seq\":1,\"__connection_id\":1,\"__time\":\"25\",\"byOwner\":4,\"byName\":2,\"byBig\":2,\"byFlag\":2,\"byRatio\":2,\"byZero\":1,\"mixed\":1,\"levelNear\":1,\"levelAbove\":2,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"}}} need:true in:0");
+    gold.append("\n{\"command\":\"connect\",\"timestamp\":\"50\",\"who\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}-->{\"__seq\":2,\"__connection_id\":2,\"__time\":\"50\",\"tbl\":{\"auto_key\":4,\"rows\":{\"1\":{\"owner\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}},\"byOwner\":1,\"__clients\":{\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}} need:true in:0");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"byOwner\":1,\"byName\":2,\"byBig\":2,\"byFlag\":2,\"byRatio\":2,\"byZero\":1,\"mixed\":1,\"levelNear\":1,\"levelAbove\":2},\"outstanding\":[],\"blockers\":[],\"seq\":3}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"byOwner\":1,\"byName\":2,\"byBig\":2,\"byFlag\":2,\"byRatio\":2,\"byZero\":1,\"mixed\":1,\"levelNear\":1,\"levelAbove\":2},\"outstanding\":[],\"blockers\":[],\"seq\":3}");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"75\"}-->{\"__messages\":null,\"__seedUsed\":\"0\",\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__time\":\"75\"} need:false in:-75");
+    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"100\"}-->{\"__goodwill_used\":0,\"__cost\":122,\"__billing_seq\":3} need:true in:0");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"name\":\"a\",\"big\":\"1\",\"flag\":true,\"ratio\":0.5,\"level\":2},\"1\":{\"id\":1,\"name\":\"b\",\"big\":\"2\",\"ratio\":1.5,\"owner\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"2\":{\"id\":2,\"name\":\"a\",\"big\":\"3000000000\",\"flag\":true,\"ratio\":-0.0},\"3\":{\"id\":3,\"name\":\"c\",\"big\":\"3000000000\",\"ratio\":0.50000001,\"level\":3}}},\"__seq\":3,\"__connection_id\":2,\"__time\":\"75\",\"byOwner\":1,\"byName\":2,\"byBig\":2,\"byFlag\":2,\"byRatio\":2,\"byZero\":1,\"mixed\":1,\"levelNear\":1,\"levelAbove\":2,\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}},\"__seedUsed\":\"0\",\"__goodwill_used\":0,\"__cost\":122,\"__billing_seq\":3}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"id\":0,\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"big\":\"1\",\"flag\":true,\"ratio\":0.5,\"level\":2},\"1\":{\"id\":1,\"owner\":{\"agent\":\"rando\",\"authority\":\"random-place\"},\"name\":\"b\",\"big\":\"2\",\"flag\":false,\"ratio\":1.5,\"level\":0},\"2\":{\"id\":2,\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"big\":\"3000000000\",\"flag\":true,\"ratio\":-0.0,\"level\":0},\"3\":{\"id\":3,\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"c\",\"big\":\"3000000000\",\"flag\":false,\"ratio\":0.50000001,\"level\":3}}},\"byOwner\":1,\"byName\":2,\"byBig\":2,\"byFlag\":2,\"byRatio\":2,\"byZero\":1,\"mixed\":1,\"levelNear\":1,\"levelAbove\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"100\",\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}");
+    gold.append("\n{\"tbl\":{\"auto_key\":4,\"rows\":{\"0\":{\"id\":0,\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"big\":\"1\",\"flag\":true,\"ratio\":0.5,\"level\":2},\"1\":{\"id\":1,\"owner\":{\"agent\":\"rando\",\"authority\":\"random-place\"},\"name\":\"b\",\"big\":\"2\",\"flag\":false,\"ratio\":1.5,\"level\":0},\"2\":{\"id\":2,\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"a\",\"big\":\"3000000000\",\"flag\":true,\"ratio\":-0.0,\"level\":0},\"3\":{\"id\":3,\"owner\":{\"agent\":\"?\",\"authority\":\"?\"},\"name\":\"c\",\"big\":\"3000000000\",\"flag\":false,\"ratio\":0.50000001,\"level\":3}}},\"byOwner\":1,\"byName\":2,\"byBig\":2,\"byFlag\":2,\"byRatio\":2,\"byZero\":1,\"mixed\":1,\"levelNear\":1,\"levelAbove\":2,\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":3,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":2,\"__message_id\":0,\"__time\":\"100\",\"__clients\":{\"0\":{\"agent\":\"?\",\"authority\":\"?\"},\"1\":{\"agent\":\"rando\",\"authority\":\"random-place\"}}}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\n");
+    gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_Indexing_4 = null;
-  private String get_Indexing_4() {
-    if (cached_Indexing_4 != null) {
-      return cached_Indexing_4;
+  private String cached_Indexing_9 = null;
+  private String get_Indexing_9() {
+    if (cached_Indexing_9 != null) {
+      return cached_Indexing_9;
     }
-    cached_Indexing_4 = generateTestOutput(true, "Indexing_4", "./test_code/Linq_Indexing_success.a");
-    return cached_Indexing_4;
+    cached_Indexing_9 = generateTestOutput(true, "Indexing_9", "./test_code/Linq_Indexing_success.a");
+    return cached_Indexing_9;
   }
 
   @Test
   public void testIndexingEmission() {
-    assertEmissionGood(get_Indexing_4());
+    assertEmissionGood(get_Indexing_9());
   }
 
   @Test
   public void testIndexingSuccess() {
-    assertLivePass(get_Indexing_4());
+    assertLivePass(get_Indexing_9());
   }
 
   @Test
   public void testIndexingGoodWillHappy() {
-    assertGoodWillHappy(get_Indexing_4());
+    assertGoodWillHappy(get_Indexing_9());
   }
 
   @Test
   public void testIndexingExceptionFree() {
-    assertExceptionFree(get_Indexing_4());
+    assertExceptionFree(get_Indexing_9());
   }
 
   @Test
   public void testIndexingTODOFree() {
-    assertTODOFree(get_Indexing_4());
+    assertTODOFree(get_Indexing_9());
   }
 
   @Test
-  public void stable_Indexing_4() {
-    String live = get_Indexing_4();
+  public void stable_Indexing_9() {
+    String live = get_Indexing_9();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_Indexing_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -348,9 +3817,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class Indexing_4 extends LivingDocument {");
+    gold.append("\npublic class Indexing_9 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxIssues> itbl;");
-    gold.append("\n  public Indexing_4(DocumentMonitor __monitor) {");
+    gold.append("\n  public Indexing_9(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    itbl = new RxTable<>(__self, this, \"itbl\", (RxParent __parent) -> new RTxIssues(__parent), 2);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -360,50 +3829,88 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"itbl\":");
-    gold.append("\n            itbl.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 3242677:");
+    gold.append("\n            if (__reader.matchFieldName(\"itbl\")) {");
+    gold.append("\n              itbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -466,12 +3973,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    itbl.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaIndexing_4 {");
+    gold.append("\n  private class DeltaIndexing_9 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaIndexing_4() {");
+    gold.append("\n    private DeltaIndexing_9() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(Indexing_4 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(Indexing_9 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -487,8 +3994,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    Indexing_4 __self = this;");
-    gold.append("\n    DeltaIndexing_4 __state = new DeltaIndexing_4();");
+    gold.append("\n    Indexing_9 __self = this;");
+    gold.append("\n    DeltaIndexing_9 __state = new DeltaIndexing_9();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -513,7 +4020,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n        __INDEX_x = new ReactiveIndexInvalidator(((RxTable<RTxOne>)(__owner)).getIndex((short)0), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return x.get();");
+    gold.append("\n                return x.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        x.__subscribe(__INDEX_x);");
@@ -534,25 +4041,37 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -624,23 +4143,30 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private DInt32 __dy;");
     gold.append("\n    private DClient __dz;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxOne() {");
     gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __dy = new DInt32();");
     gold.append("\n      __dz = new DClient();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxOne __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
-    gold.append("\n      __dz.show(__item.z.get(), __obj.planField(\"z\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dz.show(__item.z.get(), __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -664,14 +4190,14 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n        __INDEX_y = new ReactiveIndexInvalidator(((RxTable<RTxTwo>)(__owner)).getIndex((short)0), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return y.get();");
+    gold.append("\n                return y.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        y.__subscribe(__INDEX_y);");
     gold.append("\n        __INDEX_x = new ReactiveIndexInvalidator(((RxTable<RTxTwo>)(__owner)).getIndex((short)1), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return x.get();");
+    gold.append("\n                return x.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        x.__subscribe(__INDEX_x);");
@@ -693,25 +4219,37 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -785,23 +4323,30 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private DInt32 __dy;");
     gold.append("\n    private DClient __dz;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxTwo() {");
     gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __dy = new DInt32();");
     gold.append("\n      __dz = new DClient();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxTwo __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
-    gold.append("\n      __dz.show(__item.z.get(), __obj.planField(\"z\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dz.show(__item.z.get(), __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -827,14 +4372,14 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n        __INDEX_z = new ReactiveIndexInvalidator(((RxTable<RTxIssues>)(__owner)).getIndex((short)0), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return z.get();");
+    gold.append("\n                return z.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        z.__subscribe(__INDEX_z);");
     gold.append("\n        __INDEX_u = new ReactiveIndexInvalidator(((RxTable<RTxIssues>)(__owner)).getIndex((short)1), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return u.get();");
+    gold.append("\n                return u.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        u.__subscribe(__INDEX_u);");
@@ -856,28 +4401,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 117:");
+    gold.append("\n              if (__reader.matchFieldName(\"u\")) {");
+    gold.append("\n                u.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"u\":");
-    gold.append("\n              u.__insert(__reader);");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -956,25 +4516,32 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private DInt32 __dz;");
     gold.append("\n    private DInt32 __du;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxIssues() {");
     gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __dy = new DInt32();");
     gold.append("\n      __dz = new DInt32();");
     gold.append("\n      __du = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxIssues __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(4);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
-    gold.append("\n      __dz.show(__item.z.get(), __obj.planField(\"z\"));");
-    gold.append("\n      __du.show(__item.u.get(), __obj.planField(\"u\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dz.show(__item.z.get(), __obj.planEncodedField(\"\\\"z\\\":\"));");
+    gold.append("\n      __du.show(__item.u.get(), __obj.planEncodedField(\"\\\"u\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -999,21 +4566,21 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n        __INDEX_z = new ReactiveIndexInvalidator(((RxTable<RTxThree>)(__owner)).getIndex((short)0), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return z.get().hashCode();");
+    gold.append("\n                return z.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        z.__subscribe(__INDEX_z);");
     gold.append("\n        __INDEX_y = new ReactiveIndexInvalidator(((RxTable<RTxThree>)(__owner)).getIndex((short)1), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return y.get();");
+    gold.append("\n                return y.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        y.__subscribe(__INDEX_y);");
     gold.append("\n        __INDEX_x = new ReactiveIndexInvalidator(((RxTable<RTxThree>)(__owner)).getIndex((short)2), this) {");
     gold.append("\n            @Override");
     gold.append("\n            public int pullValue() {");
-    gold.append("\n                return x.get();");
+    gold.append("\n                return x.getIndexValue();");
     gold.append("\n            }");
     gold.append("\n          };");
     gold.append("\n        x.__subscribe(__INDEX_x);");
@@ -1036,25 +4603,37 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1130,23 +4709,30 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    private DInt32 __dy;");
     gold.append("\n    private DClient __dz;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxThree() {");
     gold.append("\n      __dx = new DInt32();");
     gold.append("\n      __dy = new DInt32();");
     gold.append("\n      __dz = new DClient();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxThree __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
-    gold.append("\n      __dz.show(__item.z.get(), __obj.planField(\"z\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dz.show(__item.z.get(), __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1166,7 +4752,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_code() {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(0);");
     gold.append("\n    (itbl.iterate(false)).where(true, new __CLOSURE_WhereClause0());");
     gold.append("\n    __track(1);");
@@ -1217,7 +4803,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxIssues __obj) {");
     gold.append("\n      int x = __obj.x.get();");
     gold.append("\n      int y = __obj.y.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == y;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1237,7 +4823,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxIssues __obj) {");
     gold.append("\n      int z = __obj.z.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return z == 123;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1259,7 +4845,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxIssues __obj) {");
     gold.append("\n      int z = __obj.z.get();");
     gold.append("\n      int u = __obj.u.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return z == 42 && u == 13;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1285,38 +4871,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IterateNonTable_5 = null;
-  private String get_IterateNonTable_5() {
-    if (cached_IterateNonTable_5 != null) {
-      return cached_IterateNonTable_5;
+  private String cached_IterateNonTable_10 = null;
+  private String get_IterateNonTable_10() {
+    if (cached_IterateNonTable_10 != null) {
+      return cached_IterateNonTable_10;
     }
-    cached_IterateNonTable_5 = generateTestOutput(false, "IterateNonTable_5", "./test_code/Linq_IterateNonTable_failure.a");
-    return cached_IterateNonTable_5;
+    cached_IterateNonTable_10 = generateTestOutput(false, "IterateNonTable_10", "./test_code/Linq_IterateNonTable_failure.a");
+    return cached_IterateNonTable_10;
   }
 
   @Test
   public void testIterateNonTableFailure() {
-    assertLiveFail(get_IterateNonTable_5());
+    assertLiveFail(get_IterateNonTable_10());
   }
 
   @Test
   public void testIterateNonTableNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_IterateNonTable_5());
+    assertNotTerribleLineNumbers(get_IterateNonTable_10());
   }
 
   @Test
   public void testIterateNonTableExceptionFree() {
-    assertExceptionFree(get_IterateNonTable_5());
+    assertExceptionFree(get_IterateNonTable_10());
   }
 
   @Test
   public void testIterateNonTableTODOFree() {
-    assertTODOFree(get_IterateNonTable_5());
+    assertTODOFree(get_IterateNonTable_10());
   }
 
   @Test
-  public void stable_IterateNonTable_5() {
-    String live = get_IterateNonTable_5();
+  public void stable_IterateNonTable_10() {
+    String live = get_IterateNonTable_10();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_IterateNonTable_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -1354,43 +4940,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_LegacyShuffle_6 = null;
-  private String get_LegacyShuffle_6() {
-    if (cached_LegacyShuffle_6 != null) {
-      return cached_LegacyShuffle_6;
+  private String cached_LegacyShuffle_11 = null;
+  private String get_LegacyShuffle_11() {
+    if (cached_LegacyShuffle_11 != null) {
+      return cached_LegacyShuffle_11;
     }
-    cached_LegacyShuffle_6 = generateTestOutput(true, "LegacyShuffle_6", "./test_code/Linq_LegacyShuffle_success.a");
-    return cached_LegacyShuffle_6;
+    cached_LegacyShuffle_11 = generateTestOutput(true, "LegacyShuffle_11", "./test_code/Linq_LegacyShuffle_success.a");
+    return cached_LegacyShuffle_11;
   }
 
   @Test
   public void testLegacyShuffleEmission() {
-    assertEmissionGood(get_LegacyShuffle_6());
+    assertEmissionGood(get_LegacyShuffle_11());
   }
 
   @Test
   public void testLegacyShuffleSuccess() {
-    assertLivePass(get_LegacyShuffle_6());
+    assertLivePass(get_LegacyShuffle_11());
   }
 
   @Test
   public void testLegacyShuffleGoodWillHappy() {
-    assertGoodWillHappy(get_LegacyShuffle_6());
+    assertGoodWillHappy(get_LegacyShuffle_11());
   }
 
   @Test
   public void testLegacyShuffleExceptionFree() {
-    assertExceptionFree(get_LegacyShuffle_6());
+    assertExceptionFree(get_LegacyShuffle_11());
   }
 
   @Test
   public void testLegacyShuffleTODOFree() {
-    assertTODOFree(get_LegacyShuffle_6());
+    assertTODOFree(get_LegacyShuffle_11());
   }
 
   @Test
-  public void stable_LegacyShuffle_6() {
-    String live = get_LegacyShuffle_6();
+  public void stable_LegacyShuffle_11() {
+    String live = get_LegacyShuffle_11();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_LegacyShuffle_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -1419,11 +5005,11 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class LegacyShuffle_6 extends LivingDocument {");
+    gold.append("\npublic class LegacyShuffle_11 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> tbl;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> list_1;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> list_2;");
-    gold.append("\n  public LegacyShuffle_6(DocumentMonitor __monitor) {");
+    gold.append("\n  public LegacyShuffle_11(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxX(__parent), 0);");
     gold.append("\n    list_1 = new RxLazy<NtList<RTxX>>(this, () -> (tbl.iterate(false).shuffle(true, __random)));");
@@ -1437,50 +5023,88 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1543,26 +5167,26 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    tbl.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaLegacyShuffle_6 {");
+    gold.append("\n  private class DeltaLegacyShuffle_11 {");
     gold.append("\n    private int __glist_1;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dlist_1;");
     gold.append("\n    private int __glist_2;");
     gold.append("\n    private DRecordList<DeltaRTxX> __dlist_2;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaLegacyShuffle_6() {");
+    gold.append("\n    private DeltaLegacyShuffle_11() {");
     gold.append("\n      __glist_1 = -1;");
     gold.append("\n      __dlist_1 = new DRecordList<DeltaRTxX>();");
     gold.append("\n      __glist_2 = -1;");
     gold.append("\n      __dlist_2 = new DRecordList<DeltaRTxX>();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(LegacyShuffle_6 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n    public void show(LegacyShuffle_11 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__glist_1 != __item.list_1.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list3 = __obj.planField(\"list_1\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list3 = __obj.planEncodedField(\"\\\"list_1\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxX> __deltaList4 = __dlist_1;");
     gold.append("\n          DRecordList<DeltaRTxX>.Walk __deltaListWalker5 = __deltaList4.begin();");
     gold.append("\n          for (RTxX __listElement6 : __item.list_1.get()) {");
@@ -1577,7 +5201,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      }");
     gold.append("\n      if (__glist_2 != __item.list_2.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list8 = __obj.planField(\"list_2\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list8 = __obj.planEncodedField(\"\\\"list_2\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxX> __deltaList9 = __dlist_2;");
     gold.append("\n          DRecordList<DeltaRTxX>.Walk __deltaListWalker10 = __deltaList9.begin();");
     gold.append("\n          for (RTxX __listElement11 : __item.list_2.get()) {");
@@ -1603,8 +5227,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    LegacyShuffle_6 __self = this;");
-    gold.append("\n    DeltaLegacyShuffle_6 __state = new DeltaLegacyShuffle_6();");
+    gold.append("\n    LegacyShuffle_11 __self = this;");
+    gold.append("\n    DeltaLegacyShuffle_11 __state = new DeltaLegacyShuffle_11();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -1638,22 +5262,31 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1716,16 +5349,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1777,10 +5417,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1807,7 +5447,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return (who.equals(NtClient.NO_ONE));");
     gold.append("\n  }");
@@ -1826,13 +5466,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(1);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef13 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr15 = new RTx_AnonObjConvert_0(1, 3);");
     gold.append("\n      RTxX _CreateRef14 = _AutoRef13.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef14.x.set(_AutoExpr15.x);");
     gold.append("\n      _CreateRef14.y.set(_AutoExpr15.y);");
     gold.append("\n    }");
@@ -1841,7 +5481,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef16 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr18 = new RTx_AnonObjConvert_0(2, 2);");
     gold.append("\n      RTxX _CreateRef17 = _AutoRef16.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef17.x.set(_AutoExpr18.x);");
     gold.append("\n      _CreateRef17.y.set(_AutoExpr18.y);");
     gold.append("\n    }");
@@ -1850,7 +5490,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef19 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr21 = new RTx_AnonObjConvert_0(3, 1);");
     gold.append("\n      RTxX _CreateRef20 = _AutoRef19.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef20.x.set(_AutoExpr21.x);");
     gold.append("\n      _CreateRef20.y.set(_AutoExpr21.y);");
     gold.append("\n    }");
@@ -1886,43 +5526,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_Legacy_7 = null;
-  private String get_Legacy_7() {
-    if (cached_Legacy_7 != null) {
-      return cached_Legacy_7;
+  private String cached_Legacy_12 = null;
+  private String get_Legacy_12() {
+    if (cached_Legacy_12 != null) {
+      return cached_Legacy_12;
     }
-    cached_Legacy_7 = generateTestOutput(true, "Legacy_7", "./test_code/Linq_Legacy_success.a");
-    return cached_Legacy_7;
+    cached_Legacy_12 = generateTestOutput(true, "Legacy_12", "./test_code/Linq_Legacy_success.a");
+    return cached_Legacy_12;
   }
 
   @Test
   public void testLegacyEmission() {
-    assertEmissionGood(get_Legacy_7());
+    assertEmissionGood(get_Legacy_12());
   }
 
   @Test
   public void testLegacySuccess() {
-    assertLivePass(get_Legacy_7());
+    assertLivePass(get_Legacy_12());
   }
 
   @Test
   public void testLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_Legacy_7());
+    assertGoodWillHappy(get_Legacy_12());
   }
 
   @Test
   public void testLegacyExceptionFree() {
-    assertExceptionFree(get_Legacy_7());
+    assertExceptionFree(get_Legacy_12());
   }
 
   @Test
   public void testLegacyTODOFree() {
-    assertTODOFree(get_Legacy_7());
+    assertTODOFree(get_Legacy_12());
   }
 
   @Test
-  public void stable_Legacy_7() {
-    String live = get_Legacy_7();
+  public void stable_Legacy_12() {
+    String live = get_Legacy_12();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_Legacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -1951,7 +5591,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class Legacy_7 extends LivingDocument {");
+    gold.append("\npublic class Legacy_12 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxZ> z0;");
     gold.append("\n  private final RTxZ z1;");
     gold.append("\n  private final RxTable<RTxX> tbl;");
@@ -1969,7 +5609,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private final RxLazy<NtList<RTxX>> list_w7;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> list_w8;");
     gold.append("\n  private final RxInt32 count_tbl2;");
-    gold.append("\n  public Legacy_7(DocumentMonitor __monitor) {");
+    gold.append("\n  public Legacy_12(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    z0 = new RxTable<>(__self, this, \"z0\", (RxParent __parent) -> new RTxZ(__parent), 0);");
     gold.append("\n    z1 = new RTxZ(this);");
@@ -2003,74 +5643,136 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"z0\":");
-    gold.append("\n            z0.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"z1\":");
-    gold.append("\n            z1.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"count1\":");
-    gold.append("\n            count1.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"count2\":");
-    gold.append("\n            count2.__insert(__reader);");
+    gold.append("\n          case -1354575614:");
+    gold.append("\n            if (__reader.matchFieldName(\"count1\")) {");
+    gold.append("\n              count1.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"count3\":");
-    gold.append("\n            count3.__insert(__reader);");
+    gold.append("\n          case -1354575613:");
+    gold.append("\n            if (__reader.matchFieldName(\"count2\")) {");
+    gold.append("\n              count2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"tbl2\":");
-    gold.append("\n            tbl2.__insert(__reader);");
+    gold.append("\n          case -1354575612:");
+    gold.append("\n            if (__reader.matchFieldName(\"count3\")) {");
+    gold.append("\n              count3.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"tbl3\":");
-    gold.append("\n            tbl3.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"count_tbl2\":");
-    gold.append("\n            count_tbl2.__insert(__reader);");
+    gold.append("\n          case -1035144860:");
+    gold.append("\n            if (__reader.matchFieldName(\"count_tbl2\")) {");
+    gold.append("\n              count_tbl2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 3830:");
+    gold.append("\n            if (__reader.matchFieldName(\"z0\")) {");
+    gold.append("\n              z0.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 3831:");
+    gold.append("\n            if (__reader.matchFieldName(\"z1\")) {");
+    gold.append("\n              z1.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 3553332:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl2\")) {");
+    gold.append("\n              tbl2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 3553333:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl3\")) {");
+    gold.append("\n              tbl3.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2165,12 +5867,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    count_tbl2.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaLegacy_7 {");
+    gold.append("\n  private class DeltaLegacy_12 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaLegacy_7() {");
+    gold.append("\n    private DeltaLegacy_12() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(Legacy_7 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(Legacy_12 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -2186,8 +5888,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    Legacy_7 __self = this;");
-    gold.append("\n    DeltaLegacy_7 __state = new DeltaLegacy_7();");
+    gold.append("\n    Legacy_12 __self = this;");
+    gold.append("\n    DeltaLegacy_12 __state = new DeltaLegacy_12();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -2221,22 +5923,31 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2299,16 +6010,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -2339,19 +6057,25 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"tbl\":");
-    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 114622:");
+    gold.append("\n              if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n                tbl.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2410,16 +6134,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxZ {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxZ() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxZ __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -2471,10 +6202,10 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2514,13 +6245,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 17;");
+    gold.append("\n    __cost(17);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef10 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr12 = new RTx_AnonObjConvert_0(1, 3);");
     gold.append("\n      RTxX _CreateRef11 = _AutoRef10.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef11.x.set(_AutoExpr12.x);");
     gold.append("\n      _CreateRef11.y.set(_AutoExpr12.y);");
     gold.append("\n    }");
@@ -2529,7 +6260,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef13 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr15 = new RTx_AnonObjConvert_0(2, 2);");
     gold.append("\n      RTxX _CreateRef14 = _AutoRef13.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef14.x.set(_AutoExpr15.x);");
     gold.append("\n      _CreateRef14.y.set(_AutoExpr15.y);");
     gold.append("\n    }");
@@ -2538,7 +6269,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef16 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr18 = new RTx_AnonObjConvert_0(3, 1);");
     gold.append("\n      RTxX _CreateRef17 = _AutoRef16.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef17.x.set(_AutoExpr18.x);");
     gold.append("\n      _CreateRef17.y.set(_AutoExpr18.y);");
     gold.append("\n    }");
@@ -2553,7 +6284,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef19 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr21 = new RTx_AnonObjConvert_0(100, 3);");
     gold.append("\n      RTxX _CreateRef20 = _AutoRef19.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef20.x.set(_AutoExpr21.x);");
     gold.append("\n      _CreateRef20.y.set(_AutoExpr21.y);");
     gold.append("\n    }");
@@ -2562,7 +6293,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef22 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr24 = new RTx_AnonObjConvert_0(2, 2);");
     gold.append("\n      RTxX _CreateRef23 = _AutoRef22.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef23.x.set(_AutoExpr24.x);");
     gold.append("\n      _CreateRef23.y.set(_AutoExpr24.y);");
     gold.append("\n    }");
@@ -2571,7 +6302,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef25 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr27 = new RTx_AnonObjConvert_0(2, 2);");
     gold.append("\n      RTxX _CreateRef26 = _AutoRef25.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef26.x.set(_AutoExpr27.x);");
     gold.append("\n      _CreateRef26.y.set(_AutoExpr27.y);");
     gold.append("\n    }");
@@ -2580,7 +6311,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef28 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr30 = new RTx_AnonObjConvert_0(100, 1);");
     gold.append("\n      RTxX _CreateRef29 = _AutoRef28.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef29.x.set(_AutoExpr30.x);");
     gold.append("\n      _CreateRef29.y.set(_AutoExpr30.y);");
     gold.append("\n    }");
@@ -2589,7 +6320,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef31 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr33 = new RTx_AnonObjConvert_0(4, 2);");
     gold.append("\n      RTxX _CreateRef32 = _AutoRef31.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef32.x.set(_AutoExpr33.x);");
     gold.append("\n      _CreateRef32.y.set(_AutoExpr33.y);");
     gold.append("\n    }");
@@ -2598,7 +6329,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef34 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr36 = new RTx_AnonObjConvert_0(5, 2);");
     gold.append("\n      RTxX _CreateRef35 = _AutoRef34.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef35.x.set(_AutoExpr36.x);");
     gold.append("\n      _CreateRef35.y.set(_AutoExpr36.y);");
     gold.append("\n    }");
@@ -2607,7 +6338,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef37 = tbl2;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr39 = new RTx_AnonObjConvert_0(1, 2);");
     gold.append("\n      RTxX _CreateRef38 = _AutoRef37.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef38.x.set(_AutoExpr39.x);");
     gold.append("\n      _CreateRef38.y.set(_AutoExpr39.y);");
     gold.append("\n    }");
@@ -2617,7 +6348,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    NtMaybe<RTxX> _AutoConditionvvv_40;");
     gold.append("\n    if ((_AutoConditionvvv_40 = (tbl2.iterate(false).where(true, new __CLOSURE_WhereClause5())).lookup(0)).has()) {");
     gold.append("\n      RTxX vvv = _AutoConditionvvv_40.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(15);");
     gold.append("\n      vvv.__delete();");
     gold.append("\n    }");
@@ -2626,7 +6357,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef41 = tbl3;");
     gold.append("\n      for (RTxX _AutoElement42 : (tbl2.iterate(true)).toArray((Integer __n) -> (Object) (new RTxX[__n]))) {");
     gold.append("\n        RTxX _CreateRef42 = _AutoRef41.make();");
-    gold.append("\n        __code_cost += 3;");
+    gold.append("\n        __cost(3);");
     gold.append("\n        _CreateRef42.id.set(_AutoElement42.id.get());");
     gold.append("\n        _CreateRef42.x.set(_AutoElement42.x.get());");
     gold.append("\n        _CreateRef42.y.set(_AutoElement42.y.get());");
@@ -2656,7 +6387,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int y = __obj.y.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return y == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2674,7 +6405,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int y = __obj.y.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return y == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2692,7 +6423,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int y = __obj.y.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return y == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2710,7 +6441,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == 1;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2728,7 +6459,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x <= 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2746,7 +6477,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == 5;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2808,38 +6539,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_NonOrderable_8 = null;
-  private String get_NonOrderable_8() {
-    if (cached_NonOrderable_8 != null) {
-      return cached_NonOrderable_8;
+  private String cached_NonOrderable_13 = null;
+  private String get_NonOrderable_13() {
+    if (cached_NonOrderable_13 != null) {
+      return cached_NonOrderable_13;
     }
-    cached_NonOrderable_8 = generateTestOutput(false, "NonOrderable_8", "./test_code/Linq_NonOrderable_failure.a");
-    return cached_NonOrderable_8;
+    cached_NonOrderable_13 = generateTestOutput(false, "NonOrderable_13", "./test_code/Linq_NonOrderable_failure.a");
+    return cached_NonOrderable_13;
   }
 
   @Test
   public void testNonOrderableFailure() {
-    assertLiveFail(get_NonOrderable_8());
+    assertLiveFail(get_NonOrderable_13());
   }
 
   @Test
   public void testNonOrderableNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_NonOrderable_8());
+    assertNotTerribleLineNumbers(get_NonOrderable_13());
   }
 
   @Test
   public void testNonOrderableExceptionFree() {
-    assertExceptionFree(get_NonOrderable_8());
+    assertExceptionFree(get_NonOrderable_13());
   }
 
   @Test
   public void testNonOrderableTODOFree() {
-    assertTODOFree(get_NonOrderable_8());
+    assertTODOFree(get_NonOrderable_13());
   }
 
   @Test
-  public void stable_NonOrderable_8() {
-    String live = get_NonOrderable_8();
+  public void stable_NonOrderable_13() {
+    String live = get_NonOrderable_13();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_NonOrderable_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -2877,38 +6608,38 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_NotApplicableToNonLists_9 = null;
-  private String get_NotApplicableToNonLists_9() {
-    if (cached_NotApplicableToNonLists_9 != null) {
-      return cached_NotApplicableToNonLists_9;
+  private String cached_NotApplicableToNonLists_14 = null;
+  private String get_NotApplicableToNonLists_14() {
+    if (cached_NotApplicableToNonLists_14 != null) {
+      return cached_NotApplicableToNonLists_14;
     }
-    cached_NotApplicableToNonLists_9 = generateTestOutput(false, "NotApplicableToNonLists_9", "./test_code/Linq_NotApplicableToNonLists_failure.a");
-    return cached_NotApplicableToNonLists_9;
+    cached_NotApplicableToNonLists_14 = generateTestOutput(false, "NotApplicableToNonLists_14", "./test_code/Linq_NotApplicableToNonLists_failure.a");
+    return cached_NotApplicableToNonLists_14;
   }
 
   @Test
   public void testNotApplicableToNonListsFailure() {
-    assertLiveFail(get_NotApplicableToNonLists_9());
+    assertLiveFail(get_NotApplicableToNonLists_14());
   }
 
   @Test
   public void testNotApplicableToNonListsNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_NotApplicableToNonLists_9());
+    assertNotTerribleLineNumbers(get_NotApplicableToNonLists_14());
   }
 
   @Test
   public void testNotApplicableToNonListsExceptionFree() {
-    assertExceptionFree(get_NotApplicableToNonLists_9());
+    assertExceptionFree(get_NotApplicableToNonLists_14());
   }
 
   @Test
   public void testNotApplicableToNonListsTODOFree() {
-    assertTODOFree(get_NotApplicableToNonLists_9());
+    assertTODOFree(get_NotApplicableToNonLists_14());
   }
 
   @Test
-  public void stable_NotApplicableToNonLists_9() {
-    String live = get_NotApplicableToNonLists_9();
+  public void stable_NotApplicableToNonLists_14() {
+    String live = get_NotApplicableToNonLists_14();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_NotApplicableToNonLists_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -2974,43 +6705,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_SortLegacy_10 = null;
-  private String get_SortLegacy_10() {
-    if (cached_SortLegacy_10 != null) {
-      return cached_SortLegacy_10;
+  private String cached_SortLegacy_15 = null;
+  private String get_SortLegacy_15() {
+    if (cached_SortLegacy_15 != null) {
+      return cached_SortLegacy_15;
     }
-    cached_SortLegacy_10 = generateTestOutput(true, "SortLegacy_10", "./test_code/Linq_SortLegacy_success.a");
-    return cached_SortLegacy_10;
+    cached_SortLegacy_15 = generateTestOutput(true, "SortLegacy_15", "./test_code/Linq_SortLegacy_success.a");
+    return cached_SortLegacy_15;
   }
 
   @Test
   public void testSortLegacyEmission() {
-    assertEmissionGood(get_SortLegacy_10());
+    assertEmissionGood(get_SortLegacy_15());
   }
 
   @Test
   public void testSortLegacySuccess() {
-    assertLivePass(get_SortLegacy_10());
+    assertLivePass(get_SortLegacy_15());
   }
 
   @Test
   public void testSortLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_SortLegacy_10());
+    assertGoodWillHappy(get_SortLegacy_15());
   }
 
   @Test
   public void testSortLegacyExceptionFree() {
-    assertExceptionFree(get_SortLegacy_10());
+    assertExceptionFree(get_SortLegacy_15());
   }
 
   @Test
   public void testSortLegacyTODOFree() {
-    assertTODOFree(get_SortLegacy_10());
+    assertTODOFree(get_SortLegacy_15());
   }
 
   @Test
-  public void stable_SortLegacy_10() {
-    String live = get_SortLegacy_10();
+  public void stable_SortLegacy_15() {
+    String live = get_SortLegacy_15();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_SortLegacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -3039,7 +6770,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class SortLegacy_10 extends LivingDocument {");
+    gold.append("\npublic class SortLegacy_15 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> tbl;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> l1;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> l2;");
@@ -3048,7 +6779,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  private final RxLazy<NtList<RTxX>> l5;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> l6;");
     gold.append("\n  private final RxLazy<NtList<RTxX>> l7;");
-    gold.append("\n  public SortLegacy_10(DocumentMonitor __monitor) {");
+    gold.append("\n  public SortLegacy_15(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    tbl = new RxTable<>(__self, this, \"tbl\", (RxParent __parent) -> new RTxX(__parent), 0);");
     gold.append("\n    l1 = new RxLazy<NtList<RTxX>>(this, () -> (tbl.iterate(false).orderBy(true, __ORDER_X_i_a)));");
@@ -3072,50 +6803,88 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3178,12 +6947,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    tbl.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaSortLegacy_10 {");
+    gold.append("\n  private class DeltaSortLegacy_15 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaSortLegacy_10() {");
+    gold.append("\n    private DeltaSortLegacy_15() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(SortLegacy_10 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(SortLegacy_15 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -3199,8 +6968,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    SortLegacy_10 __self = this;");
-    gold.append("\n    DeltaSortLegacy_10 __state = new DeltaSortLegacy_10();");
+    gold.append("\n    SortLegacy_15 __self = this;");
+    gold.append("\n    DeltaSortLegacy_15 __state = new DeltaSortLegacy_15();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -3247,31 +7016,49 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"i\":");
-    gold.append("\n              i.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 98:");
+    gold.append("\n              if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n                b.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"s\":");
-    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n            case 100:");
+    gold.append("\n              if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n                d.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"b\":");
-    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n            case 105:");
+    gold.append("\n              if (__reader.matchFieldName(\"i\")) {");
+    gold.append("\n                i.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"d\":");
-    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n            case 115:");
+    gold.append("\n              if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n                s.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"i1\":");
-    gold.append("\n              i1.__insert(__reader);");
+    gold.append("\n            case 3304:");
+    gold.append("\n              if (__reader.matchFieldName(\"i1\")) {");
+    gold.append("\n                i1.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -3346,16 +7133,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -3398,9 +7192,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __di.show(__item.i, __obj.planField(\"i\"));");
+    gold.append("\n      __di.show(__item.i, __obj.planEncodedField(\"\\\"i\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3448,9 +7242,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_1 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dd.show(__item.d, __obj.planField(\"d\"));");
+    gold.append("\n      __dd.show(__item.d, __obj.planEncodedField(\"\\\"d\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3498,9 +7292,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_2 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __db.show(__item.b, __obj.planField(\"b\"));");
+    gold.append("\n      __db.show(__item.b, __obj.planEncodedField(\"\\\"b\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3548,9 +7342,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_3 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __ds.show(__item.s, __obj.planField(\"s\"));");
+    gold.append("\n      __ds.show(__item.s, __obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3590,13 +7384,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 13;");
+    gold.append("\n    __cost(13);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef8 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr10 = new RTx_AnonObjConvert_0(4);");
     gold.append("\n      RTxX _CreateRef9 = _AutoRef8.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef9.i.make().set(_AutoExpr10.i);");
     gold.append("\n    }");
     gold.append("\n    __track(1);");
@@ -3604,7 +7398,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef11 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr13 = new RTx_AnonObjConvert_1(3.14);");
     gold.append("\n      RTxX _CreateRef12 = _AutoRef11.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef12.d.make().set(_AutoExpr13.d);");
     gold.append("\n    }");
     gold.append("\n    __track(2);");
@@ -3612,7 +7406,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef14 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_2 _AutoExpr16 = new RTx_AnonObjConvert_2(true);");
     gold.append("\n      RTxX _CreateRef15 = _AutoRef14.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef15.b.make().set(_AutoExpr16.b);");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
@@ -3620,7 +7414,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef17 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_3 _AutoExpr19 = new RTx_AnonObjConvert_3(\"Hi\");");
     gold.append("\n      RTxX _CreateRef18 = _AutoRef17.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef18.s.make().set(_AutoExpr19.s);");
     gold.append("\n    }");
     gold.append("\n    __track(4);");
@@ -3628,7 +7422,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef20 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr22 = new RTx_AnonObjConvert_0(8);");
     gold.append("\n      RTxX _CreateRef21 = _AutoRef20.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef21.i.make().set(_AutoExpr22.i);");
     gold.append("\n    }");
     gold.append("\n    __track(5);");
@@ -3636,7 +7430,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef23 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_1 _AutoExpr25 = new RTx_AnonObjConvert_1(2.71);");
     gold.append("\n      RTxX _CreateRef24 = _AutoRef23.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef24.d.make().set(_AutoExpr25.d);");
     gold.append("\n    }");
     gold.append("\n    __track(6);");
@@ -3644,7 +7438,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef26 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_2 _AutoExpr28 = new RTx_AnonObjConvert_2(false);");
     gold.append("\n      RTxX _CreateRef27 = _AutoRef26.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef27.b.make().set(_AutoExpr28.b);");
     gold.append("\n    }");
     gold.append("\n    __track(7);");
@@ -3652,7 +7446,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef29 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_3 _AutoExpr31 = new RTx_AnonObjConvert_3(\"Joe\");");
     gold.append("\n      RTxX _CreateRef30 = _AutoRef29.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef30.s.make().set(_AutoExpr31.s);");
     gold.append("\n    }");
     gold.append("\n    __track(8);");
@@ -3737,43 +7531,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereBuildClosure_11 = null;
-  private String get_WhereBuildClosure_11() {
-    if (cached_WhereBuildClosure_11 != null) {
-      return cached_WhereBuildClosure_11;
+  private String cached_WhereBuildClosure_16 = null;
+  private String get_WhereBuildClosure_16() {
+    if (cached_WhereBuildClosure_16 != null) {
+      return cached_WhereBuildClosure_16;
     }
-    cached_WhereBuildClosure_11 = generateTestOutput(true, "WhereBuildClosure_11", "./test_code/Linq_WhereBuildClosure_success.a");
-    return cached_WhereBuildClosure_11;
+    cached_WhereBuildClosure_16 = generateTestOutput(true, "WhereBuildClosure_16", "./test_code/Linq_WhereBuildClosure_success.a");
+    return cached_WhereBuildClosure_16;
   }
 
   @Test
   public void testWhereBuildClosureEmission() {
-    assertEmissionGood(get_WhereBuildClosure_11());
+    assertEmissionGood(get_WhereBuildClosure_16());
   }
 
   @Test
   public void testWhereBuildClosureSuccess() {
-    assertLivePass(get_WhereBuildClosure_11());
+    assertLivePass(get_WhereBuildClosure_16());
   }
 
   @Test
   public void testWhereBuildClosureGoodWillHappy() {
-    assertGoodWillHappy(get_WhereBuildClosure_11());
+    assertGoodWillHappy(get_WhereBuildClosure_16());
   }
 
   @Test
   public void testWhereBuildClosureExceptionFree() {
-    assertExceptionFree(get_WhereBuildClosure_11());
+    assertExceptionFree(get_WhereBuildClosure_16());
   }
 
   @Test
   public void testWhereBuildClosureTODOFree() {
-    assertTODOFree(get_WhereBuildClosure_11());
+    assertTODOFree(get_WhereBuildClosure_16());
   }
 
   @Test
-  public void stable_WhereBuildClosure_11() {
-    String live = get_WhereBuildClosure_11();
+  public void stable_WhereBuildClosure_16() {
+    String live = get_WhereBuildClosure_16();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_WhereBuildClosure_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -3802,9 +7596,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class WhereBuildClosure_11 extends LivingDocument {");
+    gold.append("\npublic class WhereBuildClosure_16 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
-    gold.append("\n  public WhereBuildClosure_11(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereBuildClosure_16(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent), 0);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -3814,50 +7608,88 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3920,12 +7752,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    t.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereBuildClosure_11 {");
+    gold.append("\n  private class DeltaWhereBuildClosure_16 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereBuildClosure_11() {");
+    gold.append("\n    private DeltaWhereBuildClosure_16() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(WhereBuildClosure_11 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(WhereBuildClosure_16 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -3941,8 +7773,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    WhereBuildClosure_11 __self = this;");
-    gold.append("\n    DeltaWhereBuildClosure_11 __state = new DeltaWhereBuildClosure_11();");
+    gold.append("\n    WhereBuildClosure_16 __self = this;");
+    gold.append("\n    DeltaWhereBuildClosure_16 __state = new DeltaWhereBuildClosure_16();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -3974,19 +7806,25 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -4045,16 +7883,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -4097,9 +7942,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_2 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -4112,12 +7957,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private NtList<RTxX> __FUNC_0_gotown(int x0) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return t.iterate(false).where(true, new __CLOSURE_WhereClause0(x0));");
     gold.append("\n  }");
     gold.append("\n  private NtList<RTxX> __FUNC_1_gotown2(int x0, int x1) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(1);");
     gold.append("\n    return t.iterate(false).where(true, new __CLOSURE_WhereClause1(x0, x1));");
     gold.append("\n  }");
@@ -4149,13 +7994,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(2);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef3 = t;");
     gold.append("\n      RTx_AnonObjConvert_2 _AutoExpr5 = new RTx_AnonObjConvert_2(1);");
     gold.append("\n      RTxX _CreateRef4 = _AutoRef3.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef4.x.set(_AutoExpr5.x);");
     gold.append("\n    }");
     gold.append("\n    __track(3);");
@@ -4192,7 +8037,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == x0;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4216,7 +8061,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == x0 || x == x1;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4242,43 +8087,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WhereDuplicateFields_12 = null;
-  private String get_WhereDuplicateFields_12() {
-    if (cached_WhereDuplicateFields_12 != null) {
-      return cached_WhereDuplicateFields_12;
+  private String cached_WhereDuplicateFields_17 = null;
+  private String get_WhereDuplicateFields_17() {
+    if (cached_WhereDuplicateFields_17 != null) {
+      return cached_WhereDuplicateFields_17;
     }
-    cached_WhereDuplicateFields_12 = generateTestOutput(true, "WhereDuplicateFields_12", "./test_code/Linq_WhereDuplicateFields_success.a");
-    return cached_WhereDuplicateFields_12;
+    cached_WhereDuplicateFields_17 = generateTestOutput(true, "WhereDuplicateFields_17", "./test_code/Linq_WhereDuplicateFields_success.a");
+    return cached_WhereDuplicateFields_17;
   }
 
   @Test
   public void testWhereDuplicateFieldsEmission() {
-    assertEmissionGood(get_WhereDuplicateFields_12());
+    assertEmissionGood(get_WhereDuplicateFields_17());
   }
 
   @Test
   public void testWhereDuplicateFieldsSuccess() {
-    assertLivePass(get_WhereDuplicateFields_12());
+    assertLivePass(get_WhereDuplicateFields_17());
   }
 
   @Test
   public void testWhereDuplicateFieldsGoodWillHappy() {
-    assertGoodWillHappy(get_WhereDuplicateFields_12());
+    assertGoodWillHappy(get_WhereDuplicateFields_17());
   }
 
   @Test
   public void testWhereDuplicateFieldsExceptionFree() {
-    assertExceptionFree(get_WhereDuplicateFields_12());
+    assertExceptionFree(get_WhereDuplicateFields_17());
   }
 
   @Test
   public void testWhereDuplicateFieldsTODOFree() {
-    assertTODOFree(get_WhereDuplicateFields_12());
+    assertTODOFree(get_WhereDuplicateFields_17());
   }
 
   @Test
-  public void stable_WhereDuplicateFields_12() {
-    String live = get_WhereDuplicateFields_12();
+  public void stable_WhereDuplicateFields_17() {
+    String live = get_WhereDuplicateFields_17();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_WhereDuplicateFields_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -4307,9 +8152,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class WhereDuplicateFields_12 extends LivingDocument {");
+    gold.append("\npublic class WhereDuplicateFields_17 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
-    gold.append("\n  public WhereDuplicateFields_12(DocumentMonitor __monitor) {");
+    gold.append("\n  public WhereDuplicateFields_17(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent), 0);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -4319,50 +8164,88 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4425,12 +8308,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    t.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWhereDuplicateFields_12 {");
+    gold.append("\n  private class DeltaWhereDuplicateFields_17 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWhereDuplicateFields_12() {");
+    gold.append("\n    private DeltaWhereDuplicateFields_17() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(WhereDuplicateFields_12 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(WhereDuplicateFields_17 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -4446,8 +8329,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    WhereDuplicateFields_12 __self = this;");
-    gold.append("\n    DeltaWhereDuplicateFields_12 __state = new DeltaWhereDuplicateFields_12();");
+    gold.append("\n    WhereDuplicateFields_17 __self = this;");
+    gold.append("\n    DeltaWhereDuplicateFields_17 __state = new DeltaWhereDuplicateFields_17();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -4479,19 +8362,25 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -4550,16 +8439,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -4602,9 +8498,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -4644,13 +8540,13 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    {");
     gold.append("\n      RxTable<RTxX> _AutoRef1 = t;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr3 = new RTx_AnonObjConvert_0(1);");
     gold.append("\n      RTxX _CreateRef2 = _AutoRef1.make();");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      _CreateRef2.x.set(_AutoExpr3.x);");
     gold.append("\n    }");
     gold.append("\n    __track(1);");
@@ -4683,7 +8579,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == 1 || x == 2;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4709,43 +8605,43 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_WherePrimaryKeyExtraction_13 = null;
-  private String get_WherePrimaryKeyExtraction_13() {
-    if (cached_WherePrimaryKeyExtraction_13 != null) {
-      return cached_WherePrimaryKeyExtraction_13;
+  private String cached_WherePrimaryKeyExtraction_18 = null;
+  private String get_WherePrimaryKeyExtraction_18() {
+    if (cached_WherePrimaryKeyExtraction_18 != null) {
+      return cached_WherePrimaryKeyExtraction_18;
     }
-    cached_WherePrimaryKeyExtraction_13 = generateTestOutput(true, "WherePrimaryKeyExtraction_13", "./test_code/Linq_WherePrimaryKeyExtraction_success.a");
-    return cached_WherePrimaryKeyExtraction_13;
+    cached_WherePrimaryKeyExtraction_18 = generateTestOutput(true, "WherePrimaryKeyExtraction_18", "./test_code/Linq_WherePrimaryKeyExtraction_success.a");
+    return cached_WherePrimaryKeyExtraction_18;
   }
 
   @Test
   public void testWherePrimaryKeyExtractionEmission() {
-    assertEmissionGood(get_WherePrimaryKeyExtraction_13());
+    assertEmissionGood(get_WherePrimaryKeyExtraction_18());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionSuccess() {
-    assertLivePass(get_WherePrimaryKeyExtraction_13());
+    assertLivePass(get_WherePrimaryKeyExtraction_18());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionGoodWillHappy() {
-    assertGoodWillHappy(get_WherePrimaryKeyExtraction_13());
+    assertGoodWillHappy(get_WherePrimaryKeyExtraction_18());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionExceptionFree() {
-    assertExceptionFree(get_WherePrimaryKeyExtraction_13());
+    assertExceptionFree(get_WherePrimaryKeyExtraction_18());
   }
 
   @Test
   public void testWherePrimaryKeyExtractionTODOFree() {
-    assertTODOFree(get_WherePrimaryKeyExtraction_13());
+    assertTODOFree(get_WherePrimaryKeyExtraction_18());
   }
 
   @Test
-  public void stable_WherePrimaryKeyExtraction_13() {
-    String live = get_WherePrimaryKeyExtraction_13();
+  public void stable_WherePrimaryKeyExtraction_18() {
+    String live = get_WherePrimaryKeyExtraction_18();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Linq_WherePrimaryKeyExtraction_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -4774,9 +8670,9 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class WherePrimaryKeyExtraction_13 extends LivingDocument {");
+    gold.append("\npublic class WherePrimaryKeyExtraction_18 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> t;");
-    gold.append("\n  public WherePrimaryKeyExtraction_13(DocumentMonitor __monitor) {");
+    gold.append("\n  public WherePrimaryKeyExtraction_18(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxX(__parent), 0);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -4786,50 +8682,88 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4892,12 +8826,12 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    t.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaWherePrimaryKeyExtraction_13 {");
+    gold.append("\n  private class DeltaWherePrimaryKeyExtraction_18 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaWherePrimaryKeyExtraction_13() {");
+    gold.append("\n    private DeltaWherePrimaryKeyExtraction_18() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(WherePrimaryKeyExtraction_13 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(WherePrimaryKeyExtraction_18 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -4913,8 +8847,8 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    WherePrimaryKeyExtraction_13 __self = this;");
-    gold.append("\n    DeltaWherePrimaryKeyExtraction_13 __state = new DeltaWherePrimaryKeyExtraction_13();");
+    gold.append("\n    WherePrimaryKeyExtraction_18 __self = this;");
+    gold.append("\n    DeltaWherePrimaryKeyExtraction_18 __state = new DeltaWherePrimaryKeyExtraction_18();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -4946,19 +8880,25 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 122:");
+    gold.append("\n              if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n                z.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"z\":");
-    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -5017,16 +8957,23 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -5061,7 +9008,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 13;");
+    gold.append("\n    __cost(13);");
     gold.append("\n    __track(0);");
     gold.append("\n    (t.iterate(false)).where(true, new __CLOSURE_WhereClause0());");
     gold.append("\n    __track(1);");
@@ -5110,7 +9057,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == 42;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5128,7 +9075,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return 42 == id;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5145,7 +9092,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return 42 == x.id.get();");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5162,7 +9109,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x.id.get() == 42;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5179,7 +9126,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (x.id.get()) == 42;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5196,7 +9143,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x.id.get() == (42);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5213,7 +9160,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (x.id.get() == 42);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5230,7 +9177,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (x.id.get() == 42 && x.z.get() == 50);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5247,7 +9194,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX x) {");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return (x.z.get() == 50 && x.id.get() == 42);");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5266,7 +9213,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int z = __obj.z.get();");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return z == 50 && id == 42;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5285,7 +9232,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int id = __obj.id.get();");
     gold.append("\n      int z = __obj.z.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return id == 42 && z == 50 && z == 50 && z == 50 && z == 50;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5304,7 +9251,7 @@ public class GeneratedLinqTests extends GeneratedBase {
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int z = __obj.z.get();");
     gold.append("\n      int id = __obj.id.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return z == 50 && z == 50 && z == 50 && z == 50 && id == 42;");
     gold.append("\n    }");
     gold.append("\n  }");
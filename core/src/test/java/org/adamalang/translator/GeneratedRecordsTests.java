@@ -85,53 +85,94 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"r1\":");
-    gold.append("\n            r1.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"r2\":");
-    gold.append("\n            r2.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 3583:");
+    gold.append("\n            if (__reader.matchFieldName(\"r1\")) {");
+    gold.append("\n              r1.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 3584:");
+    gold.append("\n            if (__reader.matchFieldName(\"r2\")) {");
+    gold.append("\n              r2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -252,19 +293,25 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -323,16 +370,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -375,9 +429,9 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_1 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -390,7 +444,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n  }");
     gold.append("\n  private int __FUNC_0_foo(RTxR x) {");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return x.x.get();");
     gold.append("\n  }");
@@ -407,14 +461,14 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  protected void __reset_future_queues() {");
     gold.append("\n  }");
     gold.append("\n  private void __step_valid() {");
-    gold.append("\n    __code_cost += 7;");
+    gold.append("\n    __cost(7);");
     gold.append("\n    __track(0);");
     gold.append("\n    RTxR r4 = r2;");
     gold.append("\n    __track(1);");
     gold.append("\n    NtMaybe<RTxR> _AutoConditionr_2;");
     gold.append("\n    if ((_AutoConditionr_2 = r1.get()).has()) {");
     gold.append("\n      RTxR r = _AutoConditionr_2.get();");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      __track(2);");
     gold.append("\n      r4 = r;");
     gold.append("\n      __track(3);");
@@ -700,47 +754,82 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -809,12 +898,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(ComputedFields_4 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__gcake1 != __item.___cake1.getGeneration()) {");
     gold.append("\n        Integer __local_cake1 = __item.__COMPUTE_cake1(__writer.who);");
-    gold.append("\n        __dcake1.show(__local_cake1, __obj.planField(\"cake1\"));");
+    gold.append("\n        __dcake1.show(__local_cake1, __obj.planEncodedField(\"\\\"cake1\\\":\"));");
     gold.append("\n        __gcake1 = __item.___cake1.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
@@ -854,7 +943,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return (who.equals(NtClient.NO_ONE));");
     gold.append("\n  }");
@@ -981,50 +1070,88 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"t\":");
-    gold.append("\n            t.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1097,12 +1224,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(DeleteOnList_5 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__geven != __item.even.getGeneration()) {");
     gold.append("\n        {");
-    gold.append("\n          PrivateLazyDeltaWriter __list1 = __obj.planField(\"even\").planObject();");
+    gold.append("\n          PrivateLazyDeltaWriter __list1 = __obj.planEncodedField(\"\\\"even\\\":\").planObject();");
     gold.append("\n          DRecordList<DeltaRTxR> __deltaList2 = __deven;");
     gold.append("\n          DRecordList<DeltaRTxR>.Walk __deltaListWalker3 = __deltaList2.begin();");
     gold.append("\n          for (RTxR __listElement4 : __item.even.get()) {");
@@ -1161,19 +1288,25 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -1233,19 +1366,26 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private DInt32 __dx;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
     gold.append("\n      __dx = new DInt32();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -1288,9 +1428,9 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -1317,7 +1457,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return (who.equals(NtClient.NO_ONE));");
     gold.append("\n  }");
@@ -1336,18 +1476,18 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 4;");
+    gold.append("\n    __cost(4);");
     gold.append("\n    __track(1);");
     gold.append("\n    {");
     gold.append("\n      int k = 0;");
     gold.append("\n      for (;__goodwill(9, 17, 9, 23) && (k < 10);k++) {");
-    gold.append("\n        __code_cost += 2;");
+    gold.append("\n        __cost(2);");
     gold.append("\n        __track(2);");
     gold.append("\n        {");
     gold.append("\n          RxTable<RTxR> _AutoRef6 = t;");
     gold.append("\n          RTx_AnonObjConvert_0 _AutoExpr8 = new RTx_AnonObjConvert_0(k);");
     gold.append("\n          RTxR _CreateRef7 = _AutoRef6.make();");
-    gold.append("\n          __code_cost += 1;");
+    gold.append("\n          __cost(1);");
     gold.append("\n          _CreateRef7.x.set(_AutoExpr8.x);");
     gold.append("\n        }");
     gold.append("\n      }");
@@ -1380,7 +1520,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxR __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x % 2 == 0;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1398,7 +1538,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxR __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x % 3 == 0;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1416,7 +1556,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxR __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x % 8 == 0;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -1694,48 +1834,600 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      \"line\" : 1,");
     gold.append("\n      \"character\" : 12");
     gold.append("\n    }");
-    gold.append("\n  },");
-    gold.append("\n  \"severity\" : 1,");
-    gold.append("\n  \"source\" : \"error\",");
-    gold.append("\n  \"message\" : \"Policy 'p' was not found (CustomPolicy)\"");
-    gold.append("\n} ]");
-    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\n  },");
+    gold.append("\n  \"severity\" : 1,");
+    gold.append("\n  \"source\" : \"error\",");
+    gold.append("\n  \"message\" : \"Policy 'p' was not found (CustomPolicy)\"");
+    gold.append("\n} ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\n");
+    gold.append("\nFailedValidation");
+    assertStable(live, gold);
+  }
+  private String cached_FieldHashCollision_10 = null;
+  private String get_FieldHashCollision_10() {
+    if (cached_FieldHashCollision_10 != null) {
+      return cached_FieldHashCollision_10;
+    }
+    cached_FieldHashCollision_10 = generateTestOutput(true, "FieldHashCollision_10", "./test_code/Records_FieldHashCollision_success.a");
+    return cached_FieldHashCollision_10;
+  }
+
+  @Test
+  public void testFieldHashCollisionEmission() {
+    assertEmissionGood(get_FieldHashCollision_10());
+  }
+
+  @Test
+  public void testFieldHashCollisionSuccess() {
+    assertLivePass(get_FieldHashCollision_10());
+  }
+
+  @Test
+  public void testFieldHashCollisionGoodWillHappy() {
+    assertGoodWillHappy(get_FieldHashCollision_10());
+  }
+
+  @Test
+  public void testFieldHashCollisionExceptionFree() {
+    assertExceptionFree(get_FieldHashCollision_10());
+  }
+
+  @Test
+  public void testFieldHashCollisionTODOFree() {
+    assertTODOFree(get_FieldHashCollision_10());
+  }
+
+  @Test
+  public void stable_FieldHashCollision_10() {
+    String live = get_FieldHashCollision_10();
+    StringBuilder gold = new StringBuilder();
+    gold.append("Path:./test_code/Records_FieldHashCollision_success.a");
+    gold.append("\n--EMISSION-----------------------------------------");
+    gold.append("\nEmission Success, Yay");
+    gold.append("\n--ISSUES-------------------------------------------");
+    gold.append("\n[ ]");
+    gold.append("\n--JAVA---------------------------------------------");
+    gold.append("\nimport com.fasterxml.jackson.databind.JsonNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ArrayNode;");
+    gold.append("\nimport com.fasterxml.jackson.databind.node.ObjectNode;");
+    gold.append("\nimport org.adamalang.runtime.*;");
+    gold.append("\nimport org.adamalang.runtime.async.*;");
+    gold.append("\nimport org.adamalang.runtime.contracts.*;");
+    gold.append("\nimport org.adamalang.runtime.delta.*;");
+    gold.append("\nimport org.adamalang.runtime.exceptions.*;");
+    gold.append("\nimport org.adamalang.runtime.index.*;");
+    gold.append("\nimport org.adamalang.runtime.json.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.*;");
+    gold.append("\nimport org.adamalang.runtime.natives.lists.*;");
+    gold.append("\nimport org.adamalang.runtime.ops.*;");
+    gold.append("\nimport org.adamalang.runtime.reactives.*;");
+    gold.append("\nimport org.adamalang.runtime.stdlib.*;");
+    gold.append("\nimport java.util.function.Consumer;");
+    gold.append("\nimport java.util.function.Function;");
+    gold.append("\nimport java.util.ArrayList;");
+    gold.append("\nimport java.util.Comparator;");
+    gold.append("\nimport java.util.Map;");
+    gold.append("\nimport java.lang.Math;");
+    gold.append("\npublic class FieldHashCollision_10 extends LivingDocument {");
+    gold.append("\n  private final RTxR r;");
+    gold.append("\n  private final RxTable<RTxR> t;");
+    gold.append("\n  public FieldHashCollision_10(DocumentMonitor __monitor) {");
+    gold.append("\n    super(__monitor);");
+    gold.append("\n    r = new RTxR(this);");
+    gold.append("\n    t = new RxTable<>(__self, this, \"t\", (RxParent __parent) -> new RTxR(__parent), 0);");
+    gold.append("\n    __goodwillBudget = 100000;");
+    gold.append("\n    __goodwillLimitOfBudget = 100000;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n    if (__reader.startObject()) {");
+    gold.append("\n      while(__reader.notEndOfObject()) {");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 114:");
+    gold.append("\n            if (__reader.matchFieldName(\"r\")) {");
+    gold.append("\n              r.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 116:");
+    gold.append("\n            if (__reader.matchFieldName(\"t\")) {");
+    gold.append("\n              t.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
+    gold.append("\n            break;");
+    gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n    __writer.beginObject();");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"r\");");
+    gold.append("\n    r.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"t\");");
+    gold.append("\n    t.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__state\");");
+    gold.append("\n    __state.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__constructed\");");
+    gold.append("\n    __constructed.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__next_time\");");
+    gold.append("\n    __next_time.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__blocked\");");
+    gold.append("\n    __blocked.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__seq\");");
+    gold.append("\n    __seq.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__entropy\");");
+    gold.append("\n    __entropy.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__auto_future_id\");");
+    gold.append("\n    __auto_future_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__connection_id\");");
+    gold.append("\n    __connection_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__message_id\");");
+    gold.append("\n    __message_id.__dump(__writer);");
+    gold.append("\n    __writer.writeObjectFieldIntro(\"__time\");");
+    gold.append("\n    __time.__dump(__writer);");
+    gold.append("\n    __dumpClients(__writer);");
+    gold.append("\n    __dumpMessages(__writer);");
+    gold.append("\n    __writer.endObject();");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n    __state.__commit(\"__state\", __writer);");
+    gold.append("\n    __constructed.__commit(\"__constructed\", __writer);");
+    gold.append("\n    __next_time.__commit(\"__next_time\", __writer);");
+    gold.append("\n    __blocked.__commit(\"__blocked\", __writer);");
+    gold.append("\n    __seq.__commit(\"__seq\", __writer);");
+    gold.append("\n    __entropy.__commit(\"__entropy\", __writer);");
+    gold.append("\n    __auto_future_id.__commit(\"__auto_future_id\", __writer);");
+    gold.append("\n    __connection_id.__commit(\"__connection_id\", __writer);");
+    gold.append("\n    __message_id.__commit(\"__message_id\", __writer);");
+    gold.append("\n    __time.__commit(\"__time\", __writer);");
+    gold.append("\n    r.__commit(\"r\", __writer);");
+    gold.append("\n    t.__commit(\"t\", __writer);");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __revert() {");
+    gold.append("\n    __state.__revert();");
+    gold.append("\n    __constructed.__revert();");
+    gold.append("\n    __next_time.__revert();");
+    gold.append("\n    __blocked.__revert();");
+    gold.append("\n    __seq.__revert();");
+    gold.append("\n    __entropy.__revert();");
+    gold.append("\n    __auto_future_id.__revert();");
+    gold.append("\n    __connection_id.__revert();");
+    gold.append("\n    __message_id.__revert();");
+    gold.append("\n    __time.__revert();");
+    gold.append("\n    r.__revert();");
+    gold.append("\n    t.__revert();");
+    gold.append("\n    /* root */");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaFieldHashCollision_10 {");
+    gold.append("\n    private DeltaRTxR __dr;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaFieldHashCollision_10() {");
+    gold.append("\n      __dr = new DeltaRTxR();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(FieldHashCollision_10 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(1);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __obj.manifest();");
+    gold.append("\n      __dr.show(__item.r, __obj.planEncodedField(\"\\\"r\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
+    gold.append("\n    FieldHashCollision_10 __self = this;");
+    gold.append("\n    DeltaFieldHashCollision_10 __state = new DeltaFieldHashCollision_10();");
+    gold.append("\n    return new PrivateView(__who, __updates) {");
+    gold.append("\n      @Override");
+    gold.append("\n      public void update(JsonStreamWriter __writer) {");
+    gold.append("\n        __state.show(__self, PrivateLazyDeltaWriter.bind(__who, __writer));");
+    gold.append("\n      }");
+    gold.append("\n    };");
+    gold.append("\n  }");
+    gold.append("\n  private class RTxR extends RxRecordBase<RTxR> {");
+    gold.append("\n    private final RxInt32 Aa;");
+    gold.append("\n    private final RxInt32 BB;");
+    gold.append("\n    private final RxInt32 id;");
+    gold.append("\n    private RTxR(RxParent __owner) {");
+    gold.append("\n      super(__owner);");
+    gold.append("\n      Aa = new RxInt32(this, 0);");
+    gold.append("\n      BB = new RxInt32(this, 0);");
+    gold.append("\n      id = new RxInt32(this, 0);");
+    gold.append("\n      if (__owner instanceof RxTable) {");
+    gold.append("\n        /* ok */");
+    gold.append("\n      } else {");
+    gold.append("\n        /* ok */");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"Aa\", \"BB\"};");
+    gold.append("\n    @Override");
+    gold.append("\n    public String[] __getIndexColumns() {");
+    gold.append("\n      return __INDEX_COLUMNS;");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int[] __getIndexValues() {");
+    gold.append("\n      return new int[] {Aa.getIndexValue(), BB.getIndexValue()};");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while(__reader.notEndOfObject()) {");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 2112:");
+    gold.append("\n              if (__reader.matchFieldName(\"Aa\")) {");
+    gold.append("\n                Aa.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              if (__reader.matchFieldName(\"BB\")) {");
+    gold.append("\n                BB.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
+    gold.append("\n              break;");
+    gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __dump(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"Aa\");");
+    gold.append("\n      Aa.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"BB\");");
+    gold.append("\n      BB.__dump(__writer);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"id\");");
+    gold.append("\n      id.__dump(__writer);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __commit(String __name, JsonStreamWriter __writer) {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __writer.writeObjectFieldIntro(__name);");
+    gold.append("\n        __writer.beginObject();");
+    gold.append("\n        Aa.__commit(\"Aa\", __writer);");
+    gold.append("\n        BB.__commit(\"BB\", __writer);");
+    gold.append("\n        id.__commit(\"id\", __writer);");
+    gold.append("\n        __writer.endObject();");
+    gold.append("\n        __lowerDirtyCommit();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __revert() {");
+    gold.append("\n      if (__isDirty()) {");
+    gold.append("\n        __isDying = false;");
+    gold.append("\n        Aa.__revert();");
+    gold.append("\n        BB.__revert();");
+    gold.append("\n        id.__revert();");
+    gold.append("\n        __lowerDirtyRevert();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public String __name() {");
+    gold.append("\n      return \"R\";");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __deindex() {");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    public void __reindex() {");
+    gold.append("\n      /* ok */");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public int __id() {");
+    gold.append("\n      return id.get();");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __setId(int __id, boolean __force) {");
+    gold.append("\n      if (__force) {");
+    gold.append("\n        id.forceSet(__id);");
+    gold.append("\n      } else {");
+    gold.append("\n        id.set(__id);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTxR {");
+    gold.append("\n    private DInt32 __dAa;");
+    gold.append("\n    private DInt32 __dBB;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
+    gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __dAa = new DInt32();");
+    gold.append("\n      __dBB = new DInt32();");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(2);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dAa.show(__item.Aa.get(), __obj.planEncodedField(\"\\\"Aa\\\":\"));");
+    gold.append("\n      __dBB.show(__item.BB.get(), __obj.planEncodedField(\"\\\"BB\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private static class RTx_AnonObjConvert_0 implements NtMessageBase {");
+    gold.append("\n    private int Aa = 0;");
+    gold.append("\n    private int BB = 0;");
+    gold.append("\n    private RTx_AnonObjConvert_0(JsonStreamReader __reader) {");
+    gold.append("\n      if (__reader.startObject()) {");
+    gold.append("\n        while (__reader.notEndOfObject()) {");
+    gold.append("\n          String __fieldName = __reader.fieldName();");
+    gold.append("\n          switch (__fieldName) {");
+    gold.append("\n            case \"Aa\":");
+    gold.append("\n              this.Aa = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            case \"BB\":");
+    gold.append("\n              this.BB = __reader.readInteger();");
+    gold.append("\n              break;");
+    gold.append("\n            default:");
+    gold.append("\n              __reader.skipValue();");
+    gold.append("\n          }");
+    gold.append("\n        }");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    @Override");
+    gold.append("\n    public void __writeOut(JsonStreamWriter __writer) {");
+    gold.append("\n      __writer.beginObject();");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"Aa\");");
+    gold.append("\n      __writer.writeInteger(Aa);");
+    gold.append("\n      __writer.writeObjectFieldIntro(\"BB\");");
+    gold.append("\n      __writer.writeInteger(BB);");
+    gold.append("\n      __writer.endObject();");
+    gold.append("\n    }");
+    gold.append("\n    private RTx_AnonObjConvert_0() {}");
+    gold.append("\n    private RTx_AnonObjConvert_0(int Aa, int BB) {");
+    gold.append("\n      this.Aa = Aa;");
+    gold.append("\n      this.BB = BB;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  private class DeltaRTx_AnonObjConvert_0 {");
+    gold.append("\n    private DInt32 __dAa;");
+    gold.append("\n    private DInt32 __dBB;");
+    gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private DeltaRTx_AnonObjConvert_0() {");
+    gold.append("\n      __dAa = new DInt32();");
+    gold.append("\n      __dBB = new DInt32();");
+    gold.append("\n      __emitted = false;");
+    gold.append("\n    }");
+    gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(2);");
+    gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
+    gold.append("\n      __dAa.show(__item.Aa, __obj.planEncodedField(\"\\\"Aa\\\":\"));");
+    gold.append("\n      __dBB.show(__item.BB, __obj.planEncodedField(\"\\\"BB\\\":\"));");
+    gold.append("\n      if (__obj.end()) {");
+    gold.append("\n        __emitted = true;");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__emitted) {");
+    gold.append("\n        __emitted = false;");
+    gold.append("\n        __writer.writeNull();");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __route(AsyncTask task) {");
+    gold.append("\n    return;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected Object __parse_message2(String channel, JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __reset_future_queues() {");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __invoke_label(String __new_state) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  public boolean __onConnected(NtClient __cvalue) {");
+    gold.append("\n    boolean __result = false;");
+    gold.append("\n    return __result;");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __onDisconnected(NtClient __cvalue) {}");
+    gold.append("\n  public void __test_BothFieldsHashTheSame(TestReportBuilder report) {");
+    gold.append("\n    report.begin(\"BothFieldsHashTheSame\");");
+    gold.append("\n    {");
+    gold.append("\n      __cost(4);");
+    gold.append("\n      __track(0);");
+    gold.append("\n      r.Aa.set(1);");
+    gold.append("\n      __track(1);");
+    gold.append("\n      r.BB.set(2);");
+    gold.append("\n      __track(2);");
+    gold.append("\n      {");
+    gold.append("\n        RxTable<RTxR> _AutoRef1 = t;");
+    gold.append("\n        RTx_AnonObjConvert_0 _AutoExpr3 = new RTx_AnonObjConvert_0(3, 4);");
+    gold.append("\n        RTxR _CreateRef2 = _AutoRef1.make();");
+    gold.append("\n        __cost(2);");
+    gold.append("\n        _CreateRef2.Aa.set(_AutoExpr3.Aa);");
+    gold.append("\n        _CreateRef2.BB.set(_AutoExpr3.BB);");
+    gold.append("\n      }");
+    gold.append("\n    }");
+    gold.append("\n    report.end(getAndResetAssertions());");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public String[] __getTests() {");
+    gold.append("\n    return new String[] {\"BothFieldsHashTheSame\"};");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  public void __test(TestReportBuilder report, String testName) {");
+    gold.append("\n    switch(testName) {");
+    gold.append("\n      case \"BothFieldsHashTheSame\":");
+    gold.append("\n          __test_BothFieldsHashTheSame(report);");
+    gold.append("\n          return;");
+    gold.append("\n    }");
+    gold.append("\n  }");
+    gold.append("\n  @Override");
+    gold.append("\n  protected void __construct_intern(NtClient who, NtMessageBase message) {}");
+    gold.append("\n  @Override");
+    gold.append("\n  protected NtMessageBase __parse_construct_arg(JsonStreamReader __reader) {");
+    gold.append("\n    __reader.skipValue();");
+    gold.append("\n    return NtMessageBase.NULL;");
+    gold.append("\n  }");
+    gold.append("\n  /* end of file */");
+    gold.append("\n}");
     gold.append("\n");
-    gold.append("\nFailedValidation");
+    gold.append("\n--JAVA COMPILE RESULTS-----------------------------");
+    gold.append("\n--JAVA RUNNING-------------------------------------");
+    gold.append("\n{\"command\":\"construct\",\"timestamp\":\"0\",\"who\":{\"agent\":\"?\",\"authority\":\"?\"},\"arg\":{},\"entropy\":\"0\"}-->{\"__constructed\":true,\"__entropy\":\"0\"} need:true in:0");
+    gold.append("\nNO_ONE was DENIED:5011");
+    gold.append("\nRANDO was DENIED:5011");
+    gold.append("\n+ NO_ONE DELTA:{\"data\":{\"r\":{\"Aa\":0,\"BB\":0}},\"outstanding\":[],\"blockers\":[],\"seq\":1}");
+    gold.append("\n+ RANDO DELTA:{\"data\":{\"r\":{\"Aa\":0,\"BB\":0}},\"outstanding\":[],\"blockers\":[],\"seq\":1}");
+    gold.append("\n{\"command\":\"invalidate\",\"timestamp\":\"25\"}-->{\"__messages\":null,\"__seedUsed\":\"0\",\"__seq\":1,\"__entropy\":\"-4962768465676381896\",\"__time\":\"25\"} need:false in:-25");
+    gold.append("\n{\"command\":\"bill\",\"timestamp\":\"50\"}-->{\"__goodwill_used\":0,\"__cost\":6,\"__billing_seq\":1} need:true in:0");
+    gold.append("\n--JAVA RESULTS-------------------------------------");
+    gold.append("\n{\"__constructed\":true,\"__entropy\":\"-4962768465676381896\",\"__seedUsed\":\"0\",\"__seq\":1,\"__time\":\"25\",\"__goodwill_used\":0,\"__cost\":6,\"__billing_seq\":1}");
+    gold.append("\n--DUMP RESULTS-------------------------------------");
+    gold.append("\n{\"r\":{\"Aa\":0,\"BB\":0,\"id\":0},\"t\":{\"auto_key\":0,\"rows\":{}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":1,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"50\"}");
+    gold.append("\n{\"r\":{\"Aa\":0,\"BB\":0,\"id\":0},\"t\":{\"auto_key\":0,\"rows\":{}},\"__state\":\"\",\"__constructed\":true,\"__next_time\":\"0\",\"__blocked\":false,\"__seq\":1,\"__entropy\":\"-4962768465676381896\",\"__auto_future_id\":0,\"__connection_id\":0,\"__message_id\":0,\"__time\":\"50\"}");
+    gold.append("\n--JAVA TEST RESULTS--------------------------------");
+    gold.append("\nTEST[BothFieldsHashTheSame] HAS NO ASSERTS");
+    gold.append("\n...DUMP:{\"r\":{\"Aa\":1,\"BB\":2},\"t\":{\"auto_key\":1,\"rows\":{\"0\":{\"Aa\":3,\"BB\":4}}}}");
+    gold.append("\n");
+    gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_IdMustBeInt_10 = null;
-  private String get_IdMustBeInt_10() {
-    if (cached_IdMustBeInt_10 != null) {
-      return cached_IdMustBeInt_10;
+  private String cached_IdMustBeInt_11 = null;
+  private String get_IdMustBeInt_11() {
+    if (cached_IdMustBeInt_11 != null) {
+      return cached_IdMustBeInt_11;
     }
-    cached_IdMustBeInt_10 = generateTestOutput(false, "IdMustBeInt_10", "./test_code/Records_IdMustBeInt_failure.a");
-    return cached_IdMustBeInt_10;
+    cached_IdMustBeInt_11 = generateTestOutput(false, "IdMustBeInt_11", "./test_code/Records_IdMustBeInt_failure.a");
+    return cached_IdMustBeInt_11;
   }
 
   @Test
   public void testIdMustBeIntFailure() {
-    assertLiveFail(get_IdMustBeInt_10());
+    assertLiveFail(get_IdMustBeInt_11());
   }
 
   @Test
   public void testIdMustBeIntNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_IdMustBeInt_10());
+    assertNotTerribleLineNumbers(get_IdMustBeInt_11());
   }
 
   @Test
   public void testIdMustBeIntExceptionFree() {
-    assertExceptionFree(get_IdMustBeInt_10());
+    assertExceptionFree(get_IdMustBeInt_11());
   }
 
   @Test
   public void testIdMustBeIntTODOFree() {
-    assertTODOFree(get_IdMustBeInt_10());
+    assertTODOFree(get_IdMustBeInt_11());
   }
 
   @Test
-  public void stable_IdMustBeInt_10() {
-    String live = get_IdMustBeInt_10();
+  public void stable_IdMustBeInt_11() {
+    String live = get_IdMustBeInt_11();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_IdMustBeInt_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -1759,38 +2451,38 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_InvalidFormula_11 = null;
-  private String get_InvalidFormula_11() {
-    if (cached_InvalidFormula_11 != null) {
-      return cached_InvalidFormula_11;
+  private String cached_InvalidFormula_12 = null;
+  private String get_InvalidFormula_12() {
+    if (cached_InvalidFormula_12 != null) {
+      return cached_InvalidFormula_12;
     }
-    cached_InvalidFormula_11 = generateTestOutput(false, "InvalidFormula_11", "./test_code/Records_InvalidFormula_failure.a");
-    return cached_InvalidFormula_11;
+    cached_InvalidFormula_12 = generateTestOutput(false, "InvalidFormula_12", "./test_code/Records_InvalidFormula_failure.a");
+    return cached_InvalidFormula_12;
   }
 
   @Test
   public void testInvalidFormulaFailure() {
-    assertLiveFail(get_InvalidFormula_11());
+    assertLiveFail(get_InvalidFormula_12());
   }
 
   @Test
   public void testInvalidFormulaNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_InvalidFormula_11());
+    assertNotTerribleLineNumbers(get_InvalidFormula_12());
   }
 
   @Test
   public void testInvalidFormulaExceptionFree() {
-    assertExceptionFree(get_InvalidFormula_11());
+    assertExceptionFree(get_InvalidFormula_12());
   }
 
   @Test
   public void testInvalidFormulaTODOFree() {
-    assertTODOFree(get_InvalidFormula_11());
+    assertTODOFree(get_InvalidFormula_12());
   }
 
   @Test
-  public void stable_InvalidFormula_11() {
-    String live = get_InvalidFormula_11();
+  public void stable_InvalidFormula_12() {
+    String live = get_InvalidFormula_12();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_InvalidFormula_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -1828,43 +2520,43 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_LazyFields_12 = null;
-  private String get_LazyFields_12() {
-    if (cached_LazyFields_12 != null) {
-      return cached_LazyFields_12;
+  private String cached_LazyFields_13 = null;
+  private String get_LazyFields_13() {
+    if (cached_LazyFields_13 != null) {
+      return cached_LazyFields_13;
     }
-    cached_LazyFields_12 = generateTestOutput(true, "LazyFields_12", "./test_code/Records_LazyFields_success.a");
-    return cached_LazyFields_12;
+    cached_LazyFields_13 = generateTestOutput(true, "LazyFields_13", "./test_code/Records_LazyFields_success.a");
+    return cached_LazyFields_13;
   }
 
   @Test
   public void testLazyFieldsEmission() {
-    assertEmissionGood(get_LazyFields_12());
+    assertEmissionGood(get_LazyFields_13());
   }
 
   @Test
   public void testLazyFieldsSuccess() {
-    assertLivePass(get_LazyFields_12());
+    assertLivePass(get_LazyFields_13());
   }
 
   @Test
   public void testLazyFieldsGoodWillHappy() {
-    assertGoodWillHappy(get_LazyFields_12());
+    assertGoodWillHappy(get_LazyFields_13());
   }
 
   @Test
   public void testLazyFieldsExceptionFree() {
-    assertExceptionFree(get_LazyFields_12());
+    assertExceptionFree(get_LazyFields_13());
   }
 
   @Test
   public void testLazyFieldsTODOFree() {
-    assertTODOFree(get_LazyFields_12());
+    assertTODOFree(get_LazyFields_13());
   }
 
   @Test
-  public void stable_LazyFields_12() {
-    String live = get_LazyFields_12();
+  public void stable_LazyFields_13() {
+    String live = get_LazyFields_13();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_LazyFields_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -1893,9 +2585,9 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class LazyFields_12 extends LivingDocument {");
+    gold.append("\npublic class LazyFields_13 extends LivingDocument {");
     gold.append("\n  private final RTxX x;");
-    gold.append("\n  public LazyFields_12(DocumentMonitor __monitor) {");
+    gold.append("\n  public LazyFields_13(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    x = new RTxX(this);");
     gold.append("\n    __goodwillBudget = 100000;");
@@ -1905,50 +2597,88 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2011,12 +2741,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    x.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaLazyFields_12 {");
+    gold.append("\n  private class DeltaLazyFields_13 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaLazyFields_12() {");
+    gold.append("\n    private DeltaLazyFields_13() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(LazyFields_12 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(LazyFields_13 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -2032,8 +2762,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    LazyFields_12 __self = this;");
-    gold.append("\n    DeltaLazyFields_12 __state = new DeltaLazyFields_12();");
+    gold.append("\n    LazyFields_13 __self = this;");
+    gold.append("\n    DeltaLazyFields_13 __state = new DeltaLazyFields_13();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -2069,19 +2799,25 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"u\":");
-    gold.append("\n              u.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 117:");
+    gold.append("\n              if (__reader.matchFieldName(\"u\")) {");
+    gold.append("\n                u.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2150,11 +2886,11 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxY __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __du.show(__item.u.get(), __obj.planField(\"u\"));");
+    gold.append("\n      __du.show(__item.u.get(), __obj.planEncodedField(\"\\\"u\\\":\"));");
     gold.append("\n      if (__gv != __item.v.getGeneration()) {");
-    gold.append("\n        __dv.show(__item.v.get(), __obj.planField(\"v\"));");
+    gold.append("\n        __dv.show(__item.v.get(), __obj.planEncodedField(\"\\\"v\\\":\"));");
     gold.append("\n        __gv = __item.v.getGeneration();");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
@@ -2201,25 +2937,37 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 119:");
+    gold.append("\n              if (__reader.matchFieldName(\"w\")) {");
+    gold.append("\n                w.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"w\":");
-    gold.append("\n              w.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2300,15 +3048,15 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      __cost(4);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x.get(), __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y.get(), __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__gz != __item.z.getGeneration()) {");
-    gold.append("\n        __dz.show(__item.z.get(), __obj.planField(\"z\"));");
+    gold.append("\n        __dz.show(__item.z.get(), __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n        __gz = __item.z.getGeneration();");
     gold.append("\n      }");
-    gold.append("\n      __dw.show(__item.w, __obj.planField(\"w\"));");
+    gold.append("\n      __dw.show(__item.w, __obj.planEncodedField(\"\\\"w\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2344,7 +3092,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __test_PrimaryTest(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"PrimaryTest\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 6;");
+    gold.append("\n      __cost(6);");
     gold.append("\n      __track(0);");
     gold.append("\n      x.x.set(1);");
     gold.append("\n      __track(1);");
@@ -2401,43 +3149,43 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_MaybeFields_13 = null;
-  private String get_MaybeFields_13() {
-    if (cached_MaybeFields_13 != null) {
-      return cached_MaybeFields_13;
+  private String cached_MaybeFields_14 = null;
+  private String get_MaybeFields_14() {
+    if (cached_MaybeFields_14 != null) {
+      return cached_MaybeFields_14;
     }
-    cached_MaybeFields_13 = generateTestOutput(true, "MaybeFields_13", "./test_code/Records_MaybeFields_success.a");
-    return cached_MaybeFields_13;
+    cached_MaybeFields_14 = generateTestOutput(true, "MaybeFields_14", "./test_code/Records_MaybeFields_success.a");
+    return cached_MaybeFields_14;
   }
 
   @Test
   public void testMaybeFieldsEmission() {
-    assertEmissionGood(get_MaybeFields_13());
+    assertEmissionGood(get_MaybeFields_14());
   }
 
   @Test
   public void testMaybeFieldsSuccess() {
-    assertLivePass(get_MaybeFields_13());
+    assertLivePass(get_MaybeFields_14());
   }
 
   @Test
   public void testMaybeFieldsGoodWillHappy() {
-    assertGoodWillHappy(get_MaybeFields_13());
+    assertGoodWillHappy(get_MaybeFields_14());
   }
 
   @Test
   public void testMaybeFieldsExceptionFree() {
-    assertExceptionFree(get_MaybeFields_13());
+    assertExceptionFree(get_MaybeFields_14());
   }
 
   @Test
   public void testMaybeFieldsTODOFree() {
-    assertTODOFree(get_MaybeFields_13());
+    assertTODOFree(get_MaybeFields_14());
   }
 
   @Test
-  public void stable_MaybeFields_13() {
-    String live = get_MaybeFields_13();
+  public void stable_MaybeFields_14() {
+    String live = get_MaybeFields_14();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_MaybeFields_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -2466,10 +3214,10 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class MaybeFields_13 extends LivingDocument {");
+    gold.append("\npublic class MaybeFields_14 extends LivingDocument {");
     gold.append("\n  private final RTxX x;");
     gold.append("\n  private final RxTable<RTxX> lst;");
-    gold.append("\n  public MaybeFields_13(DocumentMonitor __monitor) {");
+    gold.append("\n  public MaybeFields_14(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    x = new RTxX(this);");
     gold.append("\n    lst = new RxTable<>(__self, this, \"lst\", (RxParent __parent) -> new RTxX(__parent), 0);");
@@ -2480,53 +3228,94 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"lst\":");
-    gold.append("\n            lst.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 107469:");
+    gold.append("\n            if (__reader.matchFieldName(\"lst\")) {");
+    gold.append("\n              lst.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -2593,18 +3382,18 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    lst.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaMaybeFields_13 {");
+    gold.append("\n  private class DeltaMaybeFields_14 {");
     gold.append("\n    private DeltaRTxX __dx;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaMaybeFields_13() {");
+    gold.append("\n    private DeltaMaybeFields_14() {");
     gold.append("\n      __dx = new DeltaRTxX();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(MaybeFields_13 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n    public void show(MaybeFields_14 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -2618,8 +3407,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    MaybeFields_13 __self = this;");
-    gold.append("\n    DeltaMaybeFields_13 __state = new DeltaMaybeFields_13();");
+    gold.append("\n    MaybeFields_14 __self = this;");
+    gold.append("\n    DeltaMaybeFields_14 __state = new DeltaMaybeFields_14();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -2651,19 +3440,25 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"mi\":");
-    gold.append("\n              mi.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3484:");
+    gold.append("\n              if (__reader.matchFieldName(\"mi\")) {");
+    gold.append("\n                mi.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -2723,25 +3518,32 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private DMaybe<DInt32> __dmi;");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
     gold.append("\n      __dmi = new DMaybe<DInt32>();");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__item.mi.get().has()) {");
     gold.append("\n        Integer __maybeElement0 = (Integer)(__item.mi.get().get());");
     gold.append("\n        DInt32 __maybeDeltaElement1 = __dmi.get(() -> new DInt32());");
-    gold.append("\n        __maybeDeltaElement1.show(__maybeElement0, __obj.planField(\"mi\"));");
+    gold.append("\n        __maybeDeltaElement1.show(__maybeElement0, __obj.planEncodedField(\"\\\"mi\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmi.hide(__obj.planField(\"mi\"));");
+    gold.append("\n        __dmi.hide(__obj.planEncodedField(\"\\\"mi\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -2763,7 +3565,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(0);");
     gold.append("\n    return (who.equals(NtClient.NO_ONE));");
     gold.append("\n  }");
@@ -2778,7 +3580,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __test_PrimaryTest(TestReportBuilder report) {");
     gold.append("\n    report.begin(\"PrimaryTest\");");
     gold.append("\n    {");
-    gold.append("\n      __code_cost += 4;");
+    gold.append("\n      __cost(4);");
     gold.append("\n      __track(1);");
     gold.append("\n      x.mi.make().set(42);");
     gold.append("\n      __track(2);");
@@ -2835,43 +3637,43 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_MessageFieldsLegacy_14 = null;
-  private String get_MessageFieldsLegacy_14() {
-    if (cached_MessageFieldsLegacy_14 != null) {
-      return cached_MessageFieldsLegacy_14;
+  private String cached_MessageFieldsLegacy_15 = null;
+  private String get_MessageFieldsLegacy_15() {
+    if (cached_MessageFieldsLegacy_15 != null) {
+      return cached_MessageFieldsLegacy_15;
     }
-    cached_MessageFieldsLegacy_14 = generateTestOutput(true, "MessageFieldsLegacy_14", "./test_code/Records_MessageFieldsLegacy_success.a");
-    return cached_MessageFieldsLegacy_14;
+    cached_MessageFieldsLegacy_15 = generateTestOutput(true, "MessageFieldsLegacy_15", "./test_code/Records_MessageFieldsLegacy_success.a");
+    return cached_MessageFieldsLegacy_15;
   }
 
   @Test
   public void testMessageFieldsLegacyEmission() {
-    assertEmissionGood(get_MessageFieldsLegacy_14());
+    assertEmissionGood(get_MessageFieldsLegacy_15());
   }
 
   @Test
   public void testMessageFieldsLegacySuccess() {
-    assertLivePass(get_MessageFieldsLegacy_14());
+    assertLivePass(get_MessageFieldsLegacy_15());
   }
 
   @Test
   public void testMessageFieldsLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_MessageFieldsLegacy_14());
+    assertGoodWillHappy(get_MessageFieldsLegacy_15());
   }
 
   @Test
   public void testMessageFieldsLegacyExceptionFree() {
-    assertExceptionFree(get_MessageFieldsLegacy_14());
+    assertExceptionFree(get_MessageFieldsLegacy_15());
   }
 
   @Test
   public void testMessageFieldsLegacyTODOFree() {
-    assertTODOFree(get_MessageFieldsLegacy_14());
+    assertTODOFree(get_MessageFieldsLegacy_15());
   }
 
   @Test
-  public void stable_MessageFieldsLegacy_14() {
-    String live = get_MessageFieldsLegacy_14();
+  public void stable_MessageFieldsLegacy_15() {
+    String live = get_MessageFieldsLegacy_15();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_MessageFieldsLegacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -2900,8 +3702,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class MessageFieldsLegacy_14 extends LivingDocument {");
-    gold.append("\n  public MessageFieldsLegacy_14(DocumentMonitor __monitor) {");
+    gold.append("\npublic class MessageFieldsLegacy_15 extends LivingDocument {");
+    gold.append("\n  public MessageFieldsLegacy_15(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    __goodwillBudget = 100000;");
     gold.append("\n    __goodwillLimitOfBudget = 100000;");
@@ -2910,47 +3712,82 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3009,12 +3846,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    __time.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaMessageFieldsLegacy_14 {");
+    gold.append("\n  private class DeltaMessageFieldsLegacy_15 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaMessageFieldsLegacy_14() {");
+    gold.append("\n    private DeltaMessageFieldsLegacy_15() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(MessageFieldsLegacy_14 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(MessageFieldsLegacy_15 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -3030,8 +3867,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    MessageFieldsLegacy_14 __self = this;");
-    gold.append("\n    DeltaMessageFieldsLegacy_14 __state = new DeltaMessageFieldsLegacy_14();");
+    gold.append("\n    MessageFieldsLegacy_15 __self = this;");
+    gold.append("\n    DeltaMessageFieldsLegacy_15 __state = new DeltaMessageFieldsLegacy_15();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -3075,9 +3912,9 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxM __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dname.show(__item.name, __obj.planField(\"name\"));");
+    gold.append("\n      __dname.show(__item.name, __obj.planEncodedField(\"\\\"name\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3125,9 +3962,9 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxY __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 1;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dval.show(__item.val, __obj.planField(\"val\"));");
+    gold.append("\n      __dval.show(__item.val, __obj.planEncodedField(\"\\\"val\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -3374,15 +4211,15 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 15;");
+    gold.append("\n      __cost(15);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dd.show(__item.d, __obj.planField(\"d\"));");
-    gold.append("\n      __db.show(__item.b, __obj.planField(\"b\"));");
-    gold.append("\n      __ds.show(__item.s, __obj.planField(\"s\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dd.show(__item.d, __obj.planEncodedField(\"\\\"d\\\":\"));");
+    gold.append("\n      __db.show(__item.b, __obj.planEncodedField(\"\\\"b\\\":\"));");
+    gold.append("\n      __ds.show(__item.s, __obj.planEncodedField(\"\\\"s\\\":\"));");
     gold.append("\n      {");
     gold.append("\n        DList<DeltaRTxY> __deltaList1 = __day;");
-    gold.append("\n        PrivateLazyDeltaWriter __list0 = __obj.planField(\"ay\").planObject();");
+    gold.append("\n        PrivateLazyDeltaWriter __list0 = __obj.planEncodedField(\"\\\"ay\\\":\").planObject();");
     gold.append("\n        int __index4 = 0;");
     gold.append("\n        for (RTxY __listElement2 : __item.ay) {");
     gold.append("\n          DeltaRTxY __deltaElement3 = __deltaList1.getPrior(__index4, () -> new DeltaRTxY());");
@@ -3395,54 +4232,54 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      if (__item.mm.has()) {");
     gold.append("\n        RTxM __maybeElement5 = (RTxM)(__item.mm.get());");
     gold.append("\n        DeltaRTxM __maybeDeltaElement6 = __dmm.get(() -> new DeltaRTxM());");
-    gold.append("\n        __maybeDeltaElement6.show(__maybeElement5, __obj.planField(\"mm\"));");
+    gold.append("\n        __maybeDeltaElement6.show(__maybeElement5, __obj.planEncodedField(\"\\\"mm\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmm.hide(__obj.planField(\"mm\"));");
+    gold.append("\n        __dmm.hide(__obj.planEncodedField(\"\\\"mm\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.mi.has()) {");
     gold.append("\n        Integer __maybeElement7 = (Integer)(__item.mi.get());");
     gold.append("\n        DInt32 __maybeDeltaElement8 = __dmi.get(() -> new DInt32());");
-    gold.append("\n        __maybeDeltaElement8.show(__maybeElement7, __obj.planField(\"mi\"));");
+    gold.append("\n        __maybeDeltaElement8.show(__maybeElement7, __obj.planEncodedField(\"\\\"mi\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmi.hide(__obj.planField(\"mi\"));");
+    gold.append("\n        __dmi.hide(__obj.planEncodedField(\"\\\"mi\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.md.has()) {");
     gold.append("\n        Double __maybeElement9 = (Double)(__item.md.get());");
     gold.append("\n        DDouble __maybeDeltaElement10 = __dmd.get(() -> new DDouble());");
-    gold.append("\n        __maybeDeltaElement10.show(__maybeElement9, __obj.planField(\"md\"));");
+    gold.append("\n        __maybeDeltaElement10.show(__maybeElement9, __obj.planEncodedField(\"\\\"md\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmd.hide(__obj.planField(\"md\"));");
+    gold.append("\n        __dmd.hide(__obj.planEncodedField(\"\\\"md\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.mb.has()) {");
     gold.append("\n        Boolean __maybeElement11 = (Boolean)(__item.mb.get());");
     gold.append("\n        DBoolean __maybeDeltaElement12 = __dmb.get(() -> new DBoolean());");
-    gold.append("\n        __maybeDeltaElement12.show(__maybeElement11, __obj.planField(\"mb\"));");
+    gold.append("\n        __maybeDeltaElement12.show(__maybeElement11, __obj.planEncodedField(\"\\\"mb\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmb.hide(__obj.planField(\"mb\"));");
+    gold.append("\n        __dmb.hide(__obj.planEncodedField(\"\\\"mb\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.ms.has()) {");
     gold.append("\n        String __maybeElement13 = (String)(__item.ms.get());");
     gold.append("\n        DString __maybeDeltaElement14 = __dms.get(() -> new DString());");
-    gold.append("\n        __maybeDeltaElement14.show(__maybeElement13, __obj.planField(\"ms\"));");
+    gold.append("\n        __maybeDeltaElement14.show(__maybeElement13, __obj.planEncodedField(\"\\\"ms\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dms.hide(__obj.planField(\"ms\"));");
+    gold.append("\n        __dms.hide(__obj.planEncodedField(\"\\\"ms\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.me.has()) {");
     gold.append("\n        Integer __maybeElement15 = (Integer)(__item.me.get());");
     gold.append("\n        DInt32 __maybeDeltaElement16 = __dme.get(() -> new DInt32());");
-    gold.append("\n        __maybeDeltaElement16.show(__maybeElement15, __obj.planField(\"me\"));");
+    gold.append("\n        __maybeDeltaElement16.show(__maybeElement15, __obj.planEncodedField(\"\\\"me\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dme.hide(__obj.planField(\"me\"));");
+    gold.append("\n        __dme.hide(__obj.planEncodedField(\"\\\"me\\\":\"));");
     gold.append("\n      }");
-    gold.append("\n      __de.show(__item.e, __obj.planField(\"e\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
-    gold.append("\n      __dlbl.show(__item.lbl, __obj.planField(\"lbl\"));");
+    gold.append("\n      __de.show(__item.e, __obj.planEncodedField(\"\\\"e\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dlbl.show(__item.lbl, __obj.planEncodedField(\"\\\"lbl\\\":\"));");
     gold.append("\n      if (__item.mlbl.has()) {");
     gold.append("\n        String __maybeElement17 = (String)(__item.mlbl.get());");
     gold.append("\n        DFastString __maybeDeltaElement18 = __dmlbl.get(() -> new DFastString());");
-    gold.append("\n        __maybeDeltaElement18.show(__maybeElement17, __obj.planField(\"mlbl\"));");
+    gold.append("\n        __maybeDeltaElement18.show(__maybeElement17, __obj.planEncodedField(\"\\\"mlbl\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmlbl.hide(__obj.planField(\"mlbl\"));");
+    gold.append("\n        __dmlbl.hide(__obj.planEncodedField(\"\\\"mlbl\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
@@ -3514,43 +4351,43 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_MethodOverloading_15 = null;
-  private String get_MethodOverloading_15() {
-    if (cached_MethodOverloading_15 != null) {
-      return cached_MethodOverloading_15;
+  private String cached_MethodOverloading_16 = null;
+  private String get_MethodOverloading_16() {
+    if (cached_MethodOverloading_16 != null) {
+      return cached_MethodOverloading_16;
     }
-    cached_MethodOverloading_15 = generateTestOutput(true, "MethodOverloading_15", "./test_code/Records_MethodOverloading_success.a");
-    return cached_MethodOverloading_15;
+    cached_MethodOverloading_16 = generateTestOutput(true, "MethodOverloading_16", "./test_code/Records_MethodOverloading_success.a");
+    return cached_MethodOverloading_16;
   }
 
   @Test
   public void testMethodOverloadingEmission() {
-    assertEmissionGood(get_MethodOverloading_15());
+    assertEmissionGood(get_MethodOverloading_16());
   }
 
   @Test
   public void testMethodOverloadingSuccess() {
-    assertLivePass(get_MethodOverloading_15());
+    assertLivePass(get_MethodOverloading_16());
   }
 
   @Test
   public void testMethodOverloadingGoodWillHappy() {
-    assertGoodWillHappy(get_MethodOverloading_15());
+    assertGoodWillHappy(get_MethodOverloading_16());
   }
 
   @Test
   public void testMethodOverloadingExceptionFree() {
-    assertExceptionFree(get_MethodOverloading_15());
+    assertExceptionFree(get_MethodOverloading_16());
   }
 
   @Test
   public void testMethodOverloadingTODOFree() {
-    assertTODOFree(get_MethodOverloading_15());
+    assertTODOFree(get_MethodOverloading_16());
   }
 
   @Test
-  public void stable_MethodOverloading_15() {
-    String live = get_MethodOverloading_15();
+  public void stable_MethodOverloading_16() {
+    String live = get_MethodOverloading_16();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_MethodOverloading_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -3579,10 +4416,10 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class MethodOverloading_15 extends LivingDocument {");
+    gold.append("\npublic class MethodOverloading_16 extends LivingDocument {");
     gold.append("\n  private final RTxR x;");
     gold.append("\n  private final RxInt32 v;");
-    gold.append("\n  public MethodOverloading_15(DocumentMonitor __monitor) {");
+    gold.append("\n  public MethodOverloading_16(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    x = new RTxR(this);");
     gold.append("\n    v = new RxInt32(this, 0);");
@@ -3593,53 +4430,94 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"v\":");
-    gold.append("\n            v.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 118:");
+    gold.append("\n            if (__reader.matchFieldName(\"v\")) {");
+    gold.append("\n              v.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -3706,12 +4584,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    v.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaMethodOverloading_15 {");
+    gold.append("\n  private class DeltaMethodOverloading_16 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaMethodOverloading_15() {");
+    gold.append("\n    private DeltaMethodOverloading_16() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(MethodOverloading_15 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(MethodOverloading_16 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -3727,8 +4605,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    MethodOverloading_15 __self = this;");
-    gold.append("\n    DeltaMethodOverloading_15 __state = new DeltaMethodOverloading_15();");
+    gold.append("\n    MethodOverloading_16 __self = this;");
+    gold.append("\n    DeltaMethodOverloading_16 __state = new DeltaMethodOverloading_16();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -3751,7 +4629,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    private void __METH_0_foo() {}");
     gold.append("\n    private int __METH_1_foo(int x) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      __track(0);");
     gold.append("\n      v.opMultBy(x);");
     gold.append("\n      __track(1);");
@@ -3768,19 +4646,25 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"v\":");
-    gold.append("\n              v.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 118:");
+    gold.append("\n              if (__reader.matchFieldName(\"v\")) {");
+    gold.append("\n                v.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -3839,16 +4723,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxR {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxR() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxR __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -3883,7 +4774,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(2);");
     gold.append("\n    x.__METH_0_foo();");
     gold.append("\n    __track(3);");
@@ -3920,38 +4811,38 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_PolicyNotFound_16 = null;
-  private String get_PolicyNotFound_16() {
-    if (cached_PolicyNotFound_16 != null) {
-      return cached_PolicyNotFound_16;
+  private String cached_PolicyNotFound_17 = null;
+  private String get_PolicyNotFound_17() {
+    if (cached_PolicyNotFound_17 != null) {
+      return cached_PolicyNotFound_17;
     }
-    cached_PolicyNotFound_16 = generateTestOutput(false, "PolicyNotFound_16", "./test_code/Records_PolicyNotFound_failure.a");
-    return cached_PolicyNotFound_16;
+    cached_PolicyNotFound_17 = generateTestOutput(false, "PolicyNotFound_17", "./test_code/Records_PolicyNotFound_failure.a");
+    return cached_PolicyNotFound_17;
   }
 
   @Test
   public void testPolicyNotFoundFailure() {
-    assertLiveFail(get_PolicyNotFound_16());
+    assertLiveFail(get_PolicyNotFound_17());
   }
 
   @Test
   public void testPolicyNotFoundNotTerribleLineNumbers() {
-    assertNotTerribleLineNumbers(get_PolicyNotFound_16());
+    assertNotTerribleLineNumbers(get_PolicyNotFound_17());
   }
 
   @Test
   public void testPolicyNotFoundExceptionFree() {
-    assertExceptionFree(get_PolicyNotFound_16());
+    assertExceptionFree(get_PolicyNotFound_17());
   }
 
   @Test
   public void testPolicyNotFoundTODOFree() {
-    assertTODOFree(get_PolicyNotFound_16());
+    assertTODOFree(get_PolicyNotFound_17());
   }
 
   @Test
-  public void stable_PolicyNotFound_16() {
-    String live = get_PolicyNotFound_16();
+  public void stable_PolicyNotFound_17() {
+    String live = get_PolicyNotFound_17();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_PolicyNotFound_failure.a");
     gold.append("\n--ISSUES-------------------------------------------");
@@ -3975,43 +4866,43 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nFailedValidation");
     assertStable(live, gold);
   }
-  private String cached_PrivacyLegacy_17 = null;
-  private String get_PrivacyLegacy_17() {
-    if (cached_PrivacyLegacy_17 != null) {
-      return cached_PrivacyLegacy_17;
+  private String cached_PrivacyLegacy_18 = null;
+  private String get_PrivacyLegacy_18() {
+    if (cached_PrivacyLegacy_18 != null) {
+      return cached_PrivacyLegacy_18;
     }
-    cached_PrivacyLegacy_17 = generateTestOutput(true, "PrivacyLegacy_17", "./test_code/Records_PrivacyLegacy_success.a");
-    return cached_PrivacyLegacy_17;
+    cached_PrivacyLegacy_18 = generateTestOutput(true, "PrivacyLegacy_18", "./test_code/Records_PrivacyLegacy_success.a");
+    return cached_PrivacyLegacy_18;
   }
 
   @Test
   public void testPrivacyLegacyEmission() {
-    assertEmissionGood(get_PrivacyLegacy_17());
+    assertEmissionGood(get_PrivacyLegacy_18());
   }
 
   @Test
   public void testPrivacyLegacySuccess() {
-    assertLivePass(get_PrivacyLegacy_17());
+    assertLivePass(get_PrivacyLegacy_18());
   }
 
   @Test
   public void testPrivacyLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_PrivacyLegacy_17());
+    assertGoodWillHappy(get_PrivacyLegacy_18());
   }
 
   @Test
   public void testPrivacyLegacyExceptionFree() {
-    assertExceptionFree(get_PrivacyLegacy_17());
+    assertExceptionFree(get_PrivacyLegacy_18());
   }
 
   @Test
   public void testPrivacyLegacyTODOFree() {
-    assertTODOFree(get_PrivacyLegacy_17());
+    assertTODOFree(get_PrivacyLegacy_18());
   }
 
   @Test
-  public void stable_PrivacyLegacy_17() {
-    String live = get_PrivacyLegacy_17();
+  public void stable_PrivacyLegacy_18() {
+    String live = get_PrivacyLegacy_18();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_PrivacyLegacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -4040,7 +4931,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class PrivacyLegacy_17 extends LivingDocument {");
+    gold.append("\npublic class PrivacyLegacy_18 extends LivingDocument {");
     gold.append("\n  private final RxInt32 open_int;");
     gold.append("\n  private final RxBoolean open_bool;");
     gold.append("\n  private final RxString open_string;");
@@ -4061,7 +4952,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  private final RxLazy<NtList<RTxX>> listz2;");
     gold.append("\n  private final RTxY y;");
     gold.append("\n  private final RTxZ z;");
-    gold.append("\n  public PrivacyLegacy_17(DocumentMonitor __monitor) {");
+    gold.append("\n  public PrivacyLegacy_18(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    open_int = new RxInt32(this, 0);");
     gold.append("\n    open_bool = new RxBoolean(this, false);");
@@ -4092,101 +4983,190 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"open_int\":");
-    gold.append("\n            open_int.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"open_bool\":");
-    gold.append("\n            open_bool.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"open_string\":");
-    gold.append("\n            open_string.__insert(__reader);");
+    gold.append("\n          case -1838715965:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_string2\")) {");
+    gold.append("\n              maybe_open_string2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"open_double\":");
-    gold.append("\n            open_double.__insert(__reader);");
+    gold.append("\n          case -1740211697:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_double\")) {");
+    gold.append("\n              maybe_open_double.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_int\":");
-    gold.append("\n            maybe_open_int.__insert(__reader);");
+    gold.append("\n          case -1720556406:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_bool2\")) {");
+    gold.append("\n              maybe_open_bool2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_bool\":");
-    gold.append("\n            maybe_open_bool.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_string\":");
-    gold.append("\n            maybe_open_string.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_double\":");
-    gold.append("\n            maybe_open_double.__insert(__reader);");
+    gold.append("\n          case -1327018015:");
+    gold.append("\n            if (__reader.matchFieldName(\"owners_money\")) {");
+    gold.append("\n              owners_money.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_int2\":");
-    gold.append("\n            maybe_open_int2.__insert(__reader);");
+    gold.append("\n          case -1306239409:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_string\")) {");
+    gold.append("\n              maybe_open_string.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_bool2\":");
-    gold.append("\n            maybe_open_bool2.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_string2\":");
-    gold.append("\n            maybe_open_string2.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"maybe_open_double2\":");
-    gold.append("\n            maybe_open_double2.__insert(__reader);");
+    gold.append("\n          case -504317830:");
+    gold.append("\n            if (__reader.matchFieldName(\"open_int\")) {");
+    gold.append("\n              open_int.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"owner\":");
-    gold.append("\n            owner.__insert(__reader);");
+    gold.append("\n          case -478966938:");
+    gold.append("\n            if (__reader.matchFieldName(\"open_double\")) {");
+    gold.append("\n              open_double.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n          case -44994650:");
+    gold.append("\n            if (__reader.matchFieldName(\"open_string\")) {");
+    gold.append("\n              open_string.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"owners_money\":");
-    gold.append("\n            owners_money.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"tbl\":");
-    gold.append("\n            tbl.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"y\":");
-    gold.append("\n            y.__insert(__reader);");
+    gold.append("\n          case 121:");
+    gold.append("\n            if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"z\":");
-    gold.append("\n            z.__insert(__reader);");
+    gold.append("\n          case 122:");
+    gold.append("\n            if (__reader.matchFieldName(\"z\")) {");
+    gold.append("\n              z.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case 114622:");
+    gold.append("\n            if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 106164915:");
+    gold.append("\n            if (__reader.matchFieldName(\"owner\")) {");
+    gold.append("\n              owner.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 1191424168:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_bool\")) {");
+    gold.append("\n              maybe_open_bool.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 1191631841:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_int2\")) {");
+    gold.append("\n              maybe_open_int2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 1545808831:");
+    gold.append("\n            if (__reader.matchFieldName(\"open_bool\")) {");
+    gold.append("\n              open_bool.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 1888012291:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_double2\")) {");
+    gold.append("\n              maybe_open_double2.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1978102385:");
+    gold.append("\n            if (__reader.matchFieldName(\"maybe_open_int\")) {");
+    gold.append("\n              maybe_open_int.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -4317,7 +5297,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    z.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaPrivacyLegacy_17 {");
+    gold.append("\n  private class DeltaPrivacyLegacy_18 {");
     gold.append("\n    private DInt32 __dopen_int;");
     gold.append("\n    private DBoolean __dopen_bool;");
     gold.append("\n    private DString __dopen_string;");
@@ -4339,7 +5319,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    private DeltaRTxY __dy;");
     gold.append("\n    private DeltaRTxZ __dz;");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaPrivacyLegacy_17() {");
+    gold.append("\n    private DeltaPrivacyLegacy_18() {");
     gold.append("\n      __dopen_int = new DInt32();");
     gold.append("\n      __dopen_bool = new DBoolean();");
     gold.append("\n      __dopen_string = new DString();");
@@ -4362,86 +5342,86 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __dz = new DeltaRTxZ();");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(PrivacyLegacy_17 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 18;");
+    gold.append("\n    public void show(PrivacyLegacy_18 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __cost(18);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
-    gold.append("\n      __dopen_int.show(__item.open_int.get(), __obj.planField(\"open_int\"));");
-    gold.append("\n      __dopen_bool.show(__item.open_bool.get(), __obj.planField(\"open_bool\"));");
-    gold.append("\n      __dopen_string.show(__item.open_string.get(), __obj.planField(\"open_string\"));");
-    gold.append("\n      __dopen_double.show(__item.open_double.get(), __obj.planField(\"open_double\"));");
+    gold.append("\n      __dopen_int.show(__item.open_int.get(), __obj.planEncodedField(\"\\\"open_int\\\":\"));");
+    gold.append("\n      __dopen_bool.show(__item.open_bool.get(), __obj.planEncodedField(\"\\\"open_bool\\\":\"));");
+    gold.append("\n      __dopen_string.show(__item.open_string.get(), __obj.planEncodedField(\"\\\"open_string\\\":\"));");
+    gold.append("\n      __dopen_double.show(__item.open_double.get(), __obj.planEncodedField(\"\\\"open_double\\\":\"));");
     gold.append("\n      if (__item.maybe_open_int.get().has()) {");
     gold.append("\n        Integer __maybeElement3 = (Integer)(__item.maybe_open_int.get().get());");
     gold.append("\n        DInt32 __maybeDeltaElement4 = __dmaybe_open_int.get(() -> new DInt32());");
-    gold.append("\n        __maybeDeltaElement4.show(__maybeElement3, __obj.planField(\"maybe_open_int\"));");
+    gold.append("\n        __maybeDeltaElement4.show(__maybeElement3, __obj.planEncodedField(\"\\\"maybe_open_int\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_int.hide(__obj.planField(\"maybe_open_int\"));");
+    gold.append("\n        __dmaybe_open_int.hide(__obj.planEncodedField(\"\\\"maybe_open_int\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_bool.get().has()) {");
     gold.append("\n        Boolean __maybeElement5 = (Boolean)(__item.maybe_open_bool.get().get());");
     gold.append("\n        DBoolean __maybeDeltaElement6 = __dmaybe_open_bool.get(() -> new DBoolean());");
-    gold.append("\n        __maybeDeltaElement6.show(__maybeElement5, __obj.planField(\"maybe_open_bool\"));");
+    gold.append("\n        __maybeDeltaElement6.show(__maybeElement5, __obj.planEncodedField(\"\\\"maybe_open_bool\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_bool.hide(__obj.planField(\"maybe_open_bool\"));");
+    gold.append("\n        __dmaybe_open_bool.hide(__obj.planEncodedField(\"\\\"maybe_open_bool\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_string.get().has()) {");
     gold.append("\n        String __maybeElement7 = (String)(__item.maybe_open_string.get().get());");
     gold.append("\n        DString __maybeDeltaElement8 = __dmaybe_open_string.get(() -> new DString());");
-    gold.append("\n        __maybeDeltaElement8.show(__maybeElement7, __obj.planField(\"maybe_open_string\"));");
+    gold.append("\n        __maybeDeltaElement8.show(__maybeElement7, __obj.planEncodedField(\"\\\"maybe_open_string\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_string.hide(__obj.planField(\"maybe_open_string\"));");
+    gold.append("\n        __dmaybe_open_string.hide(__obj.planEncodedField(\"\\\"maybe_open_string\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_double.get().has()) {");
     gold.append("\n        Double __maybeElement9 = (Double)(__item.maybe_open_double.get().get());");
     gold.append("\n        DDouble __maybeDeltaElement10 = __dmaybe_open_double.get(() -> new DDouble());");
-    gold.append("\n        __maybeDeltaElement10.show(__maybeElement9, __obj.planField(\"maybe_open_double\"));");
+    gold.append("\n        __maybeDeltaElement10.show(__maybeElement9, __obj.planEncodedField(\"\\\"maybe_open_double\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_double.hide(__obj.planField(\"maybe_open_double\"));");
+    gold.append("\n        __dmaybe_open_double.hide(__obj.planEncodedField(\"\\\"maybe_open_double\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_int2.get().has()) {");
     gold.append("\n        Integer __maybeElement11 = (Integer)(__item.maybe_open_int2.get().get());");
     gold.append("\n        DInt32 __maybeDeltaElement12 = __dmaybe_open_int2.get(() -> new DInt32());");
-    gold.append("\n        __maybeDeltaElement12.show(__maybeElement11, __obj.planField(\"maybe_open_int2\"));");
+    gold.append("\n        __maybeDeltaElement12.show(__maybeElement11, __obj.planEncodedField(\"\\\"maybe_open_int2\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_int2.hide(__obj.planField(\"maybe_open_int2\"));");
+    gold.append("\n        __dmaybe_open_int2.hide(__obj.planEncodedField(\"\\\"maybe_open_int2\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_bool2.get().has()) {");
     gold.append("\n        Boolean __maybeElement13 = (Boolean)(__item.maybe_open_bool2.get().get());");
     gold.append("\n        DBoolean __maybeDeltaElement14 = __dmaybe_open_bool2.get(() -> new DBoolean());");
-    gold.append("\n        __maybeDeltaElement14.show(__maybeElement13, __obj.planField(\"maybe_open_bool2\"));");
+    gold.append("\n        __maybeDeltaElement14.show(__maybeElement13, __obj.planEncodedField(\"\\\"maybe_open_bool2\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_bool2.hide(__obj.planField(\"maybe_open_bool2\"));");
+    gold.append("\n        __dmaybe_open_bool2.hide(__obj.planEncodedField(\"\\\"maybe_open_bool2\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_string2.get().has()) {");
     gold.append("\n        String __maybeElement15 = (String)(__item.maybe_open_string2.get().get());");
     gold.append("\n        DString __maybeDeltaElement16 = __dmaybe_open_string2.get(() -> new DString());");
-    gold.append("\n        __maybeDeltaElement16.show(__maybeElement15, __obj.planField(\"maybe_open_string2\"));");
+    gold.append("\n        __maybeDeltaElement16.show(__maybeElement15, __obj.planEncodedField(\"\\\"maybe_open_string2\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_string2.hide(__obj.planField(\"maybe_open_string2\"));");
+    gold.append("\n        __dmaybe_open_string2.hide(__obj.planEncodedField(\"\\\"maybe_open_string2\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.maybe_open_double2.get().has()) {");
     gold.append("\n        Double __maybeElement17 = (Double)(__item.maybe_open_double2.get().get());");
     gold.append("\n        DDouble __maybeDeltaElement18 = __dmaybe_open_double2.get(() -> new DDouble());");
-    gold.append("\n        __maybeDeltaElement18.show(__maybeElement17, __obj.planField(\"maybe_open_double2\"));");
+    gold.append("\n        __maybeDeltaElement18.show(__maybeElement17, __obj.planEncodedField(\"\\\"maybe_open_double2\\\":\"));");
     gold.append("\n      } else {");
-    gold.append("\n        __dmaybe_open_double2.hide(__obj.planField(\"maybe_open_double2\"));");
+    gold.append("\n        __dmaybe_open_double2.hide(__obj.planEncodedField(\"\\\"maybe_open_double2\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__writer.who.equals(__item.owner.get())) {");
-    gold.append("\n        __dx.show(__item.x, __obj.planField(\"x\"));");
+    gold.append("\n        __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dx.hide(__obj.planField(\"x\"));");
+    gold.append("\n        __dx.hide(__obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__writer.who.equals(__item.owner.get())) {");
-    gold.append("\n        __downers_money.show(__item.owners_money.get(), __obj.planField(\"owners_money\"));");
+    gold.append("\n        __downers_money.show(__item.owners_money.get(), __obj.planEncodedField(\"\\\"owners_money\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __downers_money.hide(__obj.planField(\"owners_money\"));");
+    gold.append("\n        __downers_money.hide(__obj.planEncodedField(\"\\\"owners_money\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__writer.who.equals(__item.owner.get())) {");
     gold.append("\n        if (__glistz != __item.listz.getGeneration()) {");
     gold.append("\n          {");
-    gold.append("\n            PrivateLazyDeltaWriter __list19 = __obj.planField(\"listz\").planObject();");
+    gold.append("\n            PrivateLazyDeltaWriter __list19 = __obj.planEncodedField(\"\\\"listz\\\":\").planObject();");
     gold.append("\n            DRecordList<DeltaRTxX> __deltaList20 = __dlistz;");
     gold.append("\n            DRecordList<DeltaRTxX>.Walk __deltaListWalker21 = __deltaList20.begin();");
     gold.append("\n            for (RTxX __listElement22 : __item.listz.get()) {");
@@ -4457,12 +5437,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
     gold.append("\n        __glistz = -1;");
-    gold.append("\n        __dlistz.hide(__obj.planField(\"listz\"));");
+    gold.append("\n        __dlistz.hide(__obj.planEncodedField(\"\\\"listz\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__writer.who.equals(__item.owner.get())) {");
     gold.append("\n        if (__glistz2 != __item.listz2.getGeneration()) {");
     gold.append("\n          {");
-    gold.append("\n            PrivateLazyDeltaWriter __list24 = __obj.planField(\"listz2\").planObject();");
+    gold.append("\n            PrivateLazyDeltaWriter __list24 = __obj.planEncodedField(\"\\\"listz2\\\":\").planObject();");
     gold.append("\n            DRecordList<DeltaRTxX> __deltaList25 = __dlistz2;");
     gold.append("\n            DRecordList<DeltaRTxX>.Walk __deltaListWalker26 = __deltaList25.begin();");
     gold.append("\n            for (RTxX __listElement27 : __item.listz2.get()) {");
@@ -4478,10 +5458,10 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
     gold.append("\n        __glistz2 = -1;");
-    gold.append("\n        __dlistz2.hide(__obj.planField(\"listz2\"));");
+    gold.append("\n        __dlistz2.hide(__obj.planEncodedField(\"\\\"listz2\\\":\"));");
     gold.append("\n      }");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
-    gold.append("\n      __dz.show(__item.z, __obj.planField(\"z\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
+    gold.append("\n      __dz.show(__item.z, __obj.planEncodedField(\"\\\"z\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -4495,8 +5475,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    PrivacyLegacy_17 __self = this;");
-    gold.append("\n    DeltaPrivacyLegacy_17 __state = new DeltaPrivacyLegacy_17();");
+    gold.append("\n    PrivacyLegacy_18 __self = this;");
+    gold.append("\n    DeltaPrivacyLegacy_18 __state = new DeltaPrivacyLegacy_18();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -4546,22 +5526,31 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -4636,29 +5625,29 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 3;");
+    gold.append("\n      __cost(3);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__item.__POLICY_sane(__writer.who)) {");
-    gold.append("\n        __dx.show(__item.x.get(), __obj.planField(\"x\"));");
+    gold.append("\n        __dx.show(__item.x.get(), __obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dx.hide(__obj.planField(\"x\"));");
+    gold.append("\n        __dx.hide(__obj.planEncodedField(\"\\\"x\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.__POLICY_sane(__writer.who) && __item.__POLICY_sane2(__writer.who)) {");
-    gold.append("\n        __dy.show(__item.y.get(), __obj.planField(\"y\"));");
+    gold.append("\n        __dy.show(__item.y.get(), __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
-    gold.append("\n        __dy.hide(__obj.planField(\"y\"));");
+    gold.append("\n        __dy.hide(__obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__item.__POLICY_sane(__writer.who) && __item.__POLICY_sane2(__writer.who) && __item.__POLICY_sane3(__writer.who)) {");
     gold.append("\n        if (__gsum != __item.sum.getGeneration()) {");
-    gold.append("\n          __dsum.show(__item.sum.get(), __obj.planField(\"sum\"));");
+    gold.append("\n          __dsum.show(__item.sum.get(), __obj.planEncodedField(\"\\\"sum\\\":\"));");
     gold.append("\n          __gsum = __item.sum.getGeneration();");
     gold.append("\n        }");
     gold.append("\n        /* privacy check close up */");
     gold.append("\n      } else {");
     gold.append("\n        __gsum = -1;");
-    gold.append("\n        __dsum.hide(__obj.planField(\"sum\"));");
+    gold.append("\n        __dsum.hide(__obj.planEncodedField(\"\\\"sum\\\":\"));");
     gold.append("\n      }");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
@@ -4697,16 +5686,19 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -4761,16 +5753,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxY {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxY() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxY __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -4803,16 +5802,19 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -4867,16 +5869,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxZ {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxZ() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxZ __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -4928,10 +5937,10 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTx_AnonObjConvert_0 __item, PrivateLazyDeltaWriter __writer) {");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
-    gold.append("\n      __dx.show(__item.x, __obj.planField(\"x\"));");
-    gold.append("\n      __dy.show(__item.y, __obj.planField(\"y\"));");
+    gold.append("\n      __dx.show(__item.x, __obj.planEncodedField(\"\\\"x\\\":\"));");
+    gold.append("\n      __dy.show(__item.y, __obj.planEncodedField(\"\\\"y\\\":\"));");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
@@ -4958,7 +5967,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  protected void __invoke_label(String __new_state) {}");
     gold.append("\n  public boolean __onConnected__0(NtClient who){");
-    gold.append("\n    __code_cost += 2;");
+    gold.append("\n    __cost(2);");
     gold.append("\n    __track(5);");
     gold.append("\n    return (who.equals(NtClient.NO_ONE));");
     gold.append("\n  }");
@@ -4977,7 +5986,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 10;");
+    gold.append("\n    __cost(10);");
     gold.append("\n    __track(6);");
     gold.append("\n    x.x.set(13);");
     gold.append("\n    __track(7);");
@@ -4987,7 +5996,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef29 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr31 = new RTx_AnonObjConvert_0(1, 2);");
     gold.append("\n      RTxX _CreateRef30 = _AutoRef29.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef30.x.set(_AutoExpr31.x);");
     gold.append("\n      _CreateRef30.y.set(_AutoExpr31.y);");
     gold.append("\n    }");
@@ -4996,7 +6005,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef32 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr34 = new RTx_AnonObjConvert_0(2, 3);");
     gold.append("\n      RTxX _CreateRef33 = _AutoRef32.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef33.x.set(_AutoExpr34.x);");
     gold.append("\n      _CreateRef33.y.set(_AutoExpr34.y);");
     gold.append("\n    }");
@@ -5005,7 +6014,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n      RxTable<RTxX> _AutoRef35 = tbl;");
     gold.append("\n      RTx_AnonObjConvert_0 _AutoExpr37 = new RTx_AnonObjConvert_0(5, 1);");
     gold.append("\n      RTxX _CreateRef36 = _AutoRef35.make();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      _CreateRef36.x.set(_AutoExpr37.x);");
     gold.append("\n      _CreateRef36.y.set(_AutoExpr37.y);");
     gold.append("\n    }");
@@ -5041,7 +6050,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    @Override");
     gold.append("\n    public boolean test(RTxX __obj) {");
     gold.append("\n      int x = __obj.x.get();");
-    gold.append("\n      __code_cost ++;");
+    gold.append("\n      __cost(1);");
     gold.append("\n      return x == 1;");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5067,43 +6076,43 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nSuccess");
     assertStable(live, gold);
   }
-  private String cached_RecordFieldsLegacy_18 = null;
-  private String get_RecordFieldsLegacy_18() {
-    if (cached_RecordFieldsLegacy_18 != null) {
-      return cached_RecordFieldsLegacy_18;
+  private String cached_RecordFieldsLegacy_19 = null;
+  private String get_RecordFieldsLegacy_19() {
+    if (cached_RecordFieldsLegacy_19 != null) {
+      return cached_RecordFieldsLegacy_19;
     }
-    cached_RecordFieldsLegacy_18 = generateTestOutput(true, "RecordFieldsLegacy_18", "./test_code/Records_RecordFieldsLegacy_success.a");
-    return cached_RecordFieldsLegacy_18;
+    cached_RecordFieldsLegacy_19 = generateTestOutput(true, "RecordFieldsLegacy_19", "./test_code/Records_RecordFieldsLegacy_success.a");
+    return cached_RecordFieldsLegacy_19;
   }
 
   @Test
   public void testRecordFieldsLegacyEmission() {
-    assertEmissionGood(get_RecordFieldsLegacy_18());
+    assertEmissionGood(get_RecordFieldsLegacy_19());
   }
 
   @Test
   public void testRecordFieldsLegacySuccess() {
-    assertLivePass(get_RecordFieldsLegacy_18());
+    assertLivePass(get_RecordFieldsLegacy_19());
   }
 
   @Test
   public void testRecordFieldsLegacyGoodWillHappy() {
-    assertGoodWillHappy(get_RecordFieldsLegacy_18());
+    assertGoodWillHappy(get_RecordFieldsLegacy_19());
   }
 
   @Test
   public void testRecordFieldsLegacyExceptionFree() {
-    assertExceptionFree(get_RecordFieldsLegacy_18());
+    assertExceptionFree(get_RecordFieldsLegacy_19());
   }
 
   @Test
   public void testRecordFieldsLegacyTODOFree() {
-    assertTODOFree(get_RecordFieldsLegacy_18());
+    assertTODOFree(get_RecordFieldsLegacy_19());
   }
 
   @Test
-  public void stable_RecordFieldsLegacy_18() {
-    String live = get_RecordFieldsLegacy_18();
+  public void stable_RecordFieldsLegacy_19() {
+    String live = get_RecordFieldsLegacy_19();
     StringBuilder gold = new StringBuilder();
     gold.append("Path:./test_code/Records_RecordFieldsLegacy_success.a");
     gold.append("\n--EMISSION-----------------------------------------");
@@ -5132,7 +6141,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\nimport java.util.Comparator;");
     gold.append("\nimport java.util.Map;");
     gold.append("\nimport java.lang.Math;");
-    gold.append("\npublic class RecordFieldsLegacy_18 extends LivingDocument {");
+    gold.append("\npublic class RecordFieldsLegacy_19 extends LivingDocument {");
     gold.append("\n  private final RxTable<RTxX> xs;");
     gold.append("\n  private final RxInt32 x;");
     gold.append("\n  private final RxDouble y;");
@@ -5140,7 +6149,7 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  private final RxString s;");
     gold.append("\n  private final RTxX xyz;");
     gold.append("\n  private final RxString defMS;");
-    gold.append("\n  public RecordFieldsLegacy_18(DocumentMonitor __monitor) {");
+    gold.append("\n  public RecordFieldsLegacy_19(DocumentMonitor __monitor) {");
     gold.append("\n    super(__monitor);");
     gold.append("\n    xs = new RxTable<>(__self, this, \"xs\", (RxParent __parent) -> new RTxX(__parent), 0);");
     gold.append("\n    x = new RxInt32(this, 3);");
@@ -5156,68 +6165,124 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  public void __insert(JsonStreamReader __reader) {");
     gold.append("\n    if (__reader.startObject()) {");
     gold.append("\n      while(__reader.notEndOfObject()) {");
-    gold.append("\n        String __fieldName = __reader.fieldName();");
-    gold.append("\n        switch (__fieldName) {");
-    gold.append("\n          case \"xs\":");
-    gold.append("\n            xs.__insert(__reader);");
+    gold.append("\n        switch (__reader.fieldNameHash()) {");
+    gold.append("\n          case -1867662836:");
+    gold.append("\n            if (__reader.matchFieldName(\"__blocked\")) {");
+    gold.append("\n              __blocked.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"x\":");
-    gold.append("\n            x.__insert(__reader);");
+    gold.append("\n          case -1860489940:");
+    gold.append("\n            if (__reader.matchFieldName(\"__messages\")) {");
+    gold.append("\n              __hydrateMessages(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"y\":");
-    gold.append("\n            y.__insert(__reader);");
+    gold.append("\n          case -1483903315:");
+    gold.append("\n            if (__reader.matchFieldName(\"__time\")) {");
+    gold.append("\n              __time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"b\":");
-    gold.append("\n            b.__insert(__reader);");
+    gold.append("\n          case -1426065817:");
+    gold.append("\n            if (__reader.matchFieldName(\"__auto_future_id\")) {");
+    gold.append("\n              __auto_future_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"s\":");
-    gold.append("\n            s.__insert(__reader);");
+    gold.append("\n          case -1224453069:");
+    gold.append("\n            if (__reader.matchFieldName(\"__message_id\")) {");
+    gold.append("\n              __message_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"xyz\":");
-    gold.append("\n            xyz.__insert(__reader);");
+    gold.append("\n          case -985637336:");
+    gold.append("\n            if (__reader.matchFieldName(\"__clients\")) {");
+    gold.append("\n              __hydrateClients(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"defMS\":");
-    gold.append("\n            defMS.__insert(__reader);");
+    gold.append("\n          case -18964778:");
+    gold.append("\n            if (__reader.matchFieldName(\"__constructed\")) {");
+    gold.append("\n              __constructed.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__state\":");
-    gold.append("\n            __state.__insert(__reader);");
+    gold.append("\n          case 98:");
+    gold.append("\n            if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__constructed\":");
-    gold.append("\n            __constructed.__insert(__reader);");
+    gold.append("\n          case 115:");
+    gold.append("\n            if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__next_time\":");
-    gold.append("\n            __next_time.__insert(__reader);");
+    gold.append("\n          case 120:");
+    gold.append("\n            if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__blocked\":");
-    gold.append("\n            __blocked.__insert(__reader);");
+    gold.append("\n          case 121:");
+    gold.append("\n            if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__seq\":");
-    gold.append("\n            __seq.__insert(__reader);");
+    gold.append("\n          case 3835:");
+    gold.append("\n            if (__reader.matchFieldName(\"xs\")) {");
+    gold.append("\n              xs.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__entropy\":");
-    gold.append("\n            __entropy.__insert(__reader);");
+    gold.append("\n          case 119193:");
+    gold.append("\n            if (__reader.matchFieldName(\"xyz\")) {");
+    gold.append("\n              xyz.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__auto_future_id\":");
-    gold.append("\n            __auto_future_id.__insert(__reader);");
+    gold.append("\n          case 90678399:");
+    gold.append("\n            if (__reader.matchFieldName(\"__seq\")) {");
+    gold.append("\n              __seq.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__connection_id\":");
-    gold.append("\n            __connection_id.__insert(__reader);");
+    gold.append("\n          case 95461483:");
+    gold.append("\n            if (__reader.matchFieldName(\"defMS\")) {");
+    gold.append("\n              defMS.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__message_id\":");
-    gold.append("\n            __message_id.__insert(__reader);");
+    gold.append("\n          case 186867260:");
+    gold.append("\n            if (__reader.matchFieldName(\"__connection_id\")) {");
+    gold.append("\n              __connection_id.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__time\":");
-    gold.append("\n            __time.__insert(__reader);");
+    gold.append("\n          case 816623801:");
+    gold.append("\n            if (__reader.matchFieldName(\"__next_time\")) {");
+    gold.append("\n              __next_time.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__clients\":");
-    gold.append("\n            __hydrateClients(__reader);");
+    gold.append("\n          case 857175185:");
+    gold.append("\n            if (__reader.matchFieldName(\"__entropy\")) {");
+    gold.append("\n              __entropy.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          case \"__messages\":");
-    gold.append("\n            __hydrateMessages(__reader);");
+    gold.append("\n          case 1243030705:");
+    gold.append("\n            if (__reader.matchFieldName(\"__state\")) {");
+    gold.append("\n              __state.__insert(__reader);");
+    gold.append("\n              continue;");
+    gold.append("\n            }");
     gold.append("\n            break;");
-    gold.append("\n          default:");
-    gold.append("\n            __reader.skipValue();");
     gold.append("\n        }");
+    gold.append("\n        __reader.fieldName();");
+    gold.append("\n        __reader.skipValue();");
     gold.append("\n      }");
     gold.append("\n    }");
     gold.append("\n  }");
@@ -5304,12 +6369,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    defMS.__revert();");
     gold.append("\n    /* root */");
     gold.append("\n  }");
-    gold.append("\n  private class DeltaRecordFieldsLegacy_18 {");
+    gold.append("\n  private class DeltaRecordFieldsLegacy_19 {");
     gold.append("\n    private boolean __emitted;");
-    gold.append("\n    private DeltaRecordFieldsLegacy_18() {");
+    gold.append("\n    private DeltaRecordFieldsLegacy_19() {");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
-    gold.append("\n    public void show(RecordFieldsLegacy_18 __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n    public void show(RecordFieldsLegacy_19 __item, PrivateLazyDeltaWriter __writer) {");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      __obj.manifest();");
     gold.append("\n      if (__obj.end()) {");
@@ -5325,8 +6390,8 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  @Override");
     gold.append("\n  public PrivateView __createPrivateView(NtClient __who, Consumer<String> __updates) {");
-    gold.append("\n    RecordFieldsLegacy_18 __self = this;");
-    gold.append("\n    DeltaRecordFieldsLegacy_18 __state = new DeltaRecordFieldsLegacy_18();");
+    gold.append("\n    RecordFieldsLegacy_19 __self = this;");
+    gold.append("\n    DeltaRecordFieldsLegacy_19 __state = new DeltaRecordFieldsLegacy_19();");
     gold.append("\n    return new PrivateView(__who, __updates) {");
     gold.append("\n      @Override");
     gold.append("\n      public void update(JsonStreamWriter __writer) {");
@@ -5356,16 +6421,19 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -5420,16 +6488,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxY {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxY() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxY __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -5462,48 +6537,72 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n        /* ok */");
     gold.append("\n      }");
     gold.append("\n    }");
-    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"x\"};");
+    gold.append("\n    String[] __INDEX_COLUMNS = new String[] {\"b\", \"s\", \"x\"};");
     gold.append("\n    @Override");
     gold.append("\n    public String[] __getIndexColumns() {");
     gold.append("\n      return __INDEX_COLUMNS;");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public int[] __getIndexValues() {");
-    gold.append("\n      return new int[] {x.getIndexValue()};");
+    gold.append("\n      return new int[] {b.getIndexValue(), s.getIndexValue(), x.getIndexValue()};");
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"x\":");
-    gold.append("\n              x.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 98:");
+    gold.append("\n              if (__reader.matchFieldName(\"b\")) {");
+    gold.append("\n                b.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"d\":");
-    gold.append("\n              d.__insert(__reader);");
+    gold.append("\n            case 100:");
+    gold.append("\n              if (__reader.matchFieldName(\"d\")) {");
+    gold.append("\n                d.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"b\":");
-    gold.append("\n              b.__insert(__reader);");
+    gold.append("\n            case 115:");
+    gold.append("\n              if (__reader.matchFieldName(\"s\")) {");
+    gold.append("\n                s.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"s\":");
-    gold.append("\n              s.__insert(__reader);");
+    gold.append("\n            case 120:");
+    gold.append("\n              if (__reader.matchFieldName(\"x\")) {");
+    gold.append("\n                x.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"tbl\":");
-    gold.append("\n              tbl.__insert(__reader);");
+    gold.append("\n            case 121:");
+    gold.append("\n              if (__reader.matchFieldName(\"y\")) {");
+    gold.append("\n                y.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"y\":");
-    gold.append("\n              y.__insert(__reader);");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"ms\":");
-    gold.append("\n              ms.__insert(__reader);");
+    gold.append("\n            case 3494:");
+    gold.append("\n              if (__reader.matchFieldName(\"ms\")) {");
+    gold.append("\n                ms.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n            case 114622:");
+    gold.append("\n              if (__reader.matchFieldName(\"tbl\")) {");
+    gold.append("\n                tbl.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -5586,16 +6685,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxX {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxX() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxX __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -5624,16 +6730,19 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n    }");
     gold.append("\n    @Override");
     gold.append("\n    public void __insert(JsonStreamReader __reader) {");
+    gold.append("\n      __bumpGeneration();");
     gold.append("\n      if (__reader.startObject()) {");
     gold.append("\n        while(__reader.notEndOfObject()) {");
-    gold.append("\n          String __fieldName = __reader.fieldName();");
-    gold.append("\n          switch (__fieldName) {");
-    gold.append("\n            case \"id\":");
-    gold.append("\n              id.__insert(__reader);");
+    gold.append("\n          switch (__reader.fieldNameHash()) {");
+    gold.append("\n            case 3355:");
+    gold.append("\n              if (__reader.matchFieldName(\"id\")) {");
+    gold.append("\n                id.__insert(__reader);");
+    gold.append("\n                continue;");
+    gold.append("\n              }");
     gold.append("\n              break;");
-    gold.append("\n            default:");
-    gold.append("\n              __reader.skipValue();");
     gold.append("\n          }");
+    gold.append("\n          __reader.fieldName();");
+    gold.append("\n          __reader.skipValue();");
     gold.append("\n        }");
     gold.append("\n      }");
     gold.append("\n    }");
@@ -5688,16 +6797,23 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  }");
     gold.append("\n  private class DeltaRTxEmpty {");
     gold.append("\n    private boolean __emitted;");
+    gold.append("\n    private int __seen;");
     gold.append("\n    private DeltaRTxEmpty() {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      __emitted = false;");
     gold.append("\n    }");
     gold.append("\n    public void show(RTxEmpty __item, PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      if (__seen == __item.__getGeneration()) {");
+    gold.append("\n        return;");
+    gold.append("\n      }");
     gold.append("\n      PrivateLazyDeltaWriter __obj = __writer.planObject();");
     gold.append("\n      if (__obj.end()) {");
     gold.append("\n        __emitted = true;");
     gold.append("\n      }");
+    gold.append("\n      __seen = __item.__getGeneration();");
     gold.append("\n    }");
     gold.append("\n    public void hide(PrivateLazyDeltaWriter __writer) {");
+    gold.append("\n      __seen = -1;");
     gold.append("\n      if (__emitted) {");
     gold.append("\n        __emitted = false;");
     gold.append("\n        __writer.writeNull();");
@@ -5732,12 +6848,12 @@ public class GeneratedRecordsTests extends GeneratedBase {
     gold.append("\n  @Override");
     gold.append("\n  public void __test(TestReportBuilder report, String testName) {}");
     gold.append("\n  private void __construct_0(NtClient __who, NtMessageBase __object) {");
-    gold.append("\n    __code_cost += 3;");
+    gold.append("\n    __cost(3);");
     gold.append("\n    __track(0);");
     gold.append("\n    NtMaybe<String> _AutoConditionxxxx_0;");
     gold.append("\n    if ((_AutoConditionxxxx_0 = xyz.ms.get()).has()) {");
     gold.append("\n      String xxxx = _AutoConditionxxxx_0.get();");
-    gold.append("\n      __code_cost += 2;");
+    gold.append("\n      __cost(2);");
     gold.append("\n      __track(1);");
     gold.append("\n      defMS.set(xxxx);");
     gold.append("\n    }");
@@ -12,13 +12,20 @@ import org.adamalang.netty.api.GameSpace;
 import org.adamalang.netty.api.GameSpaceDB;
 import org.adamalang.netty.contracts.JsonHandler;
 import org.adamalang.netty.contracts.JsonResponder;
+import org.adamalang.runtime.contracts.DurabilityCallback;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
 import org.adamalang.runtime.logger.Transactor;
+import org.adamalang.runtime.natives.NtClient;
 import org.adamalang.runtime.stdlib.Utility;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class ServiceHandler implements JsonHandler {
+  private static boolean bool(final ObjectNode request, final String field) {
+    final var fieldNode = request.get(field);
+    return fieldNode != null && fieldNode.isBoolean() && fieldNode.booleanValue();
+  }
+
   private static JsonNode node(final ObjectNode request, final String field, final boolean mustExist, final int errorIfDoesnt) throws ErrorCodeException {
     final var fieldNode = request.get(field);
     if (fieldNode == null || fieldNode.isNull()) {
@@ -39,9 +46,16 @@ public class ServiceHandler implements JsonHandler {
 
   private final GameSpaceDB db;
   private final ScheduledExecutorService executorDEMO;
+  private final int viewFrameMilliseconds;
 
   public ServiceHandler(final GameSpaceDB db) {
+    this(db, 0);
+  }
+
+  /** views are delivered at most once per the given frame interval (0 means as fast as the socket can take them) */
+  public ServiceHandler(final GameSpaceDB db, final int viewFrameMilliseconds) {
     this.db = db;
+    this.viewFrameMilliseconds = viewFrameMilliseconds;
     executorDEMO = Executors.newSingleThreadScheduledExecutor();
   }
 
@@ -81,13 +95,24 @@ public class ServiceHandler implements JsonHandler {
         final var id = str(request, "game", true, ErrorCodeException.USERLAND_NO_GAME_PROPERTY);
         final var transactor = gs.get(id);
         if (transactor == null) { throw new ErrorCodeException(ErrorCodeException.USERLAND_CANT_FIND_GAME); }
+        if (bool(request, "spectate")) {
+          // spectators are not connected to the document, and they share one computation via the public view
+          final var pv = transactor.createPublicView(new ViewDeliveryScheduler(executor, viewFrameMilliseconds, responder));
+          witness(executor, transactor, responder);
+          session.subscribeToSessionDeath(() -> {
+            executor.execute(() -> {
+              pv.kill();
+              transactor.gcViewsFor(NtClient.NO_ONE);
+            });
+          });
+          return;
+        }
         final var alreadyConnected = transactor.isConnected(session.who);
         if (!alreadyConnected) {
           transactor.connect(session.who);
         }
-        final var pv = transactor.createView(session.who, str -> {
-          responder.respond(Utility.parseJsonObject(str), false, null);
-        });
+        // the view deltas are already JSON, so they pass through without being parsed again unless they have to be merged for a slow client
+        final var pv = transactor.createView(session.who, new ViewDeliveryScheduler(executor, viewFrameMilliseconds, responder));
         witness(executor, transactor, responder);
         session.subscribeToSessionDeath(() -> {
           // session death happens in HTTP land, so let's return to the executor to talk
@@ -108,8 +133,21 @@ public class ServiceHandler implements JsonHandler {
         final var msg = node(request, "message", true, ErrorCodeException.USERLAND_NO_MESSAGE_PROPERTY);
         final var transactor = gs.get(id);
         if (transactor == null) { throw new ErrorCodeException(ErrorCodeException.USERLAND_CANT_FIND_GAME); }
+        // the message is turned away (rather than queued) while the log is catching up
+        if (transactor.isBackedUp()) { throw new ErrorCodeException(ErrorCodeException.ASYNC_LOGGER_BACKED_UP); }
         final var result = transactor.send(session.who, channel, msg.toString());
-        responder.respond(Utility.parseJsonObject("{\"success\":" + result.seq + "}"), true, null);
+        // only acknowledge the message once it is durable
+        transactor.whenDurable(new DurabilityCallback() {
+          @Override
+          public void failure(final ErrorCodeException ex) {
+            responder.failure(ex.code, ex);
+          }
+
+          @Override
+          public void success() {
+            responder.respondRaw("{\"success\":" + result.seq + "}", true, null);
+          }
+        });
         witness(executor, transactor, responder);
       }
         return;
@@ -0,0 +1,128 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.netty;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.adamalang.netty.contracts.JsonResponder;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.json.JsonAlgebra;
+import org.adamalang.runtime.stdlib.Utility;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/** sits between a view and the responder such that a client gets at most one
+ * delivery per frame interval and nothing is written while its socket is backed
+ * up. The deltas which arrive in the meantime are merged (see JsonAlgebra.merge)
+ * into a single pending delta, so a slow client holds at most one delta rather
+ * than one per transaction. A delta which can't be merged (i.e. a range reorder
+ * on top of a reorder) queues the pending delta behind it; once more than
+ * MAX_QUEUED_DELTAS are queued, the client is failed and its deltas dropped.
+ * Once the responder is closed, everything is dropped and nothing is scheduled.
+ * This must be used from the document's executor. */
+public class ViewDeliveryScheduler implements Consumer<String> {
+  /** how long to wait before checking if a backed up responder can take the pending delta */
+  public static final int BACKED_UP_RETRY_MILLISECONDS = 10;
+  /** how many deltas which can't be merged may wait on a backed up client */
+  public static final int MAX_QUEUED_DELTAS = 16;
+  private boolean dead;
+  private final ScheduledExecutorService executor;
+  private final int frameMilliseconds;
+  private ObjectNode pending;
+  private final ArrayDeque<ObjectNode> queued;
+  private final JsonResponder responder;
+  private boolean scheduled;
+
+  public ViewDeliveryScheduler(final ScheduledExecutorService executor, final int frameMilliseconds, final JsonResponder responder) {
+    this.dead = false;
+    this.executor = executor;
+    this.frameMilliseconds = frameMilliseconds;
+    this.pending = null;
+    this.queued = new ArrayDeque<>();
+    this.responder = responder;
+    this.scheduled = false;
+  }
+
+  @Override
+  public void accept(final String delta) {
+    if (dead) { return; }
+    if (!responder.isOpen()) {
+      drop();
+      return;
+    }
+    if (pending == null && !scheduled && responder.isWritable()) {
+      send(delta);
+      return;
+    }
+    final var next = Utility.parseJsonObject(delta);
+    if (pending == null) {
+      pending = next;
+    } else {
+      final var merged = JsonAlgebra.merge(pending, next);
+      if (merged == null) {
+        // the deltas can't be composed, so the pending delta waits its turn as-is
+        queued.addLast(pending);
+        pending = next;
+        if (queued.size() > MAX_QUEUED_DELTAS) {
+          drop();
+          responder.failure(ErrorCodeException.VIEW_DELIVERY_TOO_FAR_BEHIND, null);
+          return;
+        }
+      } else {
+        pending = (ObjectNode) merged;
+      }
+    }
+    schedule(frameMilliseconds > 0 ? frameMilliseconds : BACKED_UP_RETRY_MILLISECONDS);
+  }
+
+  /** stop for good and let go of every delta */
+  private void drop() {
+    dead = true;
+    pending = null;
+    queued.clear();
+  }
+
+  private void flush() {
+    scheduled = false;
+    if (dead || pending == null) { return; }
+    if (!responder.isOpen()) {
+      drop();
+      return;
+    }
+    while (!queued.isEmpty()) {
+      if (!responder.isWritable()) {
+        schedule(BACKED_UP_RETRY_MILLISECONDS);
+        return;
+      }
+      responder.respondRaw(queued.removeFirst().toString(), false, null);
+    }
+    if (!responder.isWritable()) {
+      schedule(BACKED_UP_RETRY_MILLISECONDS);
+      return;
+    }
+    final var delta = pending.toString();
+    pending = null;
+    send(delta);
+  }
+
+  /** is there a delta waiting to go out */
+  public boolean hasPending() {
+    return pending != null;
+  }
+
+  private void schedule(final int milliseconds) {
+    if (scheduled) { return; }
+    scheduled = true;
+    executor.schedule(this::flush, milliseconds, TimeUnit.MILLISECONDS);
+  }
+
+  private void send(final String delta) {
+    responder.respondRaw(delta, false, null);
+    // hold the next delta back until the frame is over
+    if (frameMilliseconds > 0) {
+      schedule(frameMilliseconds);
+    }
+  }
+}
@@ -6,10 +6,13 @@ package org.adamalang.netty.api;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.adamalang.runtime.contracts.TimeSource;
+import org.adamalang.runtime.contracts.TransactionLogStore;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
-import org.adamalang.runtime.logger.ObjectNodeLogger;
-import org.adamalang.runtime.logger.SynchronousJsonDeltaDiskLogger;
+import org.adamalang.runtime.logger.DocumentHydrationLogger;
+import org.adamalang.runtime.logger.JsonDeltaDiskLogStore;
+import org.adamalang.runtime.logger.NoOpLogger;
 import org.adamalang.runtime.logger.Transactor;
 import org.adamalang.runtime.natives.NtClient;
 import org.adamalang.runtime.stdlib.Utility;
@@ -53,14 +56,29 @@ public class GameSpace {
   }
 
   public final LivingDocumentFactory factory;
+  public final TransactionLogStore logs;
   public final HashMap<String, Transactor> map;
   public final File root;
   public final TimeSource time;
+  public final ExecutorService views;
 
   public GameSpace(final LivingDocumentFactory factory, final TimeSource time, final File root) {
+    this(factory, time, root, new JsonDeltaDiskLogStore(null));
+  }
+
+  /** the documents will keep their logs within the root via the given store */
+  public GameSpace(final LivingDocumentFactory factory, final TimeSource time, final File root, final TransactionLogStore logs) {
+    this(factory, time, root, logs, null);
+  }
+
+  /** as above, and the private views are computed on the given executor when it
+   * is not null */
+  public GameSpace(final LivingDocumentFactory factory, final TimeSource time, final File root, final TransactionLogStore logs, final ExecutorService views) {
     this.factory = factory;
     this.time = time;
     this.root = root;
+    this.logs = logs;
+    this.views = views;
     map = new HashMap<>();
     // TODO: consider scanning for existing files, and then LOAD THEM UP
   }
@@ -76,12 +94,11 @@ public class GameSpace {
   /** create a living document with the the given ID for the given person with the
    * given constructor argument and entropy */
   public synchronized Transactor create(final String id, final NtClient who, final ObjectNode cons, final String entropy) throws ErrorCodeException {
-    final var file = new File(root, id + ".jsonlog");
-    if (file.exists()) { throw new ErrorCodeException(ErrorCodeException.USERLAND_GAME_ALREADY_EXISTS); }
-    final var state = ObjectNodeLogger.fresh();
-    final var disk = SynchronousJsonDeltaDiskLogger.openFillAndAppend(file, state);
+    if (logs.exists(root, id)) { throw new ErrorCodeException(ErrorCodeException.USERLAND_GAME_ALREADY_EXISTS); }
+    final var disk = logs.openFillAndAppend(root, id, NoOpLogger.INSTANCE);
     final var transactor = new Transactor(factory, null, time, disk);
     transactor.construct(who, cons.toString(), entropy);
+    transactor.parallelViews(views);
     map.put(id, transactor);
     return transactor;
   }
@@ -90,13 +107,14 @@ public class GameSpace {
   public synchronized Transactor get(final String id) throws ErrorCodeException {
     final var sm = map.get(id);
     if (sm != null) { return sm; }
-    final var file = new File(root, id + ".jsonlog");
-    if (!file.exists()) { return null; }
-    final var state = ObjectNodeLogger.fresh();
-    final var disk = SynchronousJsonDeltaDiskLogger.openFillAndAppend(file, state);
+    if (!logs.exists(root, id)) { return null; }
+    // the deltas are applied to the document as the log is pumped
+    final var hydrator = new DocumentHydrationLogger(factory.create(null));
+    final var disk = logs.openFillAndAppend(root, id, hydrator);
+    hydrator.live();
     final var transactor = new Transactor(factory, null, time, disk);
-    transactor.create();
-    transactor.insert(state.node.toString());
+    transactor.adopt(hydrator.document);
+    transactor.parallelViews(views);
     map.put(id, transactor);
     return transactor;
   }
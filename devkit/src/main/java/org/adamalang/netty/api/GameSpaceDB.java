@@ -6,8 +6,11 @@ package org.adamalang.netty.api;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.adamalang.runtime.contracts.TimeSource;
+import org.adamalang.runtime.contracts.TransactionLogStore;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.logger.JsonDeltaDiskLogStore;
 import org.adamalang.translator.env.CompilerOptions;
 
 /** a mapping of files to their game spaces */
@@ -21,18 +24,34 @@ public class GameSpaceDB {
 
   private int classId;
   private final File dataRoot;
+  private final TransactionLogStore logs;
   private final HashMap<String, GameSpace> map;
   private final CompilerOptions options;
   private final File sourceRoot;
   private final TimeSource time;
+  private final ExecutorService views;
 
   public GameSpaceDB(final File sourceRoot, final File dataRoot, final CompilerOptions options, final TimeSource time) throws Exception {
+    this(sourceRoot, dataRoot, options, time, new JsonDeltaDiskLogStore(null));
+  }
+
+  /** all documents across all game spaces will keep their logs via the given
+   * store, and the store is closed along with the db */
+  public GameSpaceDB(final File sourceRoot, final File dataRoot, final CompilerOptions options, final TimeSource time, final TransactionLogStore logs) throws Exception {
+    this(sourceRoot, dataRoot, options, time, logs, null);
+  }
+
+  /** as above, and the private views of every document are computed on the given
+   * executor (when not null); the executor is shut down along with the db */
+  public GameSpaceDB(final File sourceRoot, final File dataRoot, final CompilerOptions options, final TimeSource time, final TransactionLogStore logs, final ExecutorService views) throws Exception {
     this.sourceRoot = sourceRoot;
     this.options = options;
     if (!sourceRoot.exists()) { throw new Exception("Source root: `" + dataRoot.getName() + "` does not exist"); }
     sanityCheckDataDirectory(dataRoot);
     this.dataRoot = dataRoot;
     this.time = time;
+    this.logs = logs;
+    this.views = views;
     map = new HashMap<>();
     classId = 0;
   }
@@ -42,6 +61,10 @@ public class GameSpaceDB {
       entry.getValue().close();
     }
     map.clear();
+    logs.close();
+    if (views != null) {
+      views.shutdown();
+    }
   }
 
   /** get a gamespace (via filename) */
@@ -53,7 +76,7 @@ public class GameSpaceDB {
     final var gameData = new File(dataRoot, game);
     sanityCheckDataDirectory(gameData);
     final var factory = GameSpace.buildLivingDocumentFactory(sourceRoot, options, game, "Game" + classId++);
-    gs = new GameSpace(factory, time, gameData);
+    gs = new GameSpace(factory, time, gameData, logs, views);
     map.put(game, gs);
     return gs;
   }
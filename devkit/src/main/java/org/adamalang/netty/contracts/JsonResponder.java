@@ -8,5 +8,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public interface JsonResponder {
   public void failure(int reason, Exception e);
+  /** can the responder take more without backing up (i.e. the socket's outbound buffer is below its high water mark) */
+  public boolean isWritable();
+  /** is the responder still connected (i.e. a write may still reach the client) */
+  public boolean isOpen();
   public void respond(ObjectNode node, boolean done, HashMap<String, String> headers);
+  /** respond with an object which is already serialized as JSON (i.e. a view delta), such that it is written once as-is */
+  public void respondRaw(String json, boolean done, HashMap<String, String> headers);
 }
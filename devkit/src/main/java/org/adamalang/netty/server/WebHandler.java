@@ -74,10 +74,25 @@ public class WebHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
                   sendWithKeepAlive(ctx, req, response);
                 }
 
+                @Override
+                public boolean isOpen() {
+                  return ctx.channel().isActive();
+                }
+
+                @Override
+                public boolean isWritable() {
+                  return ctx.channel().isWritable();
+                }
+
                 @Override
                 public void respond(final ObjectNode node, final boolean done, final HashMap<String, String> headers) {
-                  final var content = node.toString().getBytes(StandardCharsets.UTF_8);
-                  final FullHttpResponse response = new DefaultFullHttpResponse(req.protocolVersion(), HttpResponseStatus.OK, Unpooled.copiedBuffer(content));
+                  respondRaw(node.toString(), done, headers);
+                }
+
+                @Override
+                public void respondRaw(final String json, final boolean done, final HashMap<String, String> headers) {
+                  final var content = json.getBytes(StandardCharsets.UTF_8);
+                  final FullHttpResponse response = new DefaultFullHttpResponse(req.protocolVersion(), HttpResponseStatus.OK, Unpooled.wrappedBuffer(content));
                   if (headers != null) {
                     for (final Map.Entry<String, String> headerEntry : headers.entrySet()) {
                       response.headers().set(headerEntry.getKey(), headerEntry.getValue());
@@ -11,6 +11,7 @@ import org.adamalang.netty.contracts.JsonResponder;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
 import org.adamalang.runtime.stdlib.Utility;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -56,13 +57,29 @@ public class WebSocketHandler extends SimpleChannelInboundHandler<WebSocketFrame
           ctx.writeAndFlush(new TextWebSocketFrame(setup.toString()));
         }
 
+        @Override
+        public boolean isOpen() {
+          return ctx.channel().isActive();
+        }
+
+        @Override
+        public boolean isWritable() {
+          return ctx.channel().isWritable();
+        }
+
         @Override
         public void respond(final ObjectNode response, final boolean done, final HashMap<String, String> httpHeaders) {
-          final var frame = Utility.createObjectNode();
-          frame.put("deliver", id);
-          frame.put("done", done);
-          frame.set("response", response);
-          ctx.writeAndFlush(new TextWebSocketFrame(frame.toString()));
+          respondRaw(response.toString(), done, httpHeaders);
+        }
+
+        @Override
+        public void respondRaw(final String json, final boolean done, final HashMap<String, String> httpHeaders) {
+          // frame the response by encoding directly into a pooled buffer rather than building (and then serializing) a tree
+          final var buffer = ctx.alloc().buffer(json.length() + 48);
+          ByteBufUtil.writeAscii(buffer, "{\"deliver\":" + id + ",\"done\":" + done + ",\"response\":");
+          ByteBufUtil.writeUtf8(buffer, json);
+          buffer.writeByte('}');
+          ctx.writeAndFlush(new TextWebSocketFrame(buffer));
         }
       };
       try {
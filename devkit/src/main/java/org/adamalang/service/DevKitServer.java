@@ -4,7 +4,9 @@
 package org.adamalang.service;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
 import org.adamalang.netty.ServiceHandler;
 import org.adamalang.netty.api.AdamaSession;
 import org.adamalang.netty.api.GameSpaceDB;
@@ -18,9 +20,15 @@ import org.adamalang.netty.server.ServerNexus;
 import org.adamalang.netty.server.ServerRunnable;
 import org.adamalang.netty.server.UncachedDiskStaticSite;
 import org.adamalang.runtime.contracts.TimeSource;
+import org.adamalang.runtime.contracts.TransactionLogStore;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.logger.AsyncTransactionLogStore;
+import org.adamalang.runtime.logger.GroupCommitSpool;
+import org.adamalang.runtime.logger.JsonDeltaDiskLogStore;
+import org.adamalang.runtime.logger.SegmentedTransactionLogStore;
+import org.adamalang.runtime.logger.SharedWriteAheadLog;
+import org.adamalang.runtime.logger.SnapshotJsonDeltaDiskLogStore;
 import org.adamalang.runtime.natives.NtClient;
-import org.adamalang.runtime.stdlib.Utility;
 import org.adamalang.translator.env.CompilerOptions;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -49,11 +57,28 @@ public class DevKitServer {
   public static ServerNexus prepare(final String[] args) throws Exception {
     final var serverOptions = new CliServerOptions(args);
     final var compilerOptions = CompilerOptions.start().args(0, args).make();
+    var asyncLogQueue = 0;
+    var compressLogs = false;
     var data = "./data";
     var html = "./html";
     var source = "./source";
+    var groupCommitBytes = 1024 * 1024;
+    var groupCommitBytesGiven = false;
+    var groupCommitMilliseconds = 0;
+    var parallelViews = 0;
+    var segmentBytes = 0;
+    var snapshotEvery = 0;
+    var viewFrameMilliseconds = 0;
+    String wal = null;
+    var walSegmentBytes = 64 * 1024 * 1024;
     for (var k = 0; k + 1 < args.length; k += 2) {
       switch (args[k]) {
+        case "--async-log-queue":
+          asyncLogQueue = Integer.parseInt(args[k + 1]);
+          break;
+        case "--compress-logs":
+          compressLogs = Boolean.parseBoolean(args[k + 1]);
+          break;
         case "--data":
           data = args[k + 1];
           break;
@@ -63,9 +88,76 @@ public class DevKitServer {
         case "--source":
           source = args[k + 1];
           break;
+        case "--group-commit-bytes":
+          groupCommitBytes = Integer.parseInt(args[k + 1]);
+          groupCommitBytesGiven = true;
+          break;
+        case "--group-commit-ms":
+          groupCommitMilliseconds = Integer.parseInt(args[k + 1]);
+          break;
+        case "--parallel-views":
+          parallelViews = Integer.parseInt(args[k + 1]);
+          break;
+        case "--segment-bytes":
+          segmentBytes = Integer.parseInt(args[k + 1]);
+          break;
+        case "--snapshot-every":
+          snapshotEvery = Integer.parseInt(args[k + 1]);
+          break;
+        case "--view-frame-ms":
+          viewFrameMilliseconds = Integer.parseInt(args[k + 1]);
+          break;
+        case "--wal":
+          wal = args[k + 1];
+          break;
+        case "--wal-segment-bytes":
+          walSegmentBytes = Integer.parseInt(args[k + 1]);
+          break;
       }
     }
-    final var db = new GameSpaceDB(new File(source), new File(data), compilerOptions, TimeSource.REAL_TIME);
+    // the stores can't be combined, and only the .jsonlog store can be compressed or group committed
+    final var stores = new ArrayList<String>();
+    if (wal != null) {
+      stores.add("--wal");
+    }
+    if (segmentBytes > 0) {
+      stores.add("--segment-bytes");
+    }
+    if (snapshotEvery > 0) {
+      stores.add("--snapshot-every");
+    }
+    if (stores.size() > 1) { throw new RuntimeException(String.format("Only one of --wal, --segment-bytes, and --snapshot-every may be given. Given=`%s`", String.join(", ", stores))); }
+    if (stores.size() == 1) {
+      final var jsonlogOnly = new ArrayList<String>();
+      if (compressLogs) {
+        jsonlogOnly.add("--compress-logs");
+      }
+      if (groupCommitMilliseconds > 0) {
+        jsonlogOnly.add("--group-commit-ms");
+      }
+      if (groupCommitBytesGiven) {
+        jsonlogOnly.add("--group-commit-bytes");
+      }
+      if (jsonlogOnly.size() > 0) { throw new RuntimeException(String.format("%s can't be combined with %s as they only apply to the .jsonlog store.", stores.get(0), String.join(", ", jsonlogOnly))); }
+    }
+    // a shared log is opt-in via a directory, segmented logs are opt-in via a segment size, snapshots are opt-in via a number of transactions, group commit is opt-in via a time boundary, and compressing the .jsonlog is opt-in
+    TransactionLogStore logs;
+    if (wal != null) {
+      logs = new SharedWriteAheadLog(new File(wal), walSegmentBytes);
+    } else if (segmentBytes > 0) {
+      logs = new SegmentedTransactionLogStore(segmentBytes);
+    } else if (snapshotEvery > 0) {
+      logs = new SnapshotJsonDeltaDiskLogStore(snapshotEvery);
+    } else {
+      logs = new JsonDeltaDiskLogStore(groupCommitMilliseconds > 0 ? new GroupCommitSpool(groupCommitBytes, groupCommitMilliseconds) : null, compressLogs);
+    }
+    // any of the above can be written off the document thread via a bounded queue
+    if (asyncLogQueue > 0) {
+      logs = new AsyncTransactionLogStore(logs, asyncLogQueue);
+    }
+    // the private views can be computed across a pool of threads rather than on the document's thread
+    final var views = parallelViews > 0 ? new ForkJoinPool(parallelViews) : null;
+    final var db = new GameSpaceDB(new File(source), new File(data), compilerOptions, TimeSource.REAL_TIME, logs, views);
     final var authenticator = new Authenticator() {
       @Override
       public void authenticate(final String token, final AuthCallback callback) {
@@ -76,7 +168,7 @@ public class DevKitServer {
       public void close() {
       }
     };
-    final var serviceHandler = new ServiceHandler(db);
+    final var serviceHandler = new ServiceHandler(db, viewFrameMilliseconds);
     final var handler = new JsonHandler() {
       @Override
       public void handle(final AdamaSession session, final ObjectNode request, final JsonResponder responder) throws ErrorCodeException {
@@ -91,7 +183,7 @@ public class DevKitServer {
             if (method.equals("auth") && password.equals("pw")) {
               final var headers = new HashMap<String, String>();
               headers.put("set-cookie", AdamaCookieCodec.server(serverOptions, AdamaCookieCodec.ADAMA_AUTH_COOKIE_NAME, username));
-              responder.respond(Utility.parseJsonObject("{\"retry_connection\":true}"), true, headers);
+              responder.respondRaw("{\"retry_connection\":true}", true, headers);
               return;
             }
             responder.failure(403, null);
@@ -111,6 +111,31 @@ public class ServiceHandlerTests {
     Assert.assertEquals("DATA:{\"failure\":1,\"reason\":4011}", output.get(1));
   }
 
+  @Test
+  public void connectSpectate() throws Exception {
+    final var options = new CliServerOptions("--port", "9817");
+    final var runnable = new ServerRunnable(ServiceHandlerTests.nexus(options));
+    final var thread = new Thread(runnable);
+    thread.start();
+    Assert.assertTrue(runnable.waitForReady(10000));
+    Assert.assertTrue(runnable.isAccepting());
+    final EventLoopGroup clientEventLoop = new NioEventLoopGroup();
+    final var callback = new MockClientCallback(3);
+    final var first = callback.latchAt(1);
+    final var b = ClientRequestBuilder.start(clientEventLoop).server("localhost", options.port()).get(options.websocketPath()).header("cookie", AdamaCookieCodec.client(AdamaCookieCodec.ADAMA_AUTH_COOKIE_NAME, "XOK")).withWebSocket();
+    b.execute(callback);
+    first.await(2000, TimeUnit.MILLISECONDS);
+    b.channel().writeAndFlush(new TextWebSocketFrame("{\"id\":1,\"method\":\"create\",\"gamespace\":\"Demo_ServiceHandler_success.a\",\"game\":\"game-4\",\"data\":{}}"));
+    b.channel().writeAndFlush(new TextWebSocketFrame("{\"id\":2,\"gamespace\":\"Demo_ServiceHandler_success.a\",\"method\":\"connect\",\"spectate\":true,\"game\":\"game-4\"}"));
+    callback.awaitDone();
+    final var output = callback.output();
+    Assert.assertEquals(3, output.size());
+    Assert.assertEquals("DATA:{\"deliver\":1,\"done\":true,\"response\":{\"game\":\"game-4\"}}", output.get(1));
+    // a spectator isn't connected, so the seq is the same as right after construction
+    Assert.assertEquals("DATA:{\"deliver\":2,\"done\":false,\"response\":{\"data\":{\"x\":123},\"outstanding\":[],\"blockers\":[],\"seq\":2}}", output.get(2));
+    cleanup();
+  }
+
   @Test
   public void connectStream() throws Exception {
     final var options = new CliServerOptions("--port", "9813");
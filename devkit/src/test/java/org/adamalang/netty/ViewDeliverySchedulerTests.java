@@ -0,0 +1,211 @@
+/* The Adama Programming Language For Board Games!
+ *    See http://www.adama-lang.org/ for more information.
+ * (c) copyright 2020 Jeffrey M. Barber (http://jeffrey.io) */
+package org.adamalang.netty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.adamalang.netty.contracts.JsonResponder;
+import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.junit.Assert;
+import org.junit.Test;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ViewDeliverySchedulerTests {
+  private static class MockResponder implements JsonResponder {
+    private final ArrayList<String> deliveries;
+    private final ArrayList<Integer> failures;
+    private final CountDownLatch latch;
+    private boolean open;
+    private boolean writable;
+
+    private MockResponder(final int expected) {
+      deliveries = new ArrayList<>();
+      failures = new ArrayList<>();
+      latch = new CountDownLatch(expected);
+      open = true;
+      writable = true;
+    }
+
+    @Override
+    public synchronized void failure(final int reason, final Exception e) {
+      failures.add(reason);
+    }
+
+    @Override
+    public synchronized boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public synchronized boolean isWritable() {
+      return writable;
+    }
+
+    @Override
+    public void respond(final ObjectNode node, final boolean done, final HashMap<String, String> headers) {
+    }
+
+    @Override
+    public synchronized void respondRaw(final String json, final boolean done, final HashMap<String, String> headers) {
+      deliveries.add(json);
+      latch.countDown();
+    }
+
+    private synchronized void setOpen(final boolean open) {
+      this.open = open;
+    }
+
+    private synchronized void setWritable(final boolean writable) {
+      this.writable = writable;
+    }
+  }
+
+  private static void run(final ScheduledExecutorService executor, final Runnable runnable) throws Exception {
+    executor.submit(runnable).get();
+  }
+
+  @Test
+  public void backed_up_merges() throws Exception {
+    final var executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final var responder = new MockResponder(2);
+      final var scheduler = new ViewDeliveryScheduler(executor, 0, responder);
+      run(executor, () -> {
+        scheduler.accept("{\"data\":{\"x\":1},\"seq\":1}");
+        responder.setWritable(false);
+        scheduler.accept("{\"data\":{\"y\":2},\"seq\":2}");
+        scheduler.accept("{\"data\":{\"x\":null},\"seq\":3}");
+      });
+      Thread.sleep(ViewDeliveryScheduler.BACKED_UP_RETRY_MILLISECONDS * 3);
+      Assert.assertEquals(1, responder.deliveries.size());
+      run(executor, () -> {
+        Assert.assertTrue(scheduler.hasPending());
+      });
+      responder.setWritable(true);
+      Assert.assertTrue(responder.latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals("{\"data\":{\"x\":1},\"seq\":1}", responder.deliveries.get(0));
+      Assert.assertEquals("{\"data\":{\"y\":2,\"x\":null},\"seq\":3}", responder.deliveries.get(1));
+      run(executor, () -> {
+        Assert.assertFalse(scheduler.hasPending());
+      });
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void closed_drops() throws Exception {
+    final var executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final var responder = new MockResponder(1);
+      final var scheduler = new ViewDeliveryScheduler(executor, 0, responder);
+      run(executor, () -> {
+        responder.setWritable(false);
+        scheduler.accept("{\"data\":{\"x\":1},\"seq\":1}");
+        Assert.assertTrue(scheduler.hasPending());
+        responder.setOpen(false);
+      });
+      Thread.sleep(ViewDeliveryScheduler.BACKED_UP_RETRY_MILLISECONDS * 3);
+      run(executor, () -> {
+        Assert.assertFalse(scheduler.hasPending());
+        scheduler.accept("{\"data\":{\"x\":2},\"seq\":2}");
+        Assert.assertFalse(scheduler.hasPending());
+      });
+      Assert.assertEquals(0, responder.deliveries.size());
+      Assert.assertEquals(0, executor.shutdownNow().size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void frame_interval_merges() throws Exception {
+    final var executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final var responder = new MockResponder(2);
+      final var scheduler = new ViewDeliveryScheduler(executor, 50, responder);
+      run(executor, () -> {
+        for (var k = 1; k <= 10; k++) {
+          scheduler.accept("{\"data\":{\"x\":" + k + "},\"seq\":" + k + "}");
+        }
+      });
+      Assert.assertTrue(responder.latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals(2, responder.deliveries.size());
+      Assert.assertEquals("{\"data\":{\"x\":1},\"seq\":1}", responder.deliveries.get(0));
+      Assert.assertEquals("{\"data\":{\"x\":10},\"seq\":10}", responder.deliveries.get(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void too_far_behind_fails() throws Exception {
+    final var executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final var responder = new MockResponder(1);
+      final var scheduler = new ViewDeliveryScheduler(executor, 0, responder);
+      run(executor, () -> {
+        responder.setWritable(false);
+        scheduler.accept("{\"data\":{\"l\":{\"@o\":[\"1\",\"2\"]}},\"seq\":0}");
+        for (var k = 1; k <= ViewDeliveryScheduler.MAX_QUEUED_DELTAS + 1; k++) {
+          scheduler.accept("{\"data\":{\"l\":{\"@o\":[{\"@r\":[0,1]}]}},\"seq\":" + k + "}");
+        }
+        Assert.assertFalse(scheduler.hasPending());
+        responder.setWritable(true);
+        scheduler.accept("{\"seq\":100}");
+      });
+      Thread.sleep(ViewDeliveryScheduler.BACKED_UP_RETRY_MILLISECONDS * 3);
+      Assert.assertEquals(0, responder.deliveries.size());
+      Assert.assertEquals(1, responder.failures.size());
+      Assert.assertEquals(ErrorCodeException.VIEW_DELIVERY_TOO_FAR_BEHIND, (int) responder.failures.get(0));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void unmergeable_waits_until_writable() throws Exception {
+    final var executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final var responder = new MockResponder(2);
+      final var scheduler = new ViewDeliveryScheduler(executor, 0, responder);
+      run(executor, () -> {
+        responder.setWritable(false);
+        scheduler.accept("{\"data\":{\"l\":{\"@o\":[\"1\",\"2\"]}},\"seq\":1}");
+        scheduler.accept("{\"data\":{\"l\":{\"@o\":[{\"@r\":[0,1]},\"3\"]}},\"seq\":2}");
+        scheduler.accept("{\"seq\":3}");
+      });
+      Thread.sleep(ViewDeliveryScheduler.BACKED_UP_RETRY_MILLISECONDS * 3);
+      Assert.assertEquals(0, responder.deliveries.size());
+      responder.setWritable(true);
+      Assert.assertTrue(responder.latch.await(5000, TimeUnit.MILLISECONDS));
+      Assert.assertEquals("{\"data\":{\"l\":{\"@o\":[\"1\",\"2\"]}},\"seq\":1}", responder.deliveries.get(0));
+      Assert.assertEquals("{\"data\":{\"l\":{\"@o\":[{\"@r\":[0,1]},\"3\"]}},\"seq\":3}", responder.deliveries.get(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void writable_passes_through() throws Exception {
+    final var executor = Executors.newSingleThreadScheduledExecutor();
+    try {
+      final var responder = new MockResponder(2);
+      final var scheduler = new ViewDeliveryScheduler(executor, 0, responder);
+      run(executor, () -> {
+        scheduler.accept("{ \"seq\":1}");
+        scheduler.accept("{ \"seq\":2}");
+        Assert.assertEquals(2, responder.deliveries.size());
+      });
+      Assert.assertEquals("{ \"seq\":1}", responder.deliveries.get(0));
+      Assert.assertEquals("{ \"seq\":2}", responder.deliveries.get(1));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -4,8 +4,20 @@
 package org.adamalang.netty.api;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.adamalang.runtime.contracts.DurabilityCallback;
 import org.adamalang.runtime.contracts.TimeSource;
 import org.adamalang.runtime.exceptions.ErrorCodeException;
+import org.adamalang.runtime.logger.AsyncTransactionLogStore;
+import org.adamalang.runtime.logger.GroupCommitSpool;
+import org.adamalang.runtime.logger.JsonDeltaDiskLogStore;
+import org.adamalang.runtime.logger.NoOpLogger;
+import org.adamalang.runtime.logger.SegmentedTransactionLogStore;
+import org.adamalang.runtime.logger.SharedWriteAheadLog;
+import org.adamalang.runtime.logger.SnapshotJsonDeltaDiskLogStore;
 import org.adamalang.runtime.natives.NtClient;
 import org.adamalang.runtime.stdlib.Utility;
 import org.adamalang.translator.env.CompilerOptions;
@@ -65,6 +77,148 @@ public class GameSpaceTests {
     setup_da_bomb("foo");
   }
 
+  @Test
+  public void create_works_with_async_log() throws Exception {
+    final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
+    final var logs = new AsyncTransactionLogStore(new SnapshotJsonDeltaDiskLogStore(2), 16);
+    String json;
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      final var transactor = gs.create("foo8", NtClient.NO_ONE, Utility.createObjectNode(), "123");
+      transactor.connect(NtClient.NO_ONE);
+      // the log wants a snapshot once the I/O thread has caught up
+      final var caughtUp = new CountDownLatch(1);
+      transactor.whenDurable(new DurabilityCallback() {
+        @Override
+        public void failure(final ErrorCodeException ex) {
+        }
+
+        @Override
+        public void success() {
+          caughtUp.countDown();
+        }
+      });
+      Assert.assertTrue(caughtUp.await(5000, TimeUnit.MILLISECONDS));
+      transactor.disconnect(NtClient.NO_ONE);
+      Assert.assertFalse(transactor.isBackedUp());
+      json = transactor.json();
+      gs.close();
+    }
+    Assert.assertTrue(new File("./test_data/foo8.snapshot").exists());
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      Assert.assertEquals(json, gs.get("foo8").json());
+      gs.close();
+    }
+    logs.close();
+  }
+
+  @Test
+  public void create_works_with_group_commit() throws Exception {
+    final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
+    final var logs = new JsonDeltaDiskLogStore(new GroupCommitSpool(1024 * 1024, 10));
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      gs.create("foo4", NtClient.NO_ONE, Utility.createObjectNode(), "123");
+      gs.close();
+    }
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      Assert.assertNotNull(gs.get("foo4"));
+      gs.close();
+    }
+    logs.close();
+  }
+
+  @Test
+  public void create_works_with_parallel_views() throws Exception {
+    final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
+    final var pool = new ForkJoinPool(2);
+    try {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), new JsonDeltaDiskLogStore(null), pool);
+      final var transactor = gs.create("foo9", NtClient.NO_ONE, Utility.createObjectNode(), "123");
+      final var deliveries = new ArrayList<String>();
+      transactor.createView(NtClient.NO_ONE, str -> deliveries.add(str));
+      transactor.createView(NtClient.NO_ONE, str -> deliveries.add(str));
+      transactor.connect(NtClient.NO_ONE);
+      transactor.drive();
+      Assert.assertEquals(4, deliveries.size());
+      Assert.assertEquals(deliveries.get(0), deliveries.get(1));
+      Assert.assertEquals(deliveries.get(2), deliveries.get(3));
+      gs.close();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void create_works_with_segments() throws Exception {
+    final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
+    final var logs = new SegmentedTransactionLogStore(64 * 1024);
+    String json;
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      final var transactor = gs.create("foo6", NtClient.NO_ONE, Utility.createObjectNode(), "123");
+      transactor.connect(NtClient.NO_ONE);
+      json = transactor.json();
+      gs.close();
+    }
+    Assert.assertTrue(new File("./test_data/foo6.segment.0").exists());
+    Assert.assertEquals(2, logs.reader(new File("./test_data"), "foo6").read(0, NoOpLogger.INSTANCE));
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      Assert.assertEquals(json, gs.get("foo6").json());
+      gs.close();
+    }
+    logs.close();
+  }
+
+  @Test
+  public void create_works_with_snapshots() throws Exception {
+    final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
+    final var logs = new SnapshotJsonDeltaDiskLogStore(2);
+    String json;
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      final var transactor = gs.create("foo5", NtClient.NO_ONE, Utility.createObjectNode(), "123");
+      transactor.connect(NtClient.NO_ONE);
+      transactor.disconnect(NtClient.NO_ONE);
+      json = transactor.json();
+      gs.close();
+    }
+    Assert.assertTrue(new File("./test_data/foo5.snapshot").exists());
+    {
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      Assert.assertEquals(json, gs.get("foo5").json());
+      gs.close();
+    }
+    logs.close();
+    Assert.assertFalse(new File("./test_data/foo5.jsonlog.0").exists());
+  }
+
+  @Test
+  public void create_works_with_write_ahead_log() throws Exception {
+    final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
+    String json;
+    {
+      final var logs = new SharedWriteAheadLog(new File("./test_data/wal"), 1024 * 1024);
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      final var transactor = gs.create("foo7", NtClient.NO_ONE, Utility.createObjectNode(), "123");
+      transactor.connect(NtClient.NO_ONE);
+      json = transactor.json();
+      gs.close();
+      logs.close();
+    }
+    Assert.assertFalse(new File("./test_data/foo7.jsonlog").exists());
+    {
+      final var logs = new SharedWriteAheadLog(new File("./test_data/wal"), 1024 * 1024);
+      final var gs = new GameSpace(factory, ZERO_TIME, new File("./test_data"), logs);
+      Assert.assertEquals(json, gs.get("foo7").json());
+      gs.close();
+      logs.close();
+    }
+  }
+
   @Test
   public void failure_modes() throws Exception {
     final var factory = GameSpace.buildLivingDocumentFactory(new File("./test_code/"), CompilerOptions.start().make(), "Demo_Bomb_success.a", "Demo");
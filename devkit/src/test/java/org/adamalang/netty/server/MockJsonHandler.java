@@ -27,6 +27,10 @@ public class MockJsonHandler implements JsonHandler {
       responder.respond(Utility.parseJsonObject("{\"ok\":\"authgood\"}"), true, null);
       return;
     }
+    if (request.has("raw")) {
+      responder.respondRaw("{\"ok\":\"raw\u00e9\"}", true, null);
+      return;
+    }
     if (request.has("success")) {
       responder.respond(Utility.parseJsonObject("{\"ok\":\"go\"}"), true, null);
     } else {
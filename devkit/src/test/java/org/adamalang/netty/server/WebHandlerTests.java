@@ -100,6 +100,21 @@ public class WebHandlerTests {
     thread.join();
   }
 
+  @Test
+  public void test_raw() throws Exception {
+    final var options = new CliServerOptions("--port", "9942");
+    final var runnable = new ServerRunnable(ServerRunnableTests.nexus(options));
+    final var thread = new Thread(runnable);
+    thread.start();
+    Assert.assertTrue(runnable.waitForReady(10000));
+    Assert.assertTrue(runnable.isAccepting());
+    ServerChannelInitializerTests.executeHealthCheck(options);
+    final var result = execute_simple_post(options, "/wut", "{\"raw\":true}");
+    Assert.assertEquals("DATA:{\"ok\":\"raw\u00e9\"}", result);
+    runnable.shutdown();
+    thread.join();
+  }
+
   @Test
   public void test_static() throws Exception {
     final var options = new CliServerOptions("--port", "9960");
@@ -167,6 +167,29 @@ public class WebSocketHandlerTests {
     Assert.assertEquals("DATA:{\"deliver\":1,\"done\":true,\"response\":{\"ok\":\"go\"}}", output.get(1));
   }
 
+  @Test
+  public void handlerRaw() throws Exception {
+    final var options = new CliServerOptions("--port", "9943");
+    final var runnable = new ServerRunnable(ServerRunnableTests.nexus(options));
+    final var thread = new Thread(runnable);
+    thread.start();
+    Assert.assertTrue(runnable.waitForReady(10000));
+    Assert.assertTrue(runnable.isAccepting());
+    final EventLoopGroup clientEventLoop = new NioEventLoopGroup();
+    final var callback = new MockClientCallback(2);
+    final var first = callback.latchAt(1);
+    final var afterWrite = callback.latchAt(2);
+    final var b = ClientRequestBuilder.start(clientEventLoop).server("localhost", 9943).get(options.websocketPath()).header("cookie", AdamaCookieCodec.client(AdamaCookieCodec.ADAMA_AUTH_COOKIE_NAME, "XOK")).withWebSocket();
+    b.execute(callback);
+    first.await(2000, TimeUnit.MILLISECONDS);
+    b.channel().writeAndFlush(new TextWebSocketFrame("{\"id\":1,\"raw\":true}"));
+    afterWrite.await(1000, TimeUnit.MILLISECONDS);
+    final var output = callback.output();
+    Assert.assertEquals(2, output.size());
+    Assert.assertEquals("DATA:{\"signal\":\"setup\",\"status\":\"connected\"}", output.get(0));
+    Assert.assertEquals("DATA:{\"deliver\":1,\"done\":true,\"response\":{\"ok\":\"raw\u00e9\"}}", output.get(1));
+  }
+
   @Test
   public void noCookie() throws Exception {
     final var options = new CliServerOptions("--port", "9959");